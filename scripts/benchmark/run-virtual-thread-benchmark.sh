@@ -0,0 +1,90 @@
+#!/bin/bash
+# ============================================
+# Hamalog 플랫폼 vs 가상 스레드 벤치마크 실행 스크립트
+# ============================================
+#
+# 용도: 같은 부하를 플랫폼 스레드 모드와 가상 스레드 모드(+ bulkhead)에서 각각 실행하여 비교
+#
+# 사용법:
+#   ./scripts/benchmark/run-virtual-thread-benchmark.sh [peakUsers]
+#
+# 요구사항:
+#   - Docker & Docker Compose
+#   - Java 21+
+#   - Gradle
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(cd "$SCRIPT_DIR/../.." && pwd)"
+
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+BLUE='\033[0;34m'
+NC='\033[0m' # No Color
+
+COMPOSE_FILE="$PROJECT_ROOT/docker-compose-benchmark.yml"
+RESULTS_DIR="$PROJECT_ROOT/benchmark-results"
+TIMESTAMP=$(date +"%Y%m%d_%H%M%S")
+PEAK_USERS="${1:-400}"
+
+if docker compose version &> /dev/null 2>&1; then
+    DOCKER_COMPOSE="docker compose"
+else
+    DOCKER_COMPOSE="docker-compose"
+fi
+
+cd "$PROJECT_ROOT"
+
+echo -e "${BLUE}애플리케이션 빌드 중...${NC}"
+./gradlew bootJar -x test --no-daemon -q
+
+wait_for_health() {
+    local waited=0
+    while [ $waited -lt 120 ]; do
+        if curl -s http://localhost:8080/actuator/health 2>/dev/null | grep -q '"status":"UP"'; then
+            return 0
+        fi
+        sleep 2
+        waited=$((waited + 2))
+    done
+    echo -e "${RED}❌ 서비스 시작 시간 초과${NC}"
+    $DOCKER_COMPOSE -f "$COMPOSE_FILE" logs app | tail -50
+    exit 1
+}
+
+run_mode() {
+    local mode="$1"
+    local virtual="$2"
+
+    echo ""
+    echo -e "${BLUE}[$mode] VIRTUAL_THREADS_ENABLED=$virtual 로 서비스 시작 중...${NC}"
+    $DOCKER_COMPOSE -f "$COMPOSE_FILE" down -v 2>/dev/null || true
+    VIRTUAL_THREADS_ENABLED="$virtual" $DOCKER_COMPOSE -f "$COMPOSE_FILE" up -d --build
+    wait_for_health
+
+    docker exec -i hamalog-benchmark-mysql mysql -uroot -pbenchmark hamalog_benchmark \
+        < "$PROJECT_ROOT/scripts/benchmark/init-benchmark-data.sql" 2>/dev/null || true
+
+    echo -e "${BLUE}[$mode] Gatling 실행 중...${NC}"
+    ./gradlew gatlingRun \
+        -Dgatling.simulationClass=com.Hamalog.simulation.VirtualThreadComparisonSimulation \
+        -Dmode="$mode" -DpeakUsers="$PEAK_USERS" \
+        --no-daemon || true
+
+    local latest
+    latest=$(ls -td "$PROJECT_ROOT/build/reports/gatling/"* 2>/dev/null | head -1)
+    if [ -n "$latest" ] && [ -d "$latest" ]; then
+        mkdir -p "$RESULTS_DIR"
+        cp -r "$latest" "$RESULTS_DIR/virtual_thread_${mode}_${TIMESTAMP}"
+        echo -e "${GREEN}✅ [$mode] 결과 저장: $RESULTS_DIR/virtual_thread_${mode}_${TIMESTAMP}${NC}"
+    fi
+}
+
+run_mode platform false
+run_mode virtual true
+
+$DOCKER_COMPOSE -f "$COMPOSE_FILE" down -v 2>/dev/null || true
+
+echo ""
+echo -e "${GREEN}✅ 비교 완료 - 두 리포트의 처리량(req/s), p99, 503 비율을 비교하세요.${NC}"
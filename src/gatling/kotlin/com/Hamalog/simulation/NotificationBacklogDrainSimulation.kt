@@ -0,0 +1,92 @@
+package com.Hamalog.simulation
+
+import io.gatling.javaapi.core.CoreDsl.*
+import io.gatling.javaapi.core.Simulation
+import io.gatling.javaapi.http.HttpDsl.*
+import java.time.Duration
+
+/**
+ * 알림 큐 적체 해소 시간 벤치마크
+ *
+ * 목적: 블로킹 XREADGROUP 소비 루프 + 작업 스레드 풀의 노드당 처리량 측정
+ *
+ * 시나리오:
+ *   1. 벤치마크 API로 알림 메시지 N건을 한꺼번에 발행 (적체 생성)
+ *   2. 소비자 그룹 적체(미전달 + ACK 대기)가 0이 될 때까지 200ms 간격으로 조회
+ *   3. 발행 완료부터 적체 0까지 걸린 시간과 초당 처리량을 출력
+ *
+ * 디바이스 토큰이 없는 회원(memberId)을 사용하면 FCM 호출 없이 큐/DB 처리 경로만 측정합니다.
+ * hamalog.queue.consumers / worker-threads를 바꿔 가며 실행하고 drain 시간을 비교합니다.
+ *
+ * 실행 방법:
+ *   MESSAGE_QUEUE_ENABLED=true docker-compose -f docker-compose-benchmark.yml up -d
+ *   ./gradlew gatlingRun -Dgatling.simulationClass=com.Hamalog.simulation.NotificationBacklogDrainSimulation -Dbacklog=5000
+ */
+class NotificationBacklogDrainSimulation : Simulation() {
+
+    // ============================================
+    // 설정
+    // ============================================
+    private val baseUrl = System.getProperty("baseUrl") ?: "http://localhost:8080"
+    private val memberId = (System.getProperty("memberId") ?: "1").toLong()
+    private val backlogSize = (System.getProperty("backlog") ?: "5000").toInt()
+    private val maxDrainSeconds = (System.getProperty("maxDrainSeconds") ?: "300").toLong()
+
+    init {
+        println("╔════════════════════════════════════════════════════════════╗")
+        println("║     Hamalog Notification Backlog Drain Benchmark           ║")
+        println("╠════════════════════════════════════════════════════════════╣")
+        println("║  Base URL: $baseUrl")
+        println("║  Backlog: $backlogSize messages")
+        println("║  Member ID: $memberId")
+        println("╚════════════════════════════════════════════════════════════╝")
+    }
+
+    // ============================================
+    // HTTP 프로토콜
+    // ============================================
+    private val httpProtocol = http
+        .baseUrl(baseUrl)
+        .acceptHeader("application/json")
+        .contentTypeHeader("application/json")
+        .userAgentHeader("Gatling/3.11 - Notification Backlog Benchmark")
+
+    // ============================================
+    // 시나리오 정의
+    // ============================================
+    private val drainScenario = scenario("Notification Backlog Drain")
+        .exec(
+            http("Enqueue Backlog")
+                .post("/api/v1/benchmark/notifications/backlog?memberId=$memberId&count=$backlogSize")
+                .check(status().`is`(200))
+                .check(jsonPath("$.backlog").ofLong().saveAs("backlog")),
+        )
+        .exec { session -> session.set("drainStart", System.currentTimeMillis()) }
+        .asLongAs { session -> session.getLong("backlog") > 0 }.on(
+            pause(Duration.ofMillis(200))
+                .exec(
+                    http("Poll Backlog")
+                        .get("/api/v1/benchmark/notifications/backlog")
+                        .check(status().`is`(200))
+                        .check(jsonPath("$.backlog").ofLong().saveAs("backlog")),
+                ),
+        )
+        .exec { session ->
+            val drainMillis = System.currentTimeMillis() - session.getLong("drainStart")
+            val perSecond = backlogSize * 1000.0 / drainMillis.coerceAtLeast(1)
+            println("[DRAIN] $backlogSize messages drained in ${drainMillis}ms (${"%.1f".format(perSecond)} msg/s)")
+            session
+        }
+
+    // ============================================
+    // 테스트 실행 설정
+    // ============================================
+    init {
+        setUp(
+            drainScenario.injectOpen(atOnceUsers(1)).protocols(httpProtocol),
+        ).maxDuration(Duration.ofSeconds(maxDrainSeconds))
+            .assertions(
+                global().failedRequests().count().`is`(0L),
+            )
+    }
+}
@@ -0,0 +1,121 @@
+package com.Hamalog.simulation
+
+import io.gatling.javaapi.core.CoreDsl.*
+import io.gatling.javaapi.core.Simulation
+import io.gatling.javaapi.http.HttpDsl.*
+import java.time.Duration
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 처리량 비교 벤치마크
+ *
+ * 목적: spring.threads.virtual.enabled 전환 + bulkhead 적용 효과 측정
+ *
+ * 시나리오 (동일 부하를 두 모드에서 각각 실행하여 리포트를 비교):
+ *   1. DB 조회 (Hikari 5개 풀 + DB bulkhead)
+ *   2. Redis 캐시 조회 (Redis bulkhead)
+ *   3. DB + Redis 혼합
+ *
+ * 동시 사용자를 Tomcat 기본 스레드 수(200)보다 크게 올려,
+ * 플랫폼 모드에서는 요청 스레드 고갈을, 가상 모드에서는 bulkhead 대기/거절(503)을 관찰합니다.
+ *
+ * 실행 방법:
+ *   ./scripts/benchmark/run-virtual-thread-benchmark.sh
+ *
+ * 또는 직접 실행 (서버를 각 모드로 띄운 뒤 mode 라벨만 바꿔 두 번 실행):
+ *   VIRTUAL_THREADS_ENABLED=false docker-compose -f docker-compose-benchmark.yml up -d
+ *   ./gradlew gatlingRun -Dgatling.simulationClass=com.Hamalog.simulation.VirtualThreadComparisonSimulation -Dmode=platform
+ *   VIRTUAL_THREADS_ENABLED=true docker-compose -f docker-compose-benchmark.yml up -d
+ *   ./gradlew gatlingRun -Dgatling.simulationClass=com.Hamalog.simulation.VirtualThreadComparisonSimulation -Dmode=virtual
+ */
+class VirtualThreadComparisonSimulation : Simulation() {
+
+    // ============================================
+    // 설정
+    // ============================================
+    private val baseUrl = System.getProperty("baseUrl") ?: "http://localhost:8080"
+    private val mode = System.getProperty("mode") ?: "platform"
+    private val memberId = 1 // 벤치마크 사용자 ID
+
+    // 부하 설정
+    private val peakConcurrentUsers = (System.getProperty("peakUsers") ?: "400").toInt()
+    private val rampSeconds = 30L
+    private val holdSeconds = 60L
+
+    init {
+        println("╔════════════════════════════════════════════════════════════╗")
+        println("║     Hamalog Platform vs Virtual Threads Benchmark          ║")
+        println("╠════════════════════════════════════════════════════════════╣")
+        println("║  Base URL: $baseUrl")
+        println("║  Mode: $mode")
+        println("║  Peak concurrent users: $peakConcurrentUsers")
+        println("║  Ramp: ${rampSeconds}s, Hold: ${holdSeconds}s")
+        println("╚════════════════════════════════════════════════════════════╝")
+    }
+
+    // ============================================
+    // HTTP 프로토콜
+    // ============================================
+    private val httpProtocol = http
+        .baseUrl(baseUrl)
+        .acceptHeader("application/json")
+        .contentTypeHeader("application/json")
+        .userAgentHeader("Gatling/3.11 - Virtual Thread Benchmark")
+
+    // ============================================
+    // 요청 정의 (요청 이름에 모드를 붙여 두 리포트를 나란히 비교)
+    // ============================================
+    private val dbQuery = exec(
+        http("[$mode] DB: Medication Schedules")
+            .get("/api/v1/benchmark/medication-schedules/list/$memberId?optimized=true")
+            // 503은 bulkhead가 과부하를 빠르게 거절한 결과이므로 별도로 집계
+            .check(status().`in`(200, 503)),
+    )
+
+    private val redisQuery = exec(
+        http("[$mode] Redis: Cached Member")
+            .get("/api/v1/benchmark/member/cache/$memberId")
+            .check(status().`in`(200, 503)),
+    )
+
+    private val dbDirectQuery = exec(
+        http("[$mode] DB: Member Direct")
+            .get("/api/v1/benchmark/member/db/$memberId")
+            .check(status().`in`(200, 503)),
+    )
+
+    // ============================================
+    // 시나리오 정의
+    // ============================================
+    private val mixedScenario = scenario("[$mode] Mixed DB/Redis Workload")
+        .exec(
+            http("[$mode] Cache Warmup")
+                .post("/api/v1/benchmark/member/cache/warmup/$memberId")
+                .check(status().`in`(200, 503)),
+        )
+        .forever().on(
+            randomSwitch().on(
+                percent(50.0).then(dbQuery),
+                percent(30.0).then(redisQuery),
+                percent(20.0).then(dbDirectQuery),
+            ).pause(Duration.ofMillis(10), Duration.ofMillis(50)),
+        )
+
+    // ============================================
+    // 테스트 실행 설정
+    // ============================================
+    init {
+        setUp(
+            mixedScenario.injectClosed(
+                rampConcurrentUsers(0).to(peakConcurrentUsers).during(Duration.ofSeconds(rampSeconds)),
+                constantConcurrentUsers(peakConcurrentUsers).during(Duration.ofSeconds(holdSeconds)),
+            ).protocols(httpProtocol),
+        ).maxDuration(Duration.ofSeconds(rampSeconds + holdSeconds))
+            .assertions(
+                // 연결 실패/타임아웃 없이 200 또는 503으로 응답해야 함
+                global().failedRequests().percent().lt(1.0),
+
+                // 꼬리 지연: 99 퍼센타일 3초 미만 (bulkhead max-wait 기준)
+                global().responseTime().percentile4().lt(3000),
+            )
+    }
+}
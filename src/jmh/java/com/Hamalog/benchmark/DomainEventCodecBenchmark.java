@@ -0,0 +1,113 @@
+package com.Hamalog.benchmark;
+
+import com.Hamalog.config.EventStoreProperties.PayloadFormat;
+import com.Hamalog.domain.events.DomainEvent;
+import com.Hamalog.domain.events.medication.MedicationScheduleCreated;
+import com.Hamalog.domain.medication.AlarmType;
+import com.Hamalog.service.events.DomainEventDescriptor;
+import com.Hamalog.service.events.DomainEventPayloadCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 도메인 이벤트 저장 시 이벤트당 부가 비용 벤치마크
+ *
+ * <p>메타데이터 추출은 현재 구현(클래스별 캐시 descriptor + {@code MemberScopedEvent})과 이전 구현(호출마다
+ * {@code getMethod("getMemberLoginId")} 리플렉션 + 접미사 파싱)을, 페이로드는 JSON/SMILE 코덱과 이전 구현(기본
+ * ObjectMapper)을 비교합니다. 이벤트는 필드가 가장 많은 복약 스케줄 생성 이벤트입니다.
+ * 페이로드 크기는 {@code setUp}에서 한 번 출력합니다.</p>
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=DomainEventCodecBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DomainEventCodecBenchmark {
+
+    @Param({"JSON", "SMILE"})
+    private PayloadFormat format;
+
+    private DomainEvent event;
+    private DomainEventPayloadCodec codec;
+    private ObjectMapper legacyMapper;
+    private String payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        event = new MedicationScheduleCreated(1L, 1L, "user@test.com", "혈압약", "하마로그 내과",
+                LocalDate.of(2025, 1, 1), "식후 30분", LocalDate.of(2025, 1, 2), 30, 3, AlarmType.SOUND);
+        codec = new DomainEventPayloadCodec(format);
+        legacyMapper = new ObjectMapper();
+        legacyMapper.registerModule(new JavaTimeModule());
+        payload = codec.encode(event);
+        System.out.printf("%n[%s] payload chars: %d (legacy JSON: %d)%n",
+                format, payload.length(), legacyMapper.writeValueAsString(event).length());
+    }
+
+    @Benchmark
+    public String metadata_current() {
+        DomainEventDescriptor descriptor = DomainEventDescriptor.of(event);
+        return descriptor.userId(event) + descriptor.aggregateType();
+    }
+
+    @Benchmark
+    public String metadata_legacy() {
+        return legacyUserId(event) + legacyAggregateType(event);
+    }
+
+    @Benchmark
+    public String encode_current() throws Exception {
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public String encode_legacy() throws Exception {
+        return legacyMapper.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public JsonNode decode_current() throws Exception {
+        return codec.readTree(payload);
+    }
+
+    /**
+     * 변경 전 EventPersistenceHandler.extractUserId와 같은 방식 (비교 기준)
+     */
+    private static String legacyUserId(DomainEvent event) {
+        try {
+            var method = event.getClass().getMethod("getMemberLoginId");
+            Object result = method.invoke(event);
+            return result != null ? result.toString() : "system";
+        } catch (Exception e) {
+            return "system";
+        }
+    }
+
+    /**
+     * 변경 전 EventStoreService.extractAggregateType과 같은 방식 (비교 기준)
+     */
+    private static String legacyAggregateType(DomainEvent event) {
+        String eventType = event.getEventType();
+        if (eventType.endsWith("Event")) {
+            eventType = eventType.substring(0, eventType.length() - 5);
+        }
+        String[] suffixes = {"Created", "Updated", "Deleted", "Succeeded", "Failed"};
+        for (String suffix : suffixes) {
+            if (eventType.endsWith(suffix)) {
+                return eventType.substring(0, eventType.length() - suffix.length());
+            }
+        }
+        return eventType;
+    }
+}
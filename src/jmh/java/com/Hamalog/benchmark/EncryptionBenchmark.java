@@ -0,0 +1,159 @@
+package com.Hamalog.benchmark;
+
+import com.Hamalog.security.encryption.DataEncryptionUtil;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * 암호화 컬럼 암복호화 처리량 벤치마크
+ *
+ * <p>현재 구현(current: 스레드별 Cipher + 카운터 nonce)과 이전 구현(legacy: 호출마다 Cipher 생성 + 공유 SecureRandom)을
+ * 1/4/16 스레드에서 비교합니다. 평문은 마음 일기 자유 형식 한 건 정도 크기의 한글 문장입니다.</p>
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=EncryptionBenchmark</pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class EncryptionBenchmark {
+
+    private static final String TEST_KEY = "+ZFRGoRl5CElrJfikdx1TmzQ3U8OJ+J6im5OMjuvsqE=";
+
+    @Param({"current", "legacy"})
+    private String implementation;
+
+    private Codec codec;
+    private String plainText;
+    private String encryptedText;
+
+    @Setup
+    public void setUp() {
+        codec = "legacy".equals(implementation) ? new LegacyCodec(TEST_KEY) : new CurrentCodec(TEST_KEY);
+        plainText = "오늘은 아침 약을 챙겨 먹고 공원에서 30분 산책을 했다. 기분이 한결 나아졌다. ".repeat(4);
+        encryptedText = codec.encrypt(plainText);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String encrypt_1thread() {
+        return codec.encrypt(plainText);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String encrypt_4threads() {
+        return codec.encrypt(plainText);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String encrypt_16threads() {
+        return codec.encrypt(plainText);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String decrypt_1thread() {
+        return codec.decrypt(encryptedText);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String decrypt_4threads() {
+        return codec.decrypt(encryptedText);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String decrypt_16threads() {
+        return codec.decrypt(encryptedText);
+    }
+
+    private interface Codec {
+        String encrypt(String plainText);
+
+        String decrypt(String encryptedText);
+    }
+
+    private static final class CurrentCodec implements Codec {
+
+        private final DataEncryptionUtil dataEncryptionUtil;
+
+        private CurrentCodec(String key) {
+            this.dataEncryptionUtil = new DataEncryptionUtil(key, new StandardEnvironment());
+        }
+
+        @Override
+        public String encrypt(String plainText) {
+            return dataEncryptionUtil.encrypt(plainText);
+        }
+
+        @Override
+        public String decrypt(String encryptedText) {
+            return dataEncryptionUtil.decrypt(encryptedText);
+        }
+    }
+
+    /**
+     * 변경 전 DataEncryptionUtil과 같은 방식 (비교 기준)
+     */
+    private static final class LegacyCodec implements Codec {
+
+        private final SecretKeySpec secretKey;
+        private final SecureRandom secureRandom = new SecureRandom();
+
+        private LegacyCodec(String key) {
+            this.secretKey = new SecretKeySpec(Base64.getDecoder().decode(key), "AES");
+        }
+
+        @Override
+        public String encrypt(String plainText) {
+            try {
+                Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+                byte[] iv = new byte[12];
+                secureRandom.nextBytes(iv);
+                cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(128, iv));
+                byte[] encryptedData = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+
+                byte[] encryptedWithIv = new byte[iv.length + encryptedData.length];
+                System.arraycopy(iv, 0, encryptedWithIv, 0, iv.length);
+                System.arraycopy(encryptedData, 0, encryptedWithIv, iv.length, encryptedData.length);
+                return Base64.getEncoder().encodeToString(encryptedWithIv);
+            } catch (Exception e) {
+                throw new RuntimeException("Encryption failed", e);
+            }
+        }
+
+        @Override
+        public String decrypt(String encryptedText) {
+            try {
+                byte[] encryptedWithIv = Base64.getDecoder().decode(encryptedText);
+                byte[] iv = new byte[12];
+                byte[] encryptedData = new byte[encryptedWithIv.length - 12];
+                System.arraycopy(encryptedWithIv, 0, iv, 0, 12);
+                System.arraycopy(encryptedWithIv, 12, encryptedData, 0, encryptedData.length);
+
+                Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+                cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(128, iv));
+                return new String(cipher.doFinal(encryptedData), StandardCharsets.UTF_8);
+            } catch (Exception e) {
+                throw new RuntimeException("Decryption failed", e);
+            }
+        }
+    }
+}
@@ -68,4 +68,14 @@ public final class ApiVersion {
      * 알림 설정 API 경로
      */
     public static final String NOTIFICATION = "/notification";
+
+    /**
+     * 모바일 델타 동기화 API 경로
+     */
+    public static final String SYNC = "/sync";
+
+    /**
+     * 홈 대시보드 API 경로
+     */
+    public static final String DASHBOARD = "/dashboard";
 }
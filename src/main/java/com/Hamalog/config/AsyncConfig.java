@@ -1,10 +1,15 @@
 package com.Hamalog.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -12,18 +17,39 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 /**
  * 비동기 처리 설정
  * 알림 전송, 외부 API 호출 등 비동기 작업에 사용됩니다.
+ *
+ * <p>spring.threads.virtual.enabled=true 이면 두 실행기 모두 작업마다 가상 스레드를 생성합니다.
+ * 이 경우 스레드 수가 아니라 동시 실행 한도와 하위 자원별 bulkhead(hamalog.bulkhead.*)가 부하를 제한합니다.</p>
  */
 @Configuration
 @EnableAsync
 @Slf4j
 public class AsyncConfig implements AsyncConfigurer {
 
+    /** 가상 스레드 모드의 동시 실행 한도 (초과 시 제출한 스레드가 대기) */
+    static final int VIRTUAL_EVENT_CONCURRENCY_LIMIT = 200;
+    static final int VIRTUAL_TASK_CONCURRENCY_LIMIT = 100;
+    static final int VIRTUAL_STREAMING_CONCURRENCY_LIMIT = 50;
+
+    private static final long TERMINATION_TIMEOUT_MS = 30_000;
+
+    private final Environment environment;
+
+    public AsyncConfig(Environment environment) {
+        this.environment = environment;
+    }
+
     /**
-     * 도메인 이벤트 비동기 처리용 스레드 풀
+     * 도메인 이벤트 비동기 처리용 실행기
      * 알림 전송, 외부 연동 등 비동기 이벤트 처리에 사용
+     * 큐가 가득 차면 이벤트를 버리지 않고 호출한 스레드에서 직접 실행합니다.
      */
     @Bean(name = "eventExecutor")
     public Executor eventExecutor() {
+        if (isVirtualThreadsEnabled()) {
+            return virtualThreadExecutor("event-", VIRTUAL_EVENT_CONCURRENCY_LIMIT);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
@@ -31,18 +57,24 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setThreadNamePrefix("event-");
         executor.setAwaitTerminationSeconds(30);
         executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setRejectedExecutionHandler((r, e) ->
-            log.warn("Event task rejected, queue is full. Consider increasing queue capacity."));
+        executor.setRejectedExecutionHandler((r, e) -> {
+            log.warn("Event executor saturated, running task on caller thread. Consider increasing queue capacity.");
+            new ThreadPoolExecutor.CallerRunsPolicy().rejectedExecution(r, e);
+        });
         executor.initialize();
         return executor;
     }
 
     /**
-     * 일반 비동기 작업용 기본 스레드 풀
+     * 일반 비동기 작업용 기본 실행기
      */
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
+        if (isVirtualThreadsEnabled()) {
+            return virtualThreadExecutor("async-", VIRTUAL_TASK_CONCURRENCY_LIMIT);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(3);
         executor.setMaxPoolSize(10);
@@ -54,6 +86,27 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 스트리밍 응답(StreamingResponseBody) 작성용 실행기
+     * 대용량 내보내기처럼 오래 걸리는 응답 쓰기가 일반 비동기 작업 풀을 점유하지 않도록 분리합니다.
+     */
+    @Bean(name = "streamingExecutor")
+    public AsyncTaskExecutor streamingExecutor() {
+        if (isVirtualThreadsEnabled()) {
+            return virtualThreadExecutor("stream-", VIRTUAL_STREAMING_CONCURRENCY_LIMIT);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("stream-");
+        executor.setAwaitTerminationSeconds(30);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return (throwable, method, params) -> {
@@ -61,4 +114,16 @@ public class AsyncConfig implements AsyncConfigurer {
                     method.getName(), throwable.getMessage(), throwable);
         };
     }
+
+    private boolean isVirtualThreadsEnabled() {
+        return Threading.VIRTUAL.isActive(environment);
+    }
+
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(TERMINATION_TIMEOUT_MS);
+        return executor;
+    }
 }
@@ -0,0 +1,74 @@
+package com.Hamalog.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * 동시 실행 한도를 넘으면 기다리지 않고 거절하는 실행기
+ *
+ * <p>{@link org.springframework.core.task.SimpleAsyncTaskExecutor#setConcurrencyLimit}은 한도에 닿으면 제출한 스레드를
+ * 대기시킵니다. 이 실행기는 허가를 바로 얻지 못하면 {@link TaskRejectedException}을 던져 호출자가 해당 작업만 포기하게 합니다.
+ * 허가는 작업이 끝나거나 시작 전에 취소되어도 작업 스레드에서 반환됩니다.
+ * 빈 종료 시 위임 실행기를 닫아 위임 실행기의 종료 대기 설정이 그대로 적용됩니다.</p>
+ */
+public final class ConcurrencyLimitedTaskExecutor implements AsyncTaskExecutor, AutoCloseable {
+
+    private final TaskExecutor delegate;
+    private final Semaphore permits;
+    private final int concurrencyLimit;
+
+    public ConcurrencyLimitedTaskExecutor(TaskExecutor delegate, int concurrencyLimit) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(concurrencyLimit);
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new TaskRejectedException("Concurrency limit of " + concurrencyLimit + " reached");
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        FutureTask<Object> future = new FutureTask<>(task, null);
+        execute(future);
+        return future;
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        execute(future);
+        return future;
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
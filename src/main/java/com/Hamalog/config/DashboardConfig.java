@@ -0,0 +1,30 @@
+package com.Hamalog.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * 홈 대시보드 설정
+ * 섹션 조회를 병렬로 실행하는 가상 스레드 실행기를 등록합니다.
+ * 섹션 조회는 대부분 DB/Redis 대기이므로 스레드 풀 크기 대신 동시 실행 한도와 하위 자원 bulkhead가 부하를 제한합니다.
+ * 한도에 닿으면 요청 스레드를 대기시키지 않고 섹션 제출을 거절하며, 거절된 섹션은 REJECTED로 비워 응답합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(DashboardProperties.class)
+public class DashboardConfig {
+
+    private static final long TERMINATION_TIMEOUT_MS = 10_000;
+
+    @Bean(name = "dashboardExecutor")
+    public AsyncTaskExecutor dashboardExecutor(DashboardProperties properties) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dashboard-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        executor.setTaskTerminationTimeout(TERMINATION_TIMEOUT_MS);
+        // SimpleAsyncTaskExecutor의 concurrencyLimit은 한도에서 제출 스레드를 대기시키므로 거절하는 실행기로 감쌈
+        return new ConcurrencyLimitedTaskExecutor(executor, properties.maxConcurrency());
+    }
+}
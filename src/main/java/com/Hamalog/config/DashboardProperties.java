@@ -0,0 +1,43 @@
+package com.Hamalog.config;
+
+import com.Hamalog.dto.dashboard.DashboardSection;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 홈 대시보드 설정 프로퍼티
+ *
+ * @param defaultTimeout 섹션별 제한 시간 기본값 (요청 시작 시점부터, 초과한 섹션은 비워서 응답)
+ * @param timeouts       섹션별 제한 시간 (지정하지 않은 섹션은 defaultTimeout)
+ * @param maxConcurrency 동시에 실행할 수 있는 섹션 조회 수 (전체 요청 합산, 초과한 섹션은 기다리지 않고 REJECTED로 비워서 응답)
+ */
+@ConfigurationProperties(prefix = "hamalog.dashboard")
+public record DashboardProperties(
+        Duration defaultTimeout,
+        Map<DashboardSection, Duration> timeouts,
+        int maxConcurrency
+) {
+    /**
+     * 기본값 적용 생성자
+     */
+    public DashboardProperties {
+        if (defaultTimeout == null || defaultTimeout.isNegative() || defaultTimeout.isZero()) {
+            defaultTimeout = Duration.ofSeconds(2);
+        }
+        timeouts = timeouts == null || timeouts.isEmpty()
+                ? Map.of()
+                : Map.copyOf(new EnumMap<>(timeouts));
+        if (maxConcurrency <= 0) {
+            maxConcurrency = 200;
+        }
+    }
+
+    /**
+     * 섹션 제한 시간
+     */
+    public Duration timeoutFor(DashboardSection section) {
+        return timeouts.getOrDefault(section, defaultTimeout);
+    }
+}
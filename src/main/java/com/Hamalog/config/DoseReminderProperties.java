@@ -0,0 +1,43 @@
+package com.Hamalog.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 복약 알림 회차 엔진 설정 프로퍼티
+ *
+ * @param window            복약 스케줄을 회차로 미리 펼쳐 둘 기간
+ * @param expansionPageSize 회차를 펼칠 때 한 트랜잭션에서 처리할 스케줄 수
+ * @param dispatchBatchSize 한 트랜잭션에서 잠그고 발송할 최대 회차 수
+ * @param maxBatchesPerRun  디스패치 1회에 이어서 처리할 최대 배치 수 (적체 시)
+ * @param maxLateness       복용 예정 시각이 이보다 오래 지난 회차는 발송하지 않음 (장애 복구 후 지난 알림 방지)
+ */
+@ConfigurationProperties(prefix = "hamalog.dose-reminder")
+public record DoseReminderProperties(
+        Duration window,
+        int expansionPageSize,
+        int dispatchBatchSize,
+        int maxBatchesPerRun,
+        Duration maxLateness
+) {
+    /**
+     * 기본값 적용 생성자
+     */
+    public DoseReminderProperties {
+        if (window == null || window.isNegative() || window.isZero()) {
+            window = Duration.ofHours(48);
+        }
+        if (expansionPageSize <= 0) {
+            expansionPageSize = 200;
+        }
+        if (dispatchBatchSize <= 0) {
+            dispatchBatchSize = 500;
+        }
+        if (maxBatchesPerRun <= 0) {
+            maxBatchesPerRun = 20;
+        }
+        if (maxLateness == null || maxLateness.isNegative()) {
+            maxLateness = Duration.ofMinutes(30);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.Hamalog.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 조건부 GET(ETag) 설정 프로퍼티
+ *
+ * @param enabled      ETag 발급 및 If-None-Match 처리 여부
+ * @param versionTtl   회원별 리소스 버전 보관 기간 (만료 후 첫 조회에서 새 버전 발급)
+ * @param settleWindow 변경 직후 ETag를 발급하지 않는 시간 (복제 지연 동안 이전 데이터에 새 ETag가 붙지 않도록 replica max-lag 이상)
+ */
+@ConfigurationProperties(prefix = "hamalog.etag")
+public record ETagProperties(
+        boolean enabled,
+        Duration versionTtl,
+        Duration settleWindow
+) {
+    /**
+     * 기본값 적용 생성자
+     */
+    public ETagProperties {
+        if (versionTtl == null || versionTtl.isNegative() || versionTtl.isZero()) {
+            versionTtl = Duration.ofDays(7);
+        }
+        if (settleWindow == null || settleWindow.isNegative() || settleWindow.isZero()) {
+            settleWindow = Duration.ofSeconds(5);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.Hamalog.config;
+
+import com.Hamalog.service.events.DomainEventPayloadCodec;
+import com.Hamalog.service.events.DomainEventSegmentStore;
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 도메인 이벤트 저장소 설정
+ */
+@Configuration
+@EnableConfigurationProperties(EventStoreProperties.class)
+public class EventStoreConfig {
+
+    /**
+     * 이벤트 페이로드 코덱 (저장, 릴레이, 스트림 핸들러가 같은 형식 설정을 사용)
+     */
+    @Bean
+    public DomainEventPayloadCodec domainEventPayloadCodec(EventStoreProperties properties) {
+        return new DomainEventPayloadCodec(properties.payloadFormat());
+    }
+
+    /**
+     * 보관 이벤트 세그먼트 저장소 (보관 작업과 이력 조회가 같은 디렉터리를 사용)
+     */
+    @Bean
+    public DomainEventSegmentStore domainEventSegmentStore(EventStoreProperties properties) {
+        return new DomainEventSegmentStore(
+                Path.of(properties.archive().directory()).toAbsolutePath().normalize());
+    }
+}
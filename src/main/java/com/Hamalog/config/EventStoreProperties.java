@@ -0,0 +1,217 @@
+package com.Hamalog.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 도메인 이벤트 저장소 설정 프로퍼티
+ *
+ * @param mode                 저장 방식 (DIRECT: 발행 즉시 별도 트랜잭션 저장, OUTBOX: 업무 트랜잭션에 함께 저장 후 릴레이가 후처리)
+ * @param relayBatchSize       릴레이가 한 트랜잭션에서 잠그고 처리할 이벤트 수
+ * @param relayMaxBatchesPerRun 릴레이 1회 실행에서 처리할 최대 배치 수 (적체 시 한 실행이 스케줄러를 오래 점유하지 않도록)
+ * @param stream               Redis Stream 전달 설정 (OUTBOX 모드에서만 사용)
+ * @param archive              처리 완료 이벤트 보관(세그먼트 파일) 설정
+ * @param replay               프로젝션 재구축(이벤트 리플레이) 설정
+ * @param payloadFormat        새로 저장할 이벤트 페이로드 형식 (기존 행은 형식 태그로 구분해 계속 읽음)
+ */
+@ConfigurationProperties(prefix = "app.event-store")
+public record EventStoreProperties(
+        Mode mode,
+        int relayBatchSize,
+        int relayMaxBatchesPerRun,
+        Stream stream,
+        Archive archive,
+        Replay replay,
+        PayloadFormat payloadFormat
+) {
+    /**
+     * 기본값 적용 생성자
+     */
+    public EventStoreProperties {
+        if (mode == null) {
+            mode = Mode.DIRECT;
+        }
+        if (relayBatchSize <= 0) {
+            relayBatchSize = 200;
+        }
+        if (relayMaxBatchesPerRun <= 0) {
+            relayMaxBatchesPerRun = 10;
+        }
+        if (stream == null) {
+            stream = new Stream(false, null, 0, 0, null, null, 0, null, null, null, 0);
+        }
+        if (archive == null) {
+            archive = new Archive(false, null, false, null, 0, null);
+        }
+        if (replay == null) {
+            replay = new Replay(0, 0, null, false, null, false);
+        }
+        if (payloadFormat == null) {
+            payloadFormat = PayloadFormat.JSON;
+        }
+    }
+
+    /**
+     * 릴레이가 이벤트를 Redis Stream으로 전달하고 무거운 후처리를 스트림 소비자가 맡는지 여부
+     */
+    public boolean streamDispatchEnabled() {
+        return mode == Mode.OUTBOX && stream.enabled();
+    }
+
+    public enum Mode {
+        DIRECT,
+        OUTBOX
+    }
+
+    /**
+     * 이벤트 페이로드 형식
+     * JSON: 태그 없는 JSON 텍스트 (기존 형식), SMILE: 버전 태그를 붙인 Smile 바이너리 (Base64)
+     */
+    public enum PayloadFormat {
+        JSON,
+        SMILE
+    }
+
+    /**
+     * Redis Stream 전달 설정
+     *
+     * @param enabled        릴레이가 이벤트를 스트림으로 전달할지 여부
+     * @param keyPrefix      스트림 키 접두어 (파티션 스트림은 {@code <keyPrefix>:<파티션 번호>})
+     * @param partitions     파티션 스트림 수 (같은 aggregate의 이벤트는 항상 같은 파티션에 순서대로 추가)
+     * @param maxLength      파티션별 대략적인 최대 보관 길이 (XADD MAXLEN ~)
+     * @param consumerGroup  소비자 그룹 이름
+     * @param consumerName   이 노드의 소비자 이름 (비어 있으면 호스트 이름)
+     * @param readBatchSize  파티션별 한 번에 읽을 최대 레코드 수
+     * @param handledTtl     처리 완료 표시(eventId 기준 중복 방지 키) 보관 기간
+     * @param relayLeaseTtl  릴레이 리더 임대 기간 (한 노드만 전달해 aggregate별 순서 유지, 노드 장애 시 만료 후 다른 노드가 인계)
+     * @param reclaimMinIdle 처리 실패나 노드 중단으로 ACK되지 않은 레코드를 다시 가져오기까지의 최소 유휴 시간 (재시도 간격)
+     * @param maxDeliveries  최대 전달 횟수 (넘으면 데드 레터 스트림 {@code <keyPrefix>:dead-letter}로 옮기고 ACK)
+     */
+    public record Stream(
+            boolean enabled,
+            String keyPrefix,
+            int partitions,
+            long maxLength,
+            String consumerGroup,
+            String consumerName,
+            int readBatchSize,
+            Duration handledTtl,
+            Duration relayLeaseTtl,
+            Duration reclaimMinIdle,
+            int maxDeliveries
+    ) {
+        public Stream {
+            if (keyPrefix == null || keyPrefix.isBlank()) {
+                keyPrefix = "hamalog:domain-events";
+            }
+            if (partitions <= 0) {
+                partitions = 4;
+            }
+            if (maxLength <= 0) {
+                maxLength = 100_000;
+            }
+            if (consumerGroup == null || consumerGroup.isBlank()) {
+                consumerGroup = "domain-event-consumers";
+            }
+            if (readBatchSize <= 0) {
+                readBatchSize = 50;
+            }
+            if (handledTtl == null || handledTtl.isNegative() || handledTtl.isZero()) {
+                handledTtl = Duration.ofDays(7);
+            }
+            if (relayLeaseTtl == null || relayLeaseTtl.isNegative() || relayLeaseTtl.isZero()) {
+                relayLeaseTtl = Duration.ofSeconds(30);
+            }
+            if (reclaimMinIdle == null || reclaimMinIdle.isNegative() || reclaimMinIdle.isZero()) {
+                reclaimMinIdle = Duration.ofMinutes(1);
+            }
+            if (maxDeliveries <= 0) {
+                maxDeliveries = 5;
+            }
+        }
+
+        /**
+         * 파티션 스트림 키
+         */
+        public String partitionKey(int partition) {
+            return keyPrefix + ":" + partition;
+        }
+
+        /**
+         * 최대 전달 횟수를 넘은 레코드를 옮기는 데드 레터 스트림 키
+         */
+        public String deadLetterKey() {
+            return keyPrefix + ":dead-letter";
+        }
+    }
+
+    /**
+     * 처리 완료 이벤트 보관 설정
+     * 보관 작업은 Redis 임대를 가진 노드 하나만 실행합니다. 임대는 노드 사이를 옮겨 다니고 이력 조회와 재구축은 어느
+     * 노드에서나 세그먼트를 읽으므로, directory는 모든 노드가 같은 내용을 보는 공유 볼륨이어야 합니다
+     * (단일 노드 배포면 로컬 디렉터리도 가능). directoryShared가 false면 보관을 켤 수 없습니다.
+     *
+     * @param enabled         보관 작업 실행 여부
+     * @param directory       세그먼트/인덱스 파일 디렉터리
+     * @param directoryShared directory가 모든 노드에서 공유되는지(또는 단일 노드 배포인지) 운영자가 확인했는지 여부
+     * @param retention       테이블에 남겨 둘 기간 (발생일 기준, 일 단위로 내림)
+     * @param chunkSize       한 번에 읽어 세그먼트에 추가하고 삭제할 행 수 (삭제 트랜잭션과 잠금 범위를 작게 유지)
+     * @param leaseTtl        보관 임대 기간 (청크마다 연장, 노드 장애 시 만료 후 다른 노드가 인계)
+     */
+    public record Archive(
+            boolean enabled,
+            String directory,
+            boolean directoryShared,
+            Duration retention,
+            int chunkSize,
+            Duration leaseTtl
+    ) {
+        public Archive {
+            if (directory == null || directory.isBlank()) {
+                directory = System.getProperty("java.io.tmpdir") + "/hamalog-event-archive";
+            }
+            if (retention == null || retention.toDays() <= 0) {
+                retention = Duration.ofDays(90);
+            }
+            if (chunkSize <= 0) {
+                chunkSize = 500;
+            }
+            if (leaseTtl == null || leaseTtl.isNegative() || leaseTtl.isZero()) {
+                leaseTtl = Duration.ofMinutes(5);
+            }
+        }
+    }
+
+    /**
+     * 프로젝션 재구축 설정
+     *
+     * @param parallelism    aggregate별 적용을 나눠 실행할 fork-join 풀 크기
+     * @param pageSize       한 번에 읽어 적용하고 체크포인트를 기록할 이벤트 수
+     * @param settleWindow   이 시간보다 최근에 관측한 최대 ID 이후는 아직 커밋 중일 수 있어 다음 실행으로 미룸
+     * @param catchUpEnabled 재구축이 끝난 프로젝션의 실시간 따라잡기 실행 여부 (한 노드에서만 활성화)
+     * @param rebuild        기동 시 재구축할 프로젝션 이름 (체크포인트가 없거나 중단된 경우에만 실행)
+     * @param dryRun         기동 시 재구축을 적용 없이 읽기·집계만 수행
+     */
+    public record Replay(
+            int parallelism,
+            int pageSize,
+            Duration settleWindow,
+            boolean catchUpEnabled,
+            List<String> rebuild,
+            boolean dryRun
+    ) {
+        public Replay {
+            if (parallelism <= 0) {
+                parallelism = Runtime.getRuntime().availableProcessors();
+            }
+            if (pageSize <= 0) {
+                pageSize = 1000;
+            }
+            if (settleWindow == null || settleWindow.isNegative()) {
+                settleWindow = Duration.ofSeconds(5);
+            }
+            rebuild = rebuild == null ? List.of() : List.copyOf(rebuild);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.Hamalog.config;
+
+import java.util.concurrent.Executor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 데이터 내보내기 작업 설정
+ * 내보내기 작업을 요청 스레드 밖에서 제한된 병렬도로 실행하기 위한 전용 스레드 풀을 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ExportJobProperties.class)
+public class ExportJobConfig {
+
+    @Bean(name = "exportJobExecutor")
+    public Executor exportJobExecutor(ExportJobProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.workers());
+        executor.setMaxPoolSize(properties.workers());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("export-job-");
+        executor.setAwaitTerminationSeconds(60);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        // 대기열이 가득 차면 기본 AbortPolicy로 거절 → 서비스에서 RESOURCE_BUSY로 변환
+        executor.initialize();
+        return executor;
+    }
+}
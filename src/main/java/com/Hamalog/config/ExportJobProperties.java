@@ -0,0 +1,43 @@
+package com.Hamalog.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비동기 데이터 내보내기 작업 설정 프로퍼티
+ *
+ * @param directory     내보내기 파일을 저장할 로컬 디렉터리
+ * @param workers       동시에 실행할 내보내기 작업 수 (작업마다 DB 커넥션 하나를 오래 점유)
+ * @param queueCapacity 대기열 크기 (초과 시 RESOURCE_BUSY)
+ * @param retention     완료된 파일 보관 기간 (경과 후 정리 작업이 삭제)
+ * @param maxActivePerMember 회원당 대기·실행 중인 작업 수 한도 (초과 시 EXPORT_JOB_LIMIT_EXCEEDED)
+ */
+@ConfigurationProperties(prefix = "hamalog.export-job")
+public record ExportJobProperties(
+        String directory,
+        int workers,
+        int queueCapacity,
+        Duration retention,
+        int maxActivePerMember
+) {
+    /**
+     * 기본값 적용 생성자
+     */
+    public ExportJobProperties {
+        if (directory == null || directory.isBlank()) {
+            directory = System.getProperty("java.io.tmpdir") + "/hamalog-exports";
+        }
+        if (workers <= 0) {
+            workers = 2;
+        }
+        if (queueCapacity <= 0) {
+            queueCapacity = 20;
+        }
+        if (retention == null || retention.isNegative()) {
+            retention = Duration.ofHours(24);
+        }
+        if (maxActivePerMember <= 0) {
+            maxActivePerMember = 2;
+        }
+    }
+}
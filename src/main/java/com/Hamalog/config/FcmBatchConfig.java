@@ -0,0 +1,23 @@
+package com.Hamalog.config;
+
+import com.Hamalog.service.notification.FcmGateway;
+import com.Hamalog.service.notification.FirebaseFcmGateway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * FCM 배치 발송 설정
+ * 기본 발송 경로는 Firebase Admin SDK이며, 테스트나 로컬 환경에서는 {@link FcmGateway} 빈을 등록해 대체할 수 있습니다.
+ */
+@Configuration
+@EnableConfigurationProperties(FcmBatchProperties.class)
+public class FcmBatchConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(FcmGateway.class)
+    public FcmGateway firebaseFcmGateway() {
+        return new FirebaseFcmGateway();
+    }
+}
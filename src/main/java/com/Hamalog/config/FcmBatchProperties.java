@@ -0,0 +1,36 @@
+package com.Hamalog.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * FCM 배치 발송 설정 프로퍼티
+ *
+ * @param window        첫 메시지가 들어온 뒤 배치를 모으는 최대 시간
+ * @param maxSize       sendEach 호출 1회에 보내는 최대 메시지 수 (FCM 한도 500)
+ * @param queueCapacity 발송 대기열 크기 (가득 차면 호출 스레드에서 바로 발송)
+ */
+@ConfigurationProperties(prefix = "hamalog.fcm.batch")
+public record FcmBatchProperties(
+        Duration window,
+        int maxSize,
+        int queueCapacity
+) {
+    /** FCM sendEach 한 번에 허용되는 최대 메시지 수 */
+    public static final int FCM_SEND_EACH_LIMIT = 500;
+
+    /**
+     * 기본값 적용 생성자
+     */
+    public FcmBatchProperties {
+        if (window == null || window.isNegative()) {
+            window = Duration.ofMillis(50);
+        }
+        if (maxSize <= 0 || maxSize > FCM_SEND_EACH_LIMIT) {
+            maxSize = FCM_SEND_EACH_LIMIT;
+        }
+        if (queueCapacity <= 0) {
+            queueCapacity = 10_000;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.Hamalog.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 탈퇴 회원 영구 삭제 작업 설정
+ * 회원 단위 삭제를 제한된 병렬도로 실행하기 위한 전용 스레드 풀을 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(MemberPurgeProperties.class)
+public class MemberPurgeConfig {
+
+    @Bean(name = "memberPurgeExecutor")
+    public Executor memberPurgeExecutor(MemberPurgeProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.parallelism());
+        executor.setMaxPoolSize(properties.parallelism());
+        executor.setQueueCapacity(properties.pageSize());
+        executor.setThreadNamePrefix("member-purge-");
+        executor.setAwaitTerminationSeconds(60);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        // 큐가 가득 차면 스케줄러 스레드가 직접 처리 (작업 유실 방지)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
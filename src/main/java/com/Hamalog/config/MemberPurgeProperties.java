@@ -0,0 +1,32 @@
+package com.Hamalog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 탈퇴 회원 영구 삭제 작업 설정 프로퍼티
+ *
+ * @param pageSize    한 번에 조회할 삭제 대상 회원 수
+ * @param chunkSize   대용량 하위 테이블 DELETE ... LIMIT 단위
+ * @param parallelism 동시에 삭제할 회원 수 (커넥션 풀 크기보다 작게 유지)
+ */
+@ConfigurationProperties(prefix = "hamalog.member-purge")
+public record MemberPurgeProperties(
+        int pageSize,
+        int chunkSize,
+        int parallelism
+) {
+    /**
+     * 기본값 적용 생성자
+     */
+    public MemberPurgeProperties {
+        if (pageSize <= 0) {
+            pageSize = 100;
+        }
+        if (chunkSize <= 0) {
+            chunkSize = 1000;
+        }
+        if (parallelism <= 0) {
+            parallelism = 2;
+        }
+    }
+}
@@ -1,10 +1,21 @@
 package com.Hamalog.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
  * 메시지 큐 설정 프로퍼티
  * Redis Stream 기반 메시지 큐의 동작을 제어합니다.
+ *
+ * @param pollTimeoutSeconds     XREADGROUP BLOCK 최대 대기 시간 (종료 시 소비 루프가 멈추기까지 걸리는 최대 시간,
+ *                               Redis 명령 타임아웃보다 짧아야 함 - {@link #pollBlock(Duration)})
+ * @param batchSize              소비 루프가 한 번에 읽는 최대 메시지 수
+ * @param consumers              노드당 소비 루프 수 (각 루프는 {@code <consumerName>-<번호>} 소비자로 읽음)
+ * @param workerThreads          읽은 메시지를 처리하는 노드당 작업 스레드 수
+ * @param shutdownTimeoutSeconds 종료 시 처리 중인 메시지를 기다리는 최대 시간
+ * @param reclaimMinIdle         이 시간 이상 ACK되지 않은 PEL 항목을 중단된 소비자의 것으로 보고 회수
+ * @param reclaimBatchSize       회수 작업 1회에 확인할 최대 PEL 항목 수
+ * @param idempotencyTtl         발송 완료 표시(messageId 기준 중복 발송 방지 키) 보관 기간
  */
 @ConfigurationProperties(prefix = "hamalog.queue")
 public record MessageQueueProperties(
@@ -16,8 +27,24 @@ public record MessageQueueProperties(
         int maxRetries,
         int pollTimeoutSeconds,
         int batchSize,
+        int consumers,
+        int workerThreads,
+        int shutdownTimeoutSeconds,
+        Duration reclaimMinIdle,
+        int reclaimBatchSize,
+        Duration idempotencyTtl,
         DiscordWebhook discord
 ) {
+    /**
+     * 블로킹 읽기 응답이 명령 타임아웃 전에 도착하도록 남겨 둘 여유 시간
+     */
+    public static final Duration POLL_BLOCK_MARGIN = Duration.ofMillis(500);
+
+    /**
+     * 발송 처리 중 표시 보관 기간의 회수 유휴 시간 대비 배수
+     */
+    public static final int PROCESSING_MARKER_TTL_FACTOR = 5;
+
     /**
      * 기본값 적용 생성자
      */
@@ -38,11 +65,57 @@ public record MessageQueueProperties(
             maxRetries = 3;
         }
         if (pollTimeoutSeconds <= 0) {
-            pollTimeoutSeconds = 5;
+            pollTimeoutSeconds = 1;
         }
         if (batchSize <= 0) {
             batchSize = 10;
         }
+        if (consumers <= 0) {
+            consumers = 2;
+        }
+        if (workerThreads <= 0) {
+            workerThreads = 8;
+        }
+        if (shutdownTimeoutSeconds <= 0) {
+            shutdownTimeoutSeconds = 30;
+        }
+        if (reclaimMinIdle == null || reclaimMinIdle.isNegative() || reclaimMinIdle.isZero()) {
+            reclaimMinIdle = Duration.ofSeconds(60);
+        }
+        if (reclaimBatchSize <= 0) {
+            reclaimBatchSize = 100;
+        }
+        if (idempotencyTtl == null || idempotencyTtl.isNegative() || idempotencyTtl.isZero()) {
+            idempotencyTtl = Duration.ofHours(24);
+        }
+    }
+
+    /**
+     * 발송 처리 중 표시(messageId 기준 SET NX) 보관 기간
+     * 회수 유휴 시간보다 충분히 길게 잡아, 처리가 느린 메시지를 다른 소비자가 회수하더라도 처리 중 표시가 남아 있어 다시
+     * 발송하지 않습니다. 노드가 처리 도중 중단되면 표시가 만료된 뒤 회수한 소비자가 발송합니다.
+     */
+    public Duration processingMarkerTtl() {
+        return reclaimMinIdle.multipliedBy(PROCESSING_MARKER_TTL_FACTOR);
+    }
+
+    /**
+     * XREADGROUP BLOCK 대기 시간
+     * 블로킹 읽기에도 Redis 명령 타임아웃(spring.data.redis.timeout)이 적용되므로, 대기 시간이 타임아웃에 닿으면
+     * 클라이언트가 먼저 읽기를 포기합니다. Redis에는 그 읽기가 남아 이후 도착한 메시지를 가져가고, 그 메시지는 회수될 때까지
+     * PEL에 묶입니다. 그래서 타임아웃보다 {@link #POLL_BLOCK_MARGIN} 이상 짧지 않으면 기동 시 거부합니다.
+     *
+     * @param commandTimeout Redis 명령 타임아웃
+     * @throws IllegalStateException 대기 시간이 명령 타임아웃에 비해 충분히 짧지 않은 경우
+     */
+    public Duration pollBlock(Duration commandTimeout) {
+        Duration block = Duration.ofSeconds(pollTimeoutSeconds);
+        if (commandTimeout != null && block.plus(POLL_BLOCK_MARGIN).compareTo(commandTimeout) > 0) {
+            throw new IllegalStateException("hamalog.queue.poll-timeout-seconds (" + block.toSeconds()
+                    + "s) must be at least " + POLL_BLOCK_MARGIN.toMillis()
+                    + "ms shorter than spring.data.redis.timeout (" + commandTimeout.toMillis() + "ms)");
+        }
+        return block;
     }
 
     /**
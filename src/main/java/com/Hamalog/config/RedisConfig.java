@@ -1,5 +1,7 @@
 package com.Hamalog.config;
 
+import com.Hamalog.config.bulkhead.BulkheadRedisTemplate;
+import com.Hamalog.config.bulkhead.Bulkheads;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,8 +15,8 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 public class RedisConfig {
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory, Bulkheads bulkheads) {
+        RedisTemplate<String, Object> template = new BulkheadRedisTemplate<>(bulkheads.redis());
         template.setConnectionFactory(connectionFactory);
         
         // Key serializer
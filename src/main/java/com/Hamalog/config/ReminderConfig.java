@@ -0,0 +1,13 @@
+package com.Hamalog.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 예약 알림 설정 빈 등록
+ */
+@Configuration
+@EnableConfigurationProperties({ReminderProperties.class, DoseReminderProperties.class})
+public class ReminderConfig {
+    // ReminderProperties, DoseReminderProperties를 Bean으로 등록
+}
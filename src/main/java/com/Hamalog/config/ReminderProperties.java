@@ -0,0 +1,32 @@
+package com.Hamalog.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 예약 알림 디스패처 설정 프로퍼티
+ *
+ * @param dispatchBatchSize 한 트랜잭션에서 잠그고 발송할 최대 예약 수
+ * @param maxBatchesPerRun  디스패치 1회에 이어서 처리할 최대 배치 수 (적체 시)
+ * @param backfillPageSize  기동 시 알림 설정에서 예약 인덱스를 채울 때 한 번에 읽는 설정 수
+ */
+@ConfigurationProperties(prefix = "hamalog.reminder")
+public record ReminderProperties(
+        int dispatchBatchSize,
+        int maxBatchesPerRun,
+        int backfillPageSize
+) {
+    /**
+     * 기본값 적용 생성자
+     */
+    public ReminderProperties {
+        if (dispatchBatchSize <= 0) {
+            dispatchBatchSize = 500;
+        }
+        if (maxBatchesPerRun <= 0) {
+            maxBatchesPerRun = 20;
+        }
+        if (backfillPageSize <= 0) {
+            backfillPageSize = 500;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.Hamalog.config;
+
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 요청 스레드의 SecurityContext와 MDC를 작업 스레드로 전달하는 TaskDecorator
+ *
+ * <p>요청 하나를 여러 스레드로 나눠 처리할 때 사용합니다. 작업 스레드에서도 인증 정보(읽기 복제본 read-your-writes 판단 포함)와
+ * 로그 상관관계 ID가 요청 스레드와 같도록 하고, 작업이 끝나면 스레드의 이전 상태로 되돌립니다.</p>
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return () -> {
+            SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            SecurityContextHolder.setContext(securityContext);
+            setMdc(mdc);
+            try {
+                runnable.run();
+            } finally {
+                SecurityContextHolder.setContext(previousSecurityContext);
+                setMdc(previousMdc);
+            }
+        };
+    }
+
+    private static void setMdc(Map<String, String> contextMap) {
+        if (contextMap == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(contextMap);
+        }
+    }
+}
@@ -1,16 +1,32 @@
 package com.Hamalog.config;
 
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
 
+    /**
+     * 스케줄러
+     * 가상 스레드 모드에서는 실행마다 가상 스레드를 띄워, 오래 걸리는 작업이 2개 스레드를 점유해 다른 작업을 밀어내지 않도록 합니다.
+     */
     @Bean
-    public ThreadPoolTaskScheduler taskScheduler() {
+    public TaskScheduler taskScheduler(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+            scheduler.setVirtualThreads(true);
+            scheduler.setThreadNamePrefix("scheduler-");
+            scheduler.setTaskTerminationTimeout(30_000);
+            return scheduler;
+        }
+
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
         scheduler.setPoolSize(2);
         scheduler.setThreadNamePrefix("scheduler-");
@@ -10,6 +10,7 @@ import com.Hamalog.security.jwt.JwtAuthenticationFilter;
 import com.Hamalog.security.jwt.JwtTokenProvider;
 import com.Hamalog.security.oauth2.OAuth2AuthenticationSuccessHandler;
 import com.Hamalog.service.oauth2.KakaoOAuth2UserService;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -112,6 +113,9 @@ public class SecurityConfig {
                 )
                 .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> {
+                    // 비동기 응답(StreamingResponseBody) 완료 후의 ASYNC 디스패치는 최초 요청에서 이미 인가됨
+                    auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+
                     // 기본 공개 엔드포인트
                     auth.requestMatchers(
                             "/auth/login", "/auth/signup", "/auth/refresh",
@@ -0,0 +1,12 @@
+package com.Hamalog.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 모바일 델타 동기화 설정
+ */
+@Configuration
+@EnableConfigurationProperties(SyncProperties.class)
+public class SyncConfig {
+}
@@ -0,0 +1,43 @@
+package com.Hamalog.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 모바일 델타 동기화 설정 프로퍼티
+ *
+ * @param settleWindow     최근 이 시간 안에 기록된 변경은 다음 요청으로 미룸 (커밋 순서가 ID 순서와 다른 트랜잭션을 건너뛰지 않도록)
+ * @param retention        변경 로그 보관 기간 (이보다 오래된 커서는 전체 재동기화)
+ * @param defaultLimit     limit 미지정 시 한 번에 반환할 변경 수
+ * @param maxLimit         한 번에 반환할 수 있는 최대 변경 수
+ * @param cleanupChunkSize 보관 기간 정리 시 DELETE ... LIMIT 단위
+ */
+@ConfigurationProperties(prefix = "hamalog.sync")
+public record SyncProperties(
+        Duration settleWindow,
+        Duration retention,
+        int defaultLimit,
+        int maxLimit,
+        int cleanupChunkSize
+) {
+    /**
+     * 기본값 적용 생성자
+     */
+    public SyncProperties {
+        if (settleWindow == null || settleWindow.isNegative()) {
+            settleWindow = Duration.ofSeconds(2);
+        }
+        if (retention == null || retention.isNegative() || retention.isZero()) {
+            retention = Duration.ofDays(30);
+        }
+        if (maxLimit <= 0) {
+            maxLimit = 1000;
+        }
+        if (defaultLimit <= 0 || defaultLimit > maxLimit) {
+            defaultLimit = Math.min(200, maxLimit);
+        }
+        if (cleanupChunkSize <= 0) {
+            cleanupChunkSize = 1000;
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.Hamalog.config;
 
+import com.Hamalog.config.etag.ConditionalGetInterceptor;
 import java.util.ArrayList;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
@@ -18,9 +23,32 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final TextPlainJsonHttpMessageConverter textPlainJsonConverter;
+    private final AsyncTaskExecutor streamingExecutor;
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
 
-    public WebMvcConfig(TextPlainJsonHttpMessageConverter textPlainJsonConverter) {
+    public WebMvcConfig(TextPlainJsonHttpMessageConverter textPlainJsonConverter,
+                        @Qualifier("streamingExecutor") AsyncTaskExecutor streamingExecutor,
+                        ConditionalGetInterceptor conditionalGetInterceptor) {
         this.textPlainJsonConverter = textPlainJsonConverter;
+        this.streamingExecutor = streamingExecutor;
+        this.conditionalGetInterceptor = conditionalGetInterceptor;
+    }
+
+    /**
+     * {@code @ConditionalGet} 핸들러는 서비스 조회 전에 If-None-Match를 확인
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalGetInterceptor);
+    }
+
+    /**
+     * StreamingResponseBody 등 MVC 비동기 응답은 전용 실행기에서 작성
+     * (타임아웃은 spring.mvc.async.request-timeout)
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
     }
 
     @Override
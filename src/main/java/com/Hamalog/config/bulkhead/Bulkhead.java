@@ -0,0 +1,137 @@
+package com.Hamalog.config.bulkhead;
+
+import com.Hamalog.exception.concurrency.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세마포어 기반 동시 사용 한도
+ * 허가를 maxWait 안에 얻지 못하면 무한정 대기하지 않고 {@link BulkheadFullException}으로 빠르게 실패합니다.
+ *
+ * <p>같은 스레드에서 중첩 호출된 {@link #call}은 이미 얻은 허가를 재사용하여
+ * 한도가 찬 상태에서 자기 자신을 기다리는 교착을 방지합니다.</p>
+ */
+@Slf4j
+public class Bulkhead {
+
+    private final String name;
+    private final Semaphore permits;
+    private final Duration maxWait;
+    private final ThreadLocal<Integer> callDepth = ThreadLocal.withInitial(() -> 0);
+    private final Counter rejectedCounter;
+    private final Timer waitTimer;
+
+    public Bulkhead(String name, int maxConcurrent, Duration maxWait, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWait = maxWait;
+
+        Gauge.builder("hamalog.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("Permits currently available per downstream resource")
+                .tag("resource", name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("hamalog.bulkhead.rejected")
+                .description("Calls rejected because the bulkhead stayed full for max-wait")
+                .tag("resource", name)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("hamalog.bulkhead.wait")
+                .description("Time spent waiting for a bulkhead permit")
+                .tag("resource", name)
+                .register(meterRegistry);
+    }
+
+    private Bulkhead(String name) {
+        this.name = name;
+        this.permits = null;
+        this.maxWait = Duration.ZERO;
+        this.rejectedCounter = null;
+        this.waitTimer = null;
+    }
+
+    /**
+     * 한도가 없는 bulkhead (bulkhead 비활성화 시 사용)
+     */
+    public static Bulkhead unbounded(String name) {
+        return new Bulkhead(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isBounded() {
+        return permits != null;
+    }
+
+    public int availablePermits() {
+        return permits != null ? permits.availablePermits() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * 허가 획득 (반드시 {@link #release()}와 짝을 이뤄야 함)
+     *
+     * @throws BulkheadFullException maxWait 안에 허가를 얻지 못한 경우
+     */
+    public void acquire() {
+        if (permits == null) {
+            return;
+        }
+        long started = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waitTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            rejectedCounter.increment();
+            log.warn("[BULKHEAD] {} is saturated - rejected after waiting {}ms", name, maxWait.toMillis());
+            throw new BulkheadFullException(name);
+        }
+    }
+
+    public void release() {
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
+    /**
+     * 허가를 얻은 상태로 작업을 실행하고 끝나면 반납
+     */
+    public <T, E extends Exception> T call(BulkheadCall<T, E> call) throws E {
+        if (permits == null) {
+            return call.call();
+        }
+        int depth = callDepth.get();
+        if (depth > 0) {
+            return call.call();
+        }
+
+        acquire();
+        callDepth.set(1);
+        try {
+            return call.call();
+        } finally {
+            callDepth.remove();
+            permits.release();
+        }
+    }
+
+    /**
+     * 검사 예외를 던질 수 있는 bulkhead 작업
+     */
+    @FunctionalInterface
+    public interface BulkheadCall<T, E extends Exception> {
+        T call() throws E;
+    }
+}
@@ -0,0 +1,66 @@
+package com.Hamalog.config.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 하위 자원별 bulkhead 설정
+ * hamalog.bulkhead.enabled=false 이면 한도가 없는 bulkhead를 등록하여 호출부 코드는 그대로 두고 동작만 끕니다.
+ *
+ * <p>적용 지점</p>
+ * <ul>
+ *   <li>DB: 애플리케이션 DataSource("dataSource" 빈)를 {@link BulkheadDataSource}로 감쌈</li>
+ *   <li>Redis: RedisConfig의 redisTemplate을 {@link BulkheadRedisTemplate}으로 생성</li>
+ *   <li>FCM: FirebaseMessaging 발송 호출부에서 {@link Bulkheads#fcm()} 사용</li>
+ * </ul>
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public Bulkheads bulkheads(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        if (!properties.enabled()) {
+            return Bulkheads.unbounded();
+        }
+        log.info("[BULKHEAD] Enabled - db: {}, redis: {}, fcm: {}",
+                properties.db().maxConcurrent(), properties.redis().maxConcurrent(), properties.fcm().maxConcurrent());
+        return new Bulkheads(
+                create(Bulkheads.DB, properties.db(), meterRegistry),
+                create(Bulkheads.REDIS, properties.redis(), meterRegistry),
+                create(Bulkheads.FCM, properties.fcm(), meterRegistry));
+    }
+
+    /**
+     * 애플리케이션 DataSource에 DB bulkhead 적용
+     * 복제본 라우팅 사용 시에도 최종 "dataSource" 빈 하나만 감싸므로 primary/replica 합산 한도로 동작합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "hamalog.bulkhead.enabled", havingValue = "true")
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(ObjectProvider<Bulkheads> bulkheads) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof BulkheadDataSource)) {
+                    return new BulkheadDataSource(dataSource, bulkheads.getObject().db());
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static Bulkhead create(String name, BulkheadProperties.Limit limit, MeterRegistry meterRegistry) {
+        return new Bulkhead(name, limit.maxConcurrent(), limit.maxWait(), meterRegistry);
+    }
+}
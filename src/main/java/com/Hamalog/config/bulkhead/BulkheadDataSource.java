@@ -0,0 +1,89 @@
+package com.Hamalog.config.bulkhead;
+
+import com.Hamalog.exception.concurrency.BulkheadFullException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션 보유 동안 DB bulkhead 허가를 점유하는 DataSource
+ * 가상 스레드 수천 개가 동시에 Hikari 풀(기본 5개)을 기다리며 connection-timeout(30초)까지 쌓이지 않도록,
+ * 허가를 짧은 maxWait 안에 얻지 못하면 Hikari 풀 고갈과 같은 {@link SQLTransientConnectionException}으로 빠르게 실패합니다.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Bulkhead bulkhead;
+
+    public BulkheadDataSource(DataSource targetDataSource, Bulkhead bulkhead) {
+        super(targetDataSource);
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return guarded(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return guarded(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private void acquire() throws SQLTransientConnectionException {
+        try {
+            bulkhead.acquire();
+        } catch (BulkheadFullException e) {
+            throw new SQLTransientConnectionException("DB bulkhead is full - connection not available", e);
+        }
+    }
+
+    private Connection guarded(ConnectionSupplier supplier) throws SQLException {
+        Connection target;
+        try {
+            target = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            yield invoke(target, method, args);
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                bulkhead.release();
+                            }
+                        }
+                    }
+                    default -> invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,54 @@
+package com.Hamalog.config.bulkhead;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 하위 자원별 동시 사용 한도(bulkhead) 설정 프로퍼티
+ * 가상 스레드 모드에서는 요청마다 스레드가 생기므로, 스레드 풀 크기가 아니라 이 한도가 DB/Redis/FCM 동시 사용량을 제한합니다.
+ *
+ * @param enabled 한도 적용 여부 (기본: spring.threads.virtual.enabled 값을 따름)
+ * @param db      DB 커넥션 동시 보유 한도 (Hikari maximum-pool-size와 맞추는 것을 권장)
+ * @param redis   Redis 명령 동시 실행 한도
+ * @param fcm     FCM 발송 동시 호출 한도
+ */
+@ConfigurationProperties(prefix = "hamalog.bulkhead")
+public record BulkheadProperties(
+        boolean enabled,
+        Limit db,
+        Limit redis,
+        Limit fcm
+) {
+    /**
+     * 기본값 적용 생성자
+     */
+    public BulkheadProperties {
+        if (db == null) {
+            db = new Limit(5, Duration.ofSeconds(3));
+        }
+        if (redis == null) {
+            redis = new Limit(50, Duration.ofMillis(500));
+        }
+        if (fcm == null) {
+            fcm = new Limit(20, Duration.ofSeconds(5));
+        }
+    }
+
+    /**
+     * 자원별 한도
+     *
+     * @param maxConcurrent 동시에 허용할 최대 호출 수
+     * @param maxWait       허가를 기다릴 최대 시간 (초과 시 BulkheadFullException)
+     */
+    public record Limit(int maxConcurrent, Duration maxWait) {
+
+        public Limit {
+            if (maxConcurrent <= 0) {
+                throw new IllegalArgumentException("maxConcurrent must be positive");
+            }
+            if (maxWait == null) {
+                maxWait = Duration.ZERO;
+            }
+        }
+    }
+}
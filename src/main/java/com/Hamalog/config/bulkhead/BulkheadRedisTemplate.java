@@ -0,0 +1,47 @@
+package com.Hamalog.config.bulkhead;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+/**
+ * Redis 명령 실행 동안 Redis bulkhead 허가를 점유하는 RedisTemplate
+ * opsForValue()/opsForStream() 등 모든 연산은 {@link #execute(RedisCallback, boolean, boolean)}를 거치므로
+ * 이 두 진입점만 감싸면 템플릿을 통한 모든 Redis 호출에 한도가 적용됩니다.
+ */
+public class BulkheadRedisTemplate<K, V> extends RedisTemplate<K, V> {
+
+    private final Bulkhead bulkhead;
+
+    public BulkheadRedisTemplate(Bulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+        return bulkhead.call(() -> super.execute(action, exposeConnection, pipeline));
+    }
+
+    @Override
+    public <T> T execute(SessionCallback<T> session) {
+        return bulkhead.call(() -> super.execute(session));
+    }
+
+    /**
+     * bulkhead 허가 없이 실행 (XREADGROUP BLOCK처럼 전용 연결에서 오래 대기하는 명령용)
+     * 대기하는 동안 허가를 점유하면 소비 루프 수만큼 다른 Redis 호출의 한도가 줄어들기 때문입니다.
+     */
+    public <T> T executeBlocking(RedisCallback<T> action) {
+        return super.execute(action, true, false);
+    }
+
+    /**
+     * 블로킹 명령 실행 (bulkhead 템플릿이면 허가 없이, 아니면 일반 실행)
+     */
+    public static <T> T executeBlocking(RedisTemplate<?, ?> template, RedisCallback<T> action) {
+        if (template instanceof BulkheadRedisTemplate<?, ?> bulkheadTemplate) {
+            return bulkheadTemplate.executeBlocking(action);
+        }
+        return template.execute(action);
+    }
+}
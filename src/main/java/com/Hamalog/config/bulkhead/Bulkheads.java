@@ -0,0 +1,22 @@
+package com.Hamalog.config.bulkhead;
+
+/**
+ * 하위 자원별 bulkhead 묶음
+ *
+ * @param db    DB 커넥션 bulkhead
+ * @param redis Redis 명령 bulkhead
+ * @param fcm   FCM 발송 bulkhead
+ */
+public record Bulkheads(Bulkhead db, Bulkhead redis, Bulkhead fcm) {
+
+    public static final String DB = "db";
+    public static final String REDIS = "redis";
+    public static final String FCM = "fcm";
+
+    /**
+     * 한도를 적용하지 않는 bulkhead 묶음 (bulkhead 비활성화 및 단위 테스트용)
+     */
+    public static Bulkheads unbounded() {
+        return new Bulkheads(Bulkhead.unbounded(DB), Bulkhead.unbounded(REDIS), Bulkhead.unbounded(FCM));
+    }
+}
@@ -0,0 +1,46 @@
+package com.Hamalog.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Read-your-writes 보장을 위한 최근 쓰기 회원 추적기
+ * 쓰기 트랜잭션을 커밋한 회원은 stickiness 구간 동안 읽기도 primary에서 수행하여,
+ * 복제 지연 때문에 방금 저장한 데이터가 보이지 않는 문제를 방지합니다.
+ */
+public class ReadYourWritesTracker {
+
+    private static final long MAX_TRACKED_MEMBERS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration stickinessWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickinessWindow)
+                .maximumSize(MAX_TRACKED_MEMBERS)
+                .build();
+    }
+
+    public void markWrite(String memberKey) {
+        recentWriters.put(memberKey, Boolean.TRUE);
+    }
+
+    public boolean isSticky(String memberKey) {
+        return recentWriters.getIfPresent(memberKey) != null;
+    }
+
+    /**
+     * 현재 요청의 인증된 회원 식별자 (미인증/익명/스케줄러 스레드는 empty)
+     */
+    public static Optional<String> currentMemberKey() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getName())) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(auth.getName());
+    }
+}
@@ -0,0 +1,66 @@
+package com.Hamalog.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 복제본 지연 모니터
+ * 주기적으로 복제본에 지연 조회 쿼리를 실행하여, 허용 지연을 넘거나 응답하지 않으면
+ * 라우팅 DataSource가 읽기 전용 트랜잭션도 primary로 보내도록 전환합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String PING_QUERY = "SELECT 1";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final ReplicaRoutingProperties properties;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public ReplicaLagMonitor(DataSource replicaDataSource,
+                             ReplicaRoutingDataSource routingDataSource,
+                             ReplicaRoutingProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(2);
+        this.routingDataSource = routingDataSource;
+        this.properties = properties;
+
+        Gauge.builder("hamalog.datasource.replica.lag", lagSeconds, AtomicLong::get)
+                .description("Last measured replica lag in seconds (-1 when unreachable)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("hamalog.datasource.replica.available", routingDataSource, ds -> ds.isReplicaAvailable() ? 1 : 0)
+                .description("Whether read-only transactions are currently routed to the replica")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${hamalog.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        try {
+            long lag = measureLag();
+            lagSeconds.set(lag == Long.MAX_VALUE ? -1 : lag);
+            routingDataSource.setReplicaAvailable(lag <= properties.maxLag().toSeconds());
+        } catch (Exception e) {
+            lagSeconds.set(-1);
+            routingDataSource.setReplicaAvailable(false);
+            log.warn("[DATASOURCE] Replica lag check failed: {}", e.getMessage());
+        }
+    }
+
+    private long measureLag() {
+        if (properties.lagQuery() == null) {
+            replicaJdbcTemplate.queryForObject(PING_QUERY, Integer.class);
+            return 0;
+        }
+        Long lag = replicaJdbcTemplate.queryForObject(properties.lagQuery(), Long.class);
+        // 복제가 멈춘 경우 (예: Seconds_Behind_Source = NULL) 사용 불가로 취급
+        return lag != null ? lag : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,91 @@
+package com.Hamalog.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기/쓰기 분리 DataSource 설정
+ * hamalog.datasource.replica.enabled=true 일 때만 활성화되며, 비활성화 시 Spring Boot 기본 DataSource를 그대로 사용합니다.
+ *
+ * <p>primary 풀은 기존 spring.datasource.* / spring.datasource.hikari.* 설정을,
+ * replica 풀은 hamalog.datasource.replica.* / hamalog.datasource.replica.hikari.* 설정을 사용합니다.
+ * 두 풀 모두 HikariDataSource 빈으로 등록되어 풀별 hikaricp.* 메트릭이 노출됩니다.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "hamalog.datasource.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties({ReplicaRoutingProperties.class, DataSourceProperties.class})
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("hamalog.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+                                              ReplicaRoutingProperties replicaProperties) {
+        if (replicaProperties.url() == null || replicaProperties.url().isBlank()) {
+            throw new IllegalStateException("hamalog.datasource.replica.url must be set when replica routing is enabled");
+        }
+
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(replicaProperties.url())
+                .username(replicaProperties.username() != null
+                        ? replicaProperties.username() : dataSourceProperties.determineUsername())
+                .password(replicaProperties.password() != null
+                        ? replicaProperties.password() : dataSourceProperties.determinePassword())
+                .build();
+        replica.setPoolName("HamalogReplicaPool");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaRoutingProperties replicaProperties,
+            MeterRegistry meterRegistry) {
+        return new ReplicaRoutingDataSource(
+                primaryDataSource,
+                replicaDataSource,
+                new ReadYourWritesTracker(replicaProperties.stickinessWindow()),
+                meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 전체가 사용하는 DataSource
+     * 실제 커넥션 획득을 첫 쿼리 시점까지 미뤄 트랜잭션의 읽기 전용 플래그가 라우팅에 반영되도록 합니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaRoutingDataSource replicaRoutingDataSource,
+            ReplicaRoutingProperties replicaProperties,
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, replicaRoutingDataSource, replicaProperties, meterRegistry);
+    }
+}
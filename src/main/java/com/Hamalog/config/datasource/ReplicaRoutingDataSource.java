@@ -0,0 +1,112 @@
+package com.Hamalog.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 읽기 전용 여부에 따라 primary/replica로 커넥션을 라우팅하는 DataSource
+ *
+ * <p>라우팅 규칙 (위에서부터 우선 적용)</p>
+ * <ol>
+ *   <li>읽기 전용이 아닌 트랜잭션 또는 트랜잭션 밖의 접근 → primary</li>
+ *   <li>stickiness 구간 안에 쓰기를 커밋한 회원의 읽기 → primary (read-your-writes)</li>
+ *   <li>복제본이 허용 지연을 넘었거나 응답하지 않음 → primary</li>
+ *   <li>그 외 {@code @Transactional(readOnly = true)} → replica</li>
+ * </ol>
+ *
+ * <p>JPA 트랜잭션은 시작 시점에 커넥션을 확보하므로, 읽기 전용 플래그가 설정된 뒤 실제 커넥션을 얻도록
+ * 반드시 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용합니다.</p>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+    private final Map<String, Counter> routingCounters = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    MeterRegistry meterRegistry) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWriteOnCommit();
+            return route(PRIMARY, "write");
+        }
+
+        boolean sticky = ReadYourWritesTracker.currentMemberKey()
+                .map(readYourWritesTracker::isSticky)
+                .orElse(false);
+        if (sticky) {
+            return route(PRIMARY, "read_your_writes");
+        }
+
+        if (!replicaAvailable.get()) {
+            return route(PRIMARY, "replica_lagging");
+        }
+        return route(REPLICA, "read_only");
+    }
+
+    /**
+     * 복제본 사용 가능 여부 갱신 (ReplicaLagMonitor에서 호출)
+     */
+    public void setReplicaAvailable(boolean available) {
+        if (replicaAvailable.getAndSet(available) != available) {
+            if (available) {
+                log.info("[DATASOURCE] Replica is back within lag tolerance - routing read-only transactions to replica");
+            } else {
+                log.warn("[DATASOURCE] Replica unavailable or lagging - routing all transactions to primary");
+            }
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable.get();
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 후 현재 회원을 stickiness 대상으로 등록
+     */
+    private void trackWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        ReadYourWritesTracker.currentMemberKey().ifPresent(memberKey ->
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWritesTracker.markWrite(memberKey);
+                    }
+                }));
+    }
+
+    private String route(String target, String reason) {
+        routingCounters.computeIfAbsent(target + ":" + reason, key -> Counter.builder("hamalog.datasource.routing")
+                        .description("Connections routed per target pool")
+                        .tag("target", target)
+                        .tag("reason", reason)
+                        .register(meterRegistry))
+                .increment();
+        return target;
+    }
+}
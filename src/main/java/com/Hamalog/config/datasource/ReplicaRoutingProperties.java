@@ -0,0 +1,41 @@
+package com.Hamalog.config.datasource;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 복제본(Replica) 라우팅 설정 프로퍼티
+ *
+ * @param enabled          복제본 라우팅 사용 여부 (false면 단일 DataSource 그대로 사용)
+ * @param url              복제본 JDBC URL
+ * @param username         복제본 계정 (미지정 시 primary 계정 사용)
+ * @param password         복제본 비밀번호 (미지정 시 primary 비밀번호 사용)
+ * @param maxLag           허용 복제 지연 (초과 시 읽기도 primary로 보냄)
+ * @param stickinessWindow 회원이 쓰기 트랜잭션을 커밋한 뒤 해당 회원의 읽기를 primary로 고정하는 시간
+ * @param lagQuery         복제 지연(초)을 단일 숫자로 반환하는 쿼리 (미지정 시 SELECT 1로 연결 상태만 확인)
+ */
+@ConfigurationProperties(prefix = "hamalog.datasource.replica")
+public record ReplicaRoutingProperties(
+        boolean enabled,
+        String url,
+        String username,
+        String password,
+        Duration maxLag,
+        Duration stickinessWindow,
+        String lagQuery
+) {
+    /**
+     * 기본값 적용 생성자
+     */
+    public ReplicaRoutingProperties {
+        if (maxLag == null) {
+            maxLag = Duration.ofSeconds(5);
+        }
+        if (stickinessWindow == null) {
+            stickinessWindow = Duration.ofSeconds(5);
+        }
+        if (lagQuery != null && lagQuery.isBlank()) {
+            lagQuery = null;
+        }
+    }
+}
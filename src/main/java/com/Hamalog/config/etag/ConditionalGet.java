@@ -0,0 +1,30 @@
+package com.Hamalog.config.etag;
+
+import com.Hamalog.service.etag.ResourceScope;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 회원별 리소스 버전 기반 조건부 GET
+ *
+ * <p>핸들러 실행 전에 인증된 회원의 범위 버전으로 강한 ETag를 만들고, If-None-Match가 같으면
+ * 서비스 조회 없이 304를 반환합니다. 버전은 조회보다 먼저 읽으므로 응답 본문은 항상 ETag 시점 이후의 데이터입니다.</p>
+ *
+ * @see ConditionalGetInterceptor
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    /**
+     * 응답이 의존하는 리소스 범위
+     */
+    ResourceScope value();
+
+    /**
+     * 회원 ID 경로 변수 이름 (지정 시 인증된 회원과 다르면 조건부 처리를 건너뛰고 핸들러의 권한 검증에 맡김)
+     */
+    String memberIdPathVariable() default "";
+}
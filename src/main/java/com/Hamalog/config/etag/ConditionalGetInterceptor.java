@@ -0,0 +1,138 @@
+package com.Hamalog.config.etag;
+
+import com.Hamalog.security.CustomUserDetails;
+import com.Hamalog.service.etag.ResourceVersionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * {@link ConditionalGet} 처리 인터셉터
+ *
+ * <p>핸들러(권한 검증 AOP와 서비스 조회 포함)보다 먼저 실행되어, If-None-Match가 현재 버전과 같으면 바로 304로 끝냅니다.
+ * 다르면 ETag와 {@code Cache-Control: private, no-cache}를 미리 설정하고 핸들러를 실행합니다.
+ * 라우트별 hit(304)/miss(200)/bypass(버전 없음) 횟수와 hit 비율을 메트릭으로 노출합니다.</p>
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final ResourceVersionService resourceVersionService;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RouteStats> statsByRoute = new ConcurrentHashMap<>();
+
+    public ConditionalGetInterceptor(ResourceVersionService resourceVersionService, MeterRegistry meterRegistry) {
+        this.resourceVersionService = resourceVersionService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+
+        RouteStats stats = statsFor(request);
+        Long memberId = authenticatedMemberId().orElse(null);
+        if (memberId == null || !matchesPathMember(request, conditionalGet, memberId)) {
+            stats.bypass.increment();
+            return true;
+        }
+
+        Optional<String> version = resourceVersionService.currentVersion(conditionalGet.value(), memberId);
+        if (version.isEmpty()) {
+            stats.bypass.increment();
+            return true;
+        }
+
+        String eTag = "\"" + conditionalGet.value().getPrefix() + "-" + version.get() + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+            // checkNotModified가 304 상태와 ETag 헤더를 설정
+            stats.hit.increment();
+            return false;
+        }
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        stats.miss.increment();
+        return true;
+    }
+
+    private static Optional<Long> authenticatedMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return Optional.ofNullable(userDetails.getMemberId());
+        }
+        return Optional.empty();
+    }
+
+    private static boolean matchesPathMember(HttpServletRequest request, ConditionalGet conditionalGet, Long memberId) {
+        String variable = conditionalGet.memberIdPathVariable();
+        if (variable.isEmpty()) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables = (Map<String, String>)
+                request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return pathVariables != null && memberId.toString().equals(pathVariables.get(variable));
+    }
+
+    private RouteStats statsFor(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : "unknown";
+        return statsByRoute.computeIfAbsent(route, r -> new RouteStats(r, meterRegistry));
+    }
+
+    /**
+     * 라우트별 조건부 GET 메트릭
+     */
+    private static final class RouteStats {
+
+        private final Counter hit;
+        private final Counter miss;
+        private final Counter bypass;
+
+        RouteStats(String route, MeterRegistry meterRegistry) {
+            this.hit = counter(meterRegistry, route, "hit");
+            this.miss = counter(meterRegistry, route, "miss");
+            this.bypass = counter(meterRegistry, route, "bypass");
+            Gauge.builder("hamalog.etag.hit.ratio", this, RouteStats::hitRatio)
+                    .description("Share of conditional GETs answered with 304")
+                    .tag("route", route)
+                    .register(meterRegistry);
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String route, String result) {
+            return Counter.builder("hamalog.etag.requests")
+                    .description("Conditional GET requests by result")
+                    .tag("route", route)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+
+        private double hitRatio() {
+            double total = hit.count() + miss.count() + bypass.count();
+            return total == 0 ? 0.0 : hit.count() / total;
+        }
+    }
+}
@@ -5,14 +5,19 @@ import com.Hamalog.dto.benchmark.MemberBenchmarkResponse;
 import com.Hamalog.dto.medication.response.MedicationScheduleListResponse;
 import com.Hamalog.dto.medication.response.MedicationScheduleResponse;
 import com.Hamalog.service.benchmark.BenchmarkService;
+import com.Hamalog.service.queue.MessageQueueService;
+import com.Hamalog.service.queue.message.NotificationMessage;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -36,6 +41,7 @@ import org.springframework.web.bind.annotation.*;
 public class BenchmarkController {
 
     private final BenchmarkService benchmarkService;
+    private final ObjectProvider<MessageQueueService> messageQueueService;
 
     @Operation(summary = "복약 스케줄 조회 (Before/After 비교)",
             description = "N+1 문제 개선 전후 성능을 비교할 수 있는 엔드포인트입니다.")
@@ -227,4 +233,49 @@ public class BenchmarkController {
             );
         }
     }
+
+    // ============================================================
+    // 알림 큐 적체 해소 벤치마크 엔드포인트 (hamalog.queue.enabled=true 필요)
+    // ============================================================
+
+    @Operation(summary = "알림 큐 적체 생성",
+            description = "알림 메시지를 한꺼번에 발행해 적체를 만듭니다. 디바이스 토큰이 없는 회원을 쓰면 FCM 호출 없이 큐 처리량만 측정합니다.")
+    @PostMapping("/notifications/backlog")
+    public ResponseEntity<NotificationBacklogResult> enqueueNotificationBacklog(
+            @RequestParam(defaultValue = "1") Long memberId,
+            @RequestParam(defaultValue = "1000") int count
+    ) {
+        MessageQueueService queueService = messageQueueService.getIfAvailable();
+        if (queueService == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        long startTime = System.nanoTime();
+        int published = 0;
+        for (int i = 0; i < count; i++) {
+            NotificationMessage message = NotificationMessage.of(memberId, "Benchmark", "Backlog drain #" + i,
+                    Map.of(), "BENCHMARK");
+            if (queueService.publish(message) != null) {
+                published++;
+            }
+        }
+        long durationMs = (System.nanoTime() - startTime) / 1_000_000;
+        log.info("[BENCHMARK] Notification backlog enqueued - count: {}, duration: {}ms", published, durationMs);
+        return ResponseEntity.ok(new NotificationBacklogResult(published, queueService.getConsumerGroupBacklog()));
+    }
+
+    @Operation(summary = "알림 큐 적체 조회",
+            description = "소비자 그룹이 아직 처리하지 않은 메시지 수 (미전달 + ACK 대기)")
+    @GetMapping("/notifications/backlog")
+    public ResponseEntity<NotificationBacklogResult> getNotificationBacklog() {
+        MessageQueueService queueService = messageQueueService.getIfAvailable();
+        if (queueService == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(new NotificationBacklogResult(0, queueService.getConsumerGroupBacklog()));
+    }
+
+    public record NotificationBacklogResult(
+            int published,
+            long backlog
+    ) {}
 }
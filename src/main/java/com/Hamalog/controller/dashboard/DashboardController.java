@@ -0,0 +1,84 @@
+package com.Hamalog.controller.dashboard;
+
+import com.Hamalog.config.ApiVersion;
+import com.Hamalog.dto.dashboard.DashboardResponse;
+import com.Hamalog.exception.CustomException;
+import com.Hamalog.exception.ErrorCode;
+import com.Hamalog.security.CustomUserDetails;
+import com.Hamalog.service.dashboard.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 홈 대시보드 Controller
+ *
+ * 앱 실행 시 필요한 복약 요약, 오늘 복약 스케줄, 마음 일기 캘린더, 최근 부작용, 알림 설정을 한 번의 요청으로 반환합니다.
+ */
+@Tag(name = "Dashboard API", description = "홈 대시보드 API")
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping(ApiVersion.DASHBOARD)
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @Operation(summary = "홈 대시보드 조회",
+            description = "인증된 회원의 대시보드 섹션을 동시에 조회합니다. " +
+                    "제한 시간을 넘기거나 실패한 섹션은 null로 두고 failedSections에 담아 나머지 섹션과 함께 200으로 응답합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공 (일부 섹션 누락 가능)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = DashboardResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 캘린더 연월", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<DashboardResponse> getDashboard(
+            @Parameter(description = "캘린더 연도 (생략 시 이번 달)", example = "2025")
+            @RequestParam(required = false) Integer year,
+            @Parameter(description = "캘린더 월 (생략 시 이번 달)", example = "12")
+            @RequestParam(required = false) Integer month,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long memberId = getAuthenticatedMemberId(userDetails);
+        return ResponseEntity.ok(dashboardService.getDashboard(memberId, resolveCalendarMonth(year, month)));
+    }
+
+    private static YearMonth resolveCalendarMonth(Integer year, Integer month) {
+        if (year == null && month == null) {
+            return YearMonth.now();
+        }
+        if (year == null || month == null) {
+            throw new CustomException(ErrorCode.INVALID_PARAMETER);
+        }
+        try {
+            return YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw new CustomException(ErrorCode.INVALID_PARAMETER);
+        }
+    }
+
+    private Long getAuthenticatedMemberId(CustomUserDetails userDetails) {
+        if (userDetails == null || userDetails.getMember() == null
+                || userDetails.getMember().getMemberId() == null) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        return userDetails.getMember().getMemberId();
+    }
+}
@@ -278,7 +278,8 @@ public class MoodDiaryController {
     }
 
     @Operation(summary = "마음 일기 검색",
-            description = "키워드로 마음 일기 내용을 검색합니다. 자유형식 내용과 템플릿 답변 모두 검색됩니다.")
+            description = "키워드로 마음 일기 내용을 검색합니다. 자유형식 내용과 템플릿 답변 모두 검색됩니다. "
+                    + "최근 일치 후보 1000건까지 확인하며, 전체 개수와 페이지 정보는 실제 일치한 일기 기준입니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "검색 성공",
                     content = @Content(mediaType = "application/json",
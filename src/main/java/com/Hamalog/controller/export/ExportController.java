@@ -2,9 +2,13 @@ package com.Hamalog.controller.export;
 
 import com.Hamalog.config.ApiVersion;
 import com.Hamalog.dto.export.ExportDataResponse;
+import com.Hamalog.dto.export.ExportJobResponse;
 import com.Hamalog.exception.CustomException;
 import com.Hamalog.exception.ErrorCode;
 import com.Hamalog.security.CustomUserDetails;
+import com.Hamalog.service.export.ExportJob;
+import com.Hamalog.service.export.ExportJobFormat;
+import com.Hamalog.service.export.ExportJobService;
 import com.Hamalog.service.export.ExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,22 +18,32 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.zip.GZIPOutputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 데이터 내보내기 Controller
  *
  * 사용자 데이터를 JSON 또는 CSV 형식으로 내보내는 기능을 제공합니다.
+ * 오래 걸리는 내보내기는 비동기 작업(/jobs)으로 등록한 뒤 완료된 파일을 내려받을 수 있습니다.
  */
 @Tag(name = "Export API", description = "데이터 내보내기 API (JSON, CSV)")
 @SecurityRequirement(name = "bearerAuth")
@@ -39,7 +53,11 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 public class ExportController {
 
+    private static final String GZIP_CONTENT_TYPE = "application/gzip";
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
     private final ExportService exportService;
+    private final ExportJobService exportJobService;
 
     @Operation(summary = "내 데이터 내보내기 (JSON 객체)",
             description = "현재 로그인한 사용자의 모든 데이터를 JSON 객체로 반환합니다. " +
@@ -63,88 +81,191 @@ public class ExportController {
     }
 
     @Operation(summary = "내 데이터 JSON 파일 다운로드",
-            description = "현재 로그인한 사용자의 모든 데이터를 JSON 파일로 다운로드합니다.")
+            description = "현재 로그인한 사용자의 모든 데이터를 JSON 파일로 다운로드합니다. " +
+                    "기록을 읽는 대로 응답에 바로 쓰는 스트리밍 방식이며, gzip=true면 .json.gz로 압축해 내려줍니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "다운로드 성공",
-                    content = @Content(mediaType = "application/json")),
+                    content = {@Content(mediaType = "application/json"), @Content(mediaType = "application/gzip")}),
             @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
             @ApiResponse(responseCode = "404", description = "회원을 찾을 수 없음", content = @Content)
     })
     @GetMapping("/my-data/download")
-    public ResponseEntity<byte[]> downloadMyDataAsJson(
-            @AuthenticationPrincipal CustomUserDetails userDetails
-    ) {
+    public void downloadMyDataAsJson(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "gzip 압축 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
         Long memberId = getAuthenticatedMemberId(userDetails);
-        log.info("데이터 JSON 파일 다운로드 요청 - memberId: {}", memberId);
+        log.info("데이터 JSON 파일 다운로드 요청 - memberId: {}, gzip: {}", memberId, gzip);
 
-        String jsonData = exportService.exportAsJson(memberId);
-        byte[] bytes = jsonData.getBytes(StandardCharsets.UTF_8);
+        // 응답을 쓰기 시작하면 오류 응답으로 바꿀 수 없으므로 회원 확인을 먼저 수행
+        exportService.validateExportable(memberId);
 
-        String filename = String.format("hamalog_data_%s_%s.json",
+        String filename = String.format("hamalog_data_%s_%s.json%s",
                 memberId,
-                LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE));
+                LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE),
+                gzip ? ".gz" : "");
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setContentDispositionFormData("attachment", filename);
-        headers.setContentLength(bytes.length);
+        response.setContentType(gzip ? GZIP_CONTENT_TYPE : MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.formData().name("attachment").filename(filename).build().toString());
 
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(bytes);
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE)) {
+                exportService.writeAllDataAsJson(memberId, gzipOut);
+            }
+        } else {
+            exportService.writeAllDataAsJson(memberId, out);
+        }
     }
 
     @Operation(summary = "복약 기록 CSV 내보내기",
-            description = "지정된 기간의 복약 기록을 CSV 파일로 내보냅니다. 의사 상담 시 활용할 수 있습니다.")
+            description = "지정된 기간의 복약 기록을 CSV 파일로 내보냅니다. 의사 상담 시 활용할 수 있습니다. " +
+                    "기간 내 기록만 조회해 읽는 대로 응답에 쓰며, gzip=true면 .csv.gz로 압축합니다. " +
+                    "bom=true(기본)면 Excel 한글 호환용 UTF-8 BOM을 붙입니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "내보내기 성공",
-                    content = @Content(mediaType = "text/csv")),
+                    content = {@Content(mediaType = "text/csv"), @Content(mediaType = "application/gzip")}),
             @ApiResponse(responseCode = "400", description = "잘못된 날짜 형식", content = @Content),
             @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
             @ApiResponse(responseCode = "404", description = "회원을 찾을 수 없음", content = @Content)
     })
     @GetMapping("/medication-records")
-    public ResponseEntity<byte[]> exportMedicationRecordsCsv(
+    public ResponseEntity<StreamingResponseBody> exportMedicationRecordsCsv(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Parameter(description = "시작 날짜 (yyyy-MM-dd)", example = "2025-01-01")
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @Parameter(description = "종료 날짜 (yyyy-MM-dd)", example = "2025-12-31")
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "gzip 압축 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @Parameter(description = "UTF-8 BOM 포함 여부 (Excel 호환)", example = "true")
+            @RequestParam(defaultValue = "true") boolean bom
     ) {
         Long memberId = getAuthenticatedMemberId(userDetails);
 
         // 기본값: 최근 3개월
-        if (endDate == null) {
-            endDate = LocalDate.now();
-        }
-        if (startDate == null) {
-            startDate = endDate.minusMonths(3);
-        }
-
-        log.info("복약 기록 CSV 내보내기 요청 - memberId: {}, startDate: {}, endDate: {}",
-                memberId, startDate, endDate);
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusMonths(3);
 
-        String csvData = exportService.exportMedicationRecordsAsCsv(memberId, startDate, endDate);
-        // UTF-8 BOM 추가 (Excel 한글 호환성)
-        byte[] bom = new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
-        byte[] csvBytes = csvData.getBytes(StandardCharsets.UTF_8);
-        byte[] bytes = new byte[bom.length + csvBytes.length];
-        System.arraycopy(bom, 0, bytes, 0, bom.length);
-        System.arraycopy(csvBytes, 0, bytes, bom.length, csvBytes.length);
+        log.info("복약 기록 CSV 내보내기 요청 - memberId: {}, startDate: {}, endDate: {}, gzip: {}",
+                memberId, start, end, gzip);
 
-        String filename = String.format("medication_records_%s_%s_to_%s.csv",
+        String filename = String.format("medication_records_%s_%s_to_%s.csv%s",
                 memberId,
-                startDate.format(DateTimeFormatter.ISO_LOCAL_DATE),
-                endDate.format(DateTimeFormatter.ISO_LOCAL_DATE));
+                start.format(DateTimeFormatter.ISO_LOCAL_DATE),
+                end.format(DateTimeFormatter.ISO_LOCAL_DATE),
+                gzip ? ".gz" : "");
 
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8));
+        headers.setContentType(gzip
+                ? MediaType.parseMediaType(GZIP_CONTENT_TYPE)
+                : new MediaType("text", "csv", StandardCharsets.UTF_8));
         headers.setContentDispositionFormData("attachment", filename);
-        headers.setContentLength(bytes.length);
+
+        // 본문은 MVC 비동기 실행기(streamingExecutor)에서 작성되며 요청 스레드는 바로 반환됨
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE)) {
+                    exportService.writeMedicationRecordsAsCsv(memberId, start, end, bom, gzipOut);
+                }
+            } else {
+                exportService.writeMedicationRecordsAsCsv(memberId, start, end, bom, out);
+            }
+        };
 
         return ResponseEntity.ok()
                 .headers(headers)
-                .body(bytes);
+                .body(body);
+    }
+
+    @Operation(summary = "비동기 내보내기 작업 등록",
+            description = "내보내기를 백그라운드 작업으로 등록하고 바로 반환합니다. " +
+                    "format=JSON(전체 데이터, .json.gz), CSV(기간 내 복약 기록, .csv.gz), ZIP(둘 다). " +
+                    "같은 조건으로 진행 중인 작업이 있으면 그 작업을 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "작업 등록 (또는 진행 중인 작업 반환)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExportJobResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+            @ApiResponse(responseCode = "404", description = "회원을 찾을 수 없음", content = @Content),
+            @ApiResponse(responseCode = "503", description = "내보내기 작업 대기열 가득 참", content = @Content)
+    })
+    @PostMapping("/jobs")
+    public ResponseEntity<ExportJobResponse> submitExportJob(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "파일 형식", example = "ZIP")
+            @RequestParam(defaultValue = "ZIP") ExportJobFormat format,
+            @Parameter(description = "복약 기록 시작 날짜 (yyyy-MM-dd)", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "복약 기록 종료 날짜 (yyyy-MM-dd)", example = "2025-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        Long memberId = getAuthenticatedMemberId(userDetails);
+
+        // 기본값: 최근 3개월
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusMonths(3);
+
+        ExportJob job = exportJobService.submit(memberId, format, start, end);
+        return ResponseEntity.accepted()
+                .location(URI.create(jobPath(job)))
+                .body(toJobResponse(job));
+    }
+
+    @Operation(summary = "비동기 내보내기 작업 상태 조회",
+            description = "작업 상태(PENDING, RUNNING, COMPLETED, FAILED)를 조회합니다. 완료되면 downloadUrl이 채워집니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExportJobResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음 (만료 포함)", content = @Content)
+    })
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ExportJobResponse> getExportJob(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String jobId
+    ) {
+        Long memberId = getAuthenticatedMemberId(userDetails);
+        return ResponseEntity.ok(toJobResponse(exportJobService.getJob(memberId, jobId)));
+    }
+
+    @Operation(summary = "비동기 내보내기 파일 다운로드",
+            description = "완료된 작업의 파일을 내려받습니다. Range 헤더로 이어받기를 지원합니다(206 Partial Content).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "다운로드 성공",
+                    content = {@Content(mediaType = "application/gzip"), @Content(mediaType = "application/zip")}),
+            @ApiResponse(responseCode = "206", description = "요청한 범위 다운로드", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음 (만료 포함)", content = @Content),
+            @ApiResponse(responseCode = "409", description = "아직 완료되지 않은 작업", content = @Content)
+    })
+    @GetMapping("/jobs/{jobId}/download")
+    public ResponseEntity<Resource> downloadExportJob(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable String jobId
+    ) {
+        Long memberId = getAuthenticatedMemberId(userDetails);
+        ExportJob job = exportJobService.getCompletedJob(memberId, jobId);
+
+        // Resource 본문은 Spring MVC가 Range 요청을 처리하여 206 응답으로 변환
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(job.getFormat().getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(job.filename()).build().toString())
+                .eTag(job.getJobId())
+                .body(new FileSystemResource(job.getArtifact()));
+    }
+
+    private ExportJobResponse toJobResponse(ExportJob job) {
+        return ExportJobResponse.from(job, jobPath(job) + "/download");
+    }
+
+    private static String jobPath(ExportJob job) {
+        return ApiVersion.EXPORT + "/jobs/" + job.getJobId();
     }
 
     private Long getAuthenticatedMemberId(CustomUserDetails userDetails) {
@@ -1,12 +1,14 @@
 package com.Hamalog.controller.medication;
 
 import com.Hamalog.config.ApiVersion;
+import com.Hamalog.config.etag.ConditionalGet;
 import com.Hamalog.domain.medication.MedicationSchedule;
 import com.Hamalog.dto.medication.request.MedicationScheduleCreateRequest;
 import com.Hamalog.dto.medication.request.MedicationScheduleUpdateRequest;
 import com.Hamalog.dto.medication.response.MedicationScheduleListResponse;
 import com.Hamalog.dto.medication.response.MedicationScheduleResponse;
 import com.Hamalog.security.annotation.RequireResourceOwnership;
+import com.Hamalog.service.etag.ResourceScope;
 import com.Hamalog.service.medication.FileStorageService;
 import com.Hamalog.service.medication.MedicationScheduleService;
 import com.Hamalog.validation.ValidImage;
@@ -50,9 +52,11 @@ public class MedicationScheduleController {
             @ApiResponse(responseCode = "200", description = "복약 스케줄 목록 조회 성공",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = MedicationScheduleListResponse.class))),
-            @ApiResponse(responseCode = "404", description = "회원이 존재하지 않음", content = @Content)
+            @ApiResponse(responseCode = "404", description = "회원이 존재하지 않음", content = @Content),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)", content = @Content)
     })
     @GetMapping("/list/{member-id}")
+    @ConditionalGet(value = ResourceScope.MEDICATION_SCHEDULE, memberIdPathVariable = "member-id")
     @RequireResourceOwnership(
         resourceType = RequireResourceOwnership.ResourceType.MEDICATION_SCHEDULE_BY_MEMBER,
         paramName = "member-id",
@@ -185,9 +189,11 @@ public class MedicationScheduleController {
                             schema = @Schema(implementation = MedicationScheduleListResponse.class))),
             @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
-            @ApiResponse(responseCode = "404", description = "회원을 찾을 수 없음", content = @Content)
+            @ApiResponse(responseCode = "404", description = "회원을 찾을 수 없음", content = @Content),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)", content = @Content)
     })
     @GetMapping("/search/{member-id}")
+    @ConditionalGet(value = ResourceScope.MEDICATION_SCHEDULE, memberIdPathVariable = "member-id")
     @RequireResourceOwnership(
         resourceType = RequireResourceOwnership.ResourceType.MEDICATION_SCHEDULE_BY_MEMBER,
         paramName = "member-id",
@@ -315,9 +321,11 @@ public class MedicationScheduleController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = MedicationScheduleListResponse.class)))
+                            schema = @Schema(implementation = MedicationScheduleListResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)", content = @Content)
     })
     @GetMapping("/filter/{member-id}")
+    @ConditionalGet(value = ResourceScope.MEDICATION_SCHEDULE, memberIdPathVariable = "member-id")
     @RequireResourceOwnership(
         resourceType = RequireResourceOwnership.ResourceType.MEDICATION_SCHEDULE_BY_MEMBER,
         paramName = "member-id",
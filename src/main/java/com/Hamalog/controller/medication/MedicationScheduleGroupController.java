@@ -1,12 +1,14 @@
 package com.Hamalog.controller.medication;
 
 import com.Hamalog.config.ApiVersion;
+import com.Hamalog.config.etag.ConditionalGet;
 import com.Hamalog.dto.medication.request.MedicationScheduleGroupCreateRequest;
 import com.Hamalog.dto.medication.request.MedicationScheduleGroupUpdateRequest;
 import com.Hamalog.dto.medication.response.MedicationScheduleGroupResponse;
 import com.Hamalog.exception.CustomException;
 import com.Hamalog.exception.ErrorCode;
 import com.Hamalog.security.CustomUserDetails;
+import com.Hamalog.service.etag.ResourceScope;
 import com.Hamalog.service.medication.MedicationScheduleGroupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -47,9 +49,11 @@ public class MedicationScheduleGroupController {
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(mediaType = "application/json",
                             array = @ArraySchema(schema = @Schema(implementation = MedicationScheduleGroupResponse.class)))),
-            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)", content = @Content)
     })
     @GetMapping
+    @ConditionalGet(ResourceScope.MEDICATION_GROUP)
     public ResponseEntity<List<MedicationScheduleGroupResponse>> getGroups(
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
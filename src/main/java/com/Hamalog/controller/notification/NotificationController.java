@@ -1,6 +1,7 @@
 package com.Hamalog.controller.notification;
 
 import com.Hamalog.config.ApiVersion;
+import com.Hamalog.config.etag.ConditionalGet;
 import com.Hamalog.dto.notification.request.FcmTokenRegisterRequest;
 import com.Hamalog.dto.notification.request.NotificationSettingsUpdateRequest;
 import com.Hamalog.dto.notification.response.FcmDeviceTokenListResponse;
@@ -9,6 +10,7 @@ import com.Hamalog.dto.notification.response.NotificationSettingsResponse;
 import com.Hamalog.exception.CustomException;
 import com.Hamalog.exception.ErrorCode;
 import com.Hamalog.security.CustomUserDetails;
+import com.Hamalog.service.etag.ResourceScope;
 import com.Hamalog.service.notification.NotificationSettingsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -44,9 +46,11 @@ public class NotificationController {
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = NotificationSettingsResponse.class))),
-            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)", content = @Content)
     })
     @GetMapping("/settings")
+    @ConditionalGet(ResourceScope.NOTIFICATION_SETTINGS)
     public ResponseEntity<NotificationSettingsResponse> getNotificationSettings(
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
@@ -3,12 +3,14 @@ package com.Hamalog.controller.sideEffect;
 import com.Hamalog.config.ApiVersion;
 import com.Hamalog.dto.sideEffect.request.SideEffectRecordRequest;
 import com.Hamalog.dto.sideEffect.response.RecentSideEffectResponse;
+import com.Hamalog.dto.sideEffect.response.SideEffectCatalogResponse;
 import com.Hamalog.dto.sideEffect.response.SideEffectRecordListResponse;
 import com.Hamalog.dto.sideEffect.response.SideEffectRecordResponse;
 import com.Hamalog.exception.CustomException;
 import com.Hamalog.exception.ErrorCode;
 import com.Hamalog.security.CustomUserDetails;
 import com.Hamalog.security.annotation.RequireResourceOwnership;
+import com.Hamalog.service.sideEffect.SideEffectCatalogService;
 import com.Hamalog.service.sideEffect.SideEffectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,12 +22,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Side Effect API", description = "사용자 부작용 기록 관련 API")
 @SecurityRequirement(name = "bearerAuth")
@@ -35,6 +40,35 @@ import org.springframework.web.bind.annotation.*;
 public class SideEffectController {
 
     private final SideEffectService sideEffectService;
+    private final SideEffectCatalogService sideEffectCatalogService;
+
+    @Operation(summary = "부작용 카탈로그 조회",
+            description = "선택 가능한 전체 부작용 목록을 조회합니다. 강한 ETag를 제공하며, "
+                    + "If-None-Match 헤더가 현재 버전과 같으면 본문 없이 304를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "부작용 카탈로그 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SideEffectCatalogResponse.class))),
+            @ApiResponse(responseCode = "304", description = "카탈로그 변경 없음")
+    })
+    @GetMapping("/catalog")
+    public ResponseEntity<SideEffectCatalogResponse> getSideEffectCatalog(WebRequest webRequest) {
+        SideEffectCatalogResponse catalog = sideEffectCatalogService.getCatalog();
+        String eTag = "\"" + catalog.version() + "\"";
+        CacheControl cacheControl = CacheControl.maxAge(1, TimeUnit.HOURS).mustRevalidate();
+
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(catalog);
+    }
 
     @Operation(summary = "최근 부작용 목록 조회",
             description = "사용자 ID로 최근 5개의 부작용 이름을 조회합니다.")
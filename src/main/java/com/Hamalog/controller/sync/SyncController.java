@@ -0,0 +1,68 @@
+package com.Hamalog.controller.sync;
+
+import com.Hamalog.config.ApiVersion;
+import com.Hamalog.dto.sync.SyncChangesResponse;
+import com.Hamalog.exception.CustomException;
+import com.Hamalog.exception.ErrorCode;
+import com.Hamalog.security.CustomUserDetails;
+import com.Hamalog.service.sync.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 모바일 델타 동기화 Controller
+ *
+ * 클라이언트는 마지막으로 받은 커서를 보내 그 이후 생성·수정·삭제된 복약 스케줄, 복약 기록, 마음 일기, 부작용 기록을 한 번에 받습니다.
+ */
+@Tag(name = "Sync API", description = "모바일 델타 동기화 API")
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping(ApiVersion.SYNC)
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @Operation(summary = "커서 이후 변경 조회",
+            description = "cursor 이후 변경된 엔티티를 유형별 upserted(최신 상태) / deleted(ID) 목록으로 반환합니다. " +
+                    "cursor 없이 호출하거나 fullResyncRequired가 true이면 각 API로 전체 데이터를 다시 받은 뒤 " +
+                    "응답의 nextCursor부터 동기화합니다. hasMore가 true이면 nextCursor로 바로 다시 요청합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SyncChangesResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<SyncChangesResponse> getChanges(
+            @Parameter(description = "마지막으로 받은 nextCursor (최초 동기화 시 생략)", example = "18342")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "최대 변경 수 (기본 200, 최대 1000)", example = "200")
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long memberId = getAuthenticatedMemberId(userDetails);
+        return ResponseEntity.ok(syncService.getChanges(memberId, cursor, limit));
+    }
+
+    private Long getAuthenticatedMemberId(CustomUserDetails userDetails) {
+        if (userDetails == null || userDetails.getMember() == null
+                || userDetails.getMember().getMemberId() == null) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        return userDetails.getMember().getMemberId();
+    }
+}
@@ -1,7 +1,8 @@
 package com.Hamalog.domain.diary;
 
 import com.Hamalog.domain.member.Member;
-import com.Hamalog.security.encryption.EncryptedStringConverter;
+import com.Hamalog.security.encryption.EncryptedValue;
+import com.Hamalog.security.encryption.LazyEncryptedStringConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
@@ -18,7 +19,9 @@ import lombok.*;
        uniqueConstraints = @UniqueConstraint(columnNames = {"member_id", "diary_date"}),
        indexes = {
            @Index(name = "idx_mood_diary_member_id", columnList = "member_id"),
-           @Index(name = "idx_mood_diary_diary_date", columnList = "diary_date")
+           @Index(name = "idx_mood_diary_diary_date", columnList = "diary_date"),
+           @Index(name = "idx_mood_diary_member_date_cover",
+                  columnList = "member_id, diary_date, mood_type, diary_type, created_at")
        })
 public class MoodDiary {
 
@@ -43,29 +46,24 @@ public class MoodDiary {
     private DiaryType diaryType;
 
     @Column(name = "template_answer1", length = 500)
-    @Size(max = 500, message = "{moodDiary.templateAnswer1.size}")
-    @Convert(converter = EncryptedStringConverter.class)
-    private String templateAnswer1;
+    @Convert(converter = LazyEncryptedStringConverter.class)
+    private EncryptedValue<String> templateAnswer1;
 
     @Column(name = "template_answer2", length = 500)
-    @Size(max = 500, message = "{moodDiary.templateAnswer2.size}")
-    @Convert(converter = EncryptedStringConverter.class)
-    private String templateAnswer2;
+    @Convert(converter = LazyEncryptedStringConverter.class)
+    private EncryptedValue<String> templateAnswer2;
 
     @Column(name = "template_answer3", length = 500)
-    @Size(max = 500, message = "{moodDiary.templateAnswer3.size}")
-    @Convert(converter = EncryptedStringConverter.class)
-    private String templateAnswer3;
+    @Convert(converter = LazyEncryptedStringConverter.class)
+    private EncryptedValue<String> templateAnswer3;
 
     @Column(name = "template_answer4", length = 500)
-    @Size(max = 500, message = "{moodDiary.templateAnswer4.size}")
-    @Convert(converter = EncryptedStringConverter.class)
-    private String templateAnswer4;
+    @Convert(converter = LazyEncryptedStringConverter.class)
+    private EncryptedValue<String> templateAnswer4;
 
     @Column(name = "free_content", length = 1500)
-    @Size(max = 1500, message = "{moodDiary.freeContent.size}")
-    @Convert(converter = EncryptedStringConverter.class)
-    private String freeContent;
+    @Convert(converter = LazyEncryptedStringConverter.class)
+    private EncryptedValue<String> freeContent;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -81,6 +79,33 @@ public class MoodDiary {
         }
     }
 
+    // ========== 암호화 필드 (접근 시 복호화) ==========
+
+    @Size(max = 500, message = "{moodDiary.templateAnswer1.size}")
+    public String getTemplateAnswer1() {
+        return EncryptedValue.valueOf(templateAnswer1);
+    }
+
+    @Size(max = 500, message = "{moodDiary.templateAnswer2.size}")
+    public String getTemplateAnswer2() {
+        return EncryptedValue.valueOf(templateAnswer2);
+    }
+
+    @Size(max = 500, message = "{moodDiary.templateAnswer3.size}")
+    public String getTemplateAnswer3() {
+        return EncryptedValue.valueOf(templateAnswer3);
+    }
+
+    @Size(max = 500, message = "{moodDiary.templateAnswer4.size}")
+    public String getTemplateAnswer4() {
+        return EncryptedValue.valueOf(templateAnswer4);
+    }
+
+    @Size(max = 1500, message = "{moodDiary.freeContent.size}")
+    public String getFreeContent() {
+        return EncryptedValue.valueOf(freeContent);
+    }
+
     public static MoodDiary createTemplateType(Member member, LocalDate diaryDate, MoodType moodType,
                                                 String answer1, String answer2, String answer3, String answer4) {
         return MoodDiary.builder()
@@ -112,10 +137,10 @@ public class MoodDiary {
                                       String answer3, String answer4) {
         this.moodType = moodType;
         this.diaryType = DiaryType.TEMPLATE;
-        this.templateAnswer1 = answer1;
-        this.templateAnswer2 = answer2;
-        this.templateAnswer3 = answer3;
-        this.templateAnswer4 = answer4;
+        this.templateAnswer1 = EncryptedValue.of(answer1);
+        this.templateAnswer2 = EncryptedValue.of(answer2);
+        this.templateAnswer3 = EncryptedValue.of(answer3);
+        this.templateAnswer4 = EncryptedValue.of(answer4);
         this.freeContent = null;
     }
 
@@ -125,7 +150,7 @@ public class MoodDiary {
     public void updateAsFreeFormType(MoodType moodType, String content) {
         this.moodType = moodType;
         this.diaryType = DiaryType.FREE_FORM;
-        this.freeContent = content;
+        this.freeContent = EncryptedValue.of(content);
         this.templateAnswer1 = null;
         this.templateAnswer2 = null;
         this.templateAnswer3 = null;
@@ -197,17 +222,22 @@ public class MoodDiary {
         if (isTemplateType()) {
             return hasAnyTemplateAnswer();
         }
-        return this.freeContent != null && !this.freeContent.isBlank();
+        String content = getFreeContent();
+        return content != null && !content.isBlank();
     }
 
     /**
      * 템플릿 답변이 하나라도 있는지 확인
      */
     private boolean hasAnyTemplateAnswer() {
-        return (this.templateAnswer1 != null && !this.templateAnswer1.isBlank())
-            || (this.templateAnswer2 != null && !this.templateAnswer2.isBlank())
-            || (this.templateAnswer3 != null && !this.templateAnswer3.isBlank())
-            || (this.templateAnswer4 != null && !this.templateAnswer4.isBlank());
+        return isNotBlank(getTemplateAnswer1())
+            || isNotBlank(getTemplateAnswer2())
+            || isNotBlank(getTemplateAnswer3())
+            || isNotBlank(getTemplateAnswer4());
+    }
+
+    private static boolean isNotBlank(String value) {
+        return value != null && !value.isBlank();
     }
 
     /**
@@ -217,4 +247,56 @@ public class MoodDiary {
     public String getMoodDescription() {
         return this.moodType.getDescription();
     }
+
+    /**
+     * 암호화 필드는 평문으로 받아 {@link EncryptedValue}로 감쌉니다.
+     * EncryptedValue를 받는 메서드는 toBuilder()에서만 사용됩니다.
+     */
+    public static class MoodDiaryBuilder {
+
+        public MoodDiaryBuilder templateAnswer1(String templateAnswer1) {
+            return templateAnswer1(EncryptedValue.of(templateAnswer1));
+        }
+
+        public MoodDiaryBuilder templateAnswer2(String templateAnswer2) {
+            return templateAnswer2(EncryptedValue.of(templateAnswer2));
+        }
+
+        public MoodDiaryBuilder templateAnswer3(String templateAnswer3) {
+            return templateAnswer3(EncryptedValue.of(templateAnswer3));
+        }
+
+        public MoodDiaryBuilder templateAnswer4(String templateAnswer4) {
+            return templateAnswer4(EncryptedValue.of(templateAnswer4));
+        }
+
+        public MoodDiaryBuilder freeContent(String freeContent) {
+            return freeContent(EncryptedValue.of(freeContent));
+        }
+
+        private MoodDiaryBuilder templateAnswer1(EncryptedValue<String> templateAnswer1) {
+            this.templateAnswer1 = templateAnswer1;
+            return this;
+        }
+
+        private MoodDiaryBuilder templateAnswer2(EncryptedValue<String> templateAnswer2) {
+            this.templateAnswer2 = templateAnswer2;
+            return this;
+        }
+
+        private MoodDiaryBuilder templateAnswer3(EncryptedValue<String> templateAnswer3) {
+            this.templateAnswer3 = templateAnswer3;
+            return this;
+        }
+
+        private MoodDiaryBuilder templateAnswer4(EncryptedValue<String> templateAnswer4) {
+            this.templateAnswer4 = templateAnswer4;
+            return this;
+        }
+
+        private MoodDiaryBuilder freeContent(EncryptedValue<String> freeContent) {
+            this.freeContent = freeContent;
+            return this;
+        }
+    }
 }
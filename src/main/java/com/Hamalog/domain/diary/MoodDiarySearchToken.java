@@ -0,0 +1,39 @@
+package com.Hamalog.domain.diary;
+
+import com.Hamalog.domain.idClass.MoodDiarySearchTokenId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마음 일기 블라인드 검색 인덱스
+ * 일기 본문(암호문)의 정규화 n-gram을 HMAC한 토큰을 일기별로 저장합니다.
+ * PK (member_id, token, mood_diary_id) 순서로 회원별 토큰 조회가 인덱스 범위 스캔이 됩니다.
+ *
+ * @see com.Hamalog.security.encryption.BlindIndexer
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@IdClass(MoodDiarySearchTokenId.class)
+@EqualsAndHashCode(of = {"memberId", "token", "moodDiaryId"})
+@Table(name = "mood_diary_search_token",
+       indexes = @Index(name = "idx_mood_diary_search_token_diary", columnList = "mood_diary_id"))
+public class MoodDiarySearchToken {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Id
+    @Column(name = "token")
+    private Long token;
+
+    @Id
+    @Column(name = "mood_diary_id")
+    private Long moodDiaryId;
+}
@@ -0,0 +1,13 @@
+package com.Hamalog.domain.events;
+
+/**
+ * 특정 회원의 행위로 발생한 도메인 이벤트
+ * 감사 로그의 사용자 식별자를 리플렉션 없이 얻기 위해 구현합니다.
+ */
+public interface MemberScopedEvent {
+
+    /**
+     * 이벤트를 발생시킨 회원의 로그인 ID
+     */
+    String getMemberLoginId();
+}
@@ -0,0 +1,99 @@
+package com.Hamalog.domain.events;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝션 재구축 체크포인트
+ * 보관 세그먼트는 발생일 단위, domain_event는 ID 단위로 적용 위치를 기록하여
+ * 재구축이 중단되어도 이어서 처리하고, 재구축이 끝나면 같은 위치에서 실시간 따라잡기를 계속합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "projection_checkpoint")
+public class ProjectionCheckpoint {
+
+    @Id
+    @Column(name = "projection_name", length = 100)
+    private String projectionName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ProjectionStatus status;
+
+    @Column(name = "last_archive_day")
+    private LocalDate lastArchiveDay;
+
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+
+    @Column(name = "applied_count", nullable = false)
+    private long appliedCount;
+
+    @Column(name = "run_started_at")
+    private LocalDateTime runStartedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public ProjectionCheckpoint(String projectionName) {
+        this.projectionName = projectionName;
+        this.status = ProjectionStatus.REBUILDING;
+        this.lastEventId = 0L;
+    }
+
+    /**
+     * 재구축이 진행 중(또는 중단됨)인지 확인
+     */
+    public boolean isRebuilding() {
+        return this.status == ProjectionStatus.REBUILDING;
+    }
+
+    /**
+     * 새 재구축 시작 - 처음부터 다시 적용
+     */
+    public void start(LocalDateTime now) {
+        this.status = ProjectionStatus.REBUILDING;
+        this.lastArchiveDay = null;
+        this.lastEventId = 0L;
+        this.appliedCount = 0;
+        this.runStartedAt = now;
+        this.updatedAt = now;
+    }
+
+    /**
+     * 보관 세그먼트 하루치 적용 완료
+     */
+    public void advanceArchive(LocalDate day, int applied) {
+        this.lastArchiveDay = day;
+        this.appliedCount += applied;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * domain_event 한 페이지 적용 완료
+     */
+    public void advance(Long lastEventId, int applied) {
+        this.lastEventId = lastEventId;
+        this.appliedCount += applied;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 재구축 완료 - 이후 실시간 따라잡기 대상
+     */
+    public void goLive() {
+        this.status = ProjectionStatus.LIVE;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public enum ProjectionStatus {
+        REBUILDING,
+        LIVE
+    }
+}
@@ -24,7 +24,7 @@ import lombok.NoArgsConstructor;
     @Index(name = "idx_domain_event_aggregate", columnList = "aggregateType, aggregateId"),
     @Index(name = "idx_domain_event_occurred", columnList = "occurredOn"),
     @Index(name = "idx_domain_event_type", columnList = "eventType"),
-    @Index(name = "idx_domain_event_status", columnList = "status")
+    @Index(name = "idx_domain_event_status_id", columnList = "status, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -3,6 +3,7 @@ package com.Hamalog.domain.events.diary;
 import com.Hamalog.domain.diary.DiaryType;
 import com.Hamalog.domain.diary.MoodType;
 import com.Hamalog.domain.events.DomainEvent;
+import com.Hamalog.domain.events.MemberScopedEvent;
 import java.time.LocalDate;
 import lombok.Getter;
 
@@ -11,7 +12,7 @@ import lombok.Getter;
  * 일기가 생성될 때 발행되어 통계 캐시 갱신 및 연속 작성일 추적에 사용
  */
 @Getter
-public class MoodDiaryCreated extends DomainEvent {
+public class MoodDiaryCreated extends DomainEvent implements MemberScopedEvent {
 
     private final Long moodDiaryId;
     private final Long memberId;
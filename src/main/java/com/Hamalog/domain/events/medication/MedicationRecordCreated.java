@@ -1,6 +1,7 @@
 package com.Hamalog.domain.events.medication;
 
 import com.Hamalog.domain.events.DomainEvent;
+import com.Hamalog.domain.events.MemberScopedEvent;
 import java.time.LocalDateTime;
 import lombok.Getter;
 
@@ -9,7 +10,7 @@ import lombok.Getter;
  * 복약 기록이 생성될 때 발행되어 통계 캐시 무효화 및 연속 복약 추적에 사용
  */
 @Getter
-public class MedicationRecordCreated extends DomainEvent {
+public class MedicationRecordCreated extends DomainEvent implements MemberScopedEvent {
 
     private final Long medicationRecordId;
     private final Long medicationScheduleId;
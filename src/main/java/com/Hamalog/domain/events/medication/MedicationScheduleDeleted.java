@@ -1,6 +1,7 @@
 package com.Hamalog.domain.events.medication;
 
 import com.Hamalog.domain.events.DomainEvent;
+import com.Hamalog.domain.events.MemberScopedEvent;
 import lombok.Getter;
 
 /**
@@ -8,7 +9,7 @@ import lombok.Getter;
  * Contains the essential information about the deleted medication schedule.
  */
 @Getter
-public class MedicationScheduleDeleted extends DomainEvent {
+public class MedicationScheduleDeleted extends DomainEvent implements MemberScopedEvent {
 
     private final Long medicationScheduleId;
     private final Long memberId;
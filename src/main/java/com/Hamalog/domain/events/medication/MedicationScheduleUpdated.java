@@ -1,6 +1,7 @@
 package com.Hamalog.domain.events.medication;
 
 import com.Hamalog.domain.events.DomainEvent;
+import com.Hamalog.domain.events.MemberScopedEvent;
 import com.Hamalog.domain.medication.AlarmType;
 import java.time.LocalDate;
 import lombok.Getter;
@@ -10,7 +11,7 @@ import lombok.Getter;
  * Contains the updated information about the medication schedule.
  */
 @Getter
-public class MedicationScheduleUpdated extends DomainEvent {
+public class MedicationScheduleUpdated extends DomainEvent implements MemberScopedEvent {
 
     private final Long medicationScheduleId;
     private final Long memberId;
@@ -1,6 +1,7 @@
 package com.Hamalog.domain.events.notification;
 
 import com.Hamalog.domain.events.DomainEvent;
+import com.Hamalog.domain.events.MemberScopedEvent;
 import java.time.LocalTime;
 import lombok.Getter;
 
@@ -9,7 +10,7 @@ import lombok.Getter;
  * 알림 설정이 변경될 때 발행되어 스케줄러 재등록 등 후속 작업 처리에 사용
  */
 @Getter
-public class NotificationSettingsUpdated extends DomainEvent {
+public class NotificationSettingsUpdated extends DomainEvent implements MemberScopedEvent {
 
     private final Long notificationSettingsId;
     private final Long memberId;
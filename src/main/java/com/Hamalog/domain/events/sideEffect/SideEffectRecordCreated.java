@@ -1,6 +1,7 @@
 package com.Hamalog.domain.events.sideEffect;
 
 import com.Hamalog.domain.events.DomainEvent;
+import com.Hamalog.domain.events.MemberScopedEvent;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.Getter;
@@ -10,7 +11,7 @@ import lombok.Getter;
  * 부작용 기록이 생성될 때 발행되어 캐시 갱신 및 심각도 분석에 사용
  */
 @Getter
-public class SideEffectRecordCreated extends DomainEvent {
+public class SideEffectRecordCreated extends DomainEvent implements MemberScopedEvent {
 
     private final Long sideEffectRecordId;
     private final Long memberId;
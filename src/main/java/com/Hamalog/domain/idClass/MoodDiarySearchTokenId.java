@@ -0,0 +1,11 @@
+package com.Hamalog.domain.idClass;
+
+import java.io.Serializable;
+import lombok.EqualsAndHashCode;
+
+@EqualsAndHashCode
+public class MoodDiarySearchTokenId implements Serializable {
+    private Long memberId;
+    private Long token;
+    private Long moodDiaryId;
+}
@@ -0,0 +1,79 @@
+package com.Hamalog.domain.medication;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 복약 알림 회차
+ * 복약 스케줄을 펼친 한 번의 복용 예정 시각과, 알림을 보낼 분 단위 발송 버킷을 저장합니다.
+ * 발송한 회차도 dispatched_at을 기록해 남겨 두어 같은 회차가 다시 채워지지 않게 합니다.
+ */
+@Entity
+@Table(name = "dose_occurrence",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dose_occurrence_time_dose",
+                columnNames = {"medication_time_id", "dose_at"}),
+        indexes = {
+                @Index(name = "idx_dose_occurrence_pending", columnList = "dispatched_at, notify_at"),
+                @Index(name = "idx_dose_occurrence_schedule", columnList = "medication_schedule_id, notify_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DoseOccurrence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "dose_occurrence_id")
+    private Long doseOccurrenceId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "medication_schedule_id", nullable = false)
+    private Long medicationScheduleId;
+
+    @Column(name = "medication_time_id", nullable = false)
+    private Long medicationTimeId;
+
+    // 복용 예정 시각
+    @Column(name = "dose_at", nullable = false)
+    private LocalDateTime doseAt;
+
+    // 발송 버킷 (복용 예정 시각 - 선행 시간, 분 단위)
+    @Column(name = "notify_at", nullable = false)
+    private LocalDateTime notifyAt;
+
+    // 발송 처리 시각 (알림을 끄거나 너무 늦어 발송하지 않은 경우 포함, null이면 미발송)
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+
+    public DoseOccurrence(Long memberId, Long medicationScheduleId, Long medicationTimeId,
+                          LocalDateTime doseAt, int minutesBefore) {
+        this.memberId = memberId;
+        this.medicationScheduleId = medicationScheduleId;
+        this.medicationTimeId = medicationTimeId;
+        this.doseAt = doseAt;
+        this.notifyAt = notifyBucket(doseAt, minutesBefore);
+    }
+
+    /**
+     * 발송 버킷 재계산 (알림 선행 시간 변경 시)
+     */
+    public void retime(LocalDateTime notifyAt) {
+        this.notifyAt = notifyAt;
+    }
+
+    public boolean isDispatched() {
+        return this.dispatchedAt != null;
+    }
+
+    /**
+     * 복용 예정 시각에서 선행 시간을 뺀 발송 시각을 분 단위로 자른 버킷
+     */
+    public static LocalDateTime notifyBucket(LocalDateTime doseAt, int minutesBefore) {
+        return doseAt.minusMinutes(Math.max(0, minutesBefore)).truncatedTo(ChronoUnit.MINUTES);
+    }
+}
@@ -10,6 +10,11 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(name = "medication_record",
+       indexes = {
+           @Index(name = "idx_medication_record_schedule_take",
+                  columnList = "medication_schedule_id, real_take_time, is_take_medication")
+       })
 public class MedicationRecord {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -117,6 +117,17 @@ public class MedicationSchedule {
         return referenceDate.isAfter(getEndDate());
     }
 
+    /**
+     * 특정 날짜가 복약 기간에 포함되는지 확인
+     * @param date 확인할 날짜
+     * @return 활성 스케줄이고 복용 시작일부터 종료일 사이의 날짜이면 true
+     */
+    public boolean isScheduledOn(LocalDate date) {
+        return !Boolean.FALSE.equals(this.isActive)
+                && !date.isBefore(this.startOfAd)
+                && !isExpiredAt(date);
+    }
+
     /**
      * 남은 복약 일수 계산
      * @return 남은 일수 (만료 시 0 반환)
@@ -1,7 +1,8 @@
 package com.Hamalog.domain.member;
 
-import com.Hamalog.security.encryption.EncryptedLocalDateConverter;
-import com.Hamalog.security.encryption.EncryptedStringConverter;
+import com.Hamalog.security.encryption.EncryptedValue;
+import com.Hamalog.security.encryption.LazyEncryptedLocalDateConverter;
+import com.Hamalog.security.encryption.LazyEncryptedStringConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Pattern;
@@ -16,7 +17,7 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @EqualsAndHashCode(of = "memberId")
-@ToString(exclude = "password")
+@ToString(exclude = "password", doNotUseGetters = true)
 public class Member {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,9 +36,8 @@ public class Member {
     private String name;
 
     @Column(name = "phone_number", length = 255, nullable = false)
-    @Pattern(regexp = "^010\\d{8}$", message = "{member.phoneNumber.pattern}")
-    @Convert(converter = EncryptedStringConverter.class)
-    private String phoneNumber;
+    @Convert(converter = LazyEncryptedStringConverter.class)
+    private EncryptedValue<String> phoneNumber;
 
     @Column(name = "nickname", length = 10, nullable = false)
     @Pattern(regexp = "^[가-힣a-zA-Z]{1,10}$", message = "{member.nickname.pattern}")
@@ -45,8 +45,8 @@ public class Member {
     private String nickName;
 
     @Column(name = "birthday", nullable = false, length = 255)
-    @Convert(converter = EncryptedLocalDateConverter.class)
-    private LocalDate birth;
+    @Convert(converter = LazyEncryptedLocalDateConverter.class)
+    private EncryptedValue<LocalDate> birth;
 
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
@@ -64,6 +64,21 @@ public class Member {
     @Column(name = "version")
     private Long version;
 
+    /**
+     * 전화번호 (접근 시 복호화)
+     */
+    @Pattern(regexp = "^010\\d{8}$", message = "{member.phoneNumber.pattern}")
+    public String getPhoneNumber() {
+        return EncryptedValue.valueOf(phoneNumber);
+    }
+
+    /**
+     * 생년월일 (접근 시 복호화)
+     */
+    public LocalDate getBirth() {
+        return EncryptedValue.valueOf(birth);
+    }
+
     /**
      * 프로필 정보 수정
      */
@@ -75,10 +90,10 @@ public class Member {
             this.nickName = nickName;
         }
         if (phoneNumber != null) {
-            this.phoneNumber = phoneNumber;
+            this.phoneNumber = EncryptedValue.of(phoneNumber);
         }
         if (birth != null) {
-            this.birth = birth;
+            this.birth = EncryptedValue.of(birth);
         }
     }
 
@@ -101,4 +116,20 @@ public class Member {
         this.deletionRequestedAt = now;
         this.deletionDueAt = now.plusDays(daysUntilDeletion);
     }
+
+    /**
+     * 암호화 필드는 평문으로 받아 {@link EncryptedValue}로 감쌉니다.
+     */
+    public static class MemberBuilder {
+
+        public MemberBuilder phoneNumber(String phoneNumber) {
+            this.phoneNumber = EncryptedValue.of(phoneNumber);
+            return this;
+        }
+
+        public MemberBuilder birth(LocalDate birth) {
+            this.birth = EncryptedValue.of(birth);
+            return this;
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package com.Hamalog.domain.member;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 탈퇴 회원 영구 삭제 작업 체크포인트
+ * 페이지 단위로 처리가 끝날 때마다 마지막 회원 ID를 기록하여,
+ * 작업 도중 서버가 종료되어도 다음 실행 시 중단 지점부터 이어서 처리합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_purge_checkpoint")
+public class MemberPurgeCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PurgeStatus status;
+
+    @Column(name = "last_member_id", nullable = false)
+    private Long lastMemberId;
+
+    @Column(name = "run_started_at")
+    private LocalDateTime runStartedAt;
+
+    @Column(name = "purged_count", nullable = false)
+    private long purgedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public MemberPurgeCheckpoint(String jobName) {
+        this.jobName = jobName;
+        this.status = PurgeStatus.COMPLETED;
+        this.lastMemberId = 0L;
+    }
+
+    /**
+     * 이전 실행이 완료되지 않고 중단되었는지 확인
+     * @return 중단된 실행이 있으면 true
+     */
+    public boolean isInterrupted() {
+        return this.status == PurgeStatus.RUNNING;
+    }
+
+    /**
+     * 새 실행 시작 - 처음부터 다시 탐색
+     */
+    public void start(LocalDateTime now) {
+        this.status = PurgeStatus.RUNNING;
+        this.lastMemberId = 0L;
+        this.runStartedAt = now;
+        this.purgedCount = 0;
+        this.failedCount = 0;
+        this.updatedAt = now;
+    }
+
+    /**
+     * 한 페이지 처리 완료 시 진행 위치 기록
+     */
+    public void advance(Long lastMemberId, int purged, int failed) {
+        this.lastMemberId = lastMemberId;
+        this.purgedCount += purged;
+        this.failedCount += failed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실행 완료
+     */
+    public void complete() {
+        this.status = PurgeStatus.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public enum PurgeStatus {
+        RUNNING,
+        COMPLETED
+    }
+}
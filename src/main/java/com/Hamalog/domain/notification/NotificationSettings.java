@@ -16,6 +16,9 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class NotificationSettings {
 
+    // 복약 알림 사전 알림 시간 기본값 (분 단위, 설정이 없는 회원에게도 적용)
+    public static final int DEFAULT_MEDICATION_REMINDER_MINUTES_BEFORE = 10;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "notification_settings_id")
@@ -74,7 +77,7 @@ public class NotificationSettings {
         this.member = member;
         this.pushEnabled = true;
         this.medicationReminderEnabled = true;
-        this.medicationReminderMinutesBefore = 10;
+        this.medicationReminderMinutesBefore = DEFAULT_MEDICATION_REMINDER_MINUTES_BEFORE;
         this.diaryReminderEnabled = false;
         this.diaryReminderTime = LocalTime.of(21, 0); // 기본 저녁 9시
         this.quietHoursEnabled = false;
@@ -0,0 +1,76 @@
+package com.Hamalog.domain.notification;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예약 알림 발송 시각 인덱스
+ * 회원별 매일 반복 알림의 다음 발송 시각을 저장하며, 디스패처가 발송 후 다음 발송 시각으로 갱신합니다.
+ */
+@Entity
+@Table(name = "reminder_schedule",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reminder_schedule_member_type",
+                columnNames = {"member_id", "reminder_type"}),
+        indexes = @Index(name = "idx_reminder_schedule_next_fire", columnList = "next_fire_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReminderSchedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reminder_schedule_id")
+    private Long reminderScheduleId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reminder_type", nullable = false, length = 30)
+    private ReminderType reminderType;
+
+    // 매일 발송 시각
+    @Column(name = "fire_time", nullable = false)
+    private LocalTime fireTime;
+
+    @Column(name = "next_fire_at", nullable = false)
+    private LocalDateTime nextFireAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public ReminderSchedule(Long memberId, ReminderType reminderType, LocalTime fireTime, LocalDateTime now) {
+        this.memberId = memberId;
+        this.reminderType = reminderType;
+        reschedule(fireTime, now);
+    }
+
+    /**
+     * 발송 시각 변경
+     */
+    public void reschedule(LocalTime fireTime, LocalDateTime now) {
+        this.fireTime = fireTime;
+        this.nextFireAt = nextOccurrence(fireTime, now);
+        this.updatedAt = now;
+    }
+
+    /**
+     * 발송 후 다음 발송 시각으로 이동
+     * 노드가 오래 멈춰 여러 회차를 놓쳤더라도 한 번만 발송하고 now 이후 회차로 건너뜁니다.
+     */
+    public void advance(LocalDateTime now) {
+        this.nextFireAt = nextOccurrence(fireTime, now);
+        this.updatedAt = now;
+    }
+
+    /**
+     * after 이후(같은 시각 제외) 처음 오는 발송 시각
+     */
+    public static LocalDateTime nextOccurrence(LocalTime fireTime, LocalDateTime after) {
+        LocalDateTime candidate = after.toLocalDate().atTime(fireTime.withSecond(0).withNano(0));
+        return candidate.isAfter(after) ? candidate : candidate.plusDays(1);
+    }
+}
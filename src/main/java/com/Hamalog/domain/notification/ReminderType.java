@@ -0,0 +1,8 @@
+package com.Hamalog.domain.notification;
+
+/**
+ * 예약 알림 종류
+ */
+public enum ReminderType {
+    DIARY       // 마음 일기 작성 알림
+}
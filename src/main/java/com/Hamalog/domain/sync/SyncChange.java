@@ -0,0 +1,55 @@
+package com.Hamalog.domain.sync;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 델타 동기화 변경 로그 (읽기 전용)
+ * 행은 트랜잭션 커밋 직전에 JDBC로 기록되며, 애플리케이션은 조회와 보관 기간 정리에만 사용합니다.
+ *
+ * @see com.Hamalog.service.sync.SyncChangeCaptureListener
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "sync_change",
+       indexes = {
+           @Index(name = "idx_sync_change_member_cursor", columnList = "member_id, change_id"),
+           @Index(name = "idx_sync_change_changed_at", columnList = "changed_at")
+       })
+public class SyncChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_id")
+    private Long changeId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 30)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 10)
+    private SyncOperation operation;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public SyncChange(Long memberId, SyncEntityType entityType, Long entityId,
+                      SyncOperation operation, LocalDateTime changedAt) {
+        this.memberId = memberId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.changedAt = changedAt;
+    }
+}
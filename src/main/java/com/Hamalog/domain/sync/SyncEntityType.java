@@ -0,0 +1,11 @@
+package com.Hamalog.domain.sync;
+
+/**
+ * 델타 동기화 대상 엔티티 유형
+ */
+public enum SyncEntityType {
+    MEDICATION_SCHEDULE,
+    MEDICATION_RECORD,
+    MOOD_DIARY,
+    SIDE_EFFECT_RECORD
+}
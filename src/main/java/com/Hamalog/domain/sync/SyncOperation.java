@@ -0,0 +1,10 @@
+package com.Hamalog.domain.sync;
+
+/**
+ * 델타 동기화 변경 작업
+ * 생성과 수정은 클라이언트가 최신 상태로 덮어쓰면 되므로 UPSERT 하나로 기록합니다.
+ */
+public enum SyncOperation {
+    UPSERT,
+    DELETE
+}
@@ -0,0 +1,48 @@
+package com.Hamalog.dto.dashboard;
+
+import com.Hamalog.dto.diary.response.MoodDiaryCalendarResponse;
+import com.Hamalog.dto.medication.response.MedicationScheduleResponse;
+import com.Hamalog.dto.medication.response.MedicationSummaryResponse;
+import com.Hamalog.dto.notification.response.NotificationSettingsResponse;
+import com.Hamalog.dto.sideEffect.response.RecentSideEffectResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "홈 대시보드 응답 (실패하거나 시간 초과된 섹션은 null이며 failedSections에 포함)")
+public record DashboardResponse(
+        @Schema(description = "복약 현황 요약")
+        MedicationSummaryResponse medicationSummary,
+
+        @Schema(description = "오늘 복약 중인 스케줄")
+        List<MedicationScheduleResponse> todaySchedules,
+
+        @Schema(description = "마음 일기 월별 캘린더")
+        MoodDiaryCalendarResponse moodCalendar,
+
+        @Schema(description = "최근 부작용")
+        RecentSideEffectResponse recentSideEffects,
+
+        @Schema(description = "알림 설정")
+        NotificationSettingsResponse notificationSettings,
+
+        @Schema(description = "채우지 못한 섹션 (클라이언트는 해당 섹션만 개별 API로 다시 조회)")
+        List<SectionFailure> failedSections
+) {
+    @Schema(description = "채우지 못한 섹션")
+    public record SectionFailure(
+            @Schema(description = "섹션", example = "MOOD_CALENDAR")
+            DashboardSection section,
+
+            @Schema(description = "사유", example = "TIMEOUT")
+            FailureReason reason
+    ) {}
+
+    public enum FailureReason {
+        /** 섹션 제한 시간 초과 */
+        TIMEOUT,
+        /** 섹션 조회 중 오류 */
+        ERROR,
+        /** 실행기 포화로 섹션 조회를 시작하지 못함 */
+        REJECTED
+    }
+}
@@ -0,0 +1,12 @@
+package com.Hamalog.dto.dashboard;
+
+/**
+ * 홈 대시보드 구성 섹션
+ */
+public enum DashboardSection {
+    MEDICATION_SUMMARY,
+    TODAY_SCHEDULES,
+    MOOD_CALENDAR,
+    RECENT_SIDE_EFFECTS,
+    NOTIFICATION_SETTINGS
+}
@@ -0,0 +1,57 @@
+package com.Hamalog.dto.export;
+
+import com.Hamalog.service.export.ExportJob;
+import com.Hamalog.service.export.ExportJobFormat;
+import com.Hamalog.service.export.ExportJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Schema(description = "비동기 내보내기 작업 응답")
+public record ExportJobResponse(
+        @Schema(description = "작업 ID", example = "3f2b7c1e-8a4d-4c55-9b1e-2d6f0a9c7e11")
+        String jobId,
+
+        @Schema(description = "파일 형식", example = "ZIP")
+        ExportJobFormat format,
+
+        @Schema(description = "작업 상태", example = "COMPLETED")
+        ExportJobStatus status,
+
+        @Schema(description = "복약 기록 CSV 시작 날짜", example = "2025-01-01")
+        LocalDate startDate,
+
+        @Schema(description = "복약 기록 CSV 종료 날짜", example = "2025-03-31")
+        LocalDate endDate,
+
+        @Schema(description = "파일 크기 (완료 시)", example = "48213")
+        Long sizeBytes,
+
+        @Schema(description = "작업 등록 시간", example = "2025-04-01T10:00:00")
+        LocalDateTime createdAt,
+
+        @Schema(description = "작업 완료 시간", example = "2025-04-01T10:00:04")
+        LocalDateTime completedAt,
+
+        @Schema(description = "파일 만료 시간 (이후 다운로드 불가)", example = "2025-04-02T10:00:04")
+        LocalDateTime expiresAt,
+
+        @Schema(description = "다운로드 경로 (완료 시)", example = "/export/jobs/3f2b7c1e-8a4d-4c55-9b1e-2d6f0a9c7e11/download")
+        String downloadUrl
+) {
+    public static ExportJobResponse from(ExportJob job, String downloadUrl) {
+        boolean completed = job.getStatus() == ExportJobStatus.COMPLETED;
+        return new ExportJobResponse(
+                job.getJobId(),
+                job.getFormat(),
+                job.getStatus(),
+                job.getStartDate(),
+                job.getEndDate(),
+                completed ? job.getSizeBytes() : null,
+                job.getCreatedAt(),
+                job.getCompletedAt(),
+                job.getExpiresAt(),
+                completed ? downloadUrl : null
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.Hamalog.dto.notification.projection;
+
+import com.Hamalog.domain.notification.NotificationSettings;
+
+/**
+ * 복약 알림 회차 계산/발송용 알림 설정 Projection
+ * JPQL Constructor Expression으로 직접 생성 (회원 엔티티를 읽지 않음)
+ */
+public record MedicationReminderPreference(
+        Long memberId,
+        boolean pushEnabled,
+        boolean medicationReminderEnabled,
+        Integer medicationReminderMinutesBefore
+) {
+    /**
+     * 알림 설정이 없는 회원에게 적용되는 기본값 (복약 알림 켜짐)
+     */
+    public static MedicationReminderPreference defaults(Long memberId) {
+        return new MedicationReminderPreference(memberId, true, true,
+                NotificationSettings.DEFAULT_MEDICATION_REMINDER_MINUTES_BEFORE);
+    }
+
+    /**
+     * 복약 알림 수신 여부 (푸시와 복약 알림이 모두 켜진 경우)
+     */
+    public boolean enabled() {
+        return pushEnabled && medicationReminderEnabled;
+    }
+
+    /**
+     * 알림 선행 시간 (분 단위, 미설정 시 기본값)
+     */
+    public int minutesBefore() {
+        return medicationReminderMinutesBefore != null
+                ? medicationReminderMinutesBefore
+                : NotificationSettings.DEFAULT_MEDICATION_REMINDER_MINUTES_BEFORE;
+    }
+}
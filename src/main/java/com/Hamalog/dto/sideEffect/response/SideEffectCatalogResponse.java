@@ -0,0 +1,25 @@
+package com.Hamalog.dto.sideEffect.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "부작용 카탈로그 응답")
+public record SideEffectCatalogResponse(
+        @Schema(description = "카탈로그 버전 (내용 해시, ETag와 동일)", example = "9f86d081884c7d65")
+        String version,
+
+        @Schema(description = "부작용 목록")
+        List<SideEffectCatalogItem> sideEffects
+) {
+    @Schema(description = "부작용 카탈로그 항목")
+    public record SideEffectCatalogItem(
+            @Schema(description = "부작용 ID", example = "1")
+            Long sideEffectId,
+
+            @Schema(description = "부작용 분류", example = "신경계")
+            String type,
+
+            @Schema(description = "부작용 이름", example = "두통")
+            String name
+    ) {}
+}
@@ -0,0 +1,54 @@
+package com.Hamalog.dto.sync;
+
+import com.Hamalog.dto.diary.response.MoodDiaryResponse;
+import com.Hamalog.dto.medication.response.MedicationRecordResponse;
+import com.Hamalog.dto.medication.response.MedicationScheduleResponse;
+import com.Hamalog.dto.sideEffect.response.SideEffectRecordResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "델타 동기화 변경 응답")
+public record SyncChangesResponse(
+        @Schema(description = "다음 요청에 보낼 커서", example = "18342")
+        Long nextCursor,
+
+        @Schema(description = "이번 응답 이후 남은 변경이 있는지 여부 (true면 nextCursor로 바로 다시 요청)", example = "false")
+        boolean hasMore,
+
+        @Schema(description = "전체 재동기화 필요 여부 (true면 각 API로 전체 데이터를 다시 받은 뒤 nextCursor부터 동기화)",
+                example = "false")
+        boolean fullResyncRequired,
+
+        @Schema(description = "복약 스케줄 변경 (스케줄 삭제는 해당 스케줄의 복약 기록 삭제를 포함)")
+        EntityChanges<MedicationScheduleResponse> medicationSchedules,
+
+        @Schema(description = "복약 기록 변경")
+        EntityChanges<MedicationRecordResponse> medicationRecords,
+
+        @Schema(description = "마음 일기 변경")
+        EntityChanges<MoodDiaryResponse> moodDiaries,
+
+        @Schema(description = "부작용 기록 변경")
+        EntityChanges<SideEffectRecordResponse> sideEffectRecords
+) {
+    @Schema(description = "엔티티 유형별 변경")
+    public record EntityChanges<T>(
+            @Schema(description = "생성되거나 수정된 엔티티 (최신 상태)")
+            List<T> upserted,
+
+            @Schema(description = "삭제된 엔티티 ID", example = "[101, 102]")
+            List<Long> deleted
+    ) {
+        public static <T> EntityChanges<T> empty() {
+            return new EntityChanges<>(List.of(), List.of());
+        }
+    }
+
+    /**
+     * 전체 재동기화 응답 (변경 목록 없이 재동기화 후 사용할 커서만 반환)
+     */
+    public static SyncChangesResponse fullResync(Long nextCursor) {
+        return new SyncChangesResponse(nextCursor, false, true,
+                EntityChanges.empty(), EntityChanges.empty(), EntityChanges.empty(), EntityChanges.empty());
+    }
+}
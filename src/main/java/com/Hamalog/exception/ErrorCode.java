@@ -27,6 +27,7 @@ public enum ErrorCode {
     SIDE_EFFECT_NOT_FOUND("SIDE_EFFECT_NOT_FOUND", "부작용 정보를 찾을 수 없습니다."),
     INVALID_SIDE_EFFECT_DEGREE("INVALID_DEGREE", "부작용 정도는 1-5 사이여야 합니다."),
     EMPTY_SIDE_EFFECT_LIST("EMPTY_SIDE_EFFECT_LIST", "부작용 목록이 비어있습니다."),
+    DUPLICATE_SIDE_EFFECT("DUPLICATE_SIDE_EFFECT", "같은 부작용이 목록에 중복되어 있습니다."),
 
     // Business Logic Errors - Mood Diary
     MOOD_DIARY_NOT_FOUND("MOOD_DIARY_NOT_FOUND", "마음 일기를 찾을 수 없습니다."),
@@ -42,6 +43,11 @@ public enum ErrorCode {
     FCM_SEND_FAILED("FCM_SEND_FAILED", "푸시 알림 전송에 실패했습니다."),
     INVALID_DEVICE_TYPE("INVALID_DEVICE_TYPE", "유효하지 않은 디바이스 타입입니다."),
 
+    // Business Logic Errors - Export
+    EXPORT_JOB_NOT_FOUND("EXPORT_JOB_NOT_FOUND", "내보내기 작업을 찾을 수 없습니다."),
+    EXPORT_JOB_NOT_READY("EXPORT_JOB_NOT_READY", "내보내기 파일이 아직 준비되지 않았습니다."),
+    EXPORT_JOB_LIMIT_EXCEEDED("EXPORT_JOB_LIMIT_EXCEEDED", "진행 중인 내보내기 작업이 많습니다. 완료된 뒤 다시 시도해주세요."),
+
     // Authorization and Security Errors
     UNAUTHORIZED("UNAUTHORIZED", "인증이 필요합니다."),
     FORBIDDEN("FORBIDDEN", "접근 권한이 없습니다."),
@@ -78,6 +84,7 @@ public enum ErrorCode {
     // Concurrency Errors
     OPTIMISTIC_LOCK_FAILED("OPTIMISTIC_LOCK_FAILED", "다른 사용자가 데이터를 수정했습니다. 다시 시도해주세요."),
     RESOURCE_CONFLICT("RESOURCE_CONFLICT", "리소스 충돌이 발생했습니다."),
+    RESOURCE_BUSY("RESOURCE_BUSY", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
 
     // External API Errors
     EXTERNAL_API_ERROR("EXTERNAL_API_ERROR", "외부 API 호출 중 오류가 발생했습니다."),
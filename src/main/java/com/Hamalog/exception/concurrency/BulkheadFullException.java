@@ -0,0 +1,19 @@
+package com.Hamalog.exception.concurrency;
+
+import com.Hamalog.exception.CustomException;
+import com.Hamalog.exception.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 하위 자원(DB, Redis, FCM)의 동시 사용 한도를 넘어 대기 시간 안에 허가를 얻지 못한 경우의 예외
+ */
+@Getter
+public class BulkheadFullException extends CustomException {
+
+    private final String resource;
+
+    public BulkheadFullException(String resource) {
+        super(ErrorCode.RESOURCE_BUSY);
+        this.resource = resource;
+    }
+}
@@ -2,6 +2,7 @@ package com.Hamalog.handler;
 
 import com.Hamalog.exception.CustomException;
 import com.Hamalog.exception.ErrorCode;
+import com.Hamalog.exception.concurrency.BulkheadFullException;
 import com.Hamalog.exception.medication.MedicationRecordNotFoundException;
 import com.Hamalog.exception.medication.MedicationScheduleNotFoundException;
 import com.Hamalog.exception.medication.MedicationTimeNotFoundException;
@@ -274,6 +275,12 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception ex, HttpServletRequest request) {
+        // DB bulkhead 거절은 트랜잭션/JDBC 예외로 감싸져 올라오므로 원인을 찾아 503으로 응답
+        BulkheadFullException bulkheadFull = findBulkheadFull(ex);
+        if (bulkheadFull != null) {
+            return handleCustomException(bulkheadFull, request);
+        }
+
         ErrorResponse error = ErrorResponse.of(
                 HttpStatus.INTERNAL_SERVER_ERROR,
                 ErrorCode.INTERNAL_SERVER_ERROR.getCode(),
@@ -293,6 +300,18 @@ public class GlobalExceptionHandler {
 
     // ==================== 공통 처리 메서드 ====================
 
+    /**
+     * 예외 원인 체인에서 bulkhead 거절 예외 탐색
+     */
+    private BulkheadFullException findBulkheadFull(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BulkheadFullException bulkheadFull) {
+                return bulkheadFull;
+            }
+        }
+        return null;
+    }
+
     /**
      * Discord 알림 발송 (Optional 의존성)
      */
@@ -376,13 +395,15 @@ public class GlobalExceptionHandler {
         return switch (errorCode) {
             case MEMBER_NOT_FOUND, MEDICATION_SCHEDULE_NOT_FOUND, MEDICATION_RECORD_NOT_FOUND,
                  MEDICATION_TIME_NOT_FOUND, SIDE_EFFECT_NOT_FOUND, FILE_NOT_FOUND,
-                 MOOD_DIARY_NOT_FOUND -> HttpStatus.NOT_FOUND;
+                 MOOD_DIARY_NOT_FOUND, EXPORT_JOB_NOT_FOUND -> HttpStatus.NOT_FOUND;
             case UNAUTHORIZED, INVALID_TOKEN, TOKEN_EXPIRED, TOKEN_BLACKLISTED,
                  INVALID_REFRESH_TOKEN, REFRESH_TOKEN_EXPIRED, REFRESH_TOKEN_REVOKED -> HttpStatus.UNAUTHORIZED;
             case FORBIDDEN -> HttpStatus.FORBIDDEN;
             case OPTIMISTIC_LOCK_FAILED, RESOURCE_CONFLICT, DUPLICATE_MEMBER,
-                 DIARY_ALREADY_EXISTS -> HttpStatus.CONFLICT;
+                 DIARY_ALREADY_EXISTS, EXPORT_JOB_NOT_READY -> HttpStatus.CONFLICT;
             case EXTERNAL_API_TIMEOUT -> HttpStatus.GATEWAY_TIMEOUT;
+            case RESOURCE_BUSY -> HttpStatus.SERVICE_UNAVAILABLE;
+            case EXPORT_JOB_LIMIT_EXCEEDED -> HttpStatus.TOO_MANY_REQUESTS;
             case FILE_SIZE_EXCEEDED -> HttpStatus.PAYLOAD_TOO_LARGE;
             default -> HttpStatus.BAD_REQUEST;
         };
@@ -2,13 +2,18 @@ package com.Hamalog.repository.diary;
 
 import com.Hamalog.domain.diary.MoodType;
 import com.Hamalog.domain.diary.QMoodDiary;
+import com.Hamalog.domain.diary.QMoodDiarySearchToken;
 import com.Hamalog.dto.diary.projection.MoodDiaryProjection;
+import com.Hamalog.security.encryption.BlindIndexer;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -25,8 +30,10 @@ import org.springframework.util.StringUtils;
 public class MoodDiaryCustomRepositoryImpl implements MoodDiaryCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final BlindIndexer blindIndexer;
 
     private static final QMoodDiary moodDiary = QMoodDiary.moodDiary;
+    private static final QMoodDiarySearchToken searchToken = QMoodDiarySearchToken.moodDiarySearchToken;
 
     @Override
     public Page<MoodDiaryProjection> searchWithConditions(
@@ -51,7 +58,7 @@ public class MoodDiaryCustomRepositoryImpl implements MoodDiaryCustomRepository
                 .from(moodDiary)
                 .where(
                         memberIdEq(memberId),
-                        keywordContains(keyword),
+                        keywordContains(memberId, keyword),
                         moodTypeEq(moodType),
                         dateBetween(startDate, endDate)
                 );
@@ -77,17 +84,25 @@ public class MoodDiaryCustomRepositoryImpl implements MoodDiaryCustomRepository
     }
 
     /**
-     * 키워드 검색 조건 (자유 형식 내용 또는 템플릿 답변에 포함)
+     * 키워드 검색 조건 (블라인드 인덱스 토큰을 모두 가진 일기)
+     * 본문은 암호문이므로 LIKE 대신 회원별 검색 토큰 교집합으로 후보를 찾습니다.
+     * 토큰은 회원 ID로 키잉되므로 회원 ID 없이 키워드만으로는 검색할 수 없습니다.
      */
-    private BooleanExpression keywordContains(String keyword) {
+    private BooleanExpression keywordContains(Long memberId, String keyword) {
         if (!StringUtils.hasText(keyword)) {
             return null;
         }
-        return moodDiary.freeContent.containsIgnoreCase(keyword)
-                .or(moodDiary.templateAnswer1.containsIgnoreCase(keyword))
-                .or(moodDiary.templateAnswer2.containsIgnoreCase(keyword))
-                .or(moodDiary.templateAnswer3.containsIgnoreCase(keyword))
-                .or(moodDiary.templateAnswer4.containsIgnoreCase(keyword));
+        Set<Long> tokens = memberId != null ? blindIndexer.queryTokens(memberId, keyword) : Set.of();
+        if (tokens.isEmpty()) {
+            return Expressions.FALSE.isTrue();
+        }
+        return moodDiary.moodDiaryId.in(
+                JPAExpressions.select(searchToken.moodDiaryId)
+                        .from(searchToken)
+                        .where(searchToken.memberId.eq(memberId), searchToken.token.in(tokens))
+                        .groupBy(searchToken.moodDiaryId)
+                        .having(searchToken.token.count().eq((long) tokens.size()))
+        );
     }
 
     /**
@@ -3,15 +3,22 @@ package com.Hamalog.repository.diary;
 import com.Hamalog.domain.diary.MoodDiary;
 import com.Hamalog.domain.member.Member;
 import com.Hamalog.dto.diary.projection.MoodDiaryProjection;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -39,6 +46,11 @@ public interface MoodDiaryRepository extends JpaRepository<MoodDiary, Long> {
     @Query("DELETE FROM MoodDiary m WHERE m.member.memberId = :memberId")
     void deleteByMember_MemberId(@Param("memberId") Long memberId);
 
+    // 회원 영구 삭제용 청크 삭제: 한 번에 최대 :limit 건만 삭제하여 락 보유 시간 최소화
+    @Modifying
+    @Query(value = "DELETE FROM mood_diary WHERE member_id = :memberId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByMemberId(@Param("memberId") Long memberId, @Param("limit") int limit);
+
     // 기간별 일기 조회 (통계용)
     @Query("SELECT m FROM MoodDiary m WHERE m.member.memberId = :memberId " +
            "AND m.diaryDate BETWEEN :startDate AND :endDate ORDER BY m.diaryDate ASC")
@@ -48,6 +60,19 @@ public interface MoodDiaryRepository extends JpaRepository<MoodDiary, Long> {
             @Param("endDate") LocalDate endDate
     );
 
+    // 데이터 내보내기용 스트리밍 조회 (기간별)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM MoodDiary m WHERE m.member.memberId = :memberId " +
+           "AND m.diaryDate BETWEEN :startDate AND :endDate ORDER BY m.diaryDate ASC")
+    Stream<MoodDiary> streamByMemberIdAndDateRange(
+            @Param("memberId") Long memberId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     // DTO Projection: 기간별 일기 조회 (캘린더용 - 필요한 필드만)
     @Query("SELECT new com.Hamalog.dto.diary.projection.MoodDiaryProjection(" +
            "m.moodDiaryId, m.member.memberId, m.diaryDate, m.moodType, m.diaryType, m.createdAt) " +
@@ -60,25 +85,36 @@ public interface MoodDiaryRepository extends JpaRepository<MoodDiary, Long> {
     );
 
     // 월별 일기 조회 (캘린더용)
+    // YEAR()/MONTH() 함수 대신 반열린 구간 [monthStart, nextMonthStart)으로 조회하여 (member_id, diary_date) 인덱스 사용
     @Query("SELECT m FROM MoodDiary m WHERE m.member.memberId = :memberId " +
-           "AND YEAR(m.diaryDate) = :year AND MONTH(m.diaryDate) = :month ORDER BY m.diaryDate ASC")
-    List<MoodDiary> findByMemberIdAndYearMonth(
+           "AND m.diaryDate >= :monthStart AND m.diaryDate < :nextMonthStart ORDER BY m.diaryDate ASC")
+    List<MoodDiary> findByMemberIdAndMonthRange(
             @Param("memberId") Long memberId,
-            @Param("year") int year,
-            @Param("month") int month
+            @Param("monthStart") LocalDate monthStart,
+            @Param("nextMonthStart") LocalDate nextMonthStart
     );
 
+    default List<MoodDiary> findByMemberIdAndYearMonth(Long memberId, int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return findByMemberIdAndMonthRange(memberId, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
+
     // DTO Projection: 월별 일기 조회 (캘린더용 - 필요한 필드만)
     @Query("SELECT new com.Hamalog.dto.diary.projection.MoodDiaryProjection(" +
            "m.moodDiaryId, m.member.memberId, m.diaryDate, m.moodType, m.diaryType, m.createdAt) " +
            "FROM MoodDiary m WHERE m.member.memberId = :memberId " +
-           "AND YEAR(m.diaryDate) = :year AND MONTH(m.diaryDate) = :month ORDER BY m.diaryDate ASC")
-    List<MoodDiaryProjection> findProjectionsByMemberIdAndYearMonth(
+           "AND m.diaryDate >= :monthStart AND m.diaryDate < :nextMonthStart ORDER BY m.diaryDate ASC")
+    List<MoodDiaryProjection> findProjectionsByMemberIdAndMonthRange(
             @Param("memberId") Long memberId,
-            @Param("year") int year,
-            @Param("month") int month
+            @Param("monthStart") LocalDate monthStart,
+            @Param("nextMonthStart") LocalDate nextMonthStart
     );
 
+    default List<MoodDiaryProjection> findProjectionsByMemberIdAndYearMonth(Long memberId, int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return findProjectionsByMemberIdAndMonthRange(memberId, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
+
     // 회원별 일기 작성 일수 조회
     @Query("SELECT COUNT(m) FROM MoodDiary m WHERE m.member.memberId = :memberId " +
            "AND m.diaryDate BETWEEN :startDate AND :endDate")
@@ -88,20 +124,27 @@ public interface MoodDiaryRepository extends JpaRepository<MoodDiary, Long> {
             @Param("endDate") LocalDate endDate
     );
 
-    // 일기 내용 검색 (자유형식 내용 + 템플릿 답변 검색)
+    // 일기 내용 검색 (블라인드 인덱스): 검색어 토큰을 모두 가진 일기만 조회 (토큰 교집합)
+    // 본문은 암호문이므로 LIKE 대신 mood_diary_search_token PK (member_id, token, ...) 범위 스캔으로 후보를 찾음
+    // 후보에는 복호화 확인에서 빠지는 일기가 섞여 있으므로 개수 쿼리 없이 Slice로 조회
     @Query("SELECT m FROM MoodDiary m WHERE m.member.memberId = :memberId " +
-           "AND (LOWER(m.freeContent) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(m.templateAnswer1) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(m.templateAnswer2) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(m.templateAnswer3) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(m.templateAnswer4) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+           "AND m.moodDiaryId IN (SELECT t.moodDiaryId FROM MoodDiarySearchToken t " +
+           "WHERE t.memberId = :memberId AND t.token IN :tokens " +
+           "GROUP BY t.moodDiaryId HAVING COUNT(t.token) = :tokenCount) " +
            "ORDER BY m.diaryDate DESC")
-    Page<MoodDiary> searchByKeyword(
+    Slice<MoodDiary> searchByTokens(
             @Param("memberId") Long memberId,
-            @Param("keyword") String keyword,
+            @Param("tokens") Collection<Long> tokens,
+            @Param("tokenCount") long tokenCount,
             Pageable pageable
     );
 
+    // 검색 인덱스가 없는 일기 조회 (기존 데이터 색인용, moodDiaryId keyset 페이징)
+    @Query("SELECT m FROM MoodDiary m WHERE m.moodDiaryId > :afterId " +
+           "AND NOT EXISTS (SELECT 1 FROM MoodDiarySearchToken t WHERE t.moodDiaryId = m.moodDiaryId) " +
+           "ORDER BY m.moodDiaryId ASC")
+    List<MoodDiary> findUnindexedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     // 기분 타입별 필터링
     @Query("SELECT m FROM MoodDiary m WHERE m.member.memberId = :memberId " +
            "AND m.moodType = :moodType ORDER BY m.diaryDate DESC")
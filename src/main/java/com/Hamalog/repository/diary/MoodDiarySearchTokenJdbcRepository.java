@@ -0,0 +1,39 @@
+package com.Hamalog.repository.diary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 마음 일기 검색 토큰 JDBC 배치 Repository
+ * 일기 한 건당 수백 개의 토큰이 생기므로 엔티티 단위 persist 대신 batchUpdate로 한 번에 INSERT합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MoodDiarySearchTokenJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO mood_diary_search_token (member_id, token, mood_diary_id) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일기 한 건의 검색 토큰 일괄 INSERT
+     *
+     * @param tokens 중복 없는 토큰 집합
+     */
+    public void batchInsert(Long memberId, Long moodDiaryId, Collection<Long> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(tokens.size());
+        for (Long token : tokens) {
+            rows.add(new Object[]{memberId, token, moodDiaryId});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
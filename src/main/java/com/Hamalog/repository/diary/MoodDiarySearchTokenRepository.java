@@ -0,0 +1,26 @@
+package com.Hamalog.repository.diary;
+
+import com.Hamalog.domain.diary.MoodDiarySearchToken;
+import com.Hamalog.domain.idClass.MoodDiarySearchTokenId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MoodDiarySearchTokenRepository extends JpaRepository<MoodDiarySearchToken, MoodDiarySearchTokenId> {
+
+    @Modifying
+    @Query("DELETE FROM MoodDiarySearchToken t WHERE t.moodDiaryId = :moodDiaryId")
+    int deleteByMoodDiaryId(@Param("moodDiaryId") Long moodDiaryId);
+
+    @Modifying
+    @Query("DELETE FROM MoodDiarySearchToken t WHERE t.memberId = :memberId")
+    void deleteByMemberId(@Param("memberId") Long memberId);
+
+    // 회원 영구 삭제용 청크 삭제: 한 번에 최대 :limit 건만 삭제하여 락 보유 시간 최소화
+    @Modifying
+    @Query(value = "DELETE FROM mood_diary_search_token WHERE member_id = :memberId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByMemberId(@Param("memberId") Long memberId, @Param("limit") int limit);
+}
@@ -0,0 +1,7 @@
+package com.Hamalog.repository.events;
+
+import com.Hamalog.domain.events.ProjectionCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProjectionCheckpointRepository extends JpaRepository<ProjectionCheckpoint, String> {
+}
@@ -3,12 +3,15 @@ package com.Hamalog.repository.events;
 import com.Hamalog.domain.events.StoredDomainEvent;
 import com.Hamalog.domain.events.StoredDomainEvent.EventStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 도메인 이벤트 저장소 Repository
@@ -45,11 +48,57 @@ public interface StoredDomainEventRepository extends JpaRepository<StoredDomainE
     List<StoredDomainEvent> findByEventTypeOrderByOccurredOnDesc(String eventType);
 
     /**
-     * 오래된 처리 완료 이벤트 삭제 (데이터 정리용)
+     * 보관 대상(처리 완료, 기준 시각 이전 발생) 중 가장 이른 발생 시각
      */
+    @Query("SELECT MIN(e.occurredOn) FROM StoredDomainEvent e WHERE e.status = 'PROCESSED' AND e.occurredOn < :cutoff")
+    LocalDateTime findOldestArchivableOccurredOn(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 발생 시각 구간의 보관 대상 청크 (id 키셋 페이지)
+     */
+    @Query("SELECT e FROM StoredDomainEvent e " +
+           "WHERE e.status = 'PROCESSED' AND e.occurredOn >= :from AND e.occurredOn < :to AND e.id > :afterId " +
+           "ORDER BY e.id")
+    List<StoredDomainEvent> findArchivableChunk(@Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to,
+                                                @Param("afterId") Long afterId,
+                                                Pageable pageable);
+
+    /**
+     * 세그먼트에 보관한 이벤트 삭제 (청크 단위로 호출해 삭제 트랜잭션을 작게 유지)
+     */
+    @Transactional
     @Modifying
-    @Query("DELETE FROM StoredDomainEvent e WHERE e.status = 'PROCESSED' AND e.processedAt < :cutoffDate")
-    int deleteProcessedEventsBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
+    @Query("DELETE FROM StoredDomainEvent e WHERE e.id IN :ids")
+    int deleteArchived(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 리플레이 페이지 (id 순, upToId 이하)
+     */
+    @Query("SELECT e FROM StoredDomainEvent e WHERE e.id > :afterId AND e.id <= :upToId ORDER BY e.id")
+    List<StoredDomainEvent> findReplayPage(@Param("afterId") Long afterId,
+                                           @Param("upToId") Long upToId,
+                                           Pageable pageable);
+
+    @Query("SELECT MAX(e.id) FROM StoredDomainEvent e")
+    Long findMaxId();
+
+    /**
+     * 아웃박스 릴레이 대상 PENDING 이벤트를 잠그고 조회 (id 순)
+     * 다른 노드의 릴레이가 잠근 행은 건너뛰므로 여러 노드가 서로 다른 배치를 나눠 처리합니다.
+     */
+    @Query(value = "SELECT * FROM domain_event WHERE status = 'PENDING' ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<StoredDomainEvent> lockPendingBatch(@Param("limit") int limit);
+
+    /**
+     * 여러 이벤트를 한 번에 처리 완료로 표시
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE StoredDomainEvent e SET e.status = :status, e.processedAt = :processedAt WHERE e.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") EventStatus status,
+                     @Param("processedAt") LocalDateTime processedAt);
 
     /**
      * 미처리 이벤트 수 조회
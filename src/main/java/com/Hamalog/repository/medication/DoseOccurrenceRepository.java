@@ -0,0 +1,50 @@
+package com.Hamalog.repository.medication;
+
+import com.Hamalog.domain.medication.DoseOccurrence;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 복약 알림 회차 인덱스 Repository
+ */
+public interface DoseOccurrenceRepository extends JpaRepository<DoseOccurrence, Long> {
+
+    /**
+     * 발송 버킷이 지난 미발송 회차를 잠그고 조회 (버킷 순)
+     * 같은 버킷의 회차가 한 배치에 모이도록 notify_at 순으로 잠급니다. 잠긴 회차는 건너뜁니다(SKIP LOCKED).
+     */
+    @Query(value = "SELECT * FROM dose_occurrence WHERE dispatched_at IS NULL AND notify_at <= :now " +
+                   "ORDER BY notify_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<DoseOccurrence> lockDueBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 잠근 회차를 발송 처리로 표시
+     */
+    @Modifying
+    @Query("UPDATE DoseOccurrence o SET o.dispatchedAt = :dispatchedAt WHERE o.doseOccurrenceId IN :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("dispatchedAt") LocalDateTime dispatchedAt);
+
+    /**
+     * 주어진 스케줄의 복용 예정 시각이 after 이후인 회차 조회 (발송한 회차 포함)
+     */
+    @Query("SELECT o FROM DoseOccurrence o WHERE o.medicationScheduleId IN :scheduleIds AND o.doseAt > :after")
+    List<DoseOccurrence> findUpcomingBySchedules(@Param("scheduleIds") Collection<Long> scheduleIds,
+                                                 @Param("after") LocalDateTime after);
+
+    /**
+     * before 이전에 발송 처리한 회차 정리
+     */
+    @Modifying
+    @Query("DELETE FROM DoseOccurrence o WHERE o.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM DoseOccurrence o WHERE o.medicationScheduleId = :scheduleId")
+    int deleteAllByScheduleId(@Param("scheduleId") Long scheduleId);
+}
@@ -0,0 +1,102 @@
+package com.Hamalog.repository.medication;
+
+import com.Hamalog.domain.medication.MedicationRecord;
+import com.Hamalog.domain.sync.SyncEntityType;
+import com.Hamalog.domain.sync.SyncOperation;
+import com.Hamalog.service.sync.SyncChangeCaptureListener;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * MedicationRecord JDBC 배치 Repository
+ * MedicationRecord는 IDENTITY 전략을 사용하므로 Hibernate insert 배칭이 비활성화됩니다.
+ * 일괄 생성 시에는 JDBC batchUpdate로 한 번의 왕복에 INSERT를 모아 전송합니다.
+ * (MySQL은 rewriteBatchedStatements=true 설정 시 multi-row INSERT로 재작성)
+ * Hibernate 이벤트가 발생하지 않으므로 델타 동기화 변경 로그는 직접 추가합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MedicationRecordJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO medication_record " +
+            "(medication_schedule_id, medication_time_id, is_take_medication, real_take_time, version) " +
+            "VALUES (?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectProvider<SyncChangeCaptureListener> syncChangeCaptureListener;
+
+    /**
+     * 복약 기록 일괄 INSERT
+     *
+     * @param records 저장할 복약 기록 (영속화되지 않은 엔티티)
+     * @return 생성된 복약 기록 ID 목록 (입력 순서와 동일)
+     */
+    public List<Long> batchInsert(List<MedicationRecord> records) {
+        if (records.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        MedicationRecord record = records.get(i);
+                        ps.setLong(1, record.getMedicationSchedule().getMedicationScheduleId());
+                        ps.setLong(2, record.getMedicationTime().getMedicationTimeId());
+                        // null은 그대로 바인딩해 NOT NULL 제약으로 실패시킴 (미복용으로 바꿔 저장하지 않음)
+                        ps.setObject(3, record.getIsTakeMedication(), Types.BOOLEAN);
+                        if (record.getRealTakeTime() != null) {
+                            ps.setTimestamp(4, Timestamp.valueOf(record.getRealTakeTime()));
+                        } else {
+                            ps.setNull(4, Types.TIMESTAMP);
+                        }
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return records.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Long> ids = keyHolder.getKeyList().stream()
+                .map(MedicationRecordJdbcRepository::extractId)
+                .toList();
+
+        syncChangeCaptureListener.ifAvailable(listener -> {
+            for (int i = 0; i < ids.size(); i++) {
+                listener.record(entityManager, SyncEntityType.MEDICATION_RECORD, ids.get(i),
+                        records.get(i).getMedicationSchedule().getMedicationScheduleId(), SyncOperation.UPSERT);
+            }
+        });
+        return ids;
+    }
+
+    private static Long extractId(Map<String, Object> keys) {
+        // 드라이버마다 키 이름이 다름 (MySQL: GENERATED_KEY, H2: MEDICATION_RECORD_ID)
+        return keys.entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase("medication_record_id"))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .map(value -> ((Number) value).longValue())
+                .orElseGet(() -> ((Number) keys.values().iterator().next()).longValue());
+    }
+}
@@ -2,13 +2,18 @@ package com.Hamalog.repository.medication;
 
 import com.Hamalog.domain.medication.MedicationRecord;
 import com.Hamalog.dto.medication.projection.MedicationRecordProjection;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface MedicationRecordRepository extends JpaRepository<MedicationRecord, Long> {
@@ -52,6 +57,40 @@ public interface MedicationRecordRepository extends JpaRepository<MedicationReco
            "WHERE ms.medicationScheduleId IN :scheduleIds")
     List<MedicationRecord> findAllByScheduleIds(@Param("scheduleIds") List<Long> scheduleIds);
 
+    // 데이터 내보내기용 스트리밍 조회: fetch size 단위로 읽어 회원 전체 기록을 한 번에 메모리에 올리지 않음
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT mr FROM MedicationRecord mr " +
+           "JOIN FETCH mr.medicationSchedule ms " +
+           "WHERE ms.member.memberId = :memberId " +
+           "ORDER BY mr.medicationRecordId")
+    Stream<MedicationRecord> streamAllByMemberId(@Param("memberId") Long memberId);
+
+    // CSV 내보내기용 기간 필터 스트리밍 조회: 반열린 구간 [startDateTime, endDateTime), 필요한 컬럼만 Projection
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.Hamalog.dto.medication.projection.MedicationRecordProjection(" +
+           "mr.medicationRecordId, ms.medicationScheduleId, ms.name, " +
+           "mr.medicationTime.medicationTimeId, mr.isTakeMedication, mr.realTakeTime) " +
+           "FROM MedicationRecord mr " +
+           "JOIN mr.medicationSchedule ms " +
+           "WHERE ms.member.memberId = :memberId " +
+           "AND mr.realTakeTime >= :startDateTime AND mr.realTakeTime < :endDateTime " +
+           "ORDER BY mr.realTakeTime, mr.medicationRecordId")
+    Stream<MedicationRecordProjection> streamProjectionsByMemberIdAndDateRange(
+            @Param("memberId") Long memberId,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime
+    );
+
+    // 배치 조회: 여러 복약 기록을 ID로 한 번에 조회 (일괄 생성 후 재조회, 일괄 수정용)
+    @Query("SELECT mr FROM MedicationRecord mr " +
+           "JOIN FETCH mr.medicationSchedule ms " +
+           "JOIN FETCH mr.medicationTime mt " +
+           "WHERE mr.medicationRecordId IN :recordIds")
+    List<MedicationRecord> findAllByIdInWithScheduleAndTime(@Param("recordIds") Collection<Long> recordIds);
+
     // 배치 조회 with DTO Projection
     @Query("SELECT new com.Hamalog.dto.medication.projection.MedicationRecordProjection(" +
            "mr.medicationRecordId, ms.medicationScheduleId, ms.name, " +
@@ -67,12 +106,20 @@ public interface MedicationRecordRepository extends JpaRepository<MedicationReco
     @Query("DELETE FROM MedicationRecord mr WHERE mr.medicationSchedule.medicationScheduleId IN :scheduleIds")
     void deleteByScheduleIds(@Param("scheduleIds") List<Long> scheduleIds);
 
+    // 회원 영구 삭제용 청크 삭제: 한 번에 최대 :limit 건만 삭제하여 락 보유 시간 최소화
+    @Modifying
+    @Query(value = "DELETE FROM medication_record WHERE medication_schedule_id IN " +
+                   "(SELECT medication_schedule_id FROM medication_schedule WHERE member_id = :memberId) " +
+                   "LIMIT :limit", nativeQuery = true)
+    int deleteChunkByMemberId(@Param("memberId") Long memberId, @Param("limit") int limit);
+
     // 회원별 기간 내 복약 기록 조회 (통계용)
+    // 기간 조건은 반열린 구간 [startDateTime, endDateTime) - endDateTime에는 다음 날 00:00을 전달
     @Query("SELECT mr FROM MedicationRecord mr " +
            "JOIN FETCH mr.medicationSchedule ms " +
            "JOIN FETCH mr.medicationTime mt " +
            "WHERE ms.member.memberId = :memberId " +
-           "AND mr.realTakeTime BETWEEN :startDateTime AND :endDateTime")
+           "AND mr.realTakeTime >= :startDateTime AND mr.realTakeTime < :endDateTime")
     List<MedicationRecord> findByMemberIdAndDateRange(
             @Param("memberId") Long memberId,
             @Param("startDateTime") LocalDateTime startDateTime,
@@ -95,7 +142,7 @@ public interface MedicationRecordRepository extends JpaRepository<MedicationReco
     @Query("SELECT COUNT(mr) FROM MedicationRecord mr " +
            "JOIN mr.medicationSchedule ms " +
            "WHERE ms.member.memberId = :memberId " +
-           "AND mr.realTakeTime BETWEEN :startDateTime AND :endDateTime")
+           "AND mr.realTakeTime >= :startDateTime AND mr.realTakeTime < :endDateTime")
     long countByMemberIdAndDateRange(
             @Param("memberId") Long memberId,
             @Param("startDateTime") LocalDateTime startDateTime,
@@ -107,7 +154,7 @@ public interface MedicationRecordRepository extends JpaRepository<MedicationReco
            "JOIN mr.medicationSchedule ms " +
            "WHERE ms.member.memberId = :memberId " +
            "AND mr.isTakeMedication = true " +
-           "AND mr.realTakeTime BETWEEN :startDateTime AND :endDateTime")
+           "AND mr.realTakeTime >= :startDateTime AND mr.realTakeTime < :endDateTime")
     long countTakenByMemberIdAndDateRange(
             @Param("memberId") Long memberId,
             @Param("startDateTime") LocalDateTime startDateTime,
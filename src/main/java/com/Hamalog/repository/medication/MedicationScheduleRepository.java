@@ -2,6 +2,8 @@ package com.Hamalog.repository.medication;
 
 import com.Hamalog.domain.medication.MedicationSchedule;
 import com.Hamalog.dto.medication.projection.MedicationScheduleProjection;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -29,6 +31,26 @@ public interface MedicationScheduleRepository extends JpaRepository<MedicationSc
     @EntityGraph(attributePaths = {"member"})
     Optional<MedicationSchedule> findById(Long id);
     
+    // 배치 조회: 일괄 복약 기록 생성 시 참조 스케줄을 IN 쿼리 한 번으로 조회
+    @Query("SELECT ms FROM MedicationSchedule ms JOIN FETCH ms.member WHERE ms.medicationScheduleId IN :scheduleIds")
+    List<MedicationSchedule> findAllByIdInWithMember(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    // 복약 알림 회차 계산: 복약 시간을 함께 조회
+    @Query("SELECT DISTINCT ms FROM MedicationSchedule ms LEFT JOIN FETCH ms.medicationTimes " +
+           "WHERE ms.medicationScheduleId IN :scheduleIds")
+    List<MedicationSchedule> findAllWithTimesByIdIn(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    // 복약 알림 회차 계산: 복약 기간이 [from, until]과 겹치는 활성 스케줄 ID (id 순 키셋 페이지)
+    @Query(value = "SELECT medication_schedule_id FROM medication_schedule " +
+                   "WHERE medication_schedule_id > :afterId AND is_active = TRUE " +
+                   "AND start_of_ad <= :until AND DATE_ADD(start_of_ad, INTERVAL prescription_days DAY) > :from " +
+                   "ORDER BY medication_schedule_id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findActiveIdsInWindow(@Param("afterId") Long afterId,
+                                     @Param("from") LocalDate from,
+                                     @Param("until") LocalDate until,
+                                     @Param("limit") int limit);
+
     // N+1 문제 해결: JOIN FETCH를 사용한 대안 메서드
     @Query("SELECT ms FROM MedicationSchedule ms JOIN FETCH ms.member WHERE ms.member.memberId = :memberId")
     List<MedicationSchedule> findAllByMemberIdWithMember(@Param("memberId") Long memberId);
@@ -1,6 +1,7 @@
 package com.Hamalog.repository.medication;
 
 import com.Hamalog.domain.medication.MedicationTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,6 +21,10 @@ public interface MedicationTimeRepository extends JpaRepository<MedicationTime,
            "WHERE mt.medicationTimeId = :timeId")
     Optional<MedicationTime> findByIdWithScheduleAndMember(@Param("timeId") Long timeId);
 
+    // 배치 조회: 일괄 복약 기록 생성 시 참조 알림 시간을 IN 쿼리 한 번으로 조회
+    @Query("SELECT mt FROM MedicationTime mt WHERE mt.medicationTimeId IN :timeIds")
+    List<MedicationTime> findAllByIdIn(@Param("timeIds") Collection<Long> timeIds);
+
     // 스케줄별 알림 시간 삭제
     @Modifying
     @Query("DELETE FROM MedicationTime mt WHERE mt.medicationSchedule.medicationScheduleId = :scheduleId")
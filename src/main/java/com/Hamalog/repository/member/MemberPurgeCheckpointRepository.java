@@ -0,0 +1,7 @@
+package com.Hamalog.repository.member;
+
+import com.Hamalog.domain.member.MemberPurgeCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MemberPurgeCheckpointRepository extends JpaRepository<MemberPurgeCheckpoint, String> {
+}
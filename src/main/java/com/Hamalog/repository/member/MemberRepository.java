@@ -4,9 +4,22 @@ import com.Hamalog.domain.member.Member;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByLoginId(String loginId);
     List<Member> findAllByDeletionScheduledTrueAndDeletionDueAtBefore(LocalDateTime threshold);
+
+    // 탈퇴 예약 만료 회원 ID 페이지 조회 (memberId 기준 keyset 페이징)
+    @Query("SELECT m.memberId FROM Member m " +
+           "WHERE m.deletionScheduled = true AND m.deletionDueAt < :threshold " +
+           "AND m.memberId > :afterMemberId ORDER BY m.memberId ASC")
+    List<Long> findPurgeTargetIds(
+            @Param("threshold") LocalDateTime threshold,
+            @Param("afterMemberId") Long afterMemberId,
+            Pageable pageable
+    );
 }
@@ -2,6 +2,7 @@ package com.Hamalog.repository.notification;
 
 import com.Hamalog.domain.notification.FcmDeviceToken;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * FCM 디바이스 토큰 Repository
@@ -54,6 +56,22 @@ public interface FcmDeviceTokenRepository extends JpaRepository<FcmDeviceToken,
     @Query("UPDATE FcmDeviceToken f SET f.isActive = false, f.updatedAt = :now WHERE f.member.memberId = :memberId")
     void deactivateAllByMemberId(@Param("memberId") Long memberId, @Param("now") LocalDateTime now);
 
+    /**
+     * 배치 발송에 성공한 토큰의 마지막 사용 시각 일괄 갱신
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE FcmDeviceToken f SET f.lastUsedAt = :now WHERE f.fcmDeviceTokenId IN :ids")
+    int markUsedByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 배치 발송에서 무효로 확인된 토큰 일괄 비활성화
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE FcmDeviceToken f SET f.isActive = false, f.updatedAt = :now WHERE f.fcmDeviceTokenId IN :ids")
+    int deactivateAllByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
     /**
      * 회원 ID로 모든 토큰 삭제
      */
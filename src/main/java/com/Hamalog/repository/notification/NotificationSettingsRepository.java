@@ -1,8 +1,14 @@
 package com.Hamalog.repository.notification;
 
 import com.Hamalog.domain.notification.NotificationSettings;
+import com.Hamalog.dto.notification.projection.MedicationReminderPreference;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -25,4 +31,29 @@ public interface NotificationSettingsRepository extends JpaRepository<Notificati
      * 회원 ID로 알림 설정 삭제
      */
     void deleteByMember_MemberId(Long memberId);
+
+    /**
+     * 주어진 회원 중 일기 알림을 받을 회원 ID 조회 (푸시와 일기 알림이 모두 켜진 회원)
+     */
+    @Query("SELECT s.member.memberId FROM NotificationSettings s " +
+           "WHERE s.member.memberId IN :memberIds AND s.pushEnabled = true AND s.diaryReminderEnabled = true")
+    List<Long> findDiaryReminderEnabledMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * 일기 알림이 켜진 설정 페이지 (id 순, 예약 인덱스 초기 적재용)
+     */
+    @Query("SELECT s FROM NotificationSettings s " +
+           "WHERE s.notificationSettingsId > :afterId AND s.pushEnabled = true " +
+           "AND s.diaryReminderEnabled = true AND s.diaryReminderTime IS NOT NULL " +
+           "ORDER BY s.notificationSettingsId")
+    List<NotificationSettings> findDiaryReminderPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 주어진 회원의 복약 알림 설정 조회 (설정이 없는 회원은 결과에 없음)
+     */
+    @Query("SELECT new com.Hamalog.dto.notification.projection.MedicationReminderPreference(" +
+           "s.member.memberId, s.pushEnabled, s.medicationReminderEnabled, s.medicationReminderMinutesBefore) " +
+           "FROM NotificationSettings s WHERE s.member.memberId IN :memberIds")
+    List<MedicationReminderPreference> findMedicationReminderPreferences(
+            @Param("memberIds") Collection<Long> memberIds);
 }
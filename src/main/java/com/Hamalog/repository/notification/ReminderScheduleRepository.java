@@ -0,0 +1,46 @@
+package com.Hamalog.repository.notification;
+
+import com.Hamalog.domain.notification.ReminderSchedule;
+import com.Hamalog.domain.notification.ReminderType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 예약 알림 발송 시각 인덱스 Repository
+ */
+@Repository
+public interface ReminderScheduleRepository extends JpaRepository<ReminderSchedule, Long> {
+
+    Optional<ReminderSchedule> findByMemberIdAndReminderType(Long memberId, ReminderType reminderType);
+
+    /**
+     * 발송 시각이 지난 예약을 잠그고 조회 (발송 시각 순)
+     * 다른 노드의 디스패처가 잠근 행은 건너뛰므로 여러 노드가 서로 다른 배치를 나눠 발송합니다.
+     */
+    @Query(value = "SELECT * FROM reminder_schedule WHERE next_fire_at <= :now " +
+                   "ORDER BY next_fire_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<ReminderSchedule> lockDueBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 주어진 회원 중 이미 예약이 있는 회원 ID 조회
+     */
+    @Query("SELECT r.memberId FROM ReminderSchedule r WHERE r.reminderType = :type AND r.memberId IN :memberIds")
+    List<Long> findScheduledMemberIds(@Param("type") ReminderType type,
+                                      @Param("memberIds") Collection<Long> memberIds);
+
+    @Modifying
+    @Query("DELETE FROM ReminderSchedule r WHERE r.memberId = :memberId AND r.reminderType = :type")
+    int deleteByMemberIdAndType(@Param("memberId") Long memberId, @Param("type") ReminderType type);
+
+    @Modifying
+    @Query("DELETE FROM ReminderSchedule r WHERE r.memberId = :memberId")
+    int deleteAllByMemberId(@Param("memberId") Long memberId);
+}
@@ -1,13 +1,17 @@
 package com.Hamalog.repository.sideEffect;
 
 import com.Hamalog.domain.sideEffect.SideEffectRecord;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface SideEffectRecordRepository extends JpaRepository<SideEffectRecord, Long> {
@@ -17,6 +21,19 @@ public interface SideEffectRecordRepository extends JpaRepository<SideEffectReco
     @Query("DELETE FROM SideEffectRecord ser WHERE ser.member.memberId = :memberId")
     void deleteByMemberId(@Param("memberId") Long memberId);
 
+    // 회원 영구 삭제용 청크 삭제: 한 번에 최대 :limit 건만 삭제하여 락 보유 시간 최소화
+    @Modifying
+    @Query(value = "DELETE FROM side_effect_record WHERE member_id = :memberId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByMemberId(@Param("memberId") Long memberId, @Param("limit") int limit);
+
+    // 데이터 내보내기용 스트리밍 조회 (최신순)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM SideEffectRecord r WHERE r.member.memberId = :memberId ORDER BY r.createdAt DESC")
+    Stream<SideEffectRecord> streamByMemberIdOrderByCreatedAtDesc(@Param("memberId") Long memberId);
+
     // 회원별 부작용 기록 목록 조회 (페이징, 최신순)
     @EntityGraph(attributePaths = {"member"})
     Page<SideEffectRecord> findByMember_MemberIdOrderByCreatedAtDesc(Long memberId, Pageable pageable);
@@ -10,20 +10,23 @@ import org.springframework.data.repository.query.Param;
 
 public interface SideEffectSideEffectRecordRepository extends JpaRepository<SideEffectSideEffectRecord, SideEffectSideEffectRecordId> {
 
-    // 부작용 기록 ID로 연관된 모든 부작용 조회
-    @Query("SELECT ssr FROM SideEffectSideEffectRecord ssr " +
-           "JOIN FETCH ssr.sideEffect " +
-           "WHERE ssr.sideEffectRecord.sideEffectRecordId = :recordId")
-    List<SideEffectSideEffectRecord> findBySideEffectRecordIdWithSideEffect(@Param("recordId") Long recordId);
+    // 부작용 기록 ID로 연관된 모든 부작용 조회 (부작용 이름은 SideEffectCatalogService에서 조회)
+    List<SideEffectSideEffectRecord> findBySideEffectRecordId(Long sideEffectRecordId);
 
     // 부작용 기록 ID로 연관 데이터 삭제
     @Modifying
     @Query("DELETE FROM SideEffectSideEffectRecord ssr WHERE ssr.sideEffectRecord.sideEffectRecordId = :recordId")
     void deleteBySideEffectRecordId(@Param("recordId") Long recordId);
 
-    // 여러 부작용 기록 ID로 연관된 모든 부작용 배치 조회 (N+1 문제 해결)
+    // 회원 영구 삭제용 청크 삭제: 회원의 부작용 기록에 연결된 연관 데이터를 최대 :limit 건씩 삭제
+    @Modifying
+    @Query(value = "DELETE FROM side_effect_side_effect_record WHERE side_effect_record_id IN " +
+                   "(SELECT side_effect_record_id FROM side_effect_record WHERE member_id = :memberId) " +
+                   "LIMIT :limit", nativeQuery = true)
+    int deleteChunkByMemberId(@Param("memberId") Long memberId, @Param("limit") int limit);
+
+    // 여러 부작용 기록 ID로 연관된 모든 부작용 배치 조회 (N+1 문제 해결, 부작용 이름은 카탈로그에서 조회)
     @Query("SELECT ssr FROM SideEffectSideEffectRecord ssr " +
-           "JOIN FETCH ssr.sideEffect " +
-           "WHERE ssr.sideEffectRecord.sideEffectRecordId IN :recordIds")
-    List<SideEffectSideEffectRecord> findByRecordIdsWithSideEffect(@Param("recordIds") List<Long> recordIds);
+           "WHERE ssr.sideEffectRecordId IN :recordIds")
+    List<SideEffectSideEffectRecord> findByRecordIds(@Param("recordIds") List<Long> recordIds);
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.Hamalog.repository.sync;
+
+import com.Hamalog.domain.sync.SyncChange;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface SyncChangeRepository extends JpaRepository<SyncChange, Long> {
+
+    // 회원의 커서 이후 변경 페이지 조회 ((member_id, change_id) 인덱스 범위 스캔)
+    @Query("SELECT c FROM SyncChange c " +
+           "WHERE c.memberId = :memberId AND c.changeId > :afterId AND c.changeId <= :upToId " +
+           "ORDER BY c.changeId")
+    List<SyncChange> findPage(@Param("memberId") Long memberId,
+                              @Param("afterId") Long afterId,
+                              @Param("upToId") Long upToId,
+                              Pageable pageable);
+
+    // 기준 시각 이전에 기록된 마지막 변경 ID (changed_at 인덱스 역순 스캔, Pageable로 1건만 조회)
+    @Query("SELECT c.changeId FROM SyncChange c WHERE c.changedAt <= :horizon " +
+           "ORDER BY c.changedAt DESC, c.changeId DESC")
+    List<Long> findLatestIdsAtOrBefore(@Param("horizon") LocalDateTime horizon, Pageable pageable);
+
+    // 보관 중인 가장 오래된 변경 ID (이보다 오래된 커서는 전체 재동기화 필요)
+    @Query("SELECT MIN(c.changeId) FROM SyncChange c")
+    Long findMinChangeId();
+
+    @Query("SELECT MAX(c.changeId) FROM SyncChange c")
+    Long findMaxChangeId();
+
+    // 보관 기간이 지난 변경 청크 삭제 (keepFromId 이상은 남겨 최소 커서 판단 기준을 유지)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM sync_change WHERE changed_at < :cutoff AND change_id < :keepFromId LIMIT :limit",
+           nativeQuery = true)
+    int deleteChunkBefore(@Param("cutoff") LocalDateTime cutoff,
+                          @Param("keepFromId") Long keepFromId,
+                          @Param("limit") int limit);
+}
@@ -0,0 +1,144 @@
+package com.Hamalog.security.encryption;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.stereotype.Component;
+
+/**
+ * 암호화된 텍스트 검색용 블라인드 인덱스 토큰 생성기
+ *
+ * <p>평문을 정규화(NFKC, 소문자, 문자/숫자 외 구분자 제거)한 뒤 단어별 1-gram과 2-gram을 만들고,
+ * 각 n-gram을 회원 ID와 함께 HMAC-SHA256으로 해시한 상위 64비트를 토큰으로 사용합니다.
+ * 토큰만으로는 평문을 복원할 수 없고, 회원마다 같은 단어도 다른 토큰이 되어 회원 간 빈도 비교가 불가능합니다.</p>
+ *
+ * <p>검색어는 같은 방식으로 토큰화하며(2글자 이상 단어는 2-gram만, 1글자 단어는 1-gram),
+ * 검색어 토큰을 모두 가진 문서가 후보가 됩니다. n-gram이 떨어져 있어도 후보가 될 수 있으므로
+ * 최종 일치 여부는 복호화 후 {@link #containsNormalized}로 확인합니다.</p>
+ */
+@Component
+public class BlindIndexer {
+
+    private static final String KEY_PURPOSE = "hamalog:blind-index:v1";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final DataEncryptionUtil dataEncryptionUtil;
+    private volatile SecretKeySpec indexKey;
+
+    public BlindIndexer(DataEncryptionUtil dataEncryptionUtil) {
+        this.dataEncryptionUtil = dataEncryptionUtil;
+    }
+
+    /**
+     * 문서 색인용 토큰 (단어별 1-gram + 2-gram)
+     *
+     * @param memberId 문서 소유 회원 ID
+     * @param texts    색인할 평문 필드들 (null 허용)
+     * @return 중복 제거된 토큰 집합
+     */
+    public Set<Long> indexTokens(Long memberId, String... texts) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String text : texts) {
+            for (String word : words(text)) {
+                int[] codePoints = word.codePoints().toArray();
+                for (int i = 0; i < codePoints.length; i++) {
+                    grams.add(new String(codePoints, i, 1));
+                    if (i + 1 < codePoints.length) {
+                        grams.add(new String(codePoints, i, 2));
+                    }
+                }
+            }
+        }
+        return hash(memberId, grams);
+    }
+
+    /**
+     * 검색어 토큰 (2글자 이상 단어는 2-gram, 1글자 단어는 1-gram)
+     *
+     * @return 검색 가능한 글자가 없으면 빈 집합
+     */
+    public Set<Long> queryTokens(Long memberId, String keyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(keyword)) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                grams.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return hash(memberId, grams);
+    }
+
+    /**
+     * 정규화된 평문에 정규화된 검색어가 연속으로 포함되는지 확인 (후보 문서의 최종 확인용)
+     */
+    public static boolean containsNormalized(String text, String keyword) {
+        String normalizedKeyword = normalize(keyword);
+        return !normalizedKeyword.isEmpty() && normalize(text).contains(normalizedKeyword);
+    }
+
+    /**
+     * 검색용 정규화: NFKC → 소문자 → 문자/숫자 외 연속 구분자를 공백 하나로
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return SEPARATORS.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private static String[] words(String text) {
+        String normalized = normalize(text);
+        return normalized.isEmpty() ? new String[0] : normalized.split(" ");
+    }
+
+    private Set<Long> hash(Long memberId, Set<String> grams) {
+        if (grams.isEmpty()) {
+            return Set.of();
+        }
+
+        Mac mac = newMac();
+        byte[] memberPrefix = ByteBuffer.allocate(Long.BYTES).putLong(memberId).array();
+        Set<Long> tokens = new LinkedHashSet<>();
+        for (String gram : grams) {
+            mac.update(memberPrefix);
+            byte[] digest = mac.doFinal(gram.getBytes(StandardCharsets.UTF_8));
+            tokens.add(ByteBuffer.wrap(digest, 0, Long.BYTES).getLong());
+        }
+        return tokens;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(indexKey());
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Blind index HMAC initialization failed", e);
+        }
+    }
+
+    /**
+     * 인덱스 키는 첫 사용 시 파생 (암호화 키 미설정 상태에서도 애플리케이션 기동은 가능하도록)
+     */
+    private SecretKeySpec indexKey() {
+        SecretKeySpec key = indexKey;
+        if (key == null) {
+            key = new SecretKeySpec(dataEncryptionUtil.deriveKey(KEY_PURPOSE), HMAC_ALGORITHM);
+            indexKey = key;
+        }
+        return key;
+    }
+}
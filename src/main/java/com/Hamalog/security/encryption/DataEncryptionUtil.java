@@ -1,8 +1,11 @@
 package com.Hamalog.security.encryption;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
 import java.util.Base64;
 import javax.crypto.Cipher;
+import javax.crypto.Mac;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import org.slf4j.Logger;
@@ -11,6 +14,17 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
+/**
+ * 민감 컬럼 AES-256-GCM 암복호화
+ *
+ * <p>저장 형식은 Base64(IV 12바이트 ‖ 암호문 ‖ 태그 16바이트)이며, 목록 조회 시 행마다 여러 필드를 복호화하므로
+ * 호출당 비용을 줄이도록 구성합니다.</p>
+ * <ul>
+ *   <li>Cipher는 스레드별로 캐시해 재사용하고, 매 호출마다 새 IV로 init만 다시 합니다.</li>
+ *   <li>IV는 공유 SecureRandom 대신 {@link GcmNonceGenerator}(prefix ‖ 카운터)로 생성해 락 경합을 없앱니다.</li>
+ *   <li>IV·암호문을 별도 배열로 나누어 복사하지 않고, 하나의 버퍼 안에서 offset으로 처리합니다.</li>
+ * </ul>
+ */
 @Component
 public class DataEncryptionUtil {
 
@@ -19,11 +33,16 @@ public class DataEncryptionUtil {
     private static final String TRANSFORMATION = "AES/GCM/NoPadding";
     private static final int GCM_IV_LENGTH = 12;
     private static final int GCM_TAG_LENGTH = 16;
+    private static final String KDF_ALGORITHM = "HmacSHA256";
+    /** 이보다 큰 입력은 스레드별 버퍼에 보관하지 않음 (대용량 값 한 번으로 스레드 메모리가 계속 커지지 않도록) */
+    private static final int MAX_CACHED_BUFFER_SIZE = 16 * 1024;
 
     private final SecretKeySpec secretKey;
     private final Environment environment;
     private final boolean encryptionDisabled;
     private final SecureRandom secureRandom;
+    private final GcmNonceGenerator nonceGenerator;
+    private final ThreadLocal<CipherState> cipherState = ThreadLocal.withInitial(CipherState::new);
 
     public DataEncryptionUtil(
             @Value("${hamalog.encryption.key:${HAMALOG_ENCRYPTION_KEY:}}") String fallbackEncryptionKey,
@@ -34,6 +53,7 @@ public class DataEncryptionUtil {
         KeyInitializationResult result = initializeSecretKey(fallbackEncryptionKey, this.secureRandom);
         this.secretKey = result.secretKey;
         this.encryptionDisabled = result.encryptionDisabled;
+        this.nonceGenerator = new GcmNonceGenerator(this.secureRandom);
     }
     
     private static class KeyInitializationResult {
@@ -135,21 +155,16 @@ public class DataEncryptionUtil {
         }
 
         try {
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            byte[] plainBytes = plainText.getBytes(StandardCharsets.UTF_8);
 
-            // Generate random IV
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            secureRandom.nextBytes(iv);
+            // IV ‖ 암호문 ‖ 태그를 하나의 배열에 바로 기록
+            byte[] encryptedWithIv = new byte[GCM_IV_LENGTH + plainBytes.length + GCM_TAG_LENGTH];
+            nonceGenerator.next(encryptedWithIv, 0);
 
-            GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, gcmParameterSpec);
-
-            byte[] encryptedData = cipher.doFinal(plainText.getBytes());
-
-            // Combine IV and encrypted data
-            byte[] encryptedWithIv = new byte[GCM_IV_LENGTH + encryptedData.length];
-            System.arraycopy(iv, 0, encryptedWithIv, 0, GCM_IV_LENGTH);
-            System.arraycopy(encryptedData, 0, encryptedWithIv, GCM_IV_LENGTH, encryptedData.length);
+            Cipher cipher = cipherState.get().cipher;
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey,
+                    new GCMParameterSpec(GCM_TAG_LENGTH * 8, encryptedWithIv, 0, GCM_IV_LENGTH));
+            cipher.doFinal(plainBytes, 0, plainBytes.length, encryptedWithIv, GCM_IV_LENGTH);
 
             return Base64.getEncoder().encodeToString(encryptedWithIv);
         } catch (Exception e) {
@@ -174,26 +189,89 @@ public class DataEncryptionUtil {
         }
 
         try {
-            byte[] encryptedWithIv = Base64.getDecoder().decode(encryptedText);
+            CipherState state = cipherState.get();
+            byte[] encoded = encryptedText.getBytes(StandardCharsets.ISO_8859_1);
+            byte[] encryptedWithIv = state.input(encoded.length / 4 * 3 + 3);
+            int encryptedLength = Base64.getDecoder().decode(encoded, encryptedWithIv);
 
-            if (encryptedWithIv.length < GCM_IV_LENGTH) {
+            if (encryptedLength < GCM_IV_LENGTH + GCM_TAG_LENGTH) {
                 throw new IllegalArgumentException("Invalid encrypted data length");
             }
 
-            // Extract IV and encrypted data
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byte[] encryptedData = new byte[encryptedWithIv.length - GCM_IV_LENGTH];
-            System.arraycopy(encryptedWithIv, 0, iv, 0, GCM_IV_LENGTH);
-            System.arraycopy(encryptedWithIv, GCM_IV_LENGTH, encryptedData, 0, encryptedData.length);
+            // IV와 암호문은 복사하지 않고 offset으로 지정
+            Cipher cipher = state.cipher;
+            cipher.init(Cipher.DECRYPT_MODE, secretKey,
+                    new GCMParameterSpec(GCM_TAG_LENGTH * 8, encryptedWithIv, 0, GCM_IV_LENGTH));
 
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, gcmParameterSpec);
-
-            byte[] plainText = cipher.doFinal(encryptedData);
-            return new String(plainText);
+            byte[] plainBytes = state.output(encryptedLength - GCM_IV_LENGTH - GCM_TAG_LENGTH);
+            int plainLength = cipher.doFinal(
+                    encryptedWithIv, GCM_IV_LENGTH, encryptedLength - GCM_IV_LENGTH, plainBytes, 0);
+            return new String(plainBytes, 0, plainLength, StandardCharsets.UTF_8);
         } catch (Exception e) {
             throw new RuntimeException("Decryption failed", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 마스터 암호화 키에서 용도별 하위 키 파생 (HMAC-SHA256(masterKey, purpose))
+     * 블라인드 인덱스 등 다른 용도에는 암호화 키를 그대로 쓰지 않고 파생 키를 사용합니다.
+     *
+     * @param purpose 키 용도 식별자 (용도별로 서로 다른 키가 파생됨)
+     * @return 256비트 파생 키
+     */
+    public byte[] deriveKey(String purpose) {
+        if (encryptionDisabled) {
+            throw new IllegalStateException(
+                "❌ 데이터 암호화가 비활성화되어 파생 키를 생성할 수 없습니다. HAMALOG_ENCRYPTION_KEY 환경변수를 설정하세요.");
+        }
+
+        try {
+            Mac mac = Mac.getInstance(KDF_ALGORITHM);
+            mac.init(new SecretKeySpec(secretKey.getEncoded(), KDF_ALGORITHM));
+            return mac.doFinal(purpose.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Key derivation failed", e);
+        }
+    }
+
+    /**
+     * 스레드별 Cipher와 복호화용 작업 버퍼
+     * 가상 스레드에서는 작업마다 새로 만들어지므로 기존(호출마다 Cipher 생성)보다 느려지지 않습니다.
+     */
+    private static final class CipherState {
+
+        private final Cipher cipher;
+        private byte[] input = new byte[0];
+        private byte[] output = new byte[0];
+
+        private CipherState() {
+            try {
+                this.cipher = Cipher.getInstance(TRANSFORMATION);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cipher initialization failed", e);
+            }
+        }
+
+        private byte[] input(int size) {
+            if (input.length >= size) {
+                return input;
+            }
+            byte[] buffer = new byte[size];
+            if (size <= MAX_CACHED_BUFFER_SIZE) {
+                input = buffer;
+            }
+            return buffer;
+        }
+
+        private byte[] output(int size) {
+            if (output.length >= size) {
+                return output;
+            }
+            byte[] buffer = new byte[size];
+            if (size <= MAX_CACHED_BUFFER_SIZE) {
+                output = buffer;
+            }
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.Hamalog.security.encryption;
+
+import java.util.Objects;
+import java.util.function.Function;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 접근 시점에 복호화되는 암호화 컬럼 값
+ *
+ * <p>DB에서 읽은 값은 암호문만 보관하다가 {@link #get()}이 처음 호출될 때 복호화하고 결과를 기억합니다.
+ * 통계·캘린더처럼 ID·날짜·기분만 쓰는 조회는 AES 연산 없이 엔티티를 로드할 수 있습니다.
+ * 애플리케이션에서 만든 값({@link #of})은 평문만 가지며, 저장 시점에 한 번 암호화됩니다.</p>
+ *
+ * <p>불변 객체이므로 Hibernate 변경 감지는 참조 비교로 끝나고, 로드한 값을 그대로 다시 저장하면 재암호화 없이 기존 암호문을 씁니다.</p>
+ *
+ * @param <T> 복호화된 값의 타입
+ */
+@Immutable
+public final class EncryptedValue<T> {
+
+    private final String ciphertext;
+    private final Function<String, T> decryptor;
+    private volatile T value;
+
+    private EncryptedValue(String ciphertext, Function<String, T> decryptor, T value) {
+        this.ciphertext = ciphertext;
+        this.decryptor = decryptor;
+        this.value = value;
+    }
+
+    /**
+     * 평문 값으로 생성 (null이면 null 반환)
+     */
+    public static <T> EncryptedValue<T> of(T value) {
+        return value == null ? null : new EncryptedValue<>(null, null, value);
+    }
+
+    /**
+     * DB 암호문으로 생성 (복호화는 첫 접근 시)
+     */
+    static <T> EncryptedValue<T> ofCiphertext(String ciphertext, Function<String, T> decryptor) {
+        return new EncryptedValue<>(ciphertext, decryptor, null);
+    }
+
+    /**
+     * null-safe 값 조회 (엔티티 getter용)
+     */
+    public static <T> T valueOf(EncryptedValue<T> encryptedValue) {
+        return encryptedValue == null ? null : encryptedValue.get();
+    }
+
+    /**
+     * 복호화된 값 (첫 호출 시 복호화, 이후 기억된 값 반환)
+     */
+    public T get() {
+        T result = value;
+        if (result == null) {
+            result = decryptor.apply(ciphertext);
+            value = result;
+        }
+        return result;
+    }
+
+    /**
+     * 이미 복호화되었는지 (또는 평문으로 생성되었는지) 여부
+     */
+    public boolean isDecrypted() {
+        return value != null;
+    }
+
+    /**
+     * DB에서 읽은 암호문 (평문으로 생성된 값이면 null)
+     */
+    String ciphertext() {
+        return ciphertext;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EncryptedValue<?> other)) {
+            return false;
+        }
+        if (ciphertext != null && ciphertext.equals(other.ciphertext)) {
+            return true;
+        }
+        return Objects.equals(get(), other.get());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(get());
+    }
+
+    @Override
+    public String toString() {
+        return "EncryptedValue[****]";
+    }
+}
@@ -0,0 +1,48 @@
+package com.Hamalog.security.encryption;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AES-GCM용 96비트 nonce 생성기 (무작위 시작점 + 카운터)
+ *
+ * <p>nonce = 인스턴스 prefix(32비트) ‖ 호출 카운터(64비트).
+ * prefix와 카운터 시작값은 생성 시 SecureRandom으로 한 번만 뽑고, 이후에는 원자적 증가만 하므로
+ * 요청마다 공유 SecureRandom 락을 잡지 않습니다. prefix는 무작위 값이며 노드별로 고유하게 배정한 고정 필드가 아니므로
+ * NIST SP 800-38D 8.2.1의 결정적 구성에 해당하지 않습니다.</p>
+ *
+ * <p>한 인스턴스 안에서는 카운터가 2^64번 돌기 전까지 nonce가 반복되지 않습니다. 서로 다른 인스턴스(재시작, 다중 노드)는
+ * prefix가 같고(확률 2^-32) 카운터 구간이 겹칠 때만 충돌하므로, 같은 키로 k개 인스턴스가 각각 최대 n개를 만들 때
+ * 충돌 확률은 대략 k² · n / 2^96 이하입니다. 이는 같은 총 개수(N = k · n)의 완전 무작위 96비트 IV가 갖는
+ * N² / 2^97보다 크지 않을 뿐 더 강한 보장은 아니므로, 키 하나로 암호화하는 총 횟수는 무작위 IV와 마찬가지로
+ * 2^32회 아래로 유지해야 합니다(키 교체로 관리).</p>
+ */
+final class GcmNonceGenerator {
+
+    static final int NONCE_LENGTH = 12;
+
+    private final int prefix;
+    private final AtomicLong counter;
+
+    GcmNonceGenerator(SecureRandom secureRandom) {
+        this.prefix = secureRandom.nextInt();
+        this.counter = new AtomicLong(secureRandom.nextLong());
+    }
+
+    /**
+     * dest[offset, offset + 12)에 다음 nonce를 기록
+     */
+    void next(byte[] dest, int offset) {
+        long value = counter.getAndIncrement();
+        writeInt(dest, offset, prefix);
+        writeInt(dest, offset + 4, (int) (value >>> 32));
+        writeInt(dest, offset + 8, (int) value);
+    }
+
+    private static void writeInt(byte[] dest, int offset, int value) {
+        dest[offset] = (byte) (value >>> 24);
+        dest[offset + 1] = (byte) (value >>> 16);
+        dest[offset + 2] = (byte) (value >>> 8);
+        dest[offset + 3] = (byte) value;
+    }
+}
@@ -0,0 +1,46 @@
+package com.Hamalog.security.encryption;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import org.hibernate.annotations.Immutable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 날짜 암호화 컬럼을 {@link EncryptedValue}로 매핑 (조회 시 복호화하지 않고 암호문을 보관)
+ */
+@Component
+@Converter
+@Immutable
+public class LazyEncryptedLocalDateConverter implements AttributeConverter<EncryptedValue<LocalDate>, String> {
+
+    private final DataEncryptionUtil encryptionUtil;
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    @Autowired
+    public LazyEncryptedLocalDateConverter(DataEncryptionUtil encryptionUtil) {
+        this.encryptionUtil = encryptionUtil;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(EncryptedValue<LocalDate> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        if (attribute.ciphertext() != null) {
+            return attribute.ciphertext();
+        }
+        return encryptionUtil.encrypt(attribute.get().format(FORMATTER));
+    }
+
+    @Override
+    public EncryptedValue<LocalDate> convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        return EncryptedValue.ofCiphertext(dbData,
+                ciphertext -> LocalDate.parse(encryptionUtil.decrypt(ciphertext), FORMATTER));
+    }
+}
@@ -0,0 +1,42 @@
+package com.Hamalog.security.encryption;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 문자열 암호화 컬럼을 {@link EncryptedValue}로 매핑 (조회 시 복호화하지 않고 암호문을 보관)
+ */
+@Component
+@Converter
+@Immutable
+public class LazyEncryptedStringConverter implements AttributeConverter<EncryptedValue<String>, String> {
+
+    private final DataEncryptionUtil encryptionUtil;
+
+    @Autowired
+    public LazyEncryptedStringConverter(DataEncryptionUtil encryptionUtil) {
+        this.encryptionUtil = encryptionUtil;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(EncryptedValue<String> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        if (attribute.ciphertext() != null) {
+            return attribute.ciphertext();
+        }
+        return encryptionUtil.encrypt(attribute.get());
+    }
+
+    @Override
+    public EncryptedValue<String> convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        return EncryptedValue.ofCiphertext(dbData, encryptionUtil::decrypt);
+    }
+}
@@ -0,0 +1,95 @@
+package com.Hamalog.service.auth;
+
+import com.Hamalog.domain.member.Member;
+import com.Hamalog.repository.diary.MoodDiaryRepository;
+import com.Hamalog.repository.diary.MoodDiarySearchTokenRepository;
+import com.Hamalog.repository.medication.MedicationRecordRepository;
+import com.Hamalog.repository.medication.MedicationScheduleRepository;
+import com.Hamalog.repository.member.MemberRepository;
+import com.Hamalog.repository.sideEffect.SideEffectRecordRepository;
+import com.Hamalog.repository.sideEffect.SideEffectSideEffectRecordRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 탈퇴 회원 데이터 삭제 단위 작업
+ * 각 메서드는 독립된 짧은 트랜잭션으로 실행되어 락 보유 시간을 최소화합니다.
+ * 청크 삭제는 멱등하므로 중간에 실패해도 다음 실행에서 남은 데이터부터 이어서 삭제됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberDataPurger {
+
+    private final MemberRepository memberRepository;
+    private final MedicationScheduleRepository medicationScheduleRepository;
+    private final MedicationRecordRepository medicationRecordRepository;
+    private final SideEffectRecordRepository sideEffectRecordRepository;
+    private final SideEffectSideEffectRecordRepository sideEffectSideEffectRecordRepository;
+    private final MoodDiaryRepository moodDiaryRepository;
+    private final MoodDiarySearchTokenRepository moodDiarySearchTokenRepository;
+
+    /**
+     * 회원이 여전히 영구 삭제 대상인지 확인 (탈퇴 취소 여부 재확인)
+     */
+    @Transactional(readOnly = true)
+    public boolean isStillDue(Long memberId, LocalDateTime threshold) {
+        return memberRepository.findById(memberId)
+                .map(member -> isDue(member, threshold))
+                .orElse(false);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = {Exception.class})
+    public int deleteMedicationRecordChunk(Long memberId, int limit) {
+        return medicationRecordRepository.deleteChunkByMemberId(memberId, limit);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = {Exception.class})
+    public int deleteSideEffectLinkChunk(Long memberId, int limit) {
+        return sideEffectSideEffectRecordRepository.deleteChunkByMemberId(memberId, limit);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = {Exception.class})
+    public int deleteSideEffectRecordChunk(Long memberId, int limit) {
+        return sideEffectRecordRepository.deleteChunkByMemberId(memberId, limit);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = {Exception.class})
+    public int deleteMoodDiarySearchTokenChunk(Long memberId, int limit) {
+        return moodDiarySearchTokenRepository.deleteChunkByMemberId(memberId, limit);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = {Exception.class})
+    public int deleteMoodDiaryChunk(Long memberId, int limit) {
+        return moodDiaryRepository.deleteChunkByMemberId(memberId, limit);
+    }
+
+    /**
+     * 남은 복약 스케줄과 회원 계정 삭제 (회원 단위 최종 트랜잭션)
+     * 삭제 직전 탈퇴 예약 상태를 다시 확인하여, 처리 도중 탈퇴를 취소한 회원은 건너뜁니다.
+     *
+     * @return 회원이 삭제되었으면 true
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = {Exception.class})
+    public boolean deleteMember(Long memberId, LocalDateTime threshold) {
+        Member member = memberRepository.findById(memberId).orElse(null);
+        if (member == null || !isDue(member, threshold)) {
+            log.info("[DELETION] Skip purge - memberId: {} is no longer due", memberId);
+            return false;
+        }
+
+        medicationScheduleRepository.deleteByMemberId(memberId);
+        memberRepository.delete(member);
+        return true;
+    }
+
+    private boolean isDue(Member member, LocalDateTime threshold) {
+        return member.isDeletionScheduled()
+                && member.getDeletionDueAt() != null
+                && member.getDeletionDueAt().isBefore(threshold);
+    }
+}
@@ -1,72 +1,162 @@
 package com.Hamalog.service.auth;
 
-import com.Hamalog.domain.member.Member;
+import com.Hamalog.config.MemberPurgeProperties;
+import com.Hamalog.domain.member.MemberPurgeCheckpoint;
 import com.Hamalog.logging.SensitiveDataMasker;
-import com.Hamalog.repository.diary.MoodDiaryRepository;
-import com.Hamalog.repository.medication.MedicationRecordRepository;
-import com.Hamalog.repository.medication.MedicationScheduleRepository;
+import com.Hamalog.repository.member.MemberPurgeCheckpointRepository;
 import com.Hamalog.repository.member.MemberRepository;
-import com.Hamalog.repository.sideEffect.SideEffectRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 탈퇴 예약된 회원의 실제 삭제를 수행하는 스케줄러 서비스.
  * 30일 경과 시 데이터 삭제 및 계정 제거.
+ *
+ * <p>대상 회원을 memberId 순으로 페이지 단위 조회하고, 회원마다 독립된 트랜잭션으로
+ * 제한된 병렬도 안에서 삭제합니다. 대용량 하위 테이블은 DELETE ... LIMIT 청크 반복으로 지우며,
+ * 페이지가 끝날 때마다 체크포인트를 저장하여 중단 시 다음 실행에서 이어서 처리합니다.</p>
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class MemberDeletionSchedulerService {
 
+    static final String JOB_NAME = "member-purge";
+
     private final MemberRepository memberRepository;
-    private final MedicationScheduleRepository medicationScheduleRepository;
-    private final MedicationRecordRepository medicationRecordRepository;
-    private final SideEffectRecordRepository sideEffectRecordRepository;
-    private final MoodDiaryRepository moodDiaryRepository;
+    private final MemberPurgeCheckpointRepository checkpointRepository;
+    private final MemberDataPurger memberDataPurger;
+    private final MemberPurgeProperties purgeProperties;
+    private final Executor purgeExecutor;
+
+    private final Counter purgedCounter;
+    private final Counter failedCounter;
+    private final Counter deletedRowsCounter;
+    private final Timer memberPurgeTimer;
+    private final AtomicLong lastCheckpointMemberId = new AtomicLong();
+
+    public MemberDeletionSchedulerService(
+            MemberRepository memberRepository,
+            MemberPurgeCheckpointRepository checkpointRepository,
+            MemberDataPurger memberDataPurger,
+            MemberPurgeProperties purgeProperties,
+            @Qualifier("memberPurgeExecutor") Executor purgeExecutor,
+            MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.memberDataPurger = memberDataPurger;
+        this.purgeProperties = purgeProperties;
+        this.purgeExecutor = purgeExecutor;
+
+        this.purgedCounter = Counter.builder("hamalog.member.purge.purged")
+                .description("Total members permanently deleted")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("hamalog.member.purge.failed")
+                .description("Total member purge failures")
+                .register(meterRegistry);
+        this.deletedRowsCounter = Counter.builder("hamalog.member.purge.rows_deleted")
+                .description("Total child rows deleted by chunked purge")
+                .register(meterRegistry);
+        this.memberPurgeTimer = Timer.builder("hamalog.member.purge.member_duration")
+                .description("Time taken to purge a single member")
+                .register(meterRegistry);
+        Gauge.builder("hamalog.member.purge.checkpoint", lastCheckpointMemberId, AtomicLong::get)
+                .description("Last member ID committed to the purge checkpoint")
+                .register(meterRegistry);
+    }
 
     @Scheduled(cron = "0 0 3 * * *") // 매일 03:00 실행
-    @Transactional(rollbackFor = {Exception.class})
     public void purgeScheduledMembers() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Member> targets = memberRepository.findAllByDeletionScheduledTrueAndDeletionDueAtBefore(now);
+        MemberPurgeCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> new MemberPurgeCheckpoint(JOB_NAME));
 
-        if (targets.isEmpty()) {
-            return;
+        if (checkpoint.isInterrupted()) {
+            log.info("[DELETION] Resuming interrupted purge from memberId > {}", checkpoint.getLastMemberId());
+        } else {
+            checkpoint.start(LocalDateTime.now());
         }
+        checkpoint = checkpointRepository.save(checkpoint);
 
-        for (Member member : targets) {
-            Long memberId = member.getMemberId();
-            try {
-                deleteMemberRelatedData(memberId);
-                memberRepository.delete(member);
-                log.info("[DELETION] Member purged - loginId: {}, memberId: {}",
-                    SensitiveDataMasker.maskEmail(member.getLoginId()),
-                    SensitiveDataMasker.maskUserId(memberId));
-            } catch (Exception e) {
-                log.error("[DELETION_ERROR] Failed to purge memberId={} : {}", memberId, e.getMessage(), e);
-            }
+        LocalDateTime threshold = checkpoint.getRunStartedAt();
+        Long afterMemberId = checkpoint.getLastMemberId();
+        lastCheckpointMemberId.set(afterMemberId);
+
+        List<Long> targetIds;
+        while (!(targetIds = memberRepository.findPurgeTargetIds(
+                threshold, afterMemberId, PageRequest.of(0, purgeProperties.pageSize()))).isEmpty()) {
+
+            List<CompletableFuture<Boolean>> results = targetIds.stream()
+                    .map(memberId -> CompletableFuture.supplyAsync(() -> purgeMember(memberId, threshold), purgeExecutor))
+                    .toList();
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+
+            int purged = (int) results.stream().filter(CompletableFuture::join).count();
+            afterMemberId = targetIds.get(targetIds.size() - 1);
+
+            checkpoint.advance(afterMemberId, purged, targetIds.size() - purged);
+            checkpoint = checkpointRepository.save(checkpoint);
+            lastCheckpointMemberId.set(afterMemberId);
+
+            log.info("[DELETION] Purge page done - purged: {}, failed/skipped: {}, checkpoint: {}",
+                    purged, targetIds.size() - purged, afterMemberId);
         }
+
+        checkpoint.complete();
+        checkpointRepository.save(checkpoint);
+        log.info("[DELETION] Purge run completed - purged: {}, failed/skipped: {}",
+                checkpoint.getPurgedCount(), checkpoint.getFailedCount());
     }
 
-    private void deleteMemberRelatedData(Long memberId) {
-        sideEffectRecordRepository.deleteByMemberId(memberId);
-        moodDiaryRepository.deleteByMember_MemberId(memberId);
+    /**
+     * 회원 1명 삭제 - 하위 테이블 청크 삭제 후 최종 트랜잭션에서 스케줄/계정 삭제
+     *
+     * @return 회원이 삭제되었으면 true (실패하거나 탈퇴가 취소된 경우 false)
+     */
+    private boolean purgeMember(Long memberId, LocalDateTime threshold) {
+        return memberPurgeTimer.record(() -> {
+            try {
+                if (!memberDataPurger.isStillDue(memberId, threshold)) {
+                    return false;
+                }
 
-        var medicationScheduleIds = medicationScheduleRepository.findAllByMember_MemberId(memberId)
-            .stream()
-            .map(com.Hamalog.domain.medication.MedicationSchedule::getMedicationScheduleId)
-            .toList();
+                deleteInChunks(memberId, memberDataPurger::deleteMedicationRecordChunk);
+                deleteInChunks(memberId, memberDataPurger::deleteSideEffectLinkChunk);
+                deleteInChunks(memberId, memberDataPurger::deleteSideEffectRecordChunk);
+                deleteInChunks(memberId, memberDataPurger::deleteMoodDiarySearchTokenChunk);
+                deleteInChunks(memberId, memberDataPurger::deleteMoodDiaryChunk);
 
-        if (!medicationScheduleIds.isEmpty()) {
-            medicationRecordRepository.deleteByScheduleIds(medicationScheduleIds);
-        }
+                boolean deleted = memberDataPurger.deleteMember(memberId, threshold);
+                if (deleted) {
+                    purgedCounter.increment();
+                    log.info("[DELETION] Member purged - memberId: {}", SensitiveDataMasker.maskUserId(memberId));
+                }
+                return deleted;
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("[DELETION_ERROR] Failed to purge memberId={} : {}", memberId, e.getMessage(), e);
+                return false;
+            }
+        });
+    }
 
-        medicationScheduleRepository.deleteByMemberId(memberId);
+    private void deleteInChunks(Long memberId, BiFunction<Long, Integer, Integer> chunkDeleter) {
+        int chunkSize = purgeProperties.chunkSize();
+        int deleted;
+        do {
+            deleted = chunkDeleter.apply(memberId, chunkSize);
+            deletedRowsCounter.increment(deleted);
+        } while (deleted >= chunkSize);
     }
 }
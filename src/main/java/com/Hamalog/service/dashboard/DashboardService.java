@@ -0,0 +1,164 @@
+package com.Hamalog.service.dashboard;
+
+import com.Hamalog.config.DashboardProperties;
+import com.Hamalog.domain.medication.MedicationSchedule;
+import com.Hamalog.dto.dashboard.DashboardResponse;
+import com.Hamalog.dto.dashboard.DashboardResponse.FailureReason;
+import com.Hamalog.dto.dashboard.DashboardResponse.SectionFailure;
+import com.Hamalog.dto.dashboard.DashboardSection;
+import com.Hamalog.dto.diary.response.MoodDiaryCalendarResponse;
+import com.Hamalog.dto.medication.response.MedicationScheduleResponse;
+import com.Hamalog.dto.medication.response.MedicationSummaryResponse;
+import com.Hamalog.dto.notification.response.NotificationSettingsResponse;
+import com.Hamalog.dto.sideEffect.response.RecentSideEffectResponse;
+import com.Hamalog.service.diary.MoodDiaryStatsService;
+import com.Hamalog.service.medication.MedicationScheduleService;
+import com.Hamalog.service.medication.MedicationStatsService;
+import com.Hamalog.service.notification.NotificationSettingsService;
+import com.Hamalog.service.sideEffect.SideEffectService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 홈 대시보드 서비스
+ *
+ * <p>앱 실행 시 개별 호출하던 복약 요약, 오늘 복약 스케줄, 마음 일기 캘린더, 최근 부작용, 알림 설정을
+ * 가상 스레드로 동시에 조회해 한 응답으로 합칩니다. 인증은 요청에서 한 번만 확인하고, 각 섹션은 자기 읽기 트랜잭션에서 실행됩니다.</p>
+ *
+ * <p>섹션마다 요청 시작 시점부터의 제한 시간이 있으며, 시간을 넘기거나 실패한 섹션은 취소하고 비워 둔 채 나머지로 응답합니다.
+ * 클라이언트는 failedSections에 있는 섹션만 개별 API로 다시 조회합니다.</p>
+ */
+@Service
+@Slf4j
+public class DashboardService {
+
+    private final MedicationStatsService medicationStatsService;
+    private final MedicationScheduleService medicationScheduleService;
+    private final MoodDiaryStatsService moodDiaryStatsService;
+    private final SideEffectService sideEffectService;
+    private final NotificationSettingsService notificationSettingsService;
+    private final AsyncTaskExecutor dashboardExecutor;
+    private final DashboardProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer requestTimer;
+
+    public DashboardService(MedicationStatsService medicationStatsService,
+                            MedicationScheduleService medicationScheduleService,
+                            MoodDiaryStatsService moodDiaryStatsService,
+                            SideEffectService sideEffectService,
+                            NotificationSettingsService notificationSettingsService,
+                            @Qualifier("dashboardExecutor") AsyncTaskExecutor dashboardExecutor,
+                            DashboardProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.medicationStatsService = medicationStatsService;
+        this.medicationScheduleService = medicationScheduleService;
+        this.moodDiaryStatsService = moodDiaryStatsService;
+        this.sideEffectService = sideEffectService;
+        this.notificationSettingsService = notificationSettingsService;
+        this.dashboardExecutor = dashboardExecutor;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.requestTimer = Timer.builder("hamalog.dashboard.request")
+                .description("Dashboard fan-out latency")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대시보드 조회
+     *
+     * @param calendarMonth 마음 일기 캘린더 월
+     */
+    public DashboardResponse getDashboard(Long memberId, YearMonth calendarMonth) {
+        long startNanos = System.nanoTime();
+
+        Future<MedicationSummaryResponse> summary =
+                submit(() -> medicationStatsService.getSummary(memberId));
+        Future<List<MedicationScheduleResponse>> todaySchedules =
+                submit(() -> findTodaySchedules(memberId));
+        Future<MoodDiaryCalendarResponse> moodCalendar =
+                submit(() -> moodDiaryStatsService.getCalendar(
+                        memberId, calendarMonth.getYear(), calendarMonth.getMonthValue()));
+        Future<RecentSideEffectResponse> recentSideEffects =
+                submit(() -> sideEffectService.getRecentSideEffects(memberId));
+        Future<NotificationSettingsResponse> notificationSettings =
+                submit(() -> notificationSettingsService.getSettings(memberId));
+
+        List<SectionFailure> failures = new ArrayList<>();
+        try {
+            return new DashboardResponse(
+                    await(memberId, DashboardSection.MEDICATION_SUMMARY, summary, startNanos, failures),
+                    await(memberId, DashboardSection.TODAY_SCHEDULES, todaySchedules, startNanos, failures),
+                    await(memberId, DashboardSection.MOOD_CALENDAR, moodCalendar, startNanos, failures),
+                    await(memberId, DashboardSection.RECENT_SIDE_EFFECTS, recentSideEffects, startNanos, failures),
+                    await(memberId, DashboardSection.NOTIFICATION_SETTINGS, notificationSettings, startNanos, failures),
+                    failures
+            );
+        } finally {
+            // 요청 스레드가 인터럽트되어 남은 섹션이 있으면 정리 (완료된 섹션에는 영향 없음)
+            List.of(summary, todaySchedules, moodCalendar, recentSideEffects, notificationSettings)
+                    .forEach(future -> future.cancel(true));
+            requestTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private List<MedicationScheduleResponse> findTodaySchedules(Long memberId) {
+        return medicationScheduleService.getMedicationSchedules(memberId).stream()
+                .filter(MedicationSchedule::isOngoing)
+                .map(MedicationScheduleResponse::from)
+                .toList();
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return dashboardExecutor.submit(task);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> T await(Long memberId, DashboardSection section, Future<T> future,
+                        long startNanos, List<SectionFailure> failures) {
+        long deadlineNanos = startNanos + properties.timeoutFor(section).toNanos();
+        FailureReason reason;
+        try {
+            T result = future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            countSection(section, "success");
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            reason = FailureReason.TIMEOUT;
+            log.warn("[DASHBOARD] Section timed out - memberId: {}, section: {}", memberId, section);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            reason = cause instanceof TaskRejectedException ? FailureReason.REJECTED : FailureReason.ERROR;
+            log.warn("[DASHBOARD] Section failed - memberId: {}, section: {}, reason: {}",
+                    memberId, section, reason, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reason = FailureReason.ERROR;
+        }
+        failures.add(new SectionFailure(section, reason));
+        countSection(section, reason.name().toLowerCase());
+        return null;
+    }
+
+    private void countSection(DashboardSection section, String outcome) {
+        meterRegistry.counter("hamalog.dashboard.sections",
+                "section", section.name().toLowerCase(),
+                "outcome", outcome).increment();
+    }
+}
@@ -1,9 +1,17 @@
 package com.Hamalog.service.diary;
 
+import com.Hamalog.config.EventStoreProperties;
+import com.Hamalog.domain.diary.DiaryType;
+import com.Hamalog.domain.diary.MoodType;
 import com.Hamalog.domain.events.diary.MoodDiaryCreated;
 import com.Hamalog.logging.StructuredLogger;
 import com.Hamalog.logging.events.BusinessEvent;
+import com.Hamalog.service.events.DomainEventPayloadCodec;
+import com.Hamalog.service.events.DomainEventRecord;
+import com.Hamalog.service.events.DomainEventStreamHandler;
 import com.Hamalog.service.notification.FcmPushService;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -17,15 +25,18 @@ import org.springframework.transaction.event.TransactionalEventListener;
 /**
  * 마음 일기 이벤트 핸들러
  * 캐시 무효화(동기)와 알림/분석(비동기)를 분리하여 처리
+ * 도메인 이벤트 스트림 전달이 켜져 있으면 알림/분석은 요청 노드가 아닌 스트림 소비자 노드에서 처리
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class MoodDiaryEventHandler {
+public class MoodDiaryEventHandler implements DomainEventStreamHandler {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final StructuredLogger structuredLogger;
     private final FcmPushService fcmPushService;
+    private final EventStoreProperties eventStoreProperties;
+    private final DomainEventPayloadCodec payloadCodec;
 
     /**
      * 마음 일기 생성 시 캐시 무효화 (동기 처리)
@@ -59,60 +70,93 @@ public class MoodDiaryEventHandler {
     @Async("eventExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleAsyncProcessing(MoodDiaryCreated event) {
+        if (eventStoreProperties.streamDispatchEnabled()) {
+            // 스트림 소비자가 처리
+            return;
+        }
         log.debug("Async processing for MoodDiaryCreated: {}", event.getMoodDiaryId());
 
         try {
-            // 비즈니스 이벤트 로깅
-            Map<String, Object> metadata = new HashMap<>();
-            metadata.put("diaryDate", event.getDiaryDate().toString());
-            metadata.put("moodType", event.getMoodType().name());
-            metadata.put("diaryType", event.getDiaryType().name());
-            if (event.getConsecutiveDays() != null) {
-                metadata.put("consecutiveDays", event.getConsecutiveDays().toString());
-            }
+            process(event);
+        } catch (Exception e) {
+            log.error("Failed async processing for MoodDiaryCreated: {}",
+                    event.getMoodDiaryId(), e);
+        }
+    }
 
-            BusinessEvent businessEvent = BusinessEvent.builder()
-                    .eventType("MOOD_DIARY_CREATED")
-                    .userId(event.getMemberLoginId())
-                    .entity("MoodDiary")
-                    .action("CREATED")
-                    .result("SUCCESS")
-                    .metadata(metadata)
-                    .build();
-
-            structuredLogger.business(businessEvent);
-
-            // 부정적인 기분이 지속되는 경우 부작용 기록 권유 알림
-            if (event.isNegativeMood()) {
-                log.info("Negative mood detected for memberId: {}, mood: {} - Consider side effect recording notification",
-                        event.getMemberId(), event.getMoodType());
-
-                // 연속 부정적 기분 일수 확인 (연속 3일 이상)
-                Integer consecutiveNegativeDays = checkConsecutiveNegativeMoodDays(event.getMemberId());
-                if (consecutiveNegativeDays != null && consecutiveNegativeDays >= 3) {
-                    fcmPushService.sendNegativeMoodAlert(event.getMemberId(), consecutiveNegativeDays);
-                    fcmPushService.sendSideEffectRecordReminder(event.getMemberId(),
-                            "최근 며칠간 기분이 좋지 않으셨군요. 혹시 부작용으로 인한 것은 아닌지 확인해보세요.");
-                }
-            }
+    @Override
+    public boolean supports(String eventType) {
+        return MoodDiaryCreated.class.getSimpleName().equals(eventType);
+    }
 
-            // 연속 작성일 업적 알림
-            if (event.getConsecutiveDays() != null && event.getConsecutiveDays() > 0) {
-                int days = event.getConsecutiveDays();
-                if (days == 7 || days == 30 || days == 100) {
-                    log.info("Consecutive days milestone reached for memberId: {}, days: {}",
-                            event.getMemberId(), days);
-                    fcmPushService.sendConsecutiveDiaryAchievement(event.getMemberId(), days);
-                }
-            }
+    /**
+     * 스트림으로 전달된 마음 일기 생성 이벤트 처리 (실패 시 예외를 던져 재전달)
+     */
+    @Override
+    public void handle(DomainEventRecord record) throws Exception {
+        JsonNode payload = payloadCodec.readTree(record.payload());
+        JsonNode consecutiveDays = payload.path("consecutiveDays");
+        process(new MoodDiaryCreated(
+                payload.path("moodDiaryId").asLong(),
+                payload.path("memberId").asLong(),
+                payload.path("memberLoginId").asText(null),
+                payloadCodec.treeToValue(payload.get("diaryDate"), LocalDate.class),
+                MoodType.valueOf(payload.path("moodType").asText()),
+                DiaryType.valueOf(payload.path("diaryType").asText()),
+                consecutiveDays.isNumber() ? consecutiveDays.asInt() : null
+        ));
+    }
 
-            log.info("Completed async processing for MoodDiaryCreated: diaryId={}, memberId={}",
-                    event.getMoodDiaryId(), event.getMemberId());
+    /**
+     * 비즈니스 로깅 및 알림 처리
+     */
+    private void process(MoodDiaryCreated event) {
+        // 비즈니스 이벤트 로깅
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("diaryDate", event.getDiaryDate().toString());
+        metadata.put("moodType", event.getMoodType().name());
+        metadata.put("diaryType", event.getDiaryType().name());
+        if (event.getConsecutiveDays() != null) {
+            metadata.put("consecutiveDays", event.getConsecutiveDays().toString());
+        }
 
-        } catch (Exception e) {
-            log.error("Failed async processing for MoodDiaryCreated: {}",
-                    event.getMoodDiaryId(), e);
+        BusinessEvent businessEvent = BusinessEvent.builder()
+                .eventType("MOOD_DIARY_CREATED")
+                .userId(event.getMemberLoginId())
+                .entity("MoodDiary")
+                .action("CREATED")
+                .result("SUCCESS")
+                .metadata(metadata)
+                .build();
+
+        structuredLogger.business(businessEvent);
+
+        // 부정적인 기분이 지속되는 경우 부작용 기록 권유 알림
+        if (event.isNegativeMood()) {
+            log.info("Negative mood detected for memberId: {}, mood: {} - Consider side effect recording notification",
+                    event.getMemberId(), event.getMoodType());
+
+            // 연속 부정적 기분 일수 확인 (연속 3일 이상)
+            Integer consecutiveNegativeDays = checkConsecutiveNegativeMoodDays(event.getMemberId());
+            if (consecutiveNegativeDays != null && consecutiveNegativeDays >= 3) {
+                fcmPushService.sendNegativeMoodAlert(event.getMemberId(), consecutiveNegativeDays);
+                fcmPushService.sendSideEffectRecordReminder(event.getMemberId(),
+                        "최근 며칠간 기분이 좋지 않으셨군요. 혹시 부작용으로 인한 것은 아닌지 확인해보세요.");
+            }
+        }
+
+        // 연속 작성일 업적 알림
+        if (event.getConsecutiveDays() != null && event.getConsecutiveDays() > 0) {
+            int days = event.getConsecutiveDays();
+            if (days == 7 || days == 30 || days == 100) {
+                log.info("Consecutive days milestone reached for memberId: {}, days: {}",
+                        event.getMemberId(), days);
+                fcmPushService.sendConsecutiveDiaryAchievement(event.getMemberId(), days);
+            }
         }
+
+        log.info("Completed async processing for MoodDiaryCreated: diaryId={}, memberId={}",
+                event.getMoodDiaryId(), event.getMemberId());
     }
 
     /**
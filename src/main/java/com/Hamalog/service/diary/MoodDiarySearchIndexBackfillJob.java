@@ -0,0 +1,42 @@
+package com.Hamalog.service.diary;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 마음 일기 검색 인덱스 백필
+ * 블라인드 인덱스 도입 전에 작성된 일기는 토큰이 없으므로, 기동 후 백그라운드에서 묶음 단위로 색인합니다.
+ * 이미 색인된 일기는 건너뛰므로 재기동 시 반복 실행되어도 안전합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "hamalog.diary.search-index.backfill-enabled", havingValue = "true", matchIfMissing = true)
+public class MoodDiarySearchIndexBackfillJob {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final MoodDiarySearchIndexService searchIndexService;
+
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long indexedBatches = 0;
+        Long afterId = 0L;
+        try {
+            while ((afterId = searchIndexService.indexUnindexedBatch(afterId, BATCH_SIZE)) != null) {
+                indexedBatches++;
+            }
+            if (indexedBatches > 0) {
+                log.info("[DIARY_SEARCH] Search index backfill completed - batches: {}", indexedBatches);
+            }
+        } catch (Exception e) {
+            log.error("[DIARY_SEARCH] Search index backfill failed after {} batches: {}", indexedBatches, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.Hamalog.service.diary;
+
+import com.Hamalog.domain.diary.MoodDiary;
+import com.Hamalog.repository.diary.MoodDiaryRepository;
+import com.Hamalog.repository.diary.MoodDiarySearchTokenJdbcRepository;
+import com.Hamalog.repository.diary.MoodDiarySearchTokenRepository;
+import com.Hamalog.security.encryption.BlindIndexer;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 마음 일기 블라인드 검색 인덱스 관리
+ * 일기 생성/수정 시 토큰을 다시 만들고, 삭제 시 토큰을 제거합니다. (호출한 트랜잭션에 참여)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MoodDiarySearchIndexService {
+
+    private final BlindIndexer blindIndexer;
+    private final MoodDiaryRepository moodDiaryRepository;
+    private final MoodDiarySearchTokenRepository searchTokenRepository;
+    private final MoodDiarySearchTokenJdbcRepository searchTokenJdbcRepository;
+
+    /**
+     * 일기 검색 토큰 재생성 (기존 토큰 삭제 후 현재 내용으로 INSERT)
+     */
+    @Transactional(rollbackFor = {Exception.class})
+    public void index(MoodDiary moodDiary) {
+        Long memberId = moodDiary.getMember().getMemberId();
+        Set<Long> tokens = blindIndexer.indexTokens(memberId, searchableTexts(moodDiary));
+
+        searchTokenRepository.deleteByMoodDiaryId(moodDiary.getMoodDiaryId());
+        searchTokenJdbcRepository.batchInsert(memberId, moodDiary.getMoodDiaryId(), tokens);
+        log.debug("마음 일기 검색 인덱스 갱신 - moodDiaryId: {}, tokens: {}", moodDiary.getMoodDiaryId(), tokens.size());
+    }
+
+    @Transactional(rollbackFor = {Exception.class})
+    public void remove(Long moodDiaryId) {
+        searchTokenRepository.deleteByMoodDiaryId(moodDiaryId);
+    }
+
+    /**
+     * 검색어 토큰 (검색 가능한 글자가 없으면 빈 집합)
+     */
+    public Set<Long> queryTokens(Long memberId, String keyword) {
+        return blindIndexer.queryTokens(memberId, keyword);
+    }
+
+    /**
+     * 토큰 교집합으로 찾은 후보가 실제로 검색어를 포함하는지 복호화된 내용으로 확인
+     */
+    public boolean matches(MoodDiary moodDiary, String keyword) {
+        return Stream.of(searchableTexts(moodDiary))
+                .anyMatch(text -> BlindIndexer.containsNormalized(text, keyword));
+    }
+
+    /**
+     * 인덱스가 없는 일기 한 묶음 색인 (기존 데이터 백필용)
+     *
+     * @param afterId 이전 묶음의 마지막 일기 ID
+     * @return 이번 묶음의 마지막 일기 ID (더 이상 없으면 null)
+     */
+    @Transactional(rollbackFor = {Exception.class})
+    public Long indexUnindexedBatch(Long afterId, int batchSize) {
+        List<MoodDiary> diaries = moodDiaryRepository.findUnindexedAfter(afterId, PageRequest.of(0, batchSize));
+        diaries.forEach(this::index);
+        return diaries.isEmpty() ? null : diaries.get(diaries.size() - 1).getMoodDiaryId();
+    }
+
+    private static String[] searchableTexts(MoodDiary moodDiary) {
+        return new String[]{
+                moodDiary.getFreeContent(),
+                moodDiary.getTemplateAnswer1(),
+                moodDiary.getTemplateAnswer2(),
+                moodDiary.getTemplateAnswer3(),
+                moodDiary.getTemplateAnswer4()
+        };
+    }
+}
@@ -16,13 +16,16 @@ import com.Hamalog.exception.member.MemberNotFoundException;
 import com.Hamalog.repository.diary.MoodDiaryRepository;
 import com.Hamalog.repository.member.MemberRepository;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,9 +35,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class MoodDiaryService {
 
+    /** 검색 후보를 한 번에 조회/복호화할 건수 */
+    static final int SEARCH_SCAN_CHUNK_SIZE = 200;
+    /** 검색 시 확인할 최대 후보 수 (최신순) */
+    static final int SEARCH_MAX_CANDIDATES = 1000;
+
     private final MoodDiaryRepository moodDiaryRepository;
     private final MemberRepository memberRepository;
     private final DomainEventPublisher domainEventPublisher;
+    private final MoodDiarySearchIndexService searchIndexService;
 
     @Transactional(rollbackFor = {Exception.class})
     public MoodDiaryResponse createMoodDiary(Long memberId, MoodDiaryCreateRequest request) {
@@ -54,6 +63,7 @@ public class MoodDiaryService {
         MoodDiary moodDiary = createMoodDiaryEntity(member, request);
 
         MoodDiary savedDiary = moodDiaryRepository.save(moodDiary);
+        searchIndexService.index(savedDiary);
         log.info("마음 일기 생성 완료 - moodDiaryId: {}", savedDiary.getMoodDiaryId());
 
         // 연속 작성일 계산 (어제 일기가 있으면 연속)
@@ -146,6 +156,7 @@ public class MoodDiaryService {
         MoodDiary moodDiary = moodDiaryRepository.findByIdAndMemberId(moodDiaryId, memberId)
                 .orElseThrow(MoodDiaryNotFoundException::new);
 
+        searchIndexService.remove(moodDiaryId);
         moodDiaryRepository.delete(moodDiary);
         log.info("마음 일기 삭제 완료 - moodDiaryId: {}", moodDiaryId);
     }
@@ -173,6 +184,7 @@ public class MoodDiaryService {
                     request.freeContent()
             );
         }
+        searchIndexService.index(moodDiary);
 
         log.info("마음 일기 수정 완료 - moodDiaryId: {}", moodDiaryId);
         return MoodDiaryResponse.from(moodDiary);
@@ -229,9 +241,12 @@ public class MoodDiaryService {
 
     /**
      * 일기 내용 검색
+     * 블라인드 인덱스 토큰 교집합으로 후보를 최신순으로 찾고, 후보를 청크 단위로 복호화해 실제 포함 여부를 확인한 뒤
+     * 확인된 일기로 페이지를 나눕니다. 따라서 페이지 크기, hasNext, 전체 개수는 모두 확인된 일기 기준입니다.
+     * 확인 비용을 제한하기 위해 최근 후보 {@value #SEARCH_MAX_CANDIDATES}건까지만 확인합니다.
      */
     public MoodDiaryListResponse searchMoodDiaries(Long memberId, String keyword, int page, int size) {
-        log.info("마음 일기 검색 - memberId: {}, keyword: {}", memberId, keyword);
+        log.info("마음 일기 검색 - memberId: {}", memberId);
 
         if (!memberRepository.existsById(memberId)) {
             throw new MemberNotFoundException();
@@ -241,20 +256,35 @@ public class MoodDiaryService {
             size = 100;
         }
 
-        Pageable pageable = PageRequest.of(page, size);
-        Page<MoodDiary> diaryPage = moodDiaryRepository.searchByKeyword(memberId, keyword, pageable);
+        Set<Long> tokens = searchIndexService.queryTokens(memberId, keyword);
+        if (tokens.isEmpty()) {
+            return new MoodDiaryListResponse(List.of(), 0, page, size, false, page > 0);
+        }
 
-        List<MoodDiaryResponse> diaries = diaryPage.getContent().stream()
+        List<MoodDiary> matched = new ArrayList<>();
+        Slice<MoodDiary> candidates;
+        int chunk = 0;
+        do {
+            candidates = moodDiaryRepository.searchByTokens(memberId, tokens, tokens.size(),
+                    PageRequest.of(chunk++, SEARCH_SCAN_CHUNK_SIZE));
+            candidates.getContent().stream()
+                    .filter(diary -> searchIndexService.matches(diary, keyword))
+                    .forEach(matched::add);
+        } while (candidates.hasNext() && chunk * SEARCH_SCAN_CHUNK_SIZE < SEARCH_MAX_CANDIDATES);
+
+        int from = (int) Math.min((long) page * size, matched.size());
+        int to = Math.min(from + size, matched.size());
+        List<MoodDiaryResponse> diaries = matched.subList(from, to).stream()
                 .map(MoodDiaryResponse::from)
                 .collect(Collectors.toList());
 
         return new MoodDiaryListResponse(
                 diaries,
-                diaryPage.getTotalElements(),
-                diaryPage.getNumber(),
-                diaryPage.getSize(),
-                diaryPage.hasNext(),
-                diaryPage.hasPrevious()
+                matched.size(),
+                page,
+                size,
+                to < matched.size(),
+                page > 0
         );
     }
 }
@@ -0,0 +1,19 @@
+package com.Hamalog.service.etag;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원별 버전을 관리하는 조회 리소스 범위
+ * 범위 안의 엔티티가 바뀌면 해당 회원의 버전이 무효화되어 ETag가 바뀝니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ResourceScope {
+    MEDICATION_SCHEDULE("sch"),
+    MEDICATION_GROUP("grp"),
+    NOTIFICATION_SETTINGS("ntf");
+
+    /** ETag 접두사 */
+    private final String prefix;
+}
@@ -0,0 +1,103 @@
+package com.Hamalog.service.etag;
+
+import com.Hamalog.domain.medication.MedicationSchedule;
+import com.Hamalog.domain.medication.MedicationScheduleGroup;
+import com.Hamalog.domain.notification.NotificationSettings;
+import com.Hamalog.service.etag.ResourceVersionService.ScopedMember;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리소스 버전 무효화 리스너
+ *
+ * <p>Hibernate insert/update/delete 이벤트에서 ETag 범위에 속한 엔티티의 (범위, 회원)을 세션별로 모아 두었다가,
+ * 트랜잭션이 커밋된 뒤에만 버전을 무효화합니다. 커밋 전에 무효화하면 그 사이 조회가 이전 데이터에 새 버전을 붙일 수 있고,
+ * 롤백된 변경으로 무효화할 필요도 없기 때문입니다. 도메인 이벤트를 발행하지 않는 변경 경로도 함께 잡습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResourceVersionInvalidationListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ResourceVersionService resourceVersionService;
+
+    private final Map<EventSource, Set<ScopedMember>> pendingBySession = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        log.info("[ETAG] Resource version invalidation listener registered");
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        capture(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        capture(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        capture(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void capture(EventSource session, Object entity) {
+        ScopedMember target = null;
+        if (entity instanceof MedicationSchedule schedule) {
+            target = new ScopedMember(ResourceScope.MEDICATION_SCHEDULE, schedule.getMember().getMemberId());
+        } else if (entity instanceof MedicationScheduleGroup group) {
+            target = new ScopedMember(ResourceScope.MEDICATION_GROUP, group.getMember().getMemberId());
+        } else if (entity instanceof NotificationSettings settings) {
+            target = new ScopedMember(ResourceScope.NOTIFICATION_SETTINGS, settings.getMember().getMemberId());
+        }
+        if (target != null && target.memberId() != null) {
+            pendingFor(session).add(target);
+        }
+    }
+
+    private Set<ScopedMember> pendingFor(EventSource session) {
+        return pendingBySession.computeIfAbsent(session, s -> {
+            s.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, completed) -> {
+                Set<ScopedMember> targets = pendingBySession.remove(s);
+                if (success && targets != null) {
+                    resourceVersionService.invalidateAll(targets);
+                }
+            });
+            return new LinkedHashSet<>();
+        });
+    }
+}
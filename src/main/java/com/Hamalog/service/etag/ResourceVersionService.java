@@ -0,0 +1,106 @@
+package com.Hamalog.service.etag;
+
+import com.Hamalog.config.ETagProperties;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 회원별 리소스 버전 서비스 (조건부 GET의 ETag 원천)
+ *
+ * <p>버전은 Redis에 (범위, 회원)마다 임의 토큰으로 저장되며, DB를 조회하지 않고 ETag를 만들 수 있습니다.
+ * 범위 안의 엔티티가 커밋되면 버전을 지우는 대신 정착 표시로 바꾸고, 정착 시간 동안은 버전을 발급하지 않습니다.
+ * 복제본이 아직 반영하지 않은 이전 데이터에 새 버전이 붙어 304가 잘못 나가는 일을 막기 위함입니다.
+ * 정착 시간이 지나면 첫 조회에서 새 임의 토큰을 만들며, 토큰은 재사용되지 않으므로 이전 ETag와 겹치지 않습니다.</p>
+ *
+ * <p>Redis가 없거나 오류가 나면 버전을 반환하지 않고, 호출 측은 ETag 없이 평소대로 응답합니다.</p>
+ */
+@Service
+@Slf4j
+public class ResourceVersionService {
+
+    private static final String KEY_PREFIX = "etag:version:";
+    /** 변경 직후 정착 중임을 나타내는 값 (이 동안은 ETag 미발급) */
+    static final String SETTLING = "settling";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ETagProperties properties;
+
+    public ResourceVersionService(ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider,
+                                  ETagProperties properties) {
+        this.redisTemplate = properties.enabled() ? redisTemplateProvider.getIfAvailable() : null;
+        this.properties = properties;
+    }
+
+    /**
+     * 현재 버전 조회 (없으면 새로 발급)
+     *
+     * @return 버전 토큰, 비활성화·정착 중·Redis 오류면 empty
+     */
+    public Optional<String> currentVersion(ResourceScope scope, Long memberId) {
+        if (redisTemplate == null) {
+            return Optional.empty();
+        }
+        String key = key(scope, memberId);
+        try {
+            Object current = redisTemplate.opsForValue().get(key);
+            if (current == null) {
+                String issued = newVersion();
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue()
+                        .setIfAbsent(key, issued, properties.versionTtl()))) {
+                    return Optional.of(issued);
+                }
+                // 다른 요청이 먼저 발급 (또는 그 사이 정착 표시)
+                current = redisTemplate.opsForValue().get(key);
+            }
+            if (current == null || SETTLING.equals(current)) {
+                return Optional.empty();
+            }
+            return Optional.of(current.toString());
+        } catch (Exception e) {
+            log.warn("[ETAG] Version lookup failed - scope: {}, memberId: {}", scope, memberId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 버전 무효화 (커밋 이후 호출, 정착 시간 뒤 새 버전 발급)
+     */
+    public void invalidate(ResourceScope scope, Long memberId) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key(scope, memberId), SETTLING, properties.settleWindow());
+        } catch (Exception e) {
+            // 실패하면 이전 ETag가 버전 보관 기간 동안 유효하게 남으므로 오류로 기록
+            log.error("[ETAG] Version invalidation failed - scope: {}, memberId: {}", scope, memberId, e);
+        }
+    }
+
+    /**
+     * 여러 (범위, 회원) 버전 무효화
+     */
+    public void invalidateAll(Collection<ScopedMember> targets) {
+        targets.forEach(target -> invalidate(target.scope(), target.memberId()));
+    }
+
+    private static String key(ResourceScope scope, Long memberId) {
+        return KEY_PREFIX + scope.getPrefix() + ":" + memberId;
+    }
+
+    private static String newVersion() {
+        return HexFormat.of().toHexDigits(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * 무효화 대상 (범위, 회원)
+     */
+    public record ScopedMember(ResourceScope scope, Long memberId) {
+    }
+}
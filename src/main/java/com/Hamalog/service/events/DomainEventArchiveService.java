@@ -0,0 +1,152 @@
+package com.Hamalog.service.events;
+
+import com.Hamalog.config.EventStoreProperties;
+import com.Hamalog.domain.events.StoredDomainEvent;
+import com.Hamalog.repository.events.StoredDomainEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도메인 이벤트 보관 서비스
+ *
+ * <p>보관 기간이 지난 처리 완료 이벤트를 발생일별 세그먼트 파일({@link DomainEventSegmentStore})로 옮기고
+ * 테이블에서는 청크 단위로 삭제해, domain_event 테이블과 인덱스 크기를 보관 기간만큼으로 유지합니다.
+ * 청크마다 세그먼트 기록이 디스크에 반영된 뒤 삭제하므로 중간에 중단되어도 이벤트가 유실되지 않으며,
+ * 다시 보관된 이벤트는 조회 시 eventId로 중복 제거합니다.</p>
+ *
+ * <p>여러 노드에서 같은 행을 동시에 보관하지 않도록 Redis 임대를 가진 노드만 실행하며, 청크마다 임대를 연장하고
+ * 잃으면 멈춥니다. 세그먼트는 모든 노드가 읽으므로 공유 디렉터리가 확인되지 않은 설정으로는 보관을 켤 수 없습니다
+ * ({@link EventStoreProperties.Archive}).</p>
+ */
+@Service
+@Slf4j
+public class DomainEventArchiveService {
+
+    private final StoredDomainEventRepository repository;
+    private final DomainEventSegmentStore segmentStore;
+    private final EventStoreProperties.Archive properties;
+    private final RedisLease archiveLease;
+    private final Counter archivedCounter;
+
+    public DomainEventArchiveService(StoredDomainEventRepository repository,
+                                     DomainEventSegmentStore segmentStore,
+                                     EventStoreProperties eventStoreProperties,
+                                     RedisTemplate<String, Object> redisTemplate,
+                                     MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.segmentStore = segmentStore;
+        this.properties = eventStoreProperties.archive();
+        if (properties.enabled() && !properties.directoryShared()) {
+            throw new IllegalStateException("app.event-store.archive.enabled requires a shared archive directory "
+                    + "(set app.event-store.archive.directory-shared=true after mounting it on every node)");
+        }
+        this.archiveLease = new RedisLease(redisTemplate,
+                eventStoreProperties.stream().keyPrefix() + ":archive-lease", properties.leaseTtl());
+        this.archivedCounter = Counter.builder("hamalog.event.archive.archived")
+                .description("Domain events moved from the table to archive segments")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료 이벤트를 세그먼트로 옮기고 테이블에서 삭제
+     */
+    @Scheduled(fixedDelayString = "${app.event-store.archive.interval-ms:3600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void archiveExpiredEvents() {
+        if (!properties.enabled() || !archiveLease.acquire()) {
+            return;
+        }
+        try {
+            archiveUpToRetention();
+        } finally {
+            archiveLease.release();
+        }
+    }
+
+    private void archiveUpToRetention() {
+        LocalDate cutoffDay = LocalDate.now().minusDays(properties.retention().toDays());
+        LocalDateTime oldest = repository.findOldestArchivableOccurredOn(cutoffDay.atStartOfDay());
+        if (oldest == null) {
+            return;
+        }
+
+        long total = 0;
+        try {
+            // 청크마다 임대를 연장하며, 임대를 잃으면 남은 날짜는 임대를 가진 노드에 맡김
+            for (LocalDate day = oldest.toLocalDate(); day.isBefore(cutoffDay) && archiveLease.acquire();
+                 day = day.plusDays(1)) {
+                total += archiveDay(day);
+            }
+        } catch (IOException e) {
+            log.error("[EVENT_ARCHIVE] Failed to write archive segment: {}", e.getMessage(), e);
+        }
+        if (total > 0) {
+            log.info("[EVENT_ARCHIVE] Archived {} domain events (before {})", total, cutoffDay);
+        }
+    }
+
+    /**
+     * aggregate 이력 조회 (보관 세그먼트 + 테이블, 발생 시각 순)
+     */
+    public List<DomainEventRecord> findAggregateHistory(String aggregateType, String aggregateId) {
+        List<DomainEventRecord> history = new ArrayList<>();
+        try {
+            history.addAll(segmentStore.readAggregate(aggregateType, aggregateId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archive segments", e);
+        }
+        repository.findByAggregateTypeAndAggregateIdOrderByOccurredOnAsc(aggregateType, aggregateId).stream()
+                .map(DomainEventRecord::from)
+                .forEach(history::add);
+
+        Set<String> seen = new HashSet<>();
+        return history.stream()
+                .filter(event -> seen.add(event.eventId()))
+                .sorted(Comparator.comparing(DomainEventRecord::occurredAt))
+                .toList();
+    }
+
+    private long archiveDay(LocalDate day) throws IOException {
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime to = day.plusDays(1).atStartOfDay();
+        int chunkSize = properties.chunkSize();
+
+        long archived = 0;
+        long afterId = 0;
+        List<StoredDomainEvent> chunk;
+        do {
+            if (!archiveLease.acquire()) {
+                log.warn("[EVENT_ARCHIVE] Archive lease lost - stopping at day {} after {} events", day, archived);
+                return archived;
+            }
+            chunk = repository.findArchivableChunk(from, to, afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            segmentStore.append(day, chunk.stream().map(DomainEventRecord::from).toList());
+            List<Long> ids = chunk.stream().map(StoredDomainEvent::getId).toList();
+            repository.deleteArchived(ids);
+
+            archived += chunk.size();
+            archivedCounter.increment(chunk.size());
+            afterId = ids.get(ids.size() - 1);
+        } while (chunk.size() == chunkSize);
+        return archived;
+    }
+}
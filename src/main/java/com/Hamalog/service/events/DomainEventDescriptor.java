@@ -0,0 +1,60 @@
+package com.Hamalog.service.events;
+
+import com.Hamalog.domain.events.DomainEvent;
+import com.Hamalog.domain.events.MemberScopedEvent;
+
+/**
+ * 이벤트 클래스별 메타데이터 (클래스마다 한 번만 계산해 캐시)
+ *
+ * @param eventType     이벤트 타입 (클래스 단순 이름)
+ * @param aggregateType aggregate 타입 (이벤트 타입에서 Event 접미사와 마지막 동사를 제거)
+ * @param memberScoped  {@link MemberScopedEvent} 구현 여부
+ */
+public record DomainEventDescriptor(
+        String eventType,
+        String aggregateType,
+        boolean memberScoped
+) {
+
+    private static final String SYSTEM_USER = "system";
+    private static final String[] VERB_SUFFIXES = {"Created", "Updated", "Deleted", "Succeeded", "Failed"};
+
+    private static final ClassValue<DomainEventDescriptor> CACHE = new ClassValue<>() {
+        @Override
+        protected DomainEventDescriptor computeValue(Class<?> type) {
+            String eventType = type.getSimpleName();
+            return new DomainEventDescriptor(eventType, aggregateTypeOf(eventType),
+                    MemberScopedEvent.class.isAssignableFrom(type));
+        }
+    };
+
+    public static DomainEventDescriptor of(DomainEvent event) {
+        return CACHE.get(event.getClass());
+    }
+
+    /**
+     * 감사 로그 사용자 식별자 (회원 이벤트가 아니거나 로그인 ID가 없으면 system)
+     */
+    public String userId(DomainEvent event) {
+        if (memberScoped) {
+            String memberLoginId = ((MemberScopedEvent) event).getMemberLoginId();
+            if (memberLoginId != null) {
+                return memberLoginId;
+            }
+        }
+        return SYSTEM_USER;
+    }
+
+    // MedicationScheduleCreated -> MedicationSchedule, MemberDeletedEvent -> Member
+    static String aggregateTypeOf(String eventType) {
+        if (eventType.endsWith("Event")) {
+            eventType = eventType.substring(0, eventType.length() - 5);
+        }
+        for (String suffix : VERB_SUFFIXES) {
+            if (eventType.endsWith(suffix)) {
+                return eventType.substring(0, eventType.length() - suffix.length());
+            }
+        }
+        return eventType;
+    }
+}
@@ -0,0 +1,125 @@
+package com.Hamalog.service.events;
+
+import com.Hamalog.domain.events.DomainEvent;
+import com.Hamalog.domain.events.StoredDomainEvent;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 아웃박스 (도메인 이벤트를 업무 트랜잭션과 함께 저장)
+ *
+ * <p>트랜잭션 안에서 발행된 이벤트를 직렬화해 모아 두었다가 커밋 직전에 같은 커넥션으로 다중 행 INSERT 합니다.
+ * 업무 변경과 이벤트가 함께 커밋되거나 함께 롤백되므로 이벤트가 유실되지 않고, 이벤트마다 별도 트랜잭션과 커넥션을 쓰지 않습니다.
+ * 저장된 행은 PENDING 상태로 남고 {@link DomainEventOutboxRelay}가 배치로 후처리합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventOutbox {
+
+    /** INSERT 한 문장에 담을 최대 행 수 */
+    static final int ROWS_PER_STATEMENT = 100;
+
+    private static final String INSERT_PREFIX = "INSERT INTO domain_event "
+            + "(event_id, event_type, aggregate_type, aggregate_id, payload, occurred_on, stored_at, status, retry_count) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final EntityManager entityManager;
+    private final EventStoreService eventStoreService;
+
+    /**
+     * 현재 트랜잭션의 아웃박스에 이벤트 추가
+     *
+     * @return 추가했으면 true, 쓰기 트랜잭션 밖이거나 이미 커밋 단계에 들어가 추가할 수 없으면 false (호출 측에서 직접 저장)
+     */
+    public boolean enqueue(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 읽기 전용 트랜잭션은 복제본으로 라우팅될 수 있으므로 쓰지 않음
+            return false;
+        }
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending.add(eventStoreService.toStoredEvent(event));
+    }
+
+    private void write(List<StoredDomainEvent> events) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            for (int from = 0; from < events.size(); from += ROWS_PER_STATEMENT) {
+                insert(connection, events.subList(from, Math.min(from + ROWS_PER_STATEMENT, events.size())));
+            }
+        });
+        log.debug("Wrote {} domain events to outbox", events.size());
+    }
+
+    private static void insert(Connection connection, List<StoredDomainEvent> rows) throws SQLException {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+        }
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            int index = 1;
+            for (StoredDomainEvent row : rows) {
+                ps.setString(index++, row.getEventId());
+                ps.setString(index++, row.getEventType());
+                ps.setString(index++, row.getAggregateType());
+                ps.setString(index++, row.getAggregateId());
+                ps.setString(index++, row.getPayload());
+                ps.setTimestamp(index++, Timestamp.valueOf(row.getOccurredOn()));
+                ps.setTimestamp(index++, Timestamp.valueOf(row.getStoredAt()));
+                ps.setString(index++, row.getStatus().name());
+                ps.setInt(index++, row.getRetryCount());
+            }
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * 트랜잭션별 대기 이벤트 (커밋 직전에 저장, 완료 시 해제)
+     */
+    private final class PendingEvents implements TransactionSynchronization {
+
+        private final List<StoredDomainEvent> events = new ArrayList<>();
+        private boolean written;
+
+        boolean add(StoredDomainEvent event) {
+            // 커밋 단계(다른 동기화의 afterCommit 등)에서 발행된 이벤트는 더 이상 같은 트랜잭션에 쓸 수 없음
+            if (written) {
+                return false;
+            }
+            events.add(event);
+            return true;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            written = true;
+            if (!events.isEmpty()) {
+                // 실패하면 예외가 커밋을 중단시켜 업무 변경도 롤백됨
+                write(events);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            written = true;
+            TransactionSynchronizationManager.unbindResourceIfPossible(DomainEventOutbox.this);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.Hamalog.service.events;
+
+import com.Hamalog.config.EventStoreProperties;
+import com.Hamalog.domain.events.StoredDomainEvent;
+import com.Hamalog.domain.events.StoredDomainEvent.EventStatus;
+import com.Hamalog.logging.StructuredLogger;
+import com.Hamalog.logging.events.AuditEvent;
+import com.Hamalog.repository.events.StoredDomainEventRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스 릴레이
+ *
+ * <p>{@link DomainEventOutbox}가 저장한 PENDING 이벤트를 id 순으로 배치 잠금(SKIP LOCKED)해 감사 로그를 남기고
+ * 한 번의 UPDATE로 처리 완료 표시합니다. 배치 하나가 한 트랜잭션이므로 도중에 실패하면 다음 실행에서 다시 처리됩니다(최소 1회).</p>
+ *
+ * <p>스트림 전달이 켜져 있으면 배치를 {@link DomainEventStreamPublisher}로 Redis Stream에 추가한 뒤 처리 완료 표시하며,
+ * aggregate별 순서를 지키기 위해 리더 임대를 가진 노드만 릴레이를 실행합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.event-store.mode", havingValue = "outbox")
+@Slf4j
+public class DomainEventOutboxRelay {
+
+    private final StoredDomainEventRepository repository;
+    private final StructuredLogger structuredLogger;
+    private final EventStoreProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventStreamPublisher streamPublisher;
+    private final DomainEventPayloadCodec payloadCodec;
+    private final Counter relayedCounter;
+
+    public DomainEventOutboxRelay(StoredDomainEventRepository repository,
+                                  StructuredLogger structuredLogger,
+                                  EventStoreProperties properties,
+                                  DomainEventPayloadCodec payloadCodec,
+                                  PlatformTransactionManager transactionManager,
+                                  @Autowired(required = false) DomainEventStreamPublisher streamPublisher,
+                                  MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.structuredLogger = structuredLogger;
+        this.properties = properties;
+        this.payloadCodec = payloadCodec;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.streamPublisher = streamPublisher;
+        this.relayedCounter = Counter.builder("hamalog.event.outbox.relayed")
+                .description("Domain events relayed from the outbox")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 중인 이벤트 릴레이
+     * 배치가 가득 차 있으면 적체로 보고 최대 배치 수까지 이어서 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.event-store.relay-interval-ms:1000}")
+    public void relayPendingEvents() {
+        try {
+            if (streamPublisher != null && !streamPublisher.acquireRelayLease()) {
+                return;
+            }
+            for (int i = 0; i < properties.relayMaxBatchesPerRun(); i++) {
+                Integer relayed = transactionTemplate.execute(status -> relayBatch());
+                if (relayed == null || relayed < properties.relayBatchSize()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[EVENT_OUTBOX] Relay failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private int relayBatch() {
+        List<StoredDomainEvent> batch = repository.lockPendingBatch(properties.relayBatchSize());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        batch.forEach(this::audit);
+        if (streamPublisher != null) {
+            streamPublisher.publish(batch);
+        }
+        List<Long> ids = batch.stream().map(StoredDomainEvent::getId).toList();
+        repository.updateStatus(ids, EventStatus.PROCESSED, LocalDateTime.now());
+        relayedCounter.increment(batch.size());
+        log.debug("[EVENT_OUTBOX] Relayed {} domain events", batch.size());
+        return batch.size();
+    }
+
+    private void audit(StoredDomainEvent event) {
+        structuredLogger.audit(AuditEvent.builder()
+                .userId(extractUserId(event))
+                .operation("DOMAIN_EVENT_PUBLISHED")
+                .entityType(event.getEventType())
+                .entityId(event.getAggregateId())
+                .details("Event ID: " + event.getEventId())
+                .build());
+    }
+
+    private String extractUserId(StoredDomainEvent event) {
+        try {
+            JsonNode memberLoginId = payloadCodec.readTree(event.getPayload()).get("memberLoginId");
+            return memberLoginId != null && memberLoginId.isTextual() ? memberLoginId.asText() : "system";
+        } catch (Exception e) {
+            return "system";
+        }
+    }
+}
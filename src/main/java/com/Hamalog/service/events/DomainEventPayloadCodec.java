@@ -0,0 +1,88 @@
+package com.Hamalog.service.events;
+
+import com.Hamalog.config.EventStoreProperties.PayloadFormat;
+import com.Hamalog.domain.events.DomainEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * 도메인 이벤트 페이로드 코덱
+ *
+ * <p>JSON 형식은 기존과 같은 태그 없는 JSON 텍스트를, SMILE 형식은 {@code smile:v<스키마 버전>:} 태그 뒤에
+ * Smile 바이너리를 Base64로 붙인 문자열을 씁니다(payload 컬럼이 TEXT이므로). 읽을 때는 태그로 형식과
+ * 버전을 구분하므로 형식을 바꿔도 기존 행, 스트림 레코드, 보관 세그먼트를 그대로 읽을 수 있습니다.</p>
+ *
+ * <p>설정된 형식의 {@link ObjectWriter} 하나를 모든 이벤트에 공유합니다. 이벤트 클래스별 직렬화기는 Jackson이 매퍼 안에서
+ * 캐시하며, writer와 매퍼 모두 스레드 안전합니다.</p>
+ */
+public class DomainEventPayloadCodec {
+
+    /** 현재 Smile 페이로드 스키마 버전 (필드 구성이 호환되지 않게 바뀌면 올림) */
+    static final int SCHEMA_VERSION = 1;
+    private static final String SMILE_TAG = "smile:v";
+
+    private final PayloadFormat format;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final ObjectWriter writer;
+
+    public DomainEventPayloadCodec(PayloadFormat format) {
+        this.format = format;
+        this.jsonMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.smileMapper = SmileMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.writer = (format == PayloadFormat.SMILE ? smileMapper : jsonMapper).writer();
+    }
+
+    public PayloadFormat format() {
+        return format;
+    }
+
+    /**
+     * 이벤트를 저장용 페이로드 문자열로 직렬화
+     */
+    public String encode(DomainEvent event) throws JsonProcessingException {
+        if (format == PayloadFormat.SMILE) {
+            return SMILE_TAG + SCHEMA_VERSION + ":" + Base64.getEncoder().encodeToString(writer.writeValueAsBytes(event));
+        }
+        return writer.writeValueAsString(event);
+    }
+
+    /**
+     * 저장된 페이로드를 트리로 읽기 (형식 태그로 JSON/Smile 구분)
+     */
+    public JsonNode readTree(String payload) throws IOException {
+        if (payload.startsWith(SMILE_TAG)) {
+            int separator = payload.indexOf(':', SMILE_TAG.length());
+            if (separator < 0) {
+                throw new IOException("Malformed smile payload tag");
+            }
+            int version = Integer.parseInt(payload.substring(SMILE_TAG.length(), separator));
+            if (version > SCHEMA_VERSION) {
+                throw new IOException("Unsupported smile payload schema version: " + version);
+            }
+            return smileMapper.readTree(Base64.getDecoder().decode(payload.substring(separator + 1)));
+        }
+        return jsonMapper.readTree(payload);
+    }
+
+    /**
+     * 페이로드 트리의 값을 타입으로 변환 (날짜 등)
+     */
+    public <T> T treeToValue(JsonNode node, Class<T> type) throws JsonProcessingException {
+        return jsonMapper.treeToValue(node, type);
+    }
+}
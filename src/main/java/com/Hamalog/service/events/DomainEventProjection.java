@@ -0,0 +1,32 @@
+package com.Hamalog.service.events;
+
+/**
+ * 이벤트 이력으로 만드는 읽기 모델 (복약 순응도 집계, 연속 기록 비트맵, 검색 토큰 등)
+ *
+ * <p>{@link DomainEventReplayEngine}이 보관 세그먼트와 domain_event를 발생 순으로 읽어 전달합니다.
+ * 같은 aggregate의 이벤트는 한 스레드에서 순서대로, 다른 aggregate는 병렬로 호출됩니다.
+ * 중단 후 재개하면 마지막 체크포인트 이후 페이지가 다시 전달되므로 적용은 멱등해야 합니다.</p>
+ */
+public interface DomainEventProjection {
+
+    /**
+     * 프로젝션 이름 (체크포인트 키)
+     */
+    String name();
+
+    /**
+     * 적용 대상 이벤트 타입인지 여부
+     */
+    boolean supports(String eventType);
+
+    /**
+     * 이벤트 적용
+     */
+    void apply(DomainEventRecord event) throws Exception;
+
+    /**
+     * 재구축 시작 전 기존 읽기 모델 초기화 (이어서 처리하는 경우에는 호출하지 않음)
+     */
+    default void reset() {
+    }
+}
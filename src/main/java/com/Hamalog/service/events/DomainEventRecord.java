@@ -0,0 +1,79 @@
+package com.Hamalog.service.events;
+
+import com.Hamalog.domain.events.StoredDomainEvent;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Redis Stream으로 전달되는 도메인 이벤트
+ * 스트림 필드는 UTF-8 문자열이며, payload는 저장소와 같은 페이로드 문자열({@link DomainEventPayloadCodec} 형식)입니다.
+ */
+public record DomainEventRecord(
+        String eventId,
+        String eventType,
+        String aggregateType,
+        String aggregateId,
+        String occurredOn,
+        String payload
+) {
+    private static final String EVENT_ID = "eventId";
+    private static final String EVENT_TYPE = "eventType";
+    private static final String AGGREGATE_TYPE = "aggregateType";
+    private static final String AGGREGATE_ID = "aggregateId";
+    private static final String OCCURRED_ON = "occurredOn";
+    private static final String PAYLOAD = "payload";
+
+    public static DomainEventRecord from(StoredDomainEvent event) {
+        return new DomainEventRecord(event.getEventId(), event.getEventType(), event.getAggregateType(),
+                event.getAggregateId(), event.getOccurredOn().toString(), event.getPayload());
+    }
+
+    /**
+     * 발생 시각
+     */
+    public LocalDateTime occurredAt() {
+        return LocalDateTime.parse(occurredOn);
+    }
+
+    /**
+     * aggregate 키 ({@code <aggregateType>:<aggregateId>})
+     */
+    public String aggregateKey() {
+        return aggregateType + ":" + aggregateId;
+    }
+
+    /**
+     * aggregate 단위 파티션 (같은 aggregate는 항상 같은 파티션)
+     */
+    public int partition(int partitions) {
+        return Math.floorMod(aggregateKey().hashCode(), partitions);
+    }
+
+    Map<byte[], byte[]> toFields() {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        fields.put(bytes(EVENT_ID), bytes(eventId));
+        fields.put(bytes(EVENT_TYPE), bytes(eventType));
+        fields.put(bytes(AGGREGATE_TYPE), bytes(aggregateType));
+        fields.put(bytes(AGGREGATE_ID), bytes(aggregateId));
+        fields.put(bytes(OCCURRED_ON), bytes(occurredOn));
+        fields.put(bytes(PAYLOAD), bytes(payload));
+        return fields;
+    }
+
+    static DomainEventRecord fromFields(Map<byte[], byte[]> fields) {
+        Map<String, String> values = new LinkedHashMap<>();
+        fields.forEach((key, value) -> values.put(string(key), string(value)));
+        return new DomainEventRecord(values.get(EVENT_ID), values.get(EVENT_TYPE), values.get(AGGREGATE_TYPE),
+                values.get(AGGREGATE_ID), values.get(OCCURRED_ON), values.get(PAYLOAD));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
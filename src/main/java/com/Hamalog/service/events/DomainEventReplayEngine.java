@@ -0,0 +1,403 @@
+package com.Hamalog.service.events;
+
+import com.Hamalog.config.EventStoreProperties;
+import com.Hamalog.domain.events.ProjectionCheckpoint;
+import com.Hamalog.domain.events.StoredDomainEvent;
+import com.Hamalog.repository.events.ProjectionCheckpointRepository;
+import com.Hamalog.repository.events.StoredDomainEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 도메인 이벤트 리플레이 엔진 (프로젝션 재구축)
+ *
+ * <p>새 읽기 모델을 이력으로 채울 때 보관 세그먼트(발생일 순)와 domain_event(id 순 페이지)를 읽어
+ * {@link DomainEventProjection}에 전달합니다. 페이지 안에서는 발생 시각 순으로 정렬한 뒤 aggregate별로 나눠
+ * fork-join 풀에서 병렬 적용하며(같은 aggregate는 한 작업에서 순서대로), 페이지가 모두 적용되면 체크포인트를 기록합니다.</p>
+ *
+ * <p>발생 시각 정렬은 세그먼트 하루와 테이블 페이지 단위입니다. 페이지 사이는 id(저장 순) 순서를 따르며, 체크포인트가
+ * 마지막 적용 id이므로 페이지 경계를 넘어 다시 정렬하지 않습니다. 보관 도중 중단되면 같은 이벤트가 세그먼트와 테이블에
+ * 함께 남거나 다시 보관될 수 있으므로, 재구축은 한 번의 실행 동안 세그먼트에서 읽은 eventId를 기억해 중복을 건너뜁니다
+ * (이어서 재구축할 때는 이미 적용한 날짜의 세그먼트에서 eventId만 다시 읽습니다).</p>
+ *
+ * <p>재구축이 끝난 프로젝션은 LIVE 상태가 되고, 실시간 따라잡기가 같은 체크포인트부터 새 이벤트를 계속 적용합니다.
+ * dry-run은 적용과 체크포인트 기록 없이 대상 이벤트를 읽고 타입별 건수와 처리 속도만 보고합니다.</p>
+ *
+ * <p>재구축 중에는 이벤트 보관 작업을 끄는 것을 권장합니다. 세그먼트 단계를 지난 뒤 보관된 이벤트는 이번 재구축에서 빠집니다.</p>
+ */
+@Service
+@Slf4j
+public class DomainEventReplayEngine {
+
+    private final StoredDomainEventRepository eventRepository;
+    private final DomainEventSegmentStore segmentStore;
+    private final ProjectionCheckpointRepository checkpointRepository;
+    private final Map<String, DomainEventProjection> projections;
+    private final EventStoreProperties.Replay properties;
+    private final MeterRegistry meterRegistry;
+    private final ForkJoinPool pool;
+
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+    private final Map<String, Double> ratesByProjection = new ConcurrentHashMap<>();
+    /** 직전 따라잡기에서 관측한 최대 ID (다음 따라잡기의 상한, 그 사이 커밋 중이던 행이 확정될 시간을 둠) */
+    private volatile Long observedMaxId;
+
+    public DomainEventReplayEngine(StoredDomainEventRepository eventRepository,
+                                   DomainEventSegmentStore segmentStore,
+                                   ProjectionCheckpointRepository checkpointRepository,
+                                   List<DomainEventProjection> projections,
+                                   EventStoreProperties eventStoreProperties,
+                                   MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.segmentStore = segmentStore;
+        this.checkpointRepository = checkpointRepository;
+        this.projections = projections.stream()
+                .collect(Collectors.toMap(DomainEventProjection::name, Function.identity()));
+        this.properties = eventStoreProperties.replay();
+        this.meterRegistry = meterRegistry;
+        this.pool = new ForkJoinPool(properties.parallelism());
+        for (String name : this.projections.keySet()) {
+            Gauge.builder("hamalog.event.replay.rate", ratesByProjection, rates -> rates.getOrDefault(name, 0.0))
+                    .description("Events per second of the last replay run")
+                    .tag("projection", name)
+                    .baseUnit("events/s")
+                    .register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 설정된 프로젝션 재구축을 백그라운드에서 시작 (체크포인트가 없거나 중단된 경우만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startConfiguredRebuilds() {
+        for (String name : properties.rebuild()) {
+            if (!projections.containsKey(name)) {
+                log.warn("[EVENT_REPLAY] Unknown projection in rebuild list: {}", name);
+                continue;
+            }
+            boolean pending = checkpointRepository.findById(name)
+                    .map(ProjectionCheckpoint::isRebuilding)
+                    .orElse(true);
+            if (properties.dryRun() || pending) {
+                Thread.ofVirtual().name("event-replay-" + name).start(() -> {
+                    try {
+                        rebuild(name, properties.dryRun());
+                    } catch (Exception e) {
+                        log.error("[EVENT_REPLAY] Rebuild failed - projection: {}", name, e);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * 프로젝션 재구축 (중단된 재구축이 있으면 이어서 처리)
+     *
+     * @param dryRun true면 적용과 체크포인트 기록 없이 읽기·집계만 수행
+     */
+    public ReplayResult rebuild(String projectionName, boolean dryRun) {
+        DomainEventProjection projection = requireProjection(projectionName);
+        ReentrantLock lock = lockFor(projectionName);
+        if (!lock.tryLock()) {
+            throw new IllegalStateException("Replay already running for projection: " + projectionName);
+        }
+        try {
+            return dryRun ? dryRun(projection) : rebuild(projection);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 재구축이 끝난 프로젝션에 새 이벤트 적용
+     */
+    @Scheduled(fixedDelayString = "${app.event-store.replay.catch-up-interval-ms:5000}")
+    public void catchUp() {
+        if (!properties.catchUpEnabled() || projections.isEmpty()) {
+            return;
+        }
+        Long upToId = observedMaxId;
+        observedMaxId = eventRepository.findMaxId();
+        if (upToId == null) {
+            return;
+        }
+        for (DomainEventProjection projection : projections.values()) {
+            ReentrantLock lock = lockFor(projection.name());
+            if (!lock.tryLock()) {
+                continue;
+            }
+            try {
+                checkpointRepository.findById(projection.name())
+                        .filter(checkpoint -> !checkpoint.isRebuilding())
+                        .ifPresent(checkpoint -> replayTable(projection, checkpoint, upToId, "live", Set.of()));
+            } catch (Exception e) {
+                log.error("[EVENT_REPLAY] Catch-up failed - projection: {}", projection.name(), e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private ReplayResult rebuild(DomainEventProjection projection) {
+        long startNanos = System.nanoTime();
+        ProjectionCheckpoint checkpoint = checkpointRepository.findById(projection.name())
+                .filter(ProjectionCheckpoint::isRebuilding)
+                .orElse(null);
+        if (checkpoint != null && checkpoint.getRunStartedAt() != null) {
+            log.info("[EVENT_REPLAY] Resuming rebuild - projection: {}, archiveDay: {}, eventId: {}",
+                    projection.name(), checkpoint.getLastArchiveDay(), checkpoint.getLastEventId());
+        } else {
+            checkpoint = checkpoint != null ? checkpoint : new ProjectionCheckpoint(projection.name());
+            checkpoint.start(LocalDateTime.now());
+            projection.reset();
+            log.info("[EVENT_REPLAY] Starting rebuild - projection: {}", projection.name());
+        }
+        checkpoint = checkpointRepository.save(checkpoint);
+        long appliedBefore = checkpoint.getAppliedCount();
+
+        Long upToId = eventRepository.findMaxId();
+        long observedAtNanos = System.nanoTime();
+
+        Set<String> seenEventIds = new HashSet<>();
+        for (LocalDate day : archivedDays()) {
+            if (checkpoint.getLastArchiveDay() != null && !day.isAfter(checkpoint.getLastArchiveDay())) {
+                // 이미 적용한 날짜: 이후 중복 제거를 위해 eventId만 기억
+                readArchivedDay(day).forEach(event -> seenEventIds.add(event.eventId()));
+                continue;
+            }
+            int applied = dispatch(projection, unseen(readArchivedDay(day), seenEventIds));
+            count(projection, "archive", applied);
+            checkpoint.advanceArchive(day, applied);
+            checkpoint = checkpointRepository.save(checkpoint);
+        }
+
+        if (upToId != null) {
+            awaitSettled(observedAtNanos);
+            checkpoint = replayTable(projection, checkpoint, upToId, "table", seenEventIds);
+        }
+
+        checkpoint.goLive();
+        checkpoint = checkpointRepository.save(checkpoint);
+        ReplayResult result = ReplayResult.of(projection.name(), false,
+                checkpoint.getAppliedCount() - appliedBefore, Map.of(), System.nanoTime() - startNanos);
+        ratesByProjection.put(projection.name(), result.eventsPerSecond());
+        log.info("[EVENT_REPLAY] Rebuild completed - projection: {}, applied: {}, {} events/s",
+                projection.name(), result.events(), String.format("%.1f", result.eventsPerSecond()));
+        return result;
+    }
+
+    private ReplayResult dryRun(DomainEventProjection projection) {
+        long startNanos = System.nanoTime();
+        Map<String, Long> countsByType = new TreeMap<>();
+        Set<String> seenEventIds = new HashSet<>();
+        for (LocalDate day : archivedDays()) {
+            countTypes(projection, unseen(readArchivedDay(day), seenEventIds), countsByType);
+        }
+        Long upToId = eventRepository.findMaxId();
+        long afterId = 0;
+        List<StoredDomainEvent> page;
+        while (upToId != null && !(page = eventRepository.findReplayPage(
+                afterId, upToId, PageRequest.of(0, properties.pageSize()))).isEmpty()) {
+            countTypes(projection, page.stream()
+                    .map(DomainEventRecord::from)
+                    .filter(event -> !seenEventIds.contains(event.eventId()))
+                    .toList(), countsByType);
+            afterId = page.get(page.size() - 1).getId();
+        }
+
+        long events = countsByType.values().stream().mapToLong(Long::longValue).sum();
+        ReplayResult result = ReplayResult.of(projection.name(), true, events, countsByType,
+                System.nanoTime() - startNanos);
+        ratesByProjection.put(projection.name(), result.eventsPerSecond());
+        log.info("[EVENT_REPLAY] Dry run - projection: {}, events: {}, byType: {}, {} events/s",
+                projection.name(), events, countsByType, String.format("%.1f", result.eventsPerSecond()));
+        return result;
+    }
+
+    /**
+     * domain_event를 체크포인트 이후부터 페이지 단위로 적용
+     *
+     * @param archivedEventIds 이번 재구축에서 세그먼트로 적용한 eventId (보관 도중 중단으로 테이블에 남은 행은 건너뜀)
+     */
+    private ProjectionCheckpoint replayTable(DomainEventProjection projection, ProjectionCheckpoint checkpoint,
+                                             Long upToId, String phase, Set<String> archivedEventIds) {
+        Long afterId = checkpoint.getLastEventId();
+        List<StoredDomainEvent> page;
+        while (!(page = eventRepository.findReplayPage(
+                afterId, upToId, PageRequest.of(0, properties.pageSize()))).isEmpty()) {
+            List<DomainEventRecord> events = page.stream()
+                    .map(DomainEventRecord::from)
+                    .filter(event -> !archivedEventIds.contains(event.eventId()))
+                    .sorted(Comparator.comparing(DomainEventRecord::occurredAt))
+                    .toList();
+            int applied = dispatch(projection, events);
+            count(projection, phase, applied);
+            afterId = page.get(page.size() - 1).getId();
+            checkpoint.advance(afterId, applied);
+            checkpoint = checkpointRepository.save(checkpoint);
+        }
+        return checkpoint;
+    }
+
+    /**
+     * 한 페이지를 aggregate별로 나눠 병렬 적용하고 모두 끝날 때까지 대기
+     *
+     * @return 적용한 이벤트 수
+     */
+    int dispatch(DomainEventProjection projection, List<DomainEventRecord> events) {
+        Map<String, List<DomainEventRecord>> byAggregate = events.stream()
+                .filter(event -> projection.supports(event.eventType()))
+                .collect(Collectors.groupingBy(DomainEventRecord::aggregateKey, LinkedHashMap::new,
+                        Collectors.toList()));
+        int total = byAggregate.values().stream().mapToInt(List::size).sum();
+        if (total == 0) {
+            return total;
+        }
+
+        List<Callable<Void>> tasks = byAggregate.values().stream()
+                .<Callable<Void>>map(aggregateEvents -> () -> {
+                    for (DomainEventRecord event : aggregateEvents) {
+                        projection.apply(event);
+                    }
+                    return null;
+                })
+                .toList();
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new ReplayException("Projection " + projection.name() + " failed to apply event", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReplayException("Replay interrupted for projection " + projection.name(), e);
+        }
+        return total;
+    }
+
+    private void countTypes(DomainEventProjection projection, List<DomainEventRecord> events,
+                            Map<String, Long> countsByType) {
+        events.stream()
+                .filter(event -> projection.supports(event.eventType()))
+                .forEach(event -> countsByType.merge(event.eventType(), 1L, Long::sum));
+    }
+
+    private List<LocalDate> archivedDays() {
+        try {
+            return segmentStore.days();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list archive segments", e);
+        }
+    }
+
+    private List<DomainEventRecord> readArchivedDay(LocalDate day) {
+        try {
+            return segmentStore.readDay(day).stream()
+                    .sorted(Comparator.comparing(DomainEventRecord::occurredAt))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archive segment " + day, e);
+        }
+    }
+
+    /**
+     * 아직 보지 않은 이벤트만 남기고 seen에 추가 (세그먼트 간 중복 제거)
+     */
+    private static List<DomainEventRecord> unseen(List<DomainEventRecord> events, Set<String> seen) {
+        return events.stream()
+                .filter(event -> seen.add(event.eventId()))
+                .toList();
+    }
+
+    private void awaitSettled(long observedAtNanos) {
+        long remaining = properties.settleWindow().toNanos() - (System.nanoTime() - observedAtNanos);
+        if (remaining > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ReplayException("Replay interrupted while waiting for settle window", e);
+            }
+        }
+    }
+
+    private void count(DomainEventProjection projection, String phase, int applied) {
+        if (applied > 0) {
+            meterRegistry.counter("hamalog.event.replay.events",
+                    "projection", projection.name(),
+                    "phase", phase).increment(applied);
+        }
+    }
+
+    private DomainEventProjection requireProjection(String projectionName) {
+        DomainEventProjection projection = projections.get(projectionName);
+        if (projection == null) {
+            throw new IllegalArgumentException("Unknown projection: " + projectionName);
+        }
+        return projection;
+    }
+
+    private ReentrantLock lockFor(String projectionName) {
+        return locks.computeIfAbsent(projectionName, name -> new ReentrantLock());
+    }
+
+    /**
+     * 리플레이 결과
+     *
+     * @param events       적용(dry-run이면 대상) 이벤트 수
+     * @param countsByType dry-run의 이벤트 타입별 건수
+     */
+    public record ReplayResult(
+            String projection,
+            boolean dryRun,
+            long events,
+            Map<String, Long> countsByType,
+            Duration elapsed,
+            double eventsPerSecond
+    ) {
+        static ReplayResult of(String projection, boolean dryRun, long events, Map<String, Long> countsByType,
+                               long elapsedNanos) {
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            return new ReplayResult(projection, dryRun, events, Map.copyOf(countsByType),
+                    Duration.ofNanos(elapsedNanos), seconds > 0 ? events / seconds : 0.0);
+        }
+    }
+
+    public static class ReplayException extends RuntimeException {
+        public ReplayException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
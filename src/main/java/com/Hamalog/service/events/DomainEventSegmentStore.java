@@ -0,0 +1,244 @@
+package com.Hamalog.service.events;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 도메인 이벤트 세그먼트 파일 저장소
+ *
+ * <p>발생일마다 세그먼트 파일({@code domain-events-YYYY-MM-DD.seg})과 인덱스 파일({@code .idx})을 하나씩 둡니다.
+ * 세그먼트는 추가 단위마다 독립된 gzip 멤버(이벤트 JSON 한 줄씩)를 이어 붙이기만 하고, 인덱스에는 멤버 위치와
+ * 멤버에 들어 있는 aggregate를 기록합니다. aggregate 이력은 인덱스가 가리키는 멤버만 풀어 읽습니다.</p>
+ *
+ * <p>인덱스 형식 (탭 구분, 추가 전용)
+ * <ul>
+ *   <li>{@code A <aggregateKey> <offset>}: 해당 멤버에 aggregate의 이벤트가 있음</li>
+ *   <li>{@code M <offset> <length> <count>}: 멤버 기록 완료 (aggregate 줄 다음에 써서 커밋 표시로 사용)</li>
+ * </ul>
+ * M 줄이 없는 멤버는 기록 도중 중단된 것으로 보고 읽지 않으며, 다음 추가 시 그 위치부터 덮어씁니다.</p>
+ */
+public class DomainEventSegmentStore {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("domain-events-(\\d{4}-\\d{2}-\\d{2})\\.seg");
+    private static final String MEMBER = "M";
+    private static final String AGGREGATE = "A";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public DomainEventSegmentStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 하루치 세그먼트에 이벤트를 gzip 멤버 하나로 추가
+     * 반환 시점에는 세그먼트와 인덱스가 모두 디스크에 기록되어 있으므로 원본 행을 삭제해도 됩니다.
+     */
+    public void append(LocalDate day, List<DomainEventRecord> events) throws IOException {
+        if (events.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(directory);
+        Path segment = segmentPath(day);
+        Path index = indexPath(day);
+
+        long offset = committedMembers(index).values().stream()
+                .mapToLong(member -> member.offset() + member.length())
+                .max()
+                .orElse(0L);
+        byte[] member = compress(events);
+
+        try (FileChannel channel = FileChannel.open(segment,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (channel.size() > offset) {
+                // 이전 추가가 인덱스 기록 전에 중단되어 남은 꼬리 제거
+                channel.truncate(offset);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(member);
+            long position = offset;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.force(true);
+        }
+
+        StringBuilder lines = new StringBuilder();
+        if (Files.exists(index) && Files.size(index) > 0 && !endsWithNewline(index)) {
+            lines.append('\n');
+        }
+        Set<String> aggregateKeys = new LinkedHashSet<>();
+        events.forEach(event -> aggregateKeys.add(event.aggregateKey()));
+        for (String aggregateKey : aggregateKeys) {
+            lines.append(AGGREGATE).append('\t').append(aggregateKey).append('\t').append(offset).append('\n');
+        }
+        lines.append(MEMBER).append('\t').append(offset).append('\t').append(member.length)
+                .append('\t').append(events.size()).append('\n');
+        try (FileChannel channel = FileChannel.open(index,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8)));
+            channel.force(true);
+        }
+    }
+
+    /**
+     * 보관된 aggregate 이력 조회 (발생일 순, 같은 날은 추가 순)
+     */
+    public List<DomainEventRecord> readAggregate(String aggregateType, String aggregateId) throws IOException {
+        String aggregateKey = aggregateType + ":" + aggregateId;
+        List<DomainEventRecord> events = new ArrayList<>();
+        for (LocalDate day : days()) {
+            Path index = indexPath(day);
+            TreeMap<Long, Member> members = committedMembers(index);
+            Set<Long> offsets = new LinkedHashSet<>();
+            for (String[] fields : indexLines(index)) {
+                if (fields.length == 3 && AGGREGATE.equals(fields[0]) && aggregateKey.equals(fields[1])) {
+                    offsets.add(Long.parseLong(fields[2]));
+                }
+            }
+            for (Long offset : offsets) {
+                Member member = members.get(offset);
+                if (member != null) {
+                    readMember(segmentPath(day), member).stream()
+                            .filter(event -> aggregateKey.equals(event.aggregateKey()))
+                            .forEach(events::add);
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * 하루치 보관 이벤트 전체 조회 (추가 순)
+     */
+    public List<DomainEventRecord> readDay(LocalDate day) throws IOException {
+        List<DomainEventRecord> events = new ArrayList<>();
+        for (Member member : committedMembers(indexPath(day)).values()) {
+            events.addAll(readMember(segmentPath(day), member));
+        }
+        return events;
+    }
+
+    /**
+     * 세그먼트가 있는 날짜 목록 (오름차순)
+     */
+    public List<LocalDate> days() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> SEGMENT_NAME.matcher(path.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> LocalDate.parse(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private byte[] compress(List<DomainEventRecord> events) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            for (DomainEventRecord event : events) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.write('\n');
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<DomainEventRecord> readMember(Path segment, Member member) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(member.length()));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long position = member.offset();
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("Truncated segment member at " + member.offset() + " in " + segment);
+                }
+                position += read;
+            }
+        }
+        List<DomainEventRecord> events = new ArrayList<>(member.count());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(buffer.array())), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    events.add(objectMapper.readValue(line, DomainEventRecord.class));
+                }
+            }
+        }
+        return events;
+    }
+
+    private TreeMap<Long, Member> committedMembers(Path index) throws IOException {
+        TreeMap<Long, Member> members = new TreeMap<>();
+        for (String[] fields : indexLines(index)) {
+            if (fields.length == 4 && MEMBER.equals(fields[0])) {
+                try {
+                    Member member = new Member(Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                            Integer.parseInt(fields[3]));
+                    members.put(member.offset(), member);
+                } catch (NumberFormatException e) {
+                    // 기록 도중 중단된 줄
+                }
+            }
+        }
+        return members;
+    }
+
+    private static List<String[]> indexLines(Path index) throws IOException {
+        if (!Files.exists(index)) {
+            return List.of();
+        }
+        try (Stream<String> lines = Files.lines(index, StandardCharsets.UTF_8)) {
+            return lines.map(line -> line.split("\t")).toList();
+        }
+    }
+
+    private static boolean endsWithNewline(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.read(last, channel.size() - 1);
+            return last.get(0) == '\n';
+        }
+    }
+
+    private Path segmentPath(LocalDate day) {
+        return directory.resolve("domain-events-" + day + ".seg");
+    }
+
+    private Path indexPath(LocalDate day) {
+        return directory.resolve("domain-events-" + day + ".idx");
+    }
+
+    /**
+     * 세그먼트 안의 gzip 멤버 위치
+     */
+    private record Member(long offset, long length, int count) {
+    }
+}
@@ -0,0 +1,256 @@
+package com.Hamalog.service.events;
+
+import com.Hamalog.config.EventStoreProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인 이벤트 Redis Stream 소비자
+ *
+ * <p>모든 노드가 같은 소비자 그룹으로 파티션 스트림을 읽어 {@link DomainEventStreamHandler}에 전달하므로,
+ * 무거운 후처리가 요청을 받은 노드가 아닌 여유 있는 노드에서 실행되고 소비자 수를 따로 늘릴 수 있습니다.</p>
+ *
+ * <p>모든 대상 핸들러가 성공해야 ACK합니다. 실패했거나 노드가 중단되어 ACK되지 않은 레코드는 소비자 그룹의 대기 목록(PEL)에
+ * 남고, 회수 작업이 {@code reclaim-min-idle}이 지난 레코드를 XCLAIM으로 가져와 다시 처리합니다. 이미 성공한 핸들러는
+ * eventId 처리 완료 기록으로 건너뜁니다. 전달 횟수가 {@code max-deliveries}에 이른 레코드는 다시 처리하지 않고 원래 필드에
+ * 출처 스트림/ID와 전달 횟수를 붙여 데드 레터 스트림에 추가한 뒤 ACK합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.event-store.stream.enabled", havingValue = "true")
+@Slf4j
+public class DomainEventStreamConsumer {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final EventStoreProperties.Stream properties;
+    private final List<DomainEventStreamHandler> handlers;
+    private final MeterRegistry meterRegistry;
+    private final Consumer consumer;
+    private final AtomicBoolean running = new AtomicBoolean(true);
+
+    public DomainEventStreamConsumer(RedisTemplate<String, Object> redisTemplate,
+                                     EventStoreProperties eventStoreProperties,
+                                     List<DomainEventStreamHandler> handlers,
+                                     MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = eventStoreProperties.stream();
+        this.handlers = handlers;
+        this.meterRegistry = meterRegistry;
+        this.consumer = Consumer.from(properties.consumerGroup(), resolveConsumerName(properties));
+    }
+
+    @PostConstruct
+    void init() {
+        for (int partition = 0; partition < properties.partitions(); partition++) {
+            createGroupIfNotExists(properties.partitionKey(partition));
+        }
+        log.info("[EVENT_STREAM] Consumer {} initialized for {} partitions, handlers: {}",
+                consumer.getName(), properties.partitions(),
+                handlers.stream().map(DomainEventStreamHandler::name).toList());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running.set(false);
+    }
+
+    /**
+     * 새 레코드 소비
+     */
+    @Scheduled(fixedDelayString = "${app.event-store.stream.poll-interval-ms:1000}")
+    public void consume() {
+        if (!running.get()) {
+            return;
+        }
+        try {
+            read().forEach(this::process);
+        } catch (Exception e) {
+            log.error("[EVENT_STREAM] Error consuming domain events: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 유휴 대기 레코드 회수
+     * XCLAIM이 유휴 시간을 다시 확인하므로 여러 노드가 동시에 실행해도 한 노드만 가져갑니다.
+     */
+    @Scheduled(fixedDelayString = "${app.event-store.stream.reclaim-interval-ms:30000}")
+    public void reclaimPending() {
+        if (!running.get()) {
+            return;
+        }
+        for (int partition = 0; partition < properties.partitions(); partition++) {
+            try {
+                reclaim(bytes(properties.partitionKey(partition)));
+            } catch (Exception e) {
+                log.error("[EVENT_STREAM] Failed to reclaim pending events of partition {}: {}",
+                        partition, e.getMessage());
+            }
+        }
+    }
+
+    void reclaim(byte[] streamKey) {
+        Duration minIdle = properties.reclaimMinIdle();
+        PendingMessages pending = redisTemplate.execute((RedisCallback<PendingMessages>) connection ->
+                connection.streamCommands().xPending(streamKey, properties.consumerGroup(), Range.unbounded(),
+                        (long) properties.readBatchSize()));
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+        // XCLAIM 직전의 전달 횟수 (XCLAIM이 1 늘림)
+        Map<RecordId, Long> deliveries = new LinkedHashMap<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0) {
+                deliveries.put(message.getId(), message.getTotalDeliveryCount());
+            }
+        }
+        if (deliveries.isEmpty()) {
+            return;
+        }
+
+        RecordId[] idleIds = deliveries.keySet().toArray(RecordId[]::new);
+        List<ByteRecord> claimed = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xClaim(streamKey, properties.consumerGroup(), consumer.getName(),
+                        XClaimOptions.minIdle(minIdle).ids(idleIds)));
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+        meterRegistry.counter("hamalog.event.stream.reclaimed").increment(claimed.size());
+        log.warn("[EVENT_STREAM] Reclaimed {} pending events idle for over {}s",
+                claimed.size(), minIdle.toSeconds());
+        for (ByteRecord record : claimed) {
+            long delivered = deliveries.getOrDefault(record.getId(), 0L);
+            if (delivered >= properties.maxDeliveries()) {
+                deadLetter(record, delivered);
+            } else {
+                process(record);
+            }
+        }
+    }
+
+    /**
+     * 최대 전달 횟수를 넘은 레코드를 데드 레터 스트림에 추가하고 ACK
+     */
+    private void deadLetter(ByteRecord record, long delivered) {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>(record.getValue());
+        fields.put(bytes("sourceStream"), record.getStream());
+        fields.put(bytes("sourceId"), bytes(record.getId().getValue()));
+        fields.put(bytes("deliveries"), bytes(String.valueOf(delivered)));
+        byte[] deadLetterKey = bytes(properties.deadLetterKey());
+        redisTemplate.execute((RedisCallback<RecordId>) connection ->
+                connection.streamCommands().xAdd(StreamRecords.rawBytes(fields).withStreamKey(deadLetterKey)));
+        acknowledge(record);
+        meterRegistry.counter("hamalog.event.stream.dead-lettered").increment();
+        DomainEventRecord event = DomainEventRecord.fromFields(record.getValue());
+        log.error("[EVENT_STREAM] Moved {} ({}) to dead letter stream after {} deliveries",
+                event.eventType(), event.eventId(), delivered);
+    }
+
+    private List<ByteRecord> read() {
+        @SuppressWarnings("unchecked")
+        StreamOffset<byte[]>[] offsets = IntStream.range(0, properties.partitions())
+                .mapToObj(partition -> StreamOffset.create(bytes(properties.partitionKey(partition)),
+                        ReadOffset.lastConsumed()))
+                .toArray(StreamOffset[]::new);
+        List<ByteRecord> records = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xReadGroup(consumer,
+                        StreamReadOptions.empty().count(properties.readBatchSize()), offsets));
+        return records != null ? records : List.of();
+    }
+
+    void process(ByteRecord record) {
+        DomainEventRecord event = DomainEventRecord.fromFields(record.getValue());
+        boolean allHandled = true;
+        for (DomainEventStreamHandler handler : handlers) {
+            if (!handler.supports(event.eventType())) {
+                continue;
+            }
+            String handledKey = properties.keyPrefix() + ":handled:" + handler.name() + ":" + event.eventId();
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(handledKey))) {
+                count(handler, "duplicate");
+                continue;
+            }
+            try {
+                handler.handle(event);
+                redisTemplate.opsForValue().set(handledKey, 1, properties.handledTtl());
+                count(handler, "success");
+            } catch (Exception e) {
+                allHandled = false;
+                count(handler, "failure");
+                log.warn("[EVENT_STREAM] Handler {} failed for {} ({}): {}",
+                        handler.name(), event.eventType(), event.eventId(), e.getMessage(), e);
+            }
+        }
+        if (allHandled) {
+            acknowledge(record);
+        }
+    }
+
+    private void acknowledge(ByteRecord record) {
+        redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.streamCommands().xAck(record.getStream(), consumer.getGroup(), record.getId()));
+    }
+
+    private void createGroupIfNotExists(String streamKey) {
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.streamCommands().xGroupCreate(bytes(streamKey), properties.consumerGroup(),
+                            ReadOffset.from("0"), true));
+            log.info("[EVENT_STREAM] Consumer group {} created for stream {}", properties.consumerGroup(), streamKey);
+        } catch (Exception e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message != null && message.contains("BUSYGROUP")) {
+                log.debug("[EVENT_STREAM] Consumer group already exists for stream {}", streamKey);
+            } else {
+                log.warn("[EVENT_STREAM] Failed to create consumer group for stream {}: {}", streamKey, message);
+            }
+        }
+    }
+
+    private void count(DomainEventStreamHandler handler, String result) {
+        meterRegistry.counter("hamalog.event.stream.handled",
+                "handler", handler.name(),
+                "result", result).increment();
+    }
+
+    private static String resolveConsumerName(EventStoreProperties.Stream properties) {
+        if (properties.consumerName() != null && !properties.consumerName().isBlank()) {
+            return properties.consumerName();
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "consumer-" + UUID.randomUUID();
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,30 @@
+package com.Hamalog.service.events;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Redis Stream 도메인 이벤트 핸들러
+ *
+ * <p>{@link DomainEventStreamConsumer}가 소비자 그룹으로 읽은 이벤트를 전달합니다. 전달은 최소 1회이므로
+ * 같은 eventId가 다시 올 수 있으며, 소비자는 핸들러별로 eventId 처리 완료를 기록해 성공한 핸들러를 다시 실행하지 않습니다.
+ * 예외를 던지면 ACK하지 않아 재전달됩니다.</p>
+ */
+public interface DomainEventStreamHandler {
+
+    /**
+     * 처리 대상 이벤트 타입인지 여부
+     */
+    boolean supports(String eventType);
+
+    /**
+     * 이벤트 처리
+     */
+    void handle(DomainEventRecord event) throws Exception;
+
+    /**
+     * 처리 완료 기록에 쓰는 핸들러 이름 (변경하면 보관 기간 안의 이벤트가 다시 처리될 수 있음)
+     */
+    default String name() {
+        return ClassUtils.getUserClass(getClass()).getSimpleName();
+    }
+}
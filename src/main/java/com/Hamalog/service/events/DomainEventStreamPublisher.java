@@ -0,0 +1,76 @@
+package com.Hamalog.service.events;
+
+import com.Hamalog.config.EventStoreProperties;
+import com.Hamalog.domain.events.StoredDomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인 이벤트 Redis Stream 발행기
+ *
+ * <p>아웃박스 릴레이가 잠근 배치를 aggregate별 파티션 스트림에 id 순으로 추가합니다(파이프라인 1회).
+ * 릴레이는 리더 임대를 가진 노드 하나만 실행되므로 같은 aggregate의 이벤트는 커밋 순서대로 스트림에 쌓입니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.event-store.stream.enabled", havingValue = "true")
+@Slf4j
+public class DomainEventStreamPublisher {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final EventStoreProperties.Stream properties;
+    private final RedisLease relayLease;
+    private final Counter publishedCounter;
+
+    public DomainEventStreamPublisher(RedisTemplate<String, Object> redisTemplate,
+                                      EventStoreProperties eventStoreProperties,
+                                      MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = eventStoreProperties.stream();
+        this.relayLease = new RedisLease(redisTemplate, properties.keyPrefix() + ":relay-lease",
+                properties.relayLeaseTtl());
+        this.publishedCounter = Counter.builder("hamalog.event.stream.published")
+                .description("Domain events appended to Redis Streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 릴레이 리더 임대 획득 또는 연장
+     *
+     * @return 이 노드가 임대를 가지고 있으면 true
+     */
+    public boolean acquireRelayLease() {
+        return relayLease.acquire();
+    }
+
+    /**
+     * 이벤트를 파티션 스트림에 순서대로 추가
+     * 하나라도 실패하면 예외를 던져 릴레이 트랜잭션이 롤백되고 배치 전체가 다시 전달됩니다(최소 1회).
+     */
+    public void publish(List<StoredDomainEvent> events) {
+        XAddOptions options = XAddOptions.maxlen(properties.maxLength()).approximateTrimming(true);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (StoredDomainEvent event : events) {
+                DomainEventRecord record = DomainEventRecord.from(event);
+                byte[] streamKey = bytes(properties.partitionKey(record.partition(properties.partitions())));
+                connection.streamCommands().xAdd(StreamRecords.rawBytes(record.toFields()).withStreamKey(streamKey),
+                        options);
+            }
+            return null;
+        });
+        publishedCounter.increment(events.size());
+        log.debug("[EVENT_STREAM] Published {} domain events", events.size());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,6 @@
 package com.Hamalog.service.events;
 
+import com.Hamalog.config.EventStoreProperties;
 import com.Hamalog.domain.events.DomainEvent;
 import com.Hamalog.domain.events.StoredDomainEvent;
 import com.Hamalog.logging.StructuredLogger;
@@ -16,6 +17,8 @@ import org.springframework.stereotype.Component;
  * 가장 먼저 실행되어 이벤트를 저장한 후 다른 핸들러들이 처리
  *
  * <p>설정: {@code app.event-store.enabled=true} (기본값: true)</p>
+ * <p>{@code app.event-store.mode=outbox}이면 쓰기 트랜잭션 안에서 발행된 이벤트를 {@link DomainEventOutbox}에 담아
+ * 업무 변경과 함께 커밋하고, 감사 로그는 {@link DomainEventOutboxRelay}가 남깁니다.</p>
  * <p>참고: docs/internal/adr/0004-domain-event-pattern.md</p>
  */
 @Component
@@ -26,6 +29,8 @@ public class EventPersistenceHandler {
 
     private final EventStoreService eventStoreService;
     private final StructuredLogger structuredLogger;
+    private final EventStoreProperties properties;
+    private final DomainEventOutbox outbox;
 
     /**
      * 모든 도메인 이벤트를 저장소에 영속화
@@ -35,13 +40,18 @@ public class EventPersistenceHandler {
     @Order(-100)
     public void persistEvent(DomainEvent event) {
         try {
+            if (properties.mode() == EventStoreProperties.Mode.OUTBOX) {
+                persistToOutbox(event);
+                return;
+            }
+
             StoredDomainEvent storedEvent = eventStoreService.store(event);
             log.debug("Persisted domain event: {} -> stored ID: {}",
                     event.getEventType(), storedEvent.getId());
 
             // 감사 로그 기록
             AuditEvent auditEvent = AuditEvent.builder()
-                    .userId(extractUserId(event))
+                    .userId(DomainEventDescriptor.of(event).userId(event))
                     .operation("DOMAIN_EVENT_PUBLISHED")
                     .entityType(event.getEventType())
                     .entityId(event.getAggregateId())
@@ -56,14 +66,14 @@ public class EventPersistenceHandler {
         }
     }
 
-    private String extractUserId(DomainEvent event) {
-        // 이벤트에서 userId 추출 시도
-        try {
-            var method = event.getClass().getMethod("getMemberLoginId");
-            Object result = method.invoke(event);
-            return result != null ? result.toString() : "system";
-        } catch (Exception e) {
-            return "system";
+    private void persistToOutbox(DomainEvent event) {
+        if (outbox.enqueue(event)) {
+            log.debug("Queued domain event in outbox: {}", event.getEventType());
+            return;
         }
+        // 쓰기 트랜잭션 밖(읽기 전용, 커밋 이후 리스너 등)에서 발행된 이벤트는 바로 저장하고 후처리는 릴레이에 맡김
+        StoredDomainEvent storedEvent = eventStoreService.store(event);
+        log.debug("Persisted domain event outside transaction: {} -> stored ID: {}",
+                event.getEventType(), storedEvent.getId());
     }
 }
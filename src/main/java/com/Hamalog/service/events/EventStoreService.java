@@ -4,8 +4,6 @@ import com.Hamalog.domain.events.DomainEvent;
 import com.Hamalog.domain.events.StoredDomainEvent;
 import com.Hamalog.repository.events.StoredDomainEventRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -20,12 +18,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class EventStoreService {
 
     private final StoredDomainEventRepository repository;
-    private final ObjectMapper objectMapper;
+    private final DomainEventPayloadCodec payloadCodec;
 
-    public EventStoreService(StoredDomainEventRepository repository) {
+    public EventStoreService(StoredDomainEventRepository repository, DomainEventPayloadCodec payloadCodec) {
         this.repository = repository;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.payloadCodec = payloadCodec;
     }
 
     /**
@@ -34,23 +31,24 @@ public class EventStoreService {
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public StoredDomainEvent store(DomainEvent event) {
-        try {
-            String payload = objectMapper.writeValueAsString(event);
-            String aggregateType = extractAggregateType(event);
+        StoredDomainEvent saved = repository.save(toStoredEvent(event));
+        log.debug("Stored domain event: {} with ID: {}", event.getEventType(), saved.getId());
+        return saved;
+    }
 
-            StoredDomainEvent storedEvent = new StoredDomainEvent(
+    /**
+     * 도메인 이벤트를 저장 전 엔티티로 변환 (페이로드 직렬화, aggregate type 추출)
+     */
+    public StoredDomainEvent toStoredEvent(DomainEvent event) {
+        try {
+            return new StoredDomainEvent(
                     event.getEventId(),
                     event.getEventType(),
-                    aggregateType,
+                    DomainEventDescriptor.of(event).aggregateType(),
                     event.getAggregateId(),
-                    payload,
+                    payloadCodec.encode(event),
                     event.getOccurredOn()
             );
-
-            StoredDomainEvent saved = repository.save(storedEvent);
-            log.debug("Stored domain event: {} with ID: {}", event.getEventType(), saved.getId());
-            return saved;
-
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize domain event: {}", event.getEventType(), e);
             throw new EventStoreException("Failed to serialize event", e);
@@ -81,23 +79,6 @@ public class EventStoreService {
         });
     }
 
-    private String extractAggregateType(DomainEvent event) {
-        String eventType = event.getEventType();
-        // MedicationScheduleCreated -> MedicationSchedule
-        // MemberDeletedEvent -> Member
-        if (eventType.endsWith("Event")) {
-            eventType = eventType.substring(0, eventType.length() - 5);
-        }
-        // 마지막 동사 제거 (Created, Updated, Deleted 등)
-        String[] suffixes = {"Created", "Updated", "Deleted", "Succeeded", "Failed"};
-        for (String suffix : suffixes) {
-            if (eventType.endsWith(suffix)) {
-                return eventType.substring(0, eventType.length() - suffix.length());
-            }
-        }
-        return eventType;
-    }
-
     public static class EventStoreException extends RuntimeException {
         public EventStoreException(String message, Throwable cause) {
             super(message, cause);
@@ -0,0 +1,68 @@
+package com.Hamalog.service.events;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+/**
+ * Redis 키 하나로 구현한 노드 간 임대
+ * 키가 없으면 이 노드 ID로 만료 시간과 함께 설정(SET NX PX)하고, 이미 이 노드의 것이면 만료 시간만 연장합니다.
+ * 노드가 멈추면 만료 후 다른 노드가 가져갑니다.
+ */
+public final class RedisLease {
+
+    /** 임대를 가진 노드면 만료 시간을 연장 (1), 아니면 0 */
+    private static final byte[] RENEW_SCRIPT = bytes(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end");
+
+    /** 임대를 가진 노드면 삭제 (1), 아니면 0 */
+    private static final byte[] RELEASE_SCRIPT = bytes(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final byte[] key;
+    private final byte[] nodeId = bytes(UUID.randomUUID().toString());
+    private final Duration ttl;
+
+    public RedisLease(RedisTemplate<String, Object> redisTemplate, String key, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.key = bytes(key);
+        this.ttl = ttl;
+    }
+
+    /**
+     * 임대 획득 또는 연장
+     *
+     * @return 이 노드가 임대를 가지고 있으면 true
+     */
+    public boolean acquire() {
+        byte[] ttlMillis = bytes(String.valueOf(ttl.toMillis()));
+        Boolean acquired = redisTemplate.execute((RedisCallback<Boolean>) connection -> {
+            Long renewed = connection.scriptingCommands().eval(RENEW_SCRIPT, ReturnType.INTEGER, 1,
+                    key, nodeId, ttlMillis);
+            if (renewed != null && renewed == 1L) {
+                return true;
+            }
+            return connection.stringCommands().set(key, nodeId,
+                    Expiration.milliseconds(ttl.toMillis()), SetOption.SET_IF_ABSENT);
+        });
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    /**
+     * 이 노드가 가진 임대 반납 (다른 노드의 임대는 건드리지 않음)
+     */
+    public void release() {
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands()
+                .eval(RELEASE_SCRIPT, ReturnType.INTEGER, 1, key, nodeId));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,105 @@
+package com.Hamalog.service.export;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 스트리밍 CSV 작성기 (RFC 4180, UTF-8, 줄바꿈 LF)
+ *
+ * <p>셀 값을 이스케이프하면서 버퍼에 바로 쓰므로 행마다 중간 문자열을 만들지 않습니다.
+ * 한 인스턴스로 여러 행을 이어 쓰며, {@link #close()}는 버퍼만 비우고 대상 스트림은 닫지 않습니다.</p>
+ */
+final class CsvWriter implements Flushable, Closeable {
+
+    /** Excel이 UTF-8 CSV를 한글 깨짐 없이 열도록 파일 앞에 붙이는 BOM */
+    static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Writer writer;
+    private boolean rowStarted;
+
+    CsvWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * 한 행을 씀 (헤더 등)
+     */
+    void writeRow(String... cells) throws IOException {
+        for (String cell : cells) {
+            cell(cell);
+        }
+        endRow();
+    }
+
+    /**
+     * 현재 행에 셀 추가 (null은 빈 셀)
+     */
+    CsvWriter cell(Object value) throws IOException {
+        return cell(value == null ? null : value.toString());
+    }
+
+    /**
+     * 현재 행에 셀 추가 (쉼표·따옴표·줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 씀)
+     */
+    CsvWriter cell(String value) throws IOException {
+        if (rowStarted) {
+            writer.write(',');
+        }
+        rowStarted = true;
+
+        if (value == null || value.isEmpty()) {
+            return this;
+        }
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return this;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+        return this;
+    }
+
+    /**
+     * 현재 행 종료
+     */
+    void endRow() throws IOException {
+        writer.write('\n');
+        rowStarted = false;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,79 @@
+package com.Hamalog.service.export;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 비동기 내보내기 작업 (노드 메모리에 보관, 결과 파일은 로컬 디렉터리)
+ *
+ * <p>상태 전이는 작업 스레드 하나에서만 일어나고, 조회 스레드는 volatile 필드로 최신 상태를 읽습니다.</p>
+ */
+@Getter
+public class ExportJob {
+
+    private final String jobId;
+    private final Long memberId;
+    private final ExportJobFormat format;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final LocalDateTime createdAt;
+
+    private volatile ExportJobStatus status = ExportJobStatus.PENDING;
+    private volatile Path artifact;
+    private volatile long sizeBytes;
+    private volatile LocalDateTime completedAt;
+    private volatile LocalDateTime expiresAt;
+
+    ExportJob(String jobId, Long memberId, ExportJobFormat format, LocalDate startDate, LocalDate endDate) {
+        this.jobId = jobId;
+        this.memberId = memberId;
+        this.format = format;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    void markRunning() {
+        status = ExportJobStatus.RUNNING;
+    }
+
+    void markCompleted(Path artifact, long sizeBytes, LocalDateTime expiresAt) {
+        this.artifact = artifact;
+        this.sizeBytes = sizeBytes;
+        this.completedAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+        this.status = ExportJobStatus.COMPLETED;
+    }
+
+    void markFailed(LocalDateTime expiresAt) {
+        this.completedAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+        this.status = ExportJobStatus.FAILED;
+    }
+
+    /**
+     * 같은 조건의 요청인지 (진행 중 작업 중복 제거용, 전체 JSON은 기간과 무관)
+     */
+    boolean isSameRequest(ExportJobFormat format, LocalDate startDate, LocalDate endDate) {
+        return this.format == format
+                && (format == ExportJobFormat.JSON
+                || (this.startDate.equals(startDate) && this.endDate.equals(endDate)));
+    }
+
+    boolean isExpired(LocalDateTime now) {
+        LocalDateTime expiry = expiresAt;
+        return expiry != null && !now.isBefore(expiry);
+    }
+
+    /**
+     * 다운로드 파일 이름
+     */
+    public String filename() {
+        if (format == ExportJobFormat.JSON) {
+            return String.format("hamalog_data_%s_%s%s", memberId, createdAt.toLocalDate(), format.getExtension());
+        }
+        return String.format("hamalog_export_%s_%s_to_%s%s", memberId, startDate, endDate, format.getExtension());
+    }
+}
@@ -0,0 +1,25 @@
+package com.Hamalog.service.export;
+
+import lombok.Getter;
+
+/**
+ * 비동기 내보내기 작업 결과 파일 형식
+ */
+@Getter
+public enum ExportJobFormat {
+
+    /** 전체 데이터 JSON (gzip) */
+    JSON(".json.gz", "application/gzip"),
+    /** 기간 내 복약 기록 CSV (gzip, UTF-8 BOM 포함) */
+    CSV(".csv.gz", "application/gzip"),
+    /** 전체 데이터 JSON과 복약 기록 CSV를 묶은 zip */
+    ZIP(".zip", "application/zip");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportJobFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+}
@@ -0,0 +1,264 @@
+package com.Hamalog.service.export;
+
+import com.Hamalog.config.ExportJobProperties;
+import com.Hamalog.exception.CustomException;
+import com.Hamalog.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+/**
+ * 비동기 데이터 내보내기 작업 서비스
+ *
+ * <p>내보내기 요청은 작업으로 등록만 하고 바로 반환하며, 실제 쓰기는 exportJobExecutor(제한된 워커 풀)에서
+ * 로컬 디렉터리의 압축 파일로 수행합니다. 요청 스레드와 DB 커넥션을 내보내기 시간 동안 점유하지 않습니다.
+ * 같은 회원이 같은 조건으로 진행 중인 작업이 있으면 새 작업을 만들지 않고 그 작업을 반환하고, 조건이 다른 작업은
+ * 회원당 {@code max-active-per-member}개까지만 대기·실행시켜 한 회원이 워커 대기열을 채우지 못하게 합니다.</p>
+ *
+ * <p>작업 목록은 노드 메모리에, 파일은 노드 로컬 디스크에 있으므로 조회·다운로드는 작업을 만든 노드에서만 가능합니다.
+ * 기동 시 이전 실행의 파일을 지우고, 보관 기간이 지난 작업과 파일은 주기적으로 정리합니다.</p>
+ */
+@Service
+@Slf4j
+public class ExportJobService {
+
+    private static final String PARTIAL_SUFFIX = ".part";
+    private static final int GZIP_BUFFER_SIZE = 8192;
+    private static final String ZIP_JSON_ENTRY = "hamalog_data.json";
+    private static final String ZIP_CSV_ENTRY = "medication_records.csv";
+    /** 이 서비스가 만든 파일 이름 ({jobId}.json.gz 등) - 디렉터리의 다른 파일은 건드리지 않음 */
+    private static final Pattern ARTIFACT_NAME = Pattern.compile(
+            "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}\\.(part|json\\.gz|csv\\.gz|zip)");
+
+    private final ExportService exportService;
+    private final ExportJobProperties properties;
+    private final Executor exportJobExecutor;
+    private final Path directory;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Counter deduplicatedCounter;
+
+    public ExportJobService(
+            ExportService exportService,
+            ExportJobProperties properties,
+            @Qualifier("exportJobExecutor") Executor exportJobExecutor,
+            MeterRegistry meterRegistry) {
+        this.exportService = exportService;
+        this.properties = properties;
+        this.exportJobExecutor = exportJobExecutor;
+        this.directory = Path.of(properties.directory()).toAbsolutePath().normalize();
+
+        this.completedCounter = Counter.builder("hamalog.export.job.completed")
+                .description("Total export jobs completed")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("hamalog.export.job.failed")
+                .description("Total export jobs failed")
+                .register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder("hamalog.export.job.deduplicated")
+                .description("Export requests served by an already running job")
+                .register(meterRegistry);
+        Gauge.builder("hamalog.export.job.active", jobs,
+                        m -> m.values().stream().filter(job -> job.getStatus().isActive()).count())
+                .description("Export jobs pending or running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 내보내기 디렉터리 준비 (이전 실행에서 남은 작업 파일은 작업 정보가 없으므로 삭제)
+     */
+    @PostConstruct
+    void initDirectory() throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> ARTIFACT_NAME.matcher(path.getFileName().toString()).matches())
+                    .forEach(this::deleteQuietly);
+        }
+    }
+
+    /**
+     * 내보내기 작업 등록
+     *
+     * @return 새로 등록한 작업, 또는 같은 조건으로 진행 중인 기존 작업
+     * @throws CustomException 회원의 진행 중인 작업이 한도에 이른 경우 EXPORT_JOB_LIMIT_EXCEEDED,
+     *                         워커 대기열이 가득 찬 경우 RESOURCE_BUSY
+     */
+    public ExportJob submit(Long memberId, ExportJobFormat format, LocalDate startDate, LocalDate endDate) {
+        exportService.validateExportable(memberId);
+
+        ExportJob job;
+        synchronized (this) {
+            ExportJob running = findActive(memberId, format, startDate, endDate);
+            if (running != null) {
+                deduplicatedCounter.increment();
+                return running;
+            }
+            if (countActive(memberId) >= properties.maxActivePerMember()) {
+                log.warn("[EXPORT_JOB] Active job limit reached - memberId: {}, format: {}", memberId, format);
+                throw new CustomException(ErrorCode.EXPORT_JOB_LIMIT_EXCEEDED);
+            }
+            job = new ExportJob(UUID.randomUUID().toString(), memberId, format, startDate, endDate);
+            jobs.put(job.getJobId(), job);
+        }
+
+        try {
+            exportJobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            log.warn("[EXPORT_JOB] Worker queue full - memberId: {}, format: {}", memberId, format);
+            throw new CustomException(ErrorCode.RESOURCE_BUSY);
+        }
+
+        log.info("[EXPORT_JOB] Submitted - jobId: {}, memberId: {}, format: {}", job.getJobId(), memberId, format);
+        return job;
+    }
+
+    /**
+     * 작업 조회 (다른 회원의 작업은 존재 여부를 드러내지 않도록 NOT_FOUND)
+     */
+    public ExportJob getJob(Long memberId, String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null || !job.getMemberId().equals(memberId)) {
+            throw new CustomException(ErrorCode.EXPORT_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * 다운로드 가능한 완료 작업 조회
+     *
+     * @throws CustomException 아직 진행 중이거나 실패한 작업이면 EXPORT_JOB_NOT_READY
+     */
+    public ExportJob getCompletedJob(Long memberId, String jobId) {
+        ExportJob job = getJob(memberId, jobId);
+        if (job.getStatus() != ExportJobStatus.COMPLETED) {
+            throw new CustomException(ErrorCode.EXPORT_JOB_NOT_READY);
+        }
+        if (!Files.exists(job.getArtifact())) {
+            throw new CustomException(ErrorCode.EXPORT_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * 보관 기간이 지난 작업과 파일 정리
+     */
+    @Scheduled(fixedDelayString = "${hamalog.export-job.cleanup-interval-ms:600000}")
+    public void cleanupExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int removed = 0;
+        for (Iterator<ExportJob> it = jobs.values().iterator(); it.hasNext(); ) {
+            ExportJob job = it.next();
+            if (job.isExpired(now)) {
+                it.remove();
+                if (job.getArtifact() != null) {
+                    deleteQuietly(job.getArtifact());
+                }
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.info("[EXPORT_JOB] Cleaned up {} expired jobs", removed);
+        }
+    }
+
+    private ExportJob findActive(Long memberId, ExportJobFormat format, LocalDate startDate, LocalDate endDate) {
+        for (ExportJob job : jobs.values()) {
+            if (job.getMemberId().equals(memberId) && job.getStatus().isActive()
+                    && job.isSameRequest(format, startDate, endDate)) {
+                return job;
+            }
+        }
+        return null;
+    }
+
+    private long countActive(Long memberId) {
+        return jobs.values().stream()
+                .filter(job -> job.getMemberId().equals(memberId) && job.getStatus().isActive())
+                .count();
+    }
+
+    private void run(ExportJob job) {
+        job.markRunning();
+        Path target = directory.resolve(job.getJobId() + job.getFormat().getExtension());
+        Path partial = directory.resolve(job.getJobId() + PARTIAL_SUFFIX);
+        try {
+            try (OutputStream out = Files.newOutputStream(partial)) {
+                writeArtifact(job, out);
+            }
+            // 다 쓴 파일만 최종 이름으로 옮겨 다운로드 중 불완전한 파일이 보이지 않도록 함
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.markCompleted(target, Files.size(target), LocalDateTime.now().plus(properties.retention()));
+            completedCounter.increment();
+            log.info("[EXPORT_JOB] Completed - jobId: {}, bytes: {}", job.getJobId(), job.getSizeBytes());
+        } catch (Exception e) {
+            deleteQuietly(partial);
+            job.markFailed(LocalDateTime.now().plus(properties.retention()));
+            failedCounter.increment();
+            log.error("[EXPORT_JOB] Failed - jobId: {}, memberId: {}", job.getJobId(), job.getMemberId(), e);
+        }
+    }
+
+    private void writeArtifact(ExportJob job, OutputStream out) throws IOException {
+        Long memberId = job.getMemberId();
+        switch (job.getFormat()) {
+            case JSON -> {
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out, GZIP_BUFFER_SIZE)) {
+                    exportService.writeAllDataAsJson(memberId, gzip);
+                }
+            }
+            case CSV -> {
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out, GZIP_BUFFER_SIZE)) {
+                    exportService.writeMedicationRecordsAsCsv(
+                            memberId, job.getStartDate(), job.getEndDate(), true, gzip);
+                }
+            }
+            case ZIP -> {
+                try (ZipOutputStream zip = new ZipOutputStream(out)) {
+                    OutputStream entry = StreamUtils.nonClosing(zip);
+                    zip.putNextEntry(new ZipEntry(ZIP_JSON_ENTRY));
+                    exportService.writeAllDataAsJson(memberId, entry);
+                    zip.closeEntry();
+                    zip.putNextEntry(new ZipEntry(ZIP_CSV_ENTRY));
+                    exportService.writeMedicationRecordsAsCsv(
+                            memberId, job.getStartDate(), job.getEndDate(), true, entry);
+                    zip.closeEntry();
+                }
+            }
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[EXPORT_JOB] Failed to delete artifact: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.Hamalog.service.export;
+
+/**
+ * 비동기 내보내기 작업 상태
+ */
+public enum ExportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isActive() {
+        return this == PENDING || this == RUNNING;
+    }
+}
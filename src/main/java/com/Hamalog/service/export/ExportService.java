@@ -8,6 +8,8 @@ import com.Hamalog.domain.sideEffect.SideEffectRecord;
 import com.Hamalog.domain.sideEffect.SideEffectSideEffectRecord;
 import com.Hamalog.dto.export.ExportDataResponse;
 import com.Hamalog.dto.export.ExportDataResponse.*;
+import com.Hamalog.dto.medication.projection.MedicationRecordProjection;
+import com.Hamalog.dto.sideEffect.response.SideEffectCatalogResponse;
 import com.Hamalog.exception.CustomException;
 import com.Hamalog.exception.ErrorCode;
 import com.Hamalog.repository.diary.MoodDiaryRepository;
@@ -16,11 +18,22 @@ import com.Hamalog.repository.medication.MedicationScheduleRepository;
 import com.Hamalog.repository.member.MemberRepository;
 import com.Hamalog.repository.sideEffect.SideEffectRecordRepository;
 import com.Hamalog.repository.sideEffect.SideEffectSideEffectRecordRepository;
+import com.Hamalog.service.sideEffect.SideEffectCatalogService;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -39,7 +52,18 @@ public class ExportService {
     private final MoodDiaryRepository moodDiaryRepository;
     private final SideEffectRecordRepository sideEffectRecordRepository;
     private final SideEffectSideEffectRecordRepository sideEffectSideEffectRecordRepository;
+    private final SideEffectCatalogService sideEffectCatalogService;
     private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    /** 마음 일기 내보내기 기간 (최근 N년) */
+    private static final int DIARY_EXPORT_YEARS = 1;
+    /** 부작용 기록 내보내기 최대 건수 (최신순) */
+    private static final int SIDE_EFFECT_EXPORT_LIMIT = 1000;
+    private static final int SIDE_EFFECT_CHUNK_SIZE = 100;
+    /** 스트리밍 내보내기 시 영속성 컨텍스트를 비우는 주기 (건) */
+    private static final int CLEAR_INTERVAL = 500;
+    private static final String[] CSV_HEADER = {"날짜", "약 이름", "복용 여부", "복용 시간"};
 
     /**
      * 사용자의 모든 데이터 내보내기 (JSON 형식)
@@ -49,35 +73,15 @@ public class ExportService {
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
         // 메타 정보
-        ExportMeta meta = new ExportMeta(
-                LocalDateTime.now(),
-                "JSON",
-                "1.0"
-        );
+        ExportMeta meta = newMeta();
 
         // 회원 정보
-        MemberExportData memberData = new MemberExportData(
-                member.getMemberId(),
-                member.getName(),
-                member.getNickName(),
-                member.getBirth(),
-                member.getCreatedAt()
-        );
+        MemberExportData memberData = toMemberData(member);
 
         // 복약 스케줄
         List<MedicationSchedule> schedules = scheduleRepository.findAllByMember_MemberId(memberId);
         List<MedicationScheduleExportData> scheduleData = schedules.stream()
-                .map(s -> new MedicationScheduleExportData(
-                        s.getMedicationScheduleId(),
-                        s.getName(),
-                        s.getHospitalName(),
-                        s.getPrescriptionDate(),
-                        s.getMemo(),
-                        s.getStartOfAd(),
-                        s.getPrescriptionDays(),
-                        s.getPerDay(),
-                        s.getAlarmType().name()
-                ))
+                .map(ExportService::toScheduleData)
                 .toList();
 
         // 복약 기록 - 배치 조회로 N+1 문제 해결
@@ -92,71 +96,27 @@ public class ExportService {
             // 한 번의 쿼리로 모든 스케줄의 복약 기록을 조회
             List<MedicationRecord> allRecords = recordRepository.findAllByScheduleIds(scheduleIds);
             recordData = allRecords.stream()
-                    .map(r -> new MedicationRecordExportData(
-                            r.getMedicationRecordId(),
-                            r.getMedicationSchedule().getMedicationScheduleId(),
-                            r.getMedicationSchedule().getName(),
-                            r.getIsTakeMedication(),
-                            r.getRealTakeTime()
-                    ))
+                    .map(ExportService::toRecordData)
                     .toList();
         }
 
         // 마음 일기 (최근 1년)
         LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusYears(1);
+        LocalDate startDate = endDate.minusYears(DIARY_EXPORT_YEARS);
         List<MoodDiary> diaries = moodDiaryRepository.findByMemberIdAndDateRange(memberId, startDate, endDate);
         List<MoodDiaryExportData> diaryData = diaries.stream()
-                .map(d -> new MoodDiaryExportData(
-                        d.getMoodDiaryId(),
-                        d.getDiaryDate(),
-                        d.getMoodType().name(),
-                        d.getDiaryType().name(),
-                        d.getDiaryType().name().equals("FREE_FORM") ? d.getFreeContent() :
-                                String.join("\n",
-                                        nullSafe(d.getTemplateAnswer1()),
-                                        nullSafe(d.getTemplateAnswer2()),
-                                        nullSafe(d.getTemplateAnswer3()),
-                                        nullSafe(d.getTemplateAnswer4()))
-                ))
+                .map(ExportService::toDiaryData)
                 .toList();
 
         // 부작용 기록 - 배치 조회로 N+1 문제 해결
         List<SideEffectRecord> sideEffectRecords = sideEffectRecordRepository.findByMember_MemberIdOrderByCreatedAtDesc(
-                memberId, PageRequest.of(0, 1000)).getContent();
+                memberId, PageRequest.of(0, SIDE_EFFECT_EXPORT_LIMIT)).getContent();
 
         List<SideEffectRecordExportData> sideEffectData;
         if (sideEffectRecords.isEmpty()) {
             sideEffectData = List.of();
         } else {
-            // 모든 부작용 기록 ID 추출
-            List<Long> sideEffectRecordIds = sideEffectRecords.stream()
-                    .map(SideEffectRecord::getSideEffectRecordId)
-                    .toList();
-
-            // 한 번의 쿼리로 모든 부작용 상세 정보 조회
-            List<SideEffectSideEffectRecord> allDetails = sideEffectSideEffectRecordRepository
-                    .findByRecordIdsWithSideEffect(sideEffectRecordIds);
-
-            // 부작용 기록 ID별로 그룹화
-            java.util.Map<Long, List<SideEffectSideEffectRecord>> detailsByRecordId = allDetails.stream()
-                    .collect(java.util.stream.Collectors.groupingBy(
-                            d -> d.getSideEffectRecord().getSideEffectRecordId()));
-
-            sideEffectData = sideEffectRecords.stream()
-                    .map(r -> {
-                        List<SideEffectSideEffectRecord> details = detailsByRecordId.getOrDefault(
-                                r.getSideEffectRecordId(), List.of());
-                        List<String> sideEffectNames = details.stream()
-                                .map(d -> d.getSideEffect().getName() + "(심각도: " + d.getDegree() + ")")
-                                .toList();
-                        return new SideEffectRecordExportData(
-                                r.getSideEffectRecordId(),
-                                r.getCreatedAt(),
-                                sideEffectNames
-                        );
-                    })
-                    .toList();
+            sideEffectData = toSideEffectData(sideEffectRecords);
         }
 
         log.info("데이터 내보내기 완료 - memberId: {}, schedules: {}, records: {}, diaries: {}",
@@ -165,15 +125,100 @@ public class ExportService {
         return new ExportDataResponse(meta, memberData, scheduleData, recordData, diaryData, sideEffectData);
     }
 
+    /**
+     * 내보내기 대상 회원 확인 (스트리밍 응답 헤더를 쓰기 전에 호출)
+     */
+    public void validateExportable(Long memberId) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new CustomException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 사용자의 모든 데이터를 JSON으로 스트리밍 출력
+     *
+     * <p>{@link #exportAllData}와 같은 구조의 JSON을 만들지만, 전체 객체 그래프를 메모리에 올리지 않습니다.
+     * 복약 기록·마음 일기·부작용 기록은 JPA Stream(fetch size 500)으로 읽어 한 건씩 {@link JsonGenerator}로 쓰고,
+     * {@value #CLEAR_INTERVAL}건마다 영속성 컨텍스트를 비워 기록 수와 관계없이 힙 사용량이 일정하게 유지됩니다.</p>
+     *
+     * @param out 출력 대상 (닫지 않음)
+     */
+    public void writeAllDataAsJson(Long memberId, OutputStream out) throws IOException {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        MemberExportData memberData = toMemberData(member);
+
+        int records = 0;
+        int diaries = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.useDefaultPrettyPrinter();
+
+            generator.writeStartObject();
+            generator.writeObjectField("meta", newMeta());
+            generator.writeObjectField("member", memberData);
+
+            generator.writeArrayFieldStart("medicationSchedules");
+            for (MedicationSchedule schedule : scheduleRepository.findAllByMember_MemberId(memberId)) {
+                generator.writeObject(toScheduleData(schedule));
+            }
+            generator.writeEndArray();
+            entityManager.clear();
+
+            generator.writeArrayFieldStart("medicationRecords");
+            try (Stream<MedicationRecord> stream = recordRepository.streamAllByMemberId(memberId)) {
+                for (MedicationRecord record : (Iterable<MedicationRecord>) stream::iterator) {
+                    generator.writeObject(toRecordData(record));
+                    clearPeriodically(++records);
+                }
+            }
+            generator.writeEndArray();
+            entityManager.clear();
+
+            LocalDate endDate = LocalDate.now();
+            generator.writeArrayFieldStart("moodDiaries");
+            try (Stream<MoodDiary> stream = moodDiaryRepository.streamByMemberIdAndDateRange(
+                    memberId, endDate.minusYears(DIARY_EXPORT_YEARS), endDate)) {
+                for (MoodDiary diary : (Iterable<MoodDiary>) stream::iterator) {
+                    generator.writeObject(toDiaryData(diary));
+                    clearPeriodically(++diaries);
+                }
+            }
+            generator.writeEndArray();
+            entityManager.clear();
+
+            generator.writeArrayFieldStart("sideEffectRecords");
+            try (Stream<SideEffectRecord> stream = sideEffectRecordRepository
+                    .streamByMemberIdOrderByCreatedAtDesc(memberId)
+                    .limit(SIDE_EFFECT_EXPORT_LIMIT)) {
+                // 상세 부작용은 청크 단위 IN 조회로 묶어서 가져옴
+                List<SideEffectRecord> chunk = new ArrayList<>(SIDE_EFFECT_CHUNK_SIZE);
+                for (SideEffectRecord record : (Iterable<SideEffectRecord>) stream::iterator) {
+                    chunk.add(record);
+                    if (chunk.size() == SIDE_EFFECT_CHUNK_SIZE) {
+                        writeSideEffectChunk(generator, chunk);
+                    }
+                }
+                writeSideEffectChunk(generator, chunk);
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+
+        log.info("데이터 스트리밍 내보내기 완료 - memberId: {}, records: {}, diaries: {}", memberId, records, diaries);
+    }
+
     /**
      * JSON 형식으로 변환
      */
     public String exportAsJson(Long memberId) {
         try {
-            ExportDataResponse data = exportAllData(memberId);
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModule(new JavaTimeModule());
-            return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writeAllDataAsJson(memberId, out);
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             log.error("JSON 내보내기 실패 - memberId: {}", memberId, e);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -181,52 +226,168 @@ public class ExportService {
     }
 
     /**
-     * CSV 형식으로 복약 기록 내보내기 (의사 상담용)
+     * CSV 형식으로 복약 기록 내보내기 (의사 상담용, BOM 없음)
      */
     public String exportMedicationRecordsAsCsv(Long memberId, LocalDate startDate, LocalDate endDate) {
-        List<MedicationSchedule> schedules = scheduleRepository.findAllByMember_MemberId(memberId);
-
-        StringBuilder csv = new StringBuilder();
-        csv.append("날짜,약 이름,복용 여부,복용 시간\n");
-
-        // 배치 조회로 N+1 문제 해결
-        List<Long> scheduleIds = schedules.stream()
-                .map(MedicationSchedule::getMedicationScheduleId)
-                .toList();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writeMedicationRecordsAsCsv(memberId, startDate, endDate, false, out);
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("CSV 내보내기 실패 - memberId: {}", memberId, e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
 
-        if (scheduleIds.isEmpty()) {
-            return csv.toString();
+    /**
+     * 기간 내 복약 기록을 CSV로 스트리밍 출력 (의사 상담용)
+     *
+     * <p>기간 조건을 쿼리에 넣어 [startDate 00:00, endDate 다음 날 00:00) 범위의 기록만
+     * 필요한 컬럼 Projection으로 읽고, 읽는 대로 {@link CsvWriter}로 씁니다.
+     * 처리 시간과 메모리는 전체 복약 이력이 아니라 요청 기간의 기록 수에 비례합니다.</p>
+     *
+     * @param includeBom Excel 호환용 UTF-8 BOM 포함 여부
+     * @param out        출력 대상 (닫지 않음)
+     */
+    public void writeMedicationRecordsAsCsv(Long memberId, LocalDate startDate, LocalDate endDate,
+                                            boolean includeBom, OutputStream out) throws IOException {
+        if (includeBom) {
+            out.write(CsvWriter.UTF8_BOM);
         }
 
-        // 한 번의 쿼리로 모든 스케줄의 복약 기록을 조회
-        List<MedicationRecord> allRecords = recordRepository.findAllByScheduleIds(scheduleIds);
-
-        for (MedicationRecord record : allRecords) {
-            if (record.getRealTakeTime() != null) {
-                LocalDate recordDate = record.getRealTakeTime().toLocalDate();
-                if (!recordDate.isBefore(startDate) && !recordDate.isAfter(endDate)) {
-                    csv.append(String.format("%s,%s,%s,%s\n",
-                            recordDate,
-                            escapeCsv(record.getMedicationSchedule().getName()),
-                            record.getIsTakeMedication() ? "복용" : "미복용",
-                            record.getRealTakeTime().toLocalTime()
-                    ));
-                }
+        int rows = 0;
+        try (CsvWriter csv = new CsvWriter(out);
+             Stream<MedicationRecordProjection> stream = recordRepository.streamProjectionsByMemberIdAndDateRange(
+                     memberId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay())) {
+            csv.writeRow(CSV_HEADER);
+            for (MedicationRecordProjection record : (Iterable<MedicationRecordProjection>) stream::iterator) {
+                LocalDateTime takeTime = record.realTakeTime();
+                csv.cell(takeTime.toLocalDate())
+                        .cell(record.scheduleName())
+                        .cell(Boolean.TRUE.equals(record.isTakeMedication()) ? "복용" : "미복용")
+                        .cell(takeTime.toLocalTime())
+                        .endRow();
+                rows++;
             }
         }
 
-        return csv.toString();
+        log.info("복약 기록 CSV 내보내기 완료 - memberId: {}, rows: {}", memberId, rows);
     }
 
-    private String nullSafe(String str) {
-        return str != null ? str : "";
+    private void writeSideEffectChunk(JsonGenerator generator, List<SideEffectRecord> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        for (SideEffectRecordExportData data : toSideEffectData(chunk)) {
+            generator.writeObject(data);
+        }
+        chunk.clear();
+        entityManager.clear();
     }
 
-    private String escapeCsv(String value) {
-        if (value == null) return "";
-        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
-            return "\"" + value.replace("\"", "\"\"") + "\"";
+    private void clearPeriodically(int written) {
+        if (written % CLEAR_INTERVAL == 0) {
+            entityManager.clear();
         }
-        return value;
+    }
+
+    private static ExportMeta newMeta() {
+        return new ExportMeta(
+                LocalDateTime.now(),
+                "JSON",
+                "1.0"
+        );
+    }
+
+    private static MemberExportData toMemberData(Member member) {
+        return new MemberExportData(
+                member.getMemberId(),
+                member.getName(),
+                member.getNickName(),
+                member.getBirth(),
+                member.getCreatedAt()
+        );
+    }
+
+    private static MedicationScheduleExportData toScheduleData(MedicationSchedule s) {
+        return new MedicationScheduleExportData(
+                s.getMedicationScheduleId(),
+                s.getName(),
+                s.getHospitalName(),
+                s.getPrescriptionDate(),
+                s.getMemo(),
+                s.getStartOfAd(),
+                s.getPrescriptionDays(),
+                s.getPerDay(),
+                s.getAlarmType().name()
+        );
+    }
+
+    private static MedicationRecordExportData toRecordData(MedicationRecord r) {
+        return new MedicationRecordExportData(
+                r.getMedicationRecordId(),
+                r.getMedicationSchedule().getMedicationScheduleId(),
+                r.getMedicationSchedule().getName(),
+                r.getIsTakeMedication(),
+                r.getRealTakeTime()
+        );
+    }
+
+    private static MoodDiaryExportData toDiaryData(MoodDiary d) {
+        return new MoodDiaryExportData(
+                d.getMoodDiaryId(),
+                d.getDiaryDate(),
+                d.getMoodType().name(),
+                d.getDiaryType().name(),
+                d.getDiaryType().name().equals("FREE_FORM") ? d.getFreeContent() :
+                        String.join("\n",
+                                nullSafe(d.getTemplateAnswer1()),
+                                nullSafe(d.getTemplateAnswer2()),
+                                nullSafe(d.getTemplateAnswer3()),
+                                nullSafe(d.getTemplateAnswer4()))
+        );
+    }
+
+    /**
+     * 부작용 기록 목록 변환 (상세 부작용은 한 번의 IN 쿼리로 조회)
+     */
+    private List<SideEffectRecordExportData> toSideEffectData(List<SideEffectRecord> sideEffectRecords) {
+        // 모든 부작용 기록 ID 추출
+        List<Long> sideEffectRecordIds = sideEffectRecords.stream()
+                .map(SideEffectRecord::getSideEffectRecordId)
+                .toList();
+
+        // 한 번의 쿼리로 모든 부작용 상세 정보 조회
+        List<SideEffectSideEffectRecord> allDetails = sideEffectSideEffectRecordRepository
+                .findByRecordIds(sideEffectRecordIds);
+
+        // 부작용 기록 ID별로 그룹화
+        Map<Long, List<SideEffectSideEffectRecord>> detailsByRecordId = allDetails.stream()
+                .collect(Collectors.groupingBy(SideEffectSideEffectRecord::getSideEffectRecordId));
+
+        return sideEffectRecords.stream()
+                .map(r -> {
+                    List<SideEffectSideEffectRecord> details = detailsByRecordId.getOrDefault(
+                            r.getSideEffectRecordId(), List.of());
+                    List<String> sideEffectNames = details.stream()
+                            .map(d -> sideEffectName(d) + "(심각도: " + d.getDegree() + ")")
+                            .toList();
+                    return new SideEffectRecordExportData(
+                            r.getSideEffectRecordId(),
+                            r.getCreatedAt(),
+                            sideEffectNames
+                    );
+                })
+                .toList();
+    }
+
+    private String sideEffectName(SideEffectSideEffectRecord detail) {
+        return sideEffectCatalogService.find(detail.getSideEffectId())
+                .map(SideEffectCatalogResponse.SideEffectCatalogItem::name)
+                .orElseGet(() -> detail.getSideEffect().getName());
+    }
+
+    private static String nullSafe(String str) {
+        return str != null ? str : "";
     }
 }
@@ -0,0 +1,249 @@
+package com.Hamalog.service.medication;
+
+import com.Hamalog.config.DoseReminderProperties;
+import com.Hamalog.domain.medication.DoseOccurrence;
+import com.Hamalog.domain.medication.MedicationSchedule;
+import com.Hamalog.domain.medication.MedicationTime;
+import com.Hamalog.dto.notification.projection.MedicationReminderPreference;
+import com.Hamalog.repository.medication.DoseOccurrenceRepository;
+import com.Hamalog.repository.medication.MedicationScheduleRepository;
+import com.Hamalog.repository.notification.NotificationSettingsRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 복약 알림 회차 엔진
+ *
+ * <p>활성 복약 스케줄을 복용 시작일, 처방 일수, 복약 시간으로 펼쳐 앞으로 window(기본 48시간) 동안의 복약 회차를
+ * dose_occurrence에 유지합니다. 각 회차는 회원의 알림 선행 시간을 반영한 분 단위 발송 버킷(notify_at)을 가지며,
+ * {@link DoseReminderDispatcher}가 버킷 단위로 가져가 발송합니다. 회원마다 타이머를 두지 않으므로 회원 수와 무관하게
+ * 노드당 두 개의 주기 작업만 동작합니다.</p>
+ *
+ * <p>주기 작업은 스케줄 id 순으로 페이지 단위로 돌며 창을 앞으로 늘리고, 이미 있는 회차와 비교해 빠진 회차는 추가하고
+ * 더 이상 없는 회차는 삭제합니다(멱등). 스케줄 생성/수정/삭제 시에는 {@link MedicationScheduleEventHandler}가 커밋 후
+ * 해당 스케줄만 다시 맞추므로 창 전체를 다시 계산하지 않습니다.</p>
+ *
+ * <p>발송한 회차는 디스패처가 dispatched_at만 기록하고 남겨 두므로, 한 번의 창 확장이 디스패치를 가로질러 오래 돌거나
+ * 노드 간 시계가 어긋나도 같은 회차를 다시 채우지 않습니다(유니크 키). 발송했거나 발송 버킷이 이미 지난 회차는 디스패처
+ * 몫이므로 건드리지 않고, 발송 후 window가 지난 회차는 창 확장 끝에 정리합니다.</p>
+ */
+@Component
+@Slf4j
+public class DoseOccurrenceEngine {
+
+    private final MedicationScheduleRepository medicationScheduleRepository;
+    private final DoseOccurrenceRepository doseOccurrenceRepository;
+    private final NotificationSettingsRepository notificationSettingsRepository;
+    private final DoseReminderProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public DoseOccurrenceEngine(MedicationScheduleRepository medicationScheduleRepository,
+                                DoseOccurrenceRepository doseOccurrenceRepository,
+                                NotificationSettingsRepository notificationSettingsRepository,
+                                DoseReminderProperties properties,
+                                PlatformTransactionManager transactionManager) {
+        this.medicationScheduleRepository = medicationScheduleRepository;
+        this.doseOccurrenceRepository = doseOccurrenceRepository;
+        this.notificationSettingsRepository = notificationSettingsRepository;
+        this.properties = properties;
+        // 커밋 후 이벤트 리스너에서도 호출되므로 항상 새 트랜잭션에서 실행
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 회차 창 확장
+     * 창 끝이 앞으로 이동한 만큼 새 회차를 채우고, 복약 시간 변경 등으로 어긋난 회차를 바로잡습니다.
+     */
+    @Scheduled(fixedDelayString = "${hamalog.dose-reminder.extend-interval-ms:300000}")
+    public void extendWindow() {
+        try {
+            extend(LocalDateTime::now);
+        } catch (Exception e) {
+            log.error("[DOSE] Window extension failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 창에 걸친 모든 활성 스케줄의 회차 맞추기
+     * 한 번의 확장이 오래 걸릴 수 있으므로 페이지마다 현재 시각을 다시 읽습니다.
+     *
+     * @return 추가/삭제/재계산한 회차 수
+     */
+    int extend(Supplier<LocalDateTime> clock) {
+        long afterId = 0L;
+        int changed = 0;
+        while (true) {
+            LocalDateTime now = clock.get();
+            LocalDateTime until = now.plus(properties.window());
+            List<Long> scheduleIds = medicationScheduleRepository.findActiveIdsInWindow(
+                    afterId, now.toLocalDate(), until.toLocalDate(), properties.expansionPageSize());
+            if (scheduleIds.isEmpty()) {
+                break;
+            }
+            changed += reconcile(scheduleIds, now);
+            afterId = scheduleIds.get(scheduleIds.size() - 1);
+            if (scheduleIds.size() < properties.expansionPageSize()) {
+                break;
+            }
+        }
+        int purged = purgeDispatched(clock.get());
+        if (changed > 0 || purged > 0) {
+            log.info("[DOSE] Window extended: {} occurrences changed, {} dispatched occurrences purged",
+                    changed, purged);
+        }
+        return changed;
+    }
+
+    /**
+     * 발송 후 window가 지난 회차 정리
+     * 그 사이 복용 예정 시각도 지났으므로 창 확장이 다시 채우지 않습니다.
+     */
+    private int purgeDispatched(LocalDateTime now) {
+        Integer purged = transactionTemplate.execute(
+                status -> doseOccurrenceRepository.deleteDispatchedBefore(now.minus(properties.window())));
+        return purged != null ? purged : 0;
+    }
+
+    /**
+     * 스케줄 하나의 회차 다시 맞추기 (스케줄 생성/수정 시)
+     */
+    public void refreshSchedule(Long medicationScheduleId) {
+        int changed = reconcile(List.of(medicationScheduleId), LocalDateTime.now());
+        log.debug("[DOSE] Refreshed schedule {}: {} occurrences changed", medicationScheduleId, changed);
+    }
+
+    /**
+     * 스케줄의 모든 회차 삭제 (스케줄 삭제 시)
+     */
+    public void removeSchedule(Long medicationScheduleId) {
+        transactionTemplate.executeWithoutResult(
+                status -> doseOccurrenceRepository.deleteAllByScheduleId(medicationScheduleId));
+        log.debug("[DOSE] Removed occurrences of schedule {}", medicationScheduleId);
+    }
+
+    private int reconcile(Collection<Long> scheduleIds, LocalDateTime now) {
+        try {
+            Integer changed = transactionTemplate.execute(status -> reconcileInTransaction(scheduleIds, now));
+            return changed != null ? changed : 0;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 회차를 먼저 채운 경우 (다음 주기에 다시 맞춤)
+            log.debug("[DOSE] Occurrences already populated by another node: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private int reconcileInTransaction(Collection<Long> scheduleIds, LocalDateTime now) {
+        LocalDateTime until = now.plus(properties.window());
+        List<MedicationSchedule> schedules = medicationScheduleRepository.findAllWithTimesByIdIn(scheduleIds);
+        Map<Long, MedicationReminderPreference> preferences = findPreferences(schedules);
+
+        Map<DoseKey, DoseOccurrence> desired = new HashMap<>();
+        for (MedicationSchedule schedule : schedules) {
+            Long memberId = schedule.getMember().getMemberId();
+            MedicationReminderPreference preference = preferences.getOrDefault(
+                    memberId, MedicationReminderPreference.defaults(memberId));
+            if (!preference.enabled()) {
+                continue;
+            }
+            for (DoseOccurrence occurrence : expand(schedule, preference.minutesBefore(), now, until)) {
+                desired.put(DoseKey.of(occurrence), occurrence);
+            }
+        }
+
+        LocalDateTime dueBucket = now.truncatedTo(ChronoUnit.MINUTES);
+        List<DoseOccurrence> stale = new ArrayList<>();
+        int retimed = 0;
+        for (DoseOccurrence existing : doseOccurrenceRepository.findUpcomingBySchedules(scheduleIds, now)) {
+            DoseOccurrence wanted = desired.remove(DoseKey.of(existing));
+            // 발송했거나 발송 버킷이 이미 지난 회차는 디스패처 몫 (다시 채우거나 옮기지 않음)
+            if (existing.isDispatched() || !existing.getNotifyAt().isAfter(now)) {
+                continue;
+            }
+            if (wanted == null) {
+                stale.add(existing);
+                continue;
+            }
+            // 선행 시간을 늘려 새 버킷이 이미 지났으면 회차를 버리지 않고 지금 버킷으로 당겨 바로 발송
+            LocalDateTime notifyAt = wanted.getNotifyAt().isAfter(now) ? wanted.getNotifyAt() : dueBucket;
+            if (!notifyAt.equals(existing.getNotifyAt())) {
+                existing.retime(notifyAt);
+                retimed++;
+            }
+        }
+        if (!stale.isEmpty()) {
+            doseOccurrenceRepository.deleteAllInBatch(stale);
+        }
+
+        // 새 회차는 발송 버킷이 아직 오지 않은 것만 추가 (늦은 알림 대신 다음 회차부터 발송)
+        List<DoseOccurrence> added = desired.values().stream()
+                .filter(occurrence -> occurrence.getNotifyAt().isAfter(now))
+                .toList();
+        if (!added.isEmpty()) {
+            doseOccurrenceRepository.saveAll(added);
+        }
+        return added.size() + stale.size() + retimed;
+    }
+
+    private Map<Long, MedicationReminderPreference> findPreferences(List<MedicationSchedule> schedules) {
+        if (schedules.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> memberIds = schedules.stream()
+                .map(schedule -> schedule.getMember().getMemberId())
+                .distinct()
+                .toList();
+        return notificationSettingsRepository.findMedicationReminderPreferences(memberIds).stream()
+                .collect(Collectors.toMap(MedicationReminderPreference::memberId, Function.identity()));
+    }
+
+    /**
+     * 스케줄을 복용 예정 시각이 (now, until] 사이인 복약 회차로 펼치기
+     * 발송 버킷이 이미 지난 회차도 포함하며, 추가할지는 기존 회차와 비교해 정합니다.
+     */
+    static List<DoseOccurrence> expand(MedicationSchedule schedule, int minutesBefore,
+                                       LocalDateTime now, LocalDateTime until) {
+        List<DoseOccurrence> occurrences = new ArrayList<>();
+        Long memberId = schedule.getMember().getMemberId();
+        for (LocalDate date = now.toLocalDate(); !date.isAfter(until.toLocalDate()); date = date.plusDays(1)) {
+            if (!schedule.isScheduledOn(date)) {
+                continue;
+            }
+            for (MedicationTime time : schedule.getMedicationTimes()) {
+                LocalDateTime doseAt = date.atTime(time.getTakeTime().withSecond(0).withNano(0));
+                if (!doseAt.isAfter(now) || doseAt.isAfter(until)) {
+                    continue;
+                }
+                occurrences.add(new DoseOccurrence(memberId, schedule.getMedicationScheduleId(),
+                        time.getMedicationTimeId(), doseAt, minutesBefore));
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * 회차 식별 키 (uk_dose_occurrence_time_dose와 동일)
+     */
+    private record DoseKey(Long medicationTimeId, LocalDateTime doseAt) {
+
+        static DoseKey of(DoseOccurrence occurrence) {
+            return new DoseKey(occurrence.getMedicationTimeId(), occurrence.getDoseAt());
+        }
+    }
+}
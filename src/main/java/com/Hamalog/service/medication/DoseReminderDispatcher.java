@@ -0,0 +1,168 @@
+package com.Hamalog.service.medication;
+
+import com.Hamalog.config.DoseReminderProperties;
+import com.Hamalog.domain.medication.DoseOccurrence;
+import com.Hamalog.dto.notification.projection.MedicationReminderPreference;
+import com.Hamalog.repository.medication.DoseOccurrenceRepository;
+import com.Hamalog.repository.notification.NotificationSettingsRepository;
+import com.Hamalog.service.notification.DueBatchLoop;
+import com.Hamalog.service.notification.DueBatchLoop.Claimed;
+import com.Hamalog.service.queue.QueuedNotificationService;
+import com.Hamalog.service.queue.message.MedicationReminder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 복약 알림 디스패처
+ *
+ * <p>{@link DoseOccurrenceEngine}이 미리 펼쳐 둔 dose_occurrence를 {@link DueBatchLoop}로 발송 버킷(notify_at) 순으로
+ * 잠가 발송 처리(dispatched_at)로 표시합니다. 회차는 한 번 발송하면 끝나므로 예약 알림과 달리 다음 시각으로 옮기지 않고,
+ * 창 확장이 같은 회차를 다시 채우지 않도록 삭제하지 않고 남겨 둡니다.</p>
+ *
+ * <p>잠근 회차를 분 단위 발송 버킷별로 나눠 버킷마다 한 번 일괄 발송하고, 같은 버킷에서 한 회원이 같은 시각에 복용할
+ * 약은 약 목록을 담은 알림 하나로 묶습니다. 회원별 알림 선행 시간은 회차를 펼칠 때 notify_at에 이미 반영되어 있습니다.</p>
+ *
+ * <p>장애 복구 후 지난 복용 알림이 한꺼번에 나가지 않도록 복용 예정 시각이 maxLateness보다 오래 지난 회차는 발송하지
+ * 않고 발송 처리로 표시하며, 복약 알림을 끈 회원의 회차도 같은 방식으로 버립니다.</p>
+ */
+@Component
+@Slf4j
+public class DoseReminderDispatcher {
+
+    private final DoseOccurrenceRepository doseOccurrenceRepository;
+    private final NotificationSettingsRepository notificationSettingsRepository;
+    private final QueuedNotificationService queuedNotificationService;
+    private final DoseReminderProperties properties;
+    private final DueBatchLoop dueBatchLoop;
+    private final Counter dispatchedCounter;
+    private final Counter droppedCounter;
+    private final Timer lagTimer;
+
+    public DoseReminderDispatcher(DoseOccurrenceRepository doseOccurrenceRepository,
+                                  NotificationSettingsRepository notificationSettingsRepository,
+                                  QueuedNotificationService queuedNotificationService,
+                                  DoseReminderProperties properties,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.doseOccurrenceRepository = doseOccurrenceRepository;
+        this.notificationSettingsRepository = notificationSettingsRepository;
+        this.queuedNotificationService = queuedNotificationService;
+        this.properties = properties;
+        this.dueBatchLoop = new DueBatchLoop(transactionManager, properties.dispatchBatchSize(),
+                properties.maxBatchesPerRun());
+        this.dispatchedCounter = Counter.builder("hamalog.dose.reminder.dispatched")
+                .description("Medication dose reminders dispatched to the notification queue")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("hamalog.dose.reminder.dropped")
+                .description("Medication dose occurrences removed without a reminder (disabled or too late)")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("hamalog.dose.reminder.dispatch.lag")
+                .description("Delay between a dose occurrence's notify bucket and its dispatch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발송 버킷이 된 복약 알림 발송
+     */
+    @Scheduled(fixedDelayString = "${hamalog.dose-reminder.dispatch-interval-ms:15000}")
+    public void dispatchDueReminders() {
+        try {
+            dispatchDue(LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("[DOSE] Dispatch failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * now 시점까지 발송 버킷이 된 회차 발송
+     *
+     * @return 발송한 알림 수
+     */
+    int dispatchDue(LocalDateTime now) {
+        int total = dueBatchLoop.run(() -> claimDueBatch(now), this::sendBuckets);
+        if (total > 0) {
+            log.info("[DOSE] Dispatched {} medication reminders due by {}", total, now);
+        }
+        return total;
+    }
+
+    /**
+     * 발송 버킷이 지난 회차를 잠가 발송 처리로 표시한 뒤 버킷별 발송 대상으로 묶기
+     */
+    private Claimed<List<List<MedicationReminder>>> claimDueBatch(LocalDateTime now) {
+        List<DoseOccurrence> due = doseOccurrenceRepository.lockDueBatch(now, properties.dispatchBatchSize());
+        if (due.isEmpty()) {
+            return Claimed.none();
+        }
+
+        Map<Long, MedicationReminderPreference> preferences = findPreferences(due);
+        LocalDateTime oldestDoseAt = now.minus(properties.maxLateness());
+
+        // 버킷 순으로 잠갔으므로 삽입 순서가 곧 버킷 순서
+        Map<LocalDateTime, Map<RecipientKey, List<Long>>> buckets = new LinkedHashMap<>();
+        int dropped = 0;
+        for (DoseOccurrence occurrence : due) {
+            MedicationReminderPreference preference = preferences.getOrDefault(
+                    occurrence.getMemberId(), MedicationReminderPreference.defaults(occurrence.getMemberId()));
+            if (!preference.enabled() || occurrence.getDoseAt().isBefore(oldestDoseAt)) {
+                dropped++;
+                continue;
+            }
+            lagTimer.record(Duration.between(occurrence.getNotifyAt(), now));
+            buckets.computeIfAbsent(occurrence.getNotifyAt(), bucket -> new LinkedHashMap<>())
+                    .computeIfAbsent(new RecipientKey(occurrence.getMemberId(), occurrence.getDoseAt()),
+                            key -> new ArrayList<>())
+                    .add(occurrence.getMedicationScheduleId());
+        }
+        doseOccurrenceRepository.markDispatched(due.stream().map(DoseOccurrence::getDoseOccurrenceId).toList(), now);
+        if (dropped > 0) {
+            droppedCounter.increment(dropped);
+        }
+
+        List<List<MedicationReminder>> reminders = buckets.values().stream()
+                .map(recipients -> recipients.entrySet().stream()
+                        .map(entry -> new MedicationReminder(entry.getKey().memberId(), entry.getKey().doseAt(),
+                                List.copyOf(entry.getValue())))
+                        .toList())
+                .toList();
+        return new Claimed<>(due.size(), reminders);
+    }
+
+    /**
+     * 발송 버킷마다 한 번씩 일괄 발송
+     */
+    private int sendBuckets(List<List<MedicationReminder>> buckets) {
+        int sent = 0;
+        for (List<MedicationReminder> bucket : buckets) {
+            queuedNotificationService.sendMedicationReminders(bucket);
+            dispatchedCounter.increment(bucket.size());
+            sent += bucket.size();
+        }
+        return sent;
+    }
+
+    private Map<Long, MedicationReminderPreference> findPreferences(List<DoseOccurrence> due) {
+        List<Long> memberIds = due.stream().map(DoseOccurrence::getMemberId).distinct().toList();
+        return notificationSettingsRepository.findMedicationReminderPreferences(memberIds).stream()
+                .collect(Collectors.toMap(MedicationReminderPreference::memberId, Function.identity()));
+    }
+
+    /**
+     * 한 알림으로 묶을 회차 (같은 회원, 같은 복용 예정 시각)
+     */
+    private record RecipientKey(Long memberId, LocalDateTime doseAt) {
+    }
+}
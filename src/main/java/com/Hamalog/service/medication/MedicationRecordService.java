@@ -12,13 +12,19 @@ import com.Hamalog.exception.medication.MedicationRecordNotFoundException;
 import com.Hamalog.exception.medication.MedicationScheduleNotFoundException;
 import com.Hamalog.exception.medication.MedicationTimeNotFoundException;
 import com.Hamalog.exception.validation.InvalidInputException;
+import com.Hamalog.repository.medication.MedicationRecordJdbcRepository;
 import com.Hamalog.repository.medication.MedicationRecordRepository;
 import com.Hamalog.repository.medication.MedicationScheduleRepository;
 import com.Hamalog.repository.medication.MedicationTimeRepository;
 import com.Hamalog.repository.member.MemberRepository;
 import com.Hamalog.security.annotation.RequireResourceOwnership;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -33,6 +39,7 @@ public class MedicationRecordService {
     private final MedicationRecordRepository medicationRecordRepository;
     private final MedicationScheduleRepository medicationScheduleRepository;
     private final MedicationTimeRepository medicationTimeRepository;
+    private final MedicationRecordJdbcRepository medicationRecordJdbcRepository;
     private final MemberRepository memberRepository;
     private final DomainEventPublisher domainEventPublisher;
 
@@ -241,51 +248,120 @@ public class MedicationRecordService {
 
     /**
      * 복약 기록 일괄 생성
+     * 참조 스케줄/알림 시간은 IN 쿼리로 한 번에 조회하고, INSERT는 JDBC 배치로 전송합니다.
+     * (100건 기준 약 300회 → 4회 DB 왕복: 스케줄 조회, 시간 조회, 배치 INSERT, 재조회)
      */
     @Transactional(rollbackFor = {Exception.class})
     public List<MedicationRecord> createMedicationRecordsBatch(List<MedicationRecordCreateRequest> requests) {
-        return requests.stream()
-                .map(this::createMedicationRecordInternal)
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+        // 단건 생성과 같은 검증을 조회 전에 수행 (복용 여부 누락을 미복용으로 저장하지 않음)
+        requests.forEach(this::validateMedicationRecordCreateRequest);
+
+        Map<Long, MedicationSchedule> schedulesById = medicationScheduleRepository
+                .findAllByIdInWithMember(collectIds(requests, MedicationRecordCreateRequest::medicationScheduleId))
+                .stream()
+                .collect(Collectors.toMap(MedicationSchedule::getMedicationScheduleId, Function.identity()));
+
+        Map<Long, MedicationTime> timesById = medicationTimeRepository
+                .findAllByIdIn(collectIds(requests, MedicationRecordCreateRequest::medicationTimeId))
+                .stream()
+                .collect(Collectors.toMap(MedicationTime::getMedicationTimeId, Function.identity()));
+
+        List<MedicationRecord> newRecords = requests.stream()
+                .map(request -> buildMedicationRecord(request, schedulesById, timesById))
                 .toList();
+
+        List<Long> createdIds = medicationRecordJdbcRepository.batchInsert(newRecords);
+        log.debug("Batch inserted {} medication records", createdIds.size());
+
+        return orderByIds(
+                medicationRecordRepository.findAllByIdInWithScheduleAndTime(createdIds),
+                createdIds
+        );
     }
 
     /**
      * 복약 기록 일괄 수정
+     * 대상 기록을 IN 쿼리로 한 번에 조회한 뒤 변경 감지로 갱신합니다.
+     * (UPDATE는 hibernate.jdbc.batch_size 설정에 따라 JDBC 배치로 전송)
      */
     @Transactional(rollbackFor = {Exception.class})
     public List<MedicationRecord> updateMedicationRecordsBatch(
             List<com.Hamalog.dto.medication.request.MedicationRecordBatchUpdateItem> items
     ) {
+        if (items == null || items.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> recordIds = items.stream()
+                .map(com.Hamalog.dto.medication.request.MedicationRecordBatchUpdateItem::medicationRecordId)
+                .toList();
+        Map<Long, MedicationRecord> recordsById = medicationRecordRepository
+                .findAllByIdInWithScheduleAndTime(new LinkedHashSet<>(recordIds))
+                .stream()
+                .collect(Collectors.toMap(MedicationRecord::getMedicationRecordId, Function.identity()));
+
         return items.stream()
                 .map(item -> {
-                    MedicationRecord record = medicationRecordRepository.findById(item.medicationRecordId())
-                            .orElseThrow(MedicationRecordNotFoundException::new);
+                    MedicationRecord record = recordsById.get(item.medicationRecordId());
+                    if (record == null) {
+                        throw new MedicationRecordNotFoundException();
+                    }
 
                     if (item.isTakeMedication() != null) {
                         record.update(item.isTakeMedication(), item.realTakeTime());
                     }
 
-                    return medicationRecordRepository.save(record);
+                    return record;
                 })
                 .toList();
     }
 
-    private MedicationRecord createMedicationRecordInternal(MedicationRecordCreateRequest request) {
-        MedicationSchedule medicationSchedule = medicationScheduleRepository.findById(request.medicationScheduleId())
-                .orElseThrow(MedicationScheduleNotFoundException::new);
+    private MedicationRecord buildMedicationRecord(
+            MedicationRecordCreateRequest request,
+            Map<Long, MedicationSchedule> schedulesById,
+            Map<Long, MedicationTime> timesById
+    ) {
+        MedicationSchedule medicationSchedule = schedulesById.get(request.medicationScheduleId());
+        if (medicationSchedule == null) {
+            throw new MedicationScheduleNotFoundException();
+        }
 
-        MedicationTime medicationTime = medicationTimeRepository.findById(request.medicationTimeId())
-                .orElseThrow(MedicationTimeNotFoundException::new);
+        MedicationTime medicationTime = timesById.get(request.medicationTimeId());
+        if (medicationTime == null) {
+            throw new MedicationTimeNotFoundException();
+        }
 
         validateMedicationTimeBelongsToSchedule(medicationTime, medicationSchedule);
 
-        MedicationRecord medicationRecord = new MedicationRecord(
+        if (request.isTakeMedication() && request.realTakeTime() != null) {
+            validateRealTakeTime(request.realTakeTime());
+        }
+
+        return new MedicationRecord(
                 medicationSchedule,
                 medicationTime,
                 request.isTakeMedication(),
                 request.realTakeTime()
         );
+    }
 
-        return medicationRecordRepository.save(medicationRecord);
+    private static Set<Long> collectIds(
+            List<MedicationRecordCreateRequest> requests,
+            Function<MedicationRecordCreateRequest, Long> idExtractor
+    ) {
+        return requests.stream()
+                .map(idExtractor)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static List<MedicationRecord> orderByIds(List<MedicationRecord> records, List<Long> ids) {
+        Map<Long, MedicationRecord> recordsById = records.stream()
+                .collect(Collectors.toMap(MedicationRecord::getMedicationRecordId, Function.identity()));
+        return ids.stream()
+                .map(recordsById::get)
+                .toList();
     }
 }
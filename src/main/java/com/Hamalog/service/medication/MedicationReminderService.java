@@ -114,7 +114,7 @@ public class MedicationReminderService {
      */
     private boolean isMedicationTaken(Long scheduleId, Long timeId, LocalDate date) {
         LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(23, 59, 59);
+        LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
 
         // 해당 날짜에 해당 스케줄/시간에 대한 복용 완료 기록이 있는지 확인
         long takenCount = recordRepository.countByMemberIdAndDateRange(
@@ -156,7 +156,7 @@ public class MedicationReminderService {
         for (int i = 0; i < 365; i++) {
             LocalDate date = today.minusDays(i);
             LocalDateTime startOfDay = date.atStartOfDay();
-            LocalDateTime endOfDay = date.atTime(23, 59, 59);
+            LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
 
             // 해당 날짜에 복약 기록이 있는지 확인
             long recordCount = recordRepository.countTakenByMemberIdAndDateRange(
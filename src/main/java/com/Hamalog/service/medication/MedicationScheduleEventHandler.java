@@ -1,189 +1,329 @@
 package com.Hamalog.service.medication;
 
+import com.Hamalog.config.EventStoreProperties;
 import com.Hamalog.domain.events.medication.MedicationScheduleCreated;
 import com.Hamalog.domain.events.medication.MedicationScheduleDeleted;
 import com.Hamalog.domain.events.medication.MedicationScheduleUpdated;
+import com.Hamalog.domain.medication.AlarmType;
 import com.Hamalog.logging.StructuredLogger;
 import com.Hamalog.logging.events.AuditEvent;
 import com.Hamalog.logging.events.BusinessEvent;
+import com.Hamalog.service.events.DomainEventPayloadCodec;
+import com.Hamalog.service.events.DomainEventRecord;
+import com.Hamalog.service.events.DomainEventStreamHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Event handler for medication schedule domain events.
- * Handles cross-cutting concerns like audit logging, cache invalidation,
- * and business intelligence tracking in a decoupled manner.
+ * Invalidates schedule caches synchronously after commit, and runs audit logging and
+ * business intelligence tracking asynchronously, outside the request transaction.
+ * When domain event stream dispatch is enabled, audit/BI work is done by the stream consumer node
+ * instead of the request node.
+ * After commit, keeps the precomputed dose occurrence window in sync with the schedule.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class MedicationScheduleEventHandler {
+public class MedicationScheduleEventHandler implements DomainEventStreamHandler {
+
+    private static final Set<String> STREAM_EVENT_TYPES = Set.of(
+            MedicationScheduleCreated.class.getSimpleName(),
+            MedicationScheduleUpdated.class.getSimpleName(),
+            MedicationScheduleDeleted.class.getSimpleName());
 
     private final StructuredLogger structuredLogger;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final DoseOccurrenceEngine doseOccurrenceEngine;
+    private final EventStoreProperties eventStoreProperties;
+    private final DomainEventPayloadCodec payloadCodec;
 
     /**
-     * Handles medication schedule creation events.
-     * Performs audit logging, cache warming, and business intelligence tracking.
+     * Clears the member's schedule list cache once the new schedule is committed.
      */
-    @EventListener
-    public void handleMedicationScheduleCreated(MedicationScheduleCreated event) {
-        log.debug("Processing MedicationScheduleCreated event: {}", event.getEventId());
-
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCacheInvalidation(MedicationScheduleCreated event) {
         try {
-            // Audit logging for compliance and security
-            AuditEvent auditEvent = AuditEvent.builder()
-                    .userId(event.getMemberLoginId())
-                    .operation("MEDICATION_SCHEDULE_CREATED")
-                    .entityType("MedicationSchedule")
-                    .entityId(event.getMedicationScheduleId().toString())
-                    .details("Created medication schedule: " + event.getName())
-                    .build();
-            
-            structuredLogger.audit(auditEvent);
-
-            // Business intelligence tracking
-            java.util.Map<String, Object> metadata = new java.util.HashMap<>();
-            metadata.put("hospitalName", event.getHospitalName());
-            metadata.put("prescriptionDays", event.getPrescriptionDays().toString());
-            metadata.put("perDay", event.getPerDay().toString());
-            metadata.put("alarmType", event.getAlarmType().toString());
-            
-            BusinessEvent businessEvent = BusinessEvent.builder()
-                    .eventType("MEDICATION_SCHEDULE_CREATED")
-                    .userId(event.getMemberLoginId())
-                    .entity("MedicationSchedule")
-                    .action("CREATED")
-                    .result("SUCCESS")
-                    .metadata(metadata)
-                    .build();
-            
-            structuredLogger.business(businessEvent);
-
-            // Cache invalidation - clear user's medication schedules cache
-            String cacheKey = "medication_schedules:" + event.getMemberId();
-            redisTemplate.delete(cacheKey);
+            redisTemplate.delete("medication_schedules:" + event.getMemberId());
             log.debug("Invalidated cache for user medication schedules: {}", event.getMemberId());
+        } catch (Exception e) {
+            log.error("Failed to invalidate caches for MedicationScheduleCreated: {}", event.getEventId(), e);
+        }
+    }
 
-            log.info("Successfully processed MedicationScheduleCreated event for schedule ID: {}", 
-                    event.getMedicationScheduleId());
+    /**
+     * Clears the member's schedule list cache and the schedule cache once the update is committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCacheInvalidation(MedicationScheduleUpdated event) {
+        invalidateScheduleCaches(event.getMemberId(), event.getMedicationScheduleId());
+    }
+
+    /**
+     * Clears the member's schedule list cache and the schedule cache once the deletion is committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCacheInvalidation(MedicationScheduleDeleted event) {
+        invalidateScheduleCaches(event.getMemberId(), event.getMedicationScheduleId());
+    }
 
+    /**
+     * Audit logging and business intelligence tracking for schedule creation (async).
+     */
+    @Async("eventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleAsyncProcessing(MedicationScheduleCreated event) {
+        if (eventStoreProperties.streamDispatchEnabled()) {
+            // 스트림 소비자가 처리
+            return;
+        }
+        try {
+            process(event);
         } catch (Exception e) {
-            log.error("Failed to process MedicationScheduleCreated event: {} - Error: {}", 
+            log.error("Failed to process MedicationScheduleCreated event: {} - Error: {}",
                     event.getEventId(), e.getMessage(), e);
-            // In production, you might want to publish a failure event or retry
         }
     }
 
     /**
-     * Handles medication schedule update events.
-     * Performs audit logging, cache invalidation, and change tracking.
+     * Audit logging and change tracking for schedule updates (async).
      */
-    @EventListener
-    public void handleMedicationScheduleUpdated(MedicationScheduleUpdated event) {
-        log.debug("Processing MedicationScheduleUpdated event: {}", event.getEventId());
-
+    @Async("eventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleAsyncProcessing(MedicationScheduleUpdated event) {
+        if (eventStoreProperties.streamDispatchEnabled()) {
+            // 스트림 소비자가 처리
+            return;
+        }
         try {
-            // Audit logging for compliance and security
-            AuditEvent auditEvent = AuditEvent.builder()
-                    .userId(event.getMemberLoginId())
-                    .operation("MEDICATION_SCHEDULE_UPDATED")
-                    .entityType("MedicationSchedule")
-                    .entityId(event.getMedicationScheduleId().toString())
-                    .details("Updated medication schedule: " + event.getName())
-                    .build();
-            
-            structuredLogger.audit(auditEvent);
-
-            // Business intelligence tracking for schedule modifications
-            java.util.Map<String, Object> metadata = new java.util.HashMap<>();
-            metadata.put("scheduleId", event.getMedicationScheduleId().toString());
-            metadata.put("scheduleName", event.getName());
-            
-            BusinessEvent businessEvent = BusinessEvent.builder()
-                    .eventType("MEDICATION_SCHEDULE_UPDATED")
-                    .userId(event.getMemberLoginId())
-                    .entity("MedicationSchedule")
-                    .action("UPDATED")
-                    .result("SUCCESS")
-                    .metadata(metadata)
-                    .build();
-            
-            structuredLogger.business(businessEvent);
-
-            // Cache invalidation - clear related caches
-            String userCacheKey = "medication_schedules:" + event.getMemberId();
-            String scheduleCacheKey = "medication_schedule:" + event.getMedicationScheduleId();
-            redisTemplate.delete(userCacheKey);
-            redisTemplate.delete(scheduleCacheKey);
-            log.debug("Invalidated caches for medication schedule update: {}", event.getMedicationScheduleId());
-
-            log.info("Successfully processed MedicationScheduleUpdated event for schedule ID: {}", 
-                    event.getMedicationScheduleId());
+            process(event);
+        } catch (Exception e) {
+            log.error("Failed to process MedicationScheduleUpdated event: {} - Error: {}",
+                    event.getEventId(), e.getMessage(), e);
+        }
+    }
 
+    /**
+     * Audit logging and deletion tracking for schedule deletions (async).
+     */
+    @Async("eventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleAsyncProcessing(MedicationScheduleDeleted event) {
+        if (eventStoreProperties.streamDispatchEnabled()) {
+            // 스트림 소비자가 처리
+            return;
+        }
+        try {
+            process(event);
         } catch (Exception e) {
-            log.error("Failed to process MedicationScheduleUpdated event: {} - Error: {}", 
+            log.error("Failed to process MedicationScheduleDeleted event: {} - Error: {}",
                     event.getEventId(), e.getMessage(), e);
         }
     }
 
+    @Override
+    public boolean supports(String eventType) {
+        return STREAM_EVENT_TYPES.contains(eventType);
+    }
+
+    /**
+     * Handles a medication schedule event delivered through the stream (throws to get it redelivered).
+     */
+    @Override
+    public void handle(DomainEventRecord record) throws Exception {
+        JsonNode payload = payloadCodec.readTree(record.payload());
+        String eventType = record.eventType();
+        if (MedicationScheduleCreated.class.getSimpleName().equals(eventType)) {
+            process(new MedicationScheduleCreated(
+                    payload.path("medicationScheduleId").asLong(),
+                    payload.path("memberId").asLong(),
+                    payload.path("memberLoginId").asText(null),
+                    payload.path("name").asText(null),
+                    payload.path("hospitalName").asText(null),
+                    payloadCodec.treeToValue(payload.get("prescriptionDate"), LocalDate.class),
+                    payload.path("memo").asText(null),
+                    payloadCodec.treeToValue(payload.get("startOfAd"), LocalDate.class),
+                    intOrNull(payload.path("prescriptionDays")),
+                    intOrNull(payload.path("perDay")),
+                    alarmTypeOrNull(payload.path("alarmType"))));
+        } else if (MedicationScheduleUpdated.class.getSimpleName().equals(eventType)) {
+            process(new MedicationScheduleUpdated(
+                    payload.path("medicationScheduleId").asLong(),
+                    payload.path("memberId").asLong(),
+                    payload.path("memberLoginId").asText(null),
+                    payload.path("name").asText(null),
+                    payload.path("hospitalName").asText(null),
+                    payloadCodec.treeToValue(payload.get("prescriptionDate"), LocalDate.class),
+                    payload.path("memo").asText(null),
+                    payloadCodec.treeToValue(payload.get("startOfAd"), LocalDate.class),
+                    intOrNull(payload.path("prescriptionDays")),
+                    intOrNull(payload.path("perDay")),
+                    alarmTypeOrNull(payload.path("alarmType"))));
+        } else if (MedicationScheduleDeleted.class.getSimpleName().equals(eventType)) {
+            process(new MedicationScheduleDeleted(
+                    payload.path("medicationScheduleId").asLong(),
+                    payload.path("memberId").asLong(),
+                    payload.path("memberLoginId").asText(null),
+                    payload.path("name").asText(null)));
+        }
+    }
+
+    /**
+     * Audit logging and business intelligence tracking for schedule creation.
+     */
+    private void process(MedicationScheduleCreated event) {
+        // Audit logging for compliance and security
+        AuditEvent auditEvent = AuditEvent.builder()
+                .userId(event.getMemberLoginId())
+                .operation("MEDICATION_SCHEDULE_CREATED")
+                .entityType("MedicationSchedule")
+                .entityId(event.getMedicationScheduleId().toString())
+                .details("Created medication schedule: " + event.getName())
+                .build();
+
+        structuredLogger.audit(auditEvent);
+
+        // Business intelligence tracking
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("hospitalName", event.getHospitalName());
+        metadata.put("prescriptionDays", String.valueOf(event.getPrescriptionDays()));
+        metadata.put("perDay", String.valueOf(event.getPerDay()));
+        metadata.put("alarmType", String.valueOf(event.getAlarmType()));
+
+        BusinessEvent businessEvent = BusinessEvent.builder()
+                .eventType("MEDICATION_SCHEDULE_CREATED")
+                .userId(event.getMemberLoginId())
+                .entity("MedicationSchedule")
+                .action("CREATED")
+                .result("SUCCESS")
+                .metadata(metadata)
+                .build();
+
+        structuredLogger.business(businessEvent);
+
+        log.info("Successfully processed MedicationScheduleCreated event for schedule ID: {}",
+                event.getMedicationScheduleId());
+    }
+
+    /**
+     * Audit logging and change tracking for schedule updates.
+     */
+    private void process(MedicationScheduleUpdated event) {
+        recordChange(event.getMemberLoginId(), event.getMedicationScheduleId(), event.getName(), "UPDATED");
+
+        log.info("Successfully processed MedicationScheduleUpdated event for schedule ID: {}",
+                event.getMedicationScheduleId());
+    }
+
+    /**
+     * Audit logging and deletion tracking for schedule deletions.
+     */
+    private void process(MedicationScheduleDeleted event) {
+        recordChange(event.getMemberLoginId(), event.getMedicationScheduleId(), event.getName(), "DELETED");
+
+        // NOTE: 향후 개선사항 (FUTURE-IMPROVEMENTS.md 참조)
+        // - Soft Delete 도입 시 삭제된 데이터 아카이빙
+        // - 데이터 보존 정책 적용
+        // - 관련 통계/카운터 업데이트
+
+        log.info("Successfully processed MedicationScheduleDeleted event for schedule ID: {}",
+                event.getMedicationScheduleId());
+    }
+
+    private void recordChange(String memberLoginId, Long medicationScheduleId, String name, String action) {
+        // Audit logging for compliance and security
+        AuditEvent auditEvent = AuditEvent.builder()
+                .userId(memberLoginId)
+                .operation("MEDICATION_SCHEDULE_" + action)
+                .entityType("MedicationSchedule")
+                .entityId(medicationScheduleId.toString())
+                .details((action.equals("UPDATED") ? "Updated" : "Deleted") + " medication schedule: " + name)
+                .build();
+
+        structuredLogger.audit(auditEvent);
+
+        // Business intelligence tracking for schedule modification/deletion patterns
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("scheduleId", medicationScheduleId.toString());
+        metadata.put("scheduleName", name);
+
+        BusinessEvent businessEvent = BusinessEvent.builder()
+                .eventType("MEDICATION_SCHEDULE_" + action)
+                .userId(memberLoginId)
+                .entity("MedicationSchedule")
+                .action(action)
+                .result("SUCCESS")
+                .metadata(metadata)
+                .build();
+
+        structuredLogger.business(businessEvent);
+    }
+
+    private void invalidateScheduleCaches(Long memberId, Long medicationScheduleId) {
+        try {
+            redisTemplate.delete("medication_schedules:" + memberId);
+            redisTemplate.delete("medication_schedule:" + medicationScheduleId);
+            log.debug("Invalidated caches for medication schedule: {}", medicationScheduleId);
+        } catch (Exception e) {
+            log.error("Failed to invalidate caches for medication schedule: {}", medicationScheduleId, e);
+        }
+    }
+
+    private static Integer intOrNull(JsonNode node) {
+        return node.isNumber() ? node.asInt() : null;
+    }
+
+    private static AlarmType alarmTypeOrNull(JsonNode node) {
+        return node.isTextual() ? AlarmType.valueOf(node.asText()) : null;
+    }
+
+    /**
+     * Re-expands dose occurrences of a newly created schedule once its times are committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void refreshDoseOccurrencesOnCreated(MedicationScheduleCreated event) {
+        refreshDoseOccurrences(event.getMedicationScheduleId());
+    }
+
     /**
-     * Handles medication schedule deletion events.
-     * Performs audit logging, cache cleanup, and retention policy enforcement.
+     * Re-expands dose occurrences of an updated schedule (start date, prescription days, activation).
      */
-    @EventListener
-    public void handleMedicationScheduleDeleted(MedicationScheduleDeleted event) {
-        log.debug("Processing MedicationScheduleDeleted event: {}", event.getEventId());
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void refreshDoseOccurrencesOnUpdated(MedicationScheduleUpdated event) {
+        refreshDoseOccurrences(event.getMedicationScheduleId());
+    }
 
+    /**
+     * Removes pending dose occurrences of a deleted schedule.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void removeDoseOccurrencesOnDeleted(MedicationScheduleDeleted event) {
         try {
-            // Audit logging for compliance and security (important for deletions)
-            AuditEvent auditEvent = AuditEvent.builder()
-                    .userId(event.getMemberLoginId())
-                    .operation("MEDICATION_SCHEDULE_DELETED")
-                    .entityType("MedicationSchedule")
-                    .entityId(event.getMedicationScheduleId().toString())
-                    .details("Deleted medication schedule: " + event.getName())
-                    .build();
-            
-            structuredLogger.audit(auditEvent);
-
-            // Business intelligence tracking for deletion patterns
-            java.util.Map<String, Object> metadata = new java.util.HashMap<>();
-            metadata.put("scheduleId", event.getMedicationScheduleId().toString());
-            metadata.put("scheduleName", event.getName());
-            
-            BusinessEvent businessEvent = BusinessEvent.builder()
-                    .eventType("MEDICATION_SCHEDULE_DELETED")
-                    .userId(event.getMemberLoginId())
-                    .entity("MedicationSchedule")
-                    .action("DELETED")
-                    .result("SUCCESS")
-                    .metadata(metadata)
-                    .build();
-            
-            structuredLogger.business(businessEvent);
-
-            // Cache cleanup - remove all related cached data
-            String userCacheKey = "medication_schedules:" + event.getMemberId();
-            String scheduleCacheKey = "medication_schedule:" + event.getMedicationScheduleId();
-            redisTemplate.delete(userCacheKey);
-            redisTemplate.delete(scheduleCacheKey);
-            log.debug("Cleaned up caches for deleted medication schedule: {}", event.getMedicationScheduleId());
-
-            // NOTE: 향후 개선사항 (FUTURE-IMPROVEMENTS.md 참조)
-            // - Soft Delete 도입 시 삭제된 데이터 아카이빙
-            // - 데이터 보존 정책 적용
-            // - 관련 통계/카운터 업데이트
-
-            log.info("Successfully processed MedicationScheduleDeleted event for schedule ID: {}", 
-                    event.getMedicationScheduleId());
+            doseOccurrenceEngine.removeSchedule(event.getMedicationScheduleId());
+        } catch (Exception e) {
+            // 스케줄 삭제 시 FK cascade로도 삭제됨
+            log.error("Failed to remove dose occurrences for schedule ID: {} - Error: {}",
+                    event.getMedicationScheduleId(), e.getMessage(), e);
+        }
+    }
 
+    private void refreshDoseOccurrences(Long medicationScheduleId) {
+        try {
+            doseOccurrenceEngine.refreshSchedule(medicationScheduleId);
         } catch (Exception e) {
-            log.error("Failed to process MedicationScheduleDeleted event: {} - Error: {}", 
-                    event.getEventId(), e.getMessage(), e);
+            // 다음 창 확장 주기에 다시 맞춰짐
+            log.error("Failed to refresh dose occurrences for schedule ID: {} - Error: {}",
+                    medicationScheduleId, e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+}
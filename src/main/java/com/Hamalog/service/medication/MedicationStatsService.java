@@ -12,7 +12,6 @@ import com.Hamalog.repository.medication.MedicationScheduleRepository;
 import com.Hamalog.repository.member.MemberRepository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -42,7 +41,7 @@ public class MedicationStatsService {
         validateMemberExists(memberId);
 
         LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
+        LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
 
         // 기간 내 복약 기록 조회
         List<MedicationRecord> records = medicationRecordRepository
@@ -93,7 +92,7 @@ public class MedicationStatsService {
         // 오늘 날짜 기준 계산
         LocalDate today = LocalDate.now();
         LocalDateTime todayStart = today.atStartOfDay();
-        LocalDateTime todayEnd = today.atTime(LocalTime.MAX);
+        LocalDateTime todayEnd = today.plusDays(1).atStartOfDay();
 
         // 오늘 복약 통계
         long todayTotal = medicationRecordRepository.countByMemberIdAndDateRange(memberId, todayStart, todayEnd);
@@ -154,9 +154,9 @@ public class TransactionMetricsService {
 
     private void updateConnectionPoolMetrics() {
         try {
-            // For HikariCP, we can get pool metrics if available
-            if (dataSource instanceof com.zaxxer.hikari.HikariDataSource) {
-                com.zaxxer.hikari.HikariDataSource hikariDS = (com.zaxxer.hikari.HikariDataSource) dataSource;
+            // For HikariCP, we can get pool metrics if available (DataSource may be wrapped by bulkhead/routing proxies)
+            if (dataSource.isWrapperFor(com.zaxxer.hikari.HikariDataSource.class)) {
+                com.zaxxer.hikari.HikariDataSource hikariDS = dataSource.unwrap(com.zaxxer.hikari.HikariDataSource.class);
                 com.zaxxer.hikari.HikariPoolMXBean poolBean = hikariDS.getHikariPoolMXBean();
                 
                 if (poolBean != null) {
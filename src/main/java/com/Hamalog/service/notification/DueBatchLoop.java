@@ -0,0 +1,62 @@
+package com.Hamalog.service.notification;
+
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 발송 시각 인덱스 배치 디스패치 루프
+ *
+ * <p>배치마다 별도 트랜잭션에서 발송 시각이 지난 행을 잠가(SKIP LOCKED) 정리하고, 커밋 후 잠근 트랜잭션 밖에서 큐에
+ * 발행합니다. 다른 노드가 잠근 행은 건너뛰므로 여러 노드가 같은 행을 발송하지 않습니다.</p>
+ *
+ * <p>잠근 행 수가 배치 크기보다 적으면 적체가 없다고 보고 멈추고, 적체가 있어도 한 번에 maxBatchesPerRun 배치까지만
+ * 처리해 스케줄러 스레드를 오래 붙잡지 않습니다. 발행 전에 정리를 커밋하므로 커밋 직후 노드가 중단되면 해당 배치는 발송되지
+ * 않을 수 있습니다(중복 발송보다 누락을 택함).</p>
+ */
+public final class DueBatchLoop {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public DueBatchLoop(PlatformTransactionManager transactionManager, int batchSize, int maxBatchesPerRun) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * 배치를 잠가 정리하고 발행하기를 적체가 없어질 때까지 반복
+     *
+     * @param claim   트랜잭션 안에서 최대 batchSize 행을 잠그고 정리한 뒤 발행할 대상을 반환
+     * @param publish 커밋 후 발행하고 발행한 알림 수를 반환
+     * @return 발행한 알림 수
+     */
+    public <T> int run(Supplier<Claimed<T>> claim, ToIntFunction<T> publish) {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Claimed<T> batch = transactionTemplate.execute(status -> claim.get());
+            if (batch == null || batch.rows() == 0) {
+                break;
+            }
+            total += publish.applyAsInt(batch.payload());
+            if (batch.rows() < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 한 배치에서 잠근 행 수와 발행할 대상
+     * 적체 판단은 발행 대상 수가 아니라 잠근 행 수로 합니다 (발송하지 않고 삭제한 행 포함).
+     */
+    public record Claimed<T>(int rows, T payload) {
+
+        public static <T> Claimed<T> none() {
+            return new Claimed<>(0, null);
+        }
+    }
+}
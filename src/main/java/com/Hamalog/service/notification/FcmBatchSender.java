@@ -0,0 +1,222 @@
+package com.Hamalog.service.notification;
+
+import com.Hamalog.config.FcmBatchProperties;
+import com.Hamalog.config.bulkhead.Bulkheads;
+import com.Hamalog.repository.notification.FcmDeviceTokenRepository;
+import com.google.firebase.messaging.Message;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM 배치 발송기
+ *
+ * <p>여러 회원의 푸시 메시지를 대기열에 모아 {@code window} 동안(또는 {@code max-size}건이 찰 때까지) 기다린 뒤
+ * {@link FcmGateway#sendEach}로 한 번에 보냅니다. 응답의 메시지별 결과로 성공한 토큰은 {@code lastUsedAt}을,
+ * 무효 토큰(UNREGISTERED, INVALID_ARGUMENT)은 비활성화를 각각 한 번의 UPDATE로 반영합니다.</p>
+ *
+ * <p>배치는 전용 스레드 하나가 모아 보내며, 대기열이 가득 차거나 발송기가 멈춘 뒤에는 호출 스레드에서 바로 보냅니다.
+ * 종료 시 남은 메시지를 모두 보낸 뒤 멈춥니다.</p>
+ */
+@Component
+@Slf4j
+public class FcmBatchSender {
+
+    private final FcmGateway gateway;
+    private final FcmDeviceTokenRepository fcmDeviceTokenRepository;
+    private final Bulkheads bulkheads;
+    private final FcmBatchProperties properties;
+    private final BlockingQueue<PendingPush> queue;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter invalidTokenCounter;
+    private final DistributionSummary batchSize;
+
+    private Thread flusher;
+
+    public FcmBatchSender(FcmGateway gateway, FcmDeviceTokenRepository fcmDeviceTokenRepository,
+                          Bulkheads bulkheads, FcmBatchProperties properties, MeterRegistry meterRegistry) {
+        this.gateway = gateway;
+        this.fcmDeviceTokenRepository = fcmDeviceTokenRepository;
+        this.bulkheads = bulkheads;
+        this.properties = properties;
+        this.queue = new LinkedBlockingQueue<>(properties.queueCapacity());
+        this.sentCounter = Counter.builder("hamalog.fcm.batch.messages")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("hamalog.fcm.batch.messages")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.invalidTokenCounter = Counter.builder("hamalog.fcm.batch.messages")
+                .tag("result", "invalid_token")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("hamalog.fcm.batch.size")
+                .description("Messages per FCM sendEach call")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        flusher = Thread.ofPlatform()
+                .name("fcm-batch-flusher")
+                .daemon(true)
+                .start(this::flushLoop);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running.set(false);
+        if (flusher != null) {
+            try {
+                flusher.join(properties.window().toMillis() + TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 종료 중 남은 메시지 발송
+        List<PendingPush> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += properties.maxSize()) {
+            flush(remaining.subList(from, Math.min(from + properties.maxSize(), remaining.size())));
+        }
+    }
+
+    /**
+     * 발송 대기열에 메시지 추가
+     *
+     * @param tokenId 디바이스 토큰 ID (lastUsedAt 갱신/비활성화 대상)
+     * @param message 해당 토큰으로 보낼 메시지
+     * @return 배치 발송 후 성공 여부로 완료되는 future
+     */
+    public CompletableFuture<Boolean> submit(Long tokenId, Message message) {
+        PendingPush push = new PendingPush(tokenId, message, new CompletableFuture<>());
+        if (!running.get()) {
+            flush(List.of(push));
+        } else if (!queue.offer(push)) {
+            log.warn("FCM batch queue is full, sending on caller thread");
+            flush(List.of(push));
+        }
+        return push.result();
+    }
+
+    private void flushLoop() {
+        while (running.get()) {
+            try {
+                List<PendingPush> batch = collectBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("FCM batch flush failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 첫 메시지를 기다린 뒤 window가 지나거나 max-size가 찰 때까지 모음
+     */
+    private List<PendingPush> collectBatch() throws InterruptedException {
+        PendingPush first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return List.of();
+        }
+        List<PendingPush> batch = new ArrayList<>(properties.maxSize());
+        batch.add(first);
+        long deadline = System.nanoTime() + properties.window().toNanos();
+        while (batch.size() < properties.maxSize()) {
+            queue.drainTo(batch, properties.maxSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.maxSize() || remaining <= 0) {
+                break;
+            }
+            PendingPush next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * 배치 발송 후 메시지별 결과 반영
+     */
+    void flush(List<PendingPush> batch) {
+        List<Message> messages = batch.stream().map(PendingPush::message).toList();
+        batchSize.record(messages.size());
+
+        List<FcmGateway.SendResult> results;
+        try {
+            results = bulkheads.fcm().call(() -> gateway.sendEach(messages));
+        } catch (Exception e) {
+            log.error("Failed to send FCM batch of {} messages: {}", messages.size(), e.getMessage());
+            failedCounter.increment(messages.size());
+            batch.forEach(push -> push.result().complete(false));
+            return;
+        }
+
+        List<Long> usedTokenIds = new ArrayList<>();
+        List<Long> invalidTokenIds = new ArrayList<>();
+        boolean[] sent = new boolean[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            PendingPush push = batch.get(i);
+            FcmGateway.SendResult result = i < results.size()
+                    ? results.get(i)
+                    : FcmGateway.SendResult.failure(null, "missing response");
+            if (result.successful()) {
+                usedTokenIds.add(push.tokenId());
+                sentCounter.increment();
+            } else if (result.isInvalidToken()) {
+                invalidTokenIds.add(push.tokenId());
+                invalidTokenCounter.increment();
+                log.warn("Deactivating invalid FCM token id {}: {}", push.tokenId(), result.errorCode());
+            } else {
+                failedCounter.increment();
+                log.error("Failed to send FCM message to token id {}: {}", push.tokenId(), result.errorMessage());
+            }
+            sent[i] = result.successful();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            if (!usedTokenIds.isEmpty()) {
+                fcmDeviceTokenRepository.markUsedByIds(usedTokenIds, now);
+            }
+            if (!invalidTokenIds.isEmpty()) {
+                fcmDeviceTokenRepository.deactivateAllByIds(invalidTokenIds, now);
+            }
+        } catch (Exception e) {
+            log.error("Failed to update FCM token state after batch: {}", e.getMessage());
+        }
+        // 토큰 상태를 반영한 뒤 호출자에게 결과 전달
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(sent[i]);
+        }
+    }
+
+    /**
+     * 발송 대기 메시지
+     */
+    record PendingPush(Long tokenId, Message message, CompletableFuture<Boolean> result) {
+    }
+}
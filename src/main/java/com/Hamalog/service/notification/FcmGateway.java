@@ -0,0 +1,46 @@
+package com.Hamalog.service.notification;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import java.util.List;
+
+/**
+ * FCM 발송 경로
+ * {@link FcmBatchSender}가 모은 메시지를 한 번에 보내고 메시지별 결과를 같은 순서로 돌려줍니다.
+ */
+public interface FcmGateway {
+
+    /**
+     * 메시지 목록 일괄 발송 (최대 500건)
+     *
+     * @return 입력과 같은 순서의 메시지별 결과
+     * @throws FirebaseMessagingException 요청 전체가 실패한 경우
+     */
+    List<SendResult> sendEach(List<Message> messages) throws FirebaseMessagingException;
+
+    /**
+     * 메시지별 발송 결과
+     *
+     * @param successful   발송 성공 여부
+     * @param errorCode    실패 시 FCM 오류 코드 (알 수 없으면 null)
+     * @param errorMessage 실패 사유
+     */
+    record SendResult(boolean successful, MessagingErrorCode errorCode, String errorMessage) {
+
+        public static SendResult success() {
+            return new SendResult(true, null, null);
+        }
+
+        public static SendResult failure(MessagingErrorCode errorCode, String errorMessage) {
+            return new SendResult(false, errorCode, errorMessage);
+        }
+
+        /**
+         * 토큰이 더 이상 유효하지 않아 비활성화해야 하는 실패인지
+         */
+        public boolean isInvalidToken() {
+            return errorCode == MessagingErrorCode.UNREGISTERED || errorCode == MessagingErrorCode.INVALID_ARGUMENT;
+        }
+    }
+}
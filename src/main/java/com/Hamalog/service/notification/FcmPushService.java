@@ -17,14 +17,30 @@ import org.springframework.stereotype.Service;
 /**
  * FCM Push 알림 발송 서비스
  * Firebase Cloud Messaging을 통해 사용자에게 푸시 알림을 발송합니다.
+ * 디바이스별 메시지는 {@link FcmBatchSender}에 넘겨 다른 회원의 메시지와 함께 일괄 발송합니다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FcmPushService {
 
+    // 모든 알림에 공통인 플랫폼 설정 (불변 객체이므로 메시지 간 공유)
+    private static final AndroidConfig ANDROID_CONFIG = AndroidConfig.builder()
+            .setPriority(AndroidConfig.Priority.HIGH)
+            .setNotification(AndroidNotification.builder()
+                    .setClickAction("OPEN_APP")
+                    .build())
+            .build();
+    private static final ApnsConfig APNS_CONFIG = ApnsConfig.builder()
+            .setAps(Aps.builder()
+                    .setSound("default")
+                    .setBadge(1)
+                    .build())
+            .build();
+
     private final FcmDeviceTokenRepository fcmDeviceTokenRepository;
     private final NotificationSettingsRepository notificationSettingsRepository;
+    private final FcmBatchSender fcmBatchSender;
 
     /**
      * 단일 사용자에게 푸시 알림 발송
@@ -57,16 +73,20 @@ public class FcmPushService {
             return CompletableFuture.completedFuture(null);
         }
 
-        // 각 디바이스에 알림 발송
+        // 각 디바이스 메시지를 배치 발송기에 넘김 (발송 결과와 토큰 상태 반영은 배치 단위로 처리)
+        Notification notification = Notification.builder()
+                .setTitle(title)
+                .setBody(body)
+                .build();
         for (FcmDeviceToken deviceToken : tokens) {
-            try {
-                sendToDevice(deviceToken.getToken(), title, body, data);
-                deviceToken.markAsUsed();
-                log.info("Push notification sent to memberId: {}, device: {}",
-                        memberId, deviceToken.getDeviceName());
-            } catch (FirebaseMessagingException e) {
-                handleFirebaseError(deviceToken, e);
-            }
+            fcmBatchSender.submit(deviceToken.getFcmDeviceTokenId(),
+                            buildMessage(deviceToken.getToken(), notification, data))
+                    .thenAccept(sent -> {
+                        if (sent) {
+                            log.info("Push notification sent to memberId: {}, device: {}",
+                                    memberId, deviceToken.getDeviceName());
+                        }
+                    });
         }
 
         return CompletableFuture.completedFuture(null);
@@ -190,58 +210,19 @@ public class FcmPushService {
     }
 
     /**
-     * 디바이스에 FCM 메시지 전송
+     * 디바이스별 FCM 메시지 생성 (알림 큐 소비자도 같은 플랫폼 설정으로 메시지를 만듦)
      */
-    private void sendToDevice(String token, String title, String body, Map<String, String> data)
-            throws FirebaseMessagingException {
-
-        Notification notification = Notification.builder()
-                .setTitle(title)
-                .setBody(body)
-                .build();
-
+    public static Message buildMessage(String token, Notification notification, Map<String, String> data) {
         Message.Builder messageBuilder = Message.builder()
                 .setToken(token)
-                .setNotification(notification);
+                .setNotification(notification)
+                .setAndroidConfig(ANDROID_CONFIG)
+                .setApnsConfig(APNS_CONFIG);
 
         if (data != null && !data.isEmpty()) {
             messageBuilder.putAllData(data);
         }
-
-        // Android 설정
-        messageBuilder.setAndroidConfig(AndroidConfig.builder()
-                .setPriority(AndroidConfig.Priority.HIGH)
-                .setNotification(AndroidNotification.builder()
-                        .setClickAction("OPEN_APP")
-                        .build())
-                .build());
-
-        // iOS(APNs) 설정
-        messageBuilder.setApnsConfig(ApnsConfig.builder()
-                .setAps(Aps.builder()
-                        .setSound("default")
-                        .setBadge(1)
-                        .build())
-                .build());
-
-        FirebaseMessaging.getInstance().send(messageBuilder.build());
-    }
-
-    /**
-     * Firebase 오류 처리
-     */
-    private void handleFirebaseError(FcmDeviceToken deviceToken, FirebaseMessagingException e) {
-        MessagingErrorCode errorCode = e.getMessagingErrorCode();
-
-        if (errorCode == MessagingErrorCode.UNREGISTERED ||
-                errorCode == MessagingErrorCode.INVALID_ARGUMENT) {
-            // 유효하지 않은 토큰은 비활성화
-            deviceToken.deactivate();
-            fcmDeviceTokenRepository.save(deviceToken);
-            log.warn("Deactivated invalid FCM token: {}", deviceToken.getToken());
-        } else {
-            log.error("Failed to send FCM message: {}", e.getMessage());
-        }
+        return messageBuilder.build();
     }
 
     /**
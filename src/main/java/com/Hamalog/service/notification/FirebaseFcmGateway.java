@@ -0,0 +1,28 @@
+package com.Hamalog.service.notification;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import java.util.List;
+
+/**
+ * Firebase Admin SDK 발송 경로 ({@code FirebaseMessaging.sendEach})
+ */
+public class FirebaseFcmGateway implements FcmGateway {
+
+    @Override
+    public List<SendResult> sendEach(List<Message> messages) throws FirebaseMessagingException {
+        BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
+        return response.getResponses().stream()
+                .map(sendResponse -> {
+                    if (sendResponse.isSuccessful()) {
+                        return SendResult.success();
+                    }
+                    FirebaseMessagingException e = sendResponse.getException();
+                    return SendResult.failure(e != null ? e.getMessagingErrorCode() : null,
+                            e != null ? e.getMessage() : "unknown");
+                })
+                .toList();
+    }
+}
@@ -1,131 +1,130 @@
 package com.Hamalog.service.notification;
 
+import com.Hamalog.config.ReminderProperties;
 import com.Hamalog.domain.notification.NotificationSettings;
+import com.Hamalog.domain.notification.ReminderSchedule;
+import com.Hamalog.domain.notification.ReminderType;
 import com.Hamalog.repository.notification.NotificationSettingsRepository;
+import com.Hamalog.repository.notification.ReminderScheduleRepository;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.TaskScheduler;
-import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 알림 스케줄러 서비스
- * 예약된 알림을 관리하고 스케줄링합니다.
+ * 예약된 알림의 다음 발송 시각을 reminder_schedule 인덱스에 기록합니다.
+ * 실제 발송은 {@link ReminderDispatcher}가 발송 시각이 된 예약을 가져가 처리하므로,
+ * 예약은 재시작 후에도 유지되고 여러 노드에서 중복 발송되지 않습니다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationSchedulerService {
 
-    private final TaskScheduler taskScheduler;
+    private final ReminderScheduleRepository reminderScheduleRepository;
     private final NotificationSettingsRepository notificationSettingsRepository;
-    private final FcmPushService fcmPushService;
-
-    // 회원별 예약된 알림 작업 관리
-    private final Map<String, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+    private final ReminderProperties reminderProperties;
 
     /**
      * 일기 알림 스케줄 등록/재등록
      */
+    @Transactional
     public void scheduleDiaryReminder(Long memberId, LocalTime reminderTime) {
-        String taskKey = "diary_reminder:" + memberId;
-
-        // 기존 스케줄 취소
-        cancelScheduledTask(taskKey);
-
-        // 새 스케줄 등록
-        String cronExpression = buildCronExpression(reminderTime);
-
-        ScheduledFuture<?> future = taskScheduler.schedule(
-                () -> sendDiaryReminder(memberId),
-                new CronTrigger(cronExpression)
-        );
-
-        scheduledTasks.put(taskKey, future);
+        LocalDateTime now = LocalDateTime.now();
+        ReminderSchedule schedule = reminderScheduleRepository
+                .findByMemberIdAndReminderType(memberId, ReminderType.DIARY)
+                .orElse(null);
+
+        if (schedule != null) {
+            schedule.reschedule(reminderTime, now);
+        } else {
+            reminderScheduleRepository.save(new ReminderSchedule(memberId, ReminderType.DIARY, reminderTime, now));
+        }
         log.info("Scheduled diary reminder for memberId: {} at {}", memberId, reminderTime);
     }
 
     /**
      * 모든 예약된 알림 취소 (푸시 비활성화 시)
      */
+    @Transactional
     public void cancelAllScheduledNotifications(Long memberId) {
-        // 일기 알림 취소
-        cancelScheduledTask("diary_reminder:" + memberId);
-
-        // 복약 알림 취소
-        cancelScheduledTask("medication_reminder:" + memberId);
-
+        reminderScheduleRepository.deleteAllByMemberId(memberId);
         log.info("Cancelled all scheduled notifications for memberId: {}", memberId);
     }
 
     /**
      * 일기 알림 스케줄 취소
      */
+    @Transactional
     public void cancelDiaryReminder(Long memberId) {
-        cancelScheduledTask("diary_reminder:" + memberId);
+        reminderScheduleRepository.deleteByMemberIdAndType(memberId, ReminderType.DIARY);
         log.info("Cancelled diary reminder for memberId: {}", memberId);
     }
 
     /**
-     * 일기 알림 발송
+     * 알림 스케줄 초기화 (애플리케이션 시작 시)
+     * 일기 알림이 켜져 있지만 예약 인덱스에 없는 회원을 설정 id 순으로 페이지 단위로 채웁니다.
+     * 이미 있는 예약은 건드리지 않으므로 여러 노드가 동시에 실행해도 안전합니다.
      */
-    private void sendDiaryReminder(Long memberId) {
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeSchedules() {
+        log.info("Initializing notification schedules...");
+        long afterId = 0L;
+        int created = 0;
         try {
-            // 알림 설정 확인
-            NotificationSettings settings = notificationSettingsRepository.findByMember_MemberId(memberId)
-                    .orElse(null);
-
-            if (settings == null || !settings.isDiaryReminderEnabled()) {
-                log.debug("Diary reminder disabled for memberId: {}", memberId);
-                return;
+            while (true) {
+                List<NotificationSettings> page = notificationSettingsRepository.findDiaryReminderPage(
+                        afterId, PageRequest.of(0, reminderProperties.backfillPageSize()));
+                if (page.isEmpty()) {
+                    break;
+                }
+                created += backfillPage(page);
+                afterId = page.get(page.size() - 1).getNotificationSettingsId();
             }
-
-            fcmPushService.sendDiaryReminder(memberId);
-            log.info("Sent diary reminder to memberId: {}", memberId);
-
+            log.info("Notification schedules initialized: {} diary reminders added", created);
         } catch (Exception e) {
-            log.error("Failed to send diary reminder to memberId: {}", memberId, e);
+            log.error("Failed to initialize notification schedules: {}", e.getMessage(), e);
         }
     }
 
-    /**
-     * 예약된 작업 취소
-     */
-    private void cancelScheduledTask(String taskKey) {
-        ScheduledFuture<?> future = scheduledTasks.remove(taskKey);
-        if (future != null && !future.isCancelled()) {
-            future.cancel(false);
-            log.debug("Cancelled scheduled task: {}", taskKey);
+    private int backfillPage(List<NotificationSettings> page) {
+        List<Long> memberIds = page.stream().map(settings -> settings.getMember().getMemberId()).toList();
+        Set<Long> scheduled = new HashSet<>(
+                reminderScheduleRepository.findScheduledMemberIds(ReminderType.DIARY, memberIds));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ReminderSchedule> missing = page.stream()
+                .filter(settings -> !scheduled.contains(settings.getMember().getMemberId()))
+                .map(settings -> new ReminderSchedule(settings.getMember().getMemberId(), ReminderType.DIARY,
+                        settings.getDiaryReminderTime(), now))
+                .toList();
+        if (missing.isEmpty()) {
+            return 0;
+        }
+        try {
+            reminderScheduleRepository.saveAll(missing);
+            return missing.size();
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 페이지를 먼저 채운 경우
+            log.debug("Diary reminder backfill page already populated: {}", e.getMessage());
+            return 0;
         }
     }
 
     /**
-     * Cron 표현식 생성 (매일 지정 시간)
-     */
-    private String buildCronExpression(LocalTime time) {
-        return String.format("0 %d %d * * *", time.getMinute(), time.getHour());
-    }
-
-    /**
-     * 알림 스케줄 초기화 (애플리케이션 시작 시)
-     * 활성화된 일기 알림 설정을 가진 모든 사용자의 알림을 스케줄링
-     */
-    public void initializeSchedules() {
-        // 주의: 대량의 사용자가 있을 경우 배치 처리 필요
-        log.info("Initializing notification schedules...");
-
-        // 실제 구현에서는 Redis나 DB에서 활성화된 알림 설정을 조회하여 스케줄링
-        // 현재는 로그인 시 개별 스케줄링으로 처리
-    }
-
-    /**
-     * 스케줄링된 작업 수 조회 (모니터링용)
+     * 예약된 알림 수 조회 (모니터링용)
      */
-    public int getScheduledTaskCount() {
-        return scheduledTasks.size();
+    public long getScheduledTaskCount() {
+        return reminderScheduleRepository.count();
     }
 }
@@ -0,0 +1,125 @@
+package com.Hamalog.service.notification;
+
+import com.Hamalog.config.ReminderProperties;
+import com.Hamalog.domain.notification.ReminderSchedule;
+import com.Hamalog.repository.notification.NotificationSettingsRepository;
+import com.Hamalog.repository.notification.ReminderScheduleRepository;
+import com.Hamalog.service.notification.DueBatchLoop.Claimed;
+import com.Hamalog.service.queue.QueuedNotificationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 예약 알림 디스패처
+ *
+ * <p>reminder_schedule을 {@link DueBatchLoop}로 발송 시각 순으로 잠가 다음 발송 시각으로 옮긴 뒤, 배치마다 회원 ID 목록을
+ * 일기 알림으로 한 번에 발행합니다. 틱마다 발송 시각이 된 예약만 읽으므로 비용이 회원 수와 무관합니다.</p>
+ *
+ * <p>알림이 꺼졌거나 탈퇴한 회원의 예약은 발송하지 않고 삭제합니다.</p>
+ */
+@Component
+@Slf4j
+public class ReminderDispatcher {
+
+    private final ReminderScheduleRepository reminderScheduleRepository;
+    private final NotificationSettingsRepository notificationSettingsRepository;
+    private final QueuedNotificationService queuedNotificationService;
+    private final ReminderProperties properties;
+    private final DueBatchLoop dueBatchLoop;
+    private final Counter dispatchedCounter;
+    private final Counter droppedCounter;
+    private final Timer lagTimer;
+
+    public ReminderDispatcher(ReminderScheduleRepository reminderScheduleRepository,
+                              NotificationSettingsRepository notificationSettingsRepository,
+                              QueuedNotificationService queuedNotificationService,
+                              ReminderProperties properties,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.reminderScheduleRepository = reminderScheduleRepository;
+        this.notificationSettingsRepository = notificationSettingsRepository;
+        this.queuedNotificationService = queuedNotificationService;
+        this.properties = properties;
+        this.dueBatchLoop = new DueBatchLoop(transactionManager, properties.dispatchBatchSize(),
+                properties.maxBatchesPerRun());
+        this.dispatchedCounter = Counter.builder("hamalog.reminder.dispatched")
+                .description("Scheduled reminders dispatched to the notification queue")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("hamalog.reminder.dropped")
+                .description("Scheduled reminders removed because the member disabled them")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("hamalog.reminder.dispatch.lag")
+                .description("Delay between a reminder's fire time and its dispatch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발송 시각이 된 예약 발송
+     */
+    @Scheduled(fixedDelayString = "${hamalog.reminder.dispatch-interval-ms:15000}")
+    public void dispatchDueReminders() {
+        try {
+            dispatchDue(LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("[REMINDER] Dispatch failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * now 시점까지 발송 시각이 된 예약 발송
+     *
+     * @return 발송한 예약 수
+     */
+    int dispatchDue(LocalDateTime now) {
+        int total = dueBatchLoop.run(() -> claimDueBatch(now), memberIds -> {
+            queuedNotificationService.sendDiaryReminders(memberIds);
+            dispatchedCounter.increment(memberIds.size());
+            return memberIds.size();
+        });
+        if (total > 0) {
+            log.info("[REMINDER] Dispatched {} reminders due by {}", total, now);
+        }
+        return total;
+    }
+
+    /**
+     * 발송 시각이 지난 예약을 잠그고 다음 발송 시각으로 이동 (알림이 꺼진 회원의 예약은 삭제)
+     */
+    private Claimed<List<Long>> claimDueBatch(LocalDateTime now) {
+        List<ReminderSchedule> due = reminderScheduleRepository.lockDueBatch(now, properties.dispatchBatchSize());
+        if (due.isEmpty()) {
+            return Claimed.none();
+        }
+
+        List<Long> candidates = due.stream().map(ReminderSchedule::getMemberId).toList();
+        Set<Long> enabled = new HashSet<>(notificationSettingsRepository.findDiaryReminderEnabledMemberIds(candidates));
+
+        List<Long> memberIds = new ArrayList<>(due.size());
+        List<ReminderSchedule> dropped = new ArrayList<>();
+        for (ReminderSchedule schedule : due) {
+            if (!enabled.contains(schedule.getMemberId())) {
+                dropped.add(schedule);
+                continue;
+            }
+            lagTimer.record(Duration.between(schedule.getNextFireAt(), now));
+            schedule.advance(now);
+            memberIds.add(schedule.getMemberId());
+        }
+        if (!dropped.isEmpty()) {
+            reminderScheduleRepository.deleteAllInBatch(dropped);
+            droppedCounter.increment(dropped.size());
+        }
+        return new Claimed<>(due.size(), memberIds);
+    }
+}
@@ -7,13 +7,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
 import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 /**
@@ -92,6 +98,48 @@ public class MessageQueueService {
         }
     }
 
+    /**
+     * 여러 알림 메시지를 파이프라인으로 한 번에 발행 (예약 알림 일괄 발송용)
+     *
+     * @param messages 알림 메시지 목록
+     * @return 발행한 메시지 수 (실패 시 0)
+     */
+    public int publishAll(List<NotificationMessage> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        try {
+            List<MapRecord<String, String, String>> records = new ArrayList<>(messages.size());
+            for (NotificationMessage message : messages) {
+                records.add(StreamRecords.string(
+                                Map.of("messageId", message.messageId(), "payload", objectMapper.writeValueAsString(message)))
+                        .withStreamKey(queueProperties.notificationStream()));
+            }
+
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    records.forEach(record -> ops.opsForStream().add(record));
+                    return null;
+                }
+            });
+            publishedCounter.increment(records.size());
+            log.debug("Published {} messages to stream: {}", records.size(), queueProperties.notificationStream());
+            return records.size();
+
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize messages: {}", e.getMessage());
+            failedCounter.increment(messages.size());
+            return 0;
+        } catch (Exception e) {
+            log.error("Failed to publish {} messages to Redis Stream: {}", messages.size(), e.getMessage());
+            failedCounter.increment(messages.size());
+            return 0;
+        }
+    }
+
     /**
      * 메시지를 Dead Letter Queue로 이동
      *
@@ -156,6 +204,30 @@ public class MessageQueueService {
         }
     }
 
+    /**
+     * 소비자 그룹 적체 조회 (아직 전달되지 않은 메시지 + 전달됐지만 ACK되지 않은 메시지)
+     * 전달되지 않은 메시지를 XRANGE로 세므로 운영 모니터링이 아닌 벤치마크/점검용입니다.
+     */
+    public long getConsumerGroupBacklog() {
+        try {
+            String stream = queueProperties.notificationStream();
+            XInfoGroup group = redisTemplate.opsForStream().groups(stream).stream()
+                    .filter(candidate -> queueProperties.consumerGroup().equals(candidate.groupName()))
+                    .findFirst()
+                    .orElse(null);
+            if (group == null) {
+                return getQueueLength();
+            }
+            long undelivered = redisTemplate.opsForStream()
+                    .range(stream, Range.leftOpen(group.lastDeliveredId(), "+"))
+                    .size();
+            return undelivered + group.pendingCount();
+        } catch (Exception e) {
+            log.error("Failed to get consumer group backlog: {}", e.getMessage());
+            return -1;
+        }
+    }
+
     /**
      * DLQ 길이 조회
      */
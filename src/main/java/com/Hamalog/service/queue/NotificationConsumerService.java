@@ -1,35 +1,71 @@
 package com.Hamalog.service.queue;
 
 import com.Hamalog.config.MessageQueueProperties;
+import com.Hamalog.config.bulkhead.BulkheadRedisTemplate;
 import com.Hamalog.domain.notification.FcmDeviceToken;
 import com.Hamalog.domain.notification.NotificationSettings;
 import com.Hamalog.repository.notification.FcmDeviceTokenRepository;
 import com.Hamalog.repository.notification.NotificationSettingsRepository;
 import com.Hamalog.service.alert.DiscordAlertService;
+import com.Hamalog.service.notification.FcmBatchSender;
+import com.Hamalog.service.notification.FcmPushService;
 import com.Hamalog.service.queue.message.NotificationMessage;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.firebase.messaging.*;
+import com.google.firebase.messaging.Notification;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
 import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 /**
  * 알림 메시지 Consumer 서비스
  * Redis Stream에서 메시지를 소비하여 FCM 푸시 알림을 발송합니다.
+ *
+ * <p>노드마다 {@code hamalog.queue.consumers}개의 전용 소비 루프가 XREADGROUP BLOCK으로 대기하다가 메시지가
+ * 들어오는 즉시 읽고, 읽은 배치는 제한된 작업 스레드 풀에서 병렬 처리합니다. 루프는 배치 처리가 끝난 뒤 다음 배치를
+ * 읽으므로 처리 중인 메시지 수는 루프 수 × 배치 크기를 넘지 않습니다.
+ * 블로킹 읽기는 전용 연결에서 대기하므로 Redis bulkhead 허가를 점유하지 않고, 대기 시간은 Redis 명령 타임아웃보다
+ * 짧게 제한합니다({@link MessageQueueProperties#pollBlock(Duration)}).</p>
+ *
+ * <p>종료 시 새 배치 읽기를 멈추고 처리 중인 배치가 끝날 때까지(최대 {@code shutdown-timeout-seconds}) 기다립니다.</p>
+ *
+ * <p>디바이스별 메시지는 {@link FcmBatchSender}에 넘겨 다른 메시지와 함께 일괄 발송하고, 작업 스레드는 메시지별 발송
+ * 결과를 기다려 성공 여부를 판단합니다. 토큰 사용 시각 갱신과 무효 토큰 비활성화는 배치 발송기가 배치 단위로 반영합니다.</p>
+ *
+ * <p>배치가 끝나면 XACK를 한 번에 보냅니다. 노드가 배치 도중 중단되어 PEL에 남은 메시지는 회수 작업이
+ * {@code reclaim-min-idle}이 지난 뒤 XCLAIM으로 가져와 다시 처리합니다. 재전달·재시도로 같은 메시지를 두 번 받더라도
+ * messageId 기준 발송 표시(SET NX)가 있으면 발송하지 않습니다. 발송 완료 표시면 ACK만 하고, 다른 소비자가 처리 중이면
+ * ACK하지 않고 PEL에 남겨 처리 중 표시가 만료된 뒤({@link MessageQueueProperties#processingMarkerTtl()}) 다시 회수합니다.
+ * 여러 디바이스 중 일부만 실패하면 실패한 디바이스 토큰만 담아 재시도 메시지를 발행합니다.</p>
  */
 @Service
 @Slf4j
@@ -44,13 +80,26 @@ public class NotificationConsumerService {
     private final NotificationSettingsRepository notificationSettingsRepository;
     private final ObjectMapper objectMapper;
     private final MeterRegistry meterRegistry;
+    private final FcmBatchSender fcmBatchSender;
+    private final Duration pollBlock;
 
-    private final AtomicBoolean running = new AtomicBoolean(true);
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+    // 배치 발송 결과 대기 상한 (넘으면 실패로 보고 재시도)
+    private static final Duration FCM_RESULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final String DELIVERY_PROCESSING = "processing";
+    private static final String DELIVERY_DONE = "delivered";
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final List<Thread> consumerThreads = new CopyOnWriteArrayList<>();
+    private ThreadPoolTaskExecutor workerExecutor;
 
     private Counter processedCounter;
     private Counter failedCounter;
     private Counter dlqCounter;
+    private Counter duplicateCounter;
+    private Counter reclaimedCounter;
     private Timer processingTimer;
+    private final AtomicLong pendingMessages = new AtomicLong();
 
     public NotificationConsumerService(
             RedisTemplate<String, Object> redisTemplate,
@@ -60,7 +109,9 @@ public class NotificationConsumerService {
             FcmDeviceTokenRepository fcmDeviceTokenRepository,
             NotificationSettingsRepository notificationSettingsRepository,
             ObjectMapper objectMapper,
-            MeterRegistry meterRegistry
+            MeterRegistry meterRegistry,
+            FcmBatchSender fcmBatchSender,
+            @Value("${spring.data.redis.timeout:60s}") Duration redisCommandTimeout
     ) {
         this.redisTemplate = redisTemplate;
         this.queueProperties = queueProperties;
@@ -70,6 +121,8 @@ public class NotificationConsumerService {
         this.notificationSettingsRepository = notificationSettingsRepository;
         this.objectMapper = objectMapper;
         this.meterRegistry = meterRegistry;
+        this.fcmBatchSender = fcmBatchSender;
+        this.pollBlock = queueProperties.pollBlock(redisCommandTimeout);
     }
 
     @PostConstruct
@@ -84,60 +137,201 @@ public class NotificationConsumerService {
         dlqCounter = Counter.builder("hamalog.queue.messages.dlq")
                 .description("Total messages moved to DLQ")
                 .register(meterRegistry);
+        duplicateCounter = Counter.builder("hamalog.queue.messages.duplicate")
+                .description("Redelivered messages skipped because they were already delivered")
+                .register(meterRegistry);
+        reclaimedCounter = Counter.builder("hamalog.queue.messages.reclaimed")
+                .description("Idle pending messages claimed from stalled consumers")
+                .register(meterRegistry);
         processingTimer = Timer.builder("hamalog.queue.processing.time")
                 .description("Message processing time")
                 .register(meterRegistry);
+        Gauge.builder("hamalog.queue.pending", pendingMessages, AtomicLong::get)
+                .description("Messages delivered to the consumer group but not yet acknowledged (PEL size)")
+                .register(meterRegistry);
 
         // Consumer Group 생성
         messageQueueService.createConsumerGroupIfNotExists();
+
+        workerExecutor = new ThreadPoolTaskExecutor();
+        workerExecutor.setCorePoolSize(queueProperties.workerThreads());
+        workerExecutor.setMaxPoolSize(queueProperties.workerThreads());
+        workerExecutor.setQueueCapacity(queueProperties.consumers() * queueProperties.batchSize());
+        workerExecutor.setThreadNamePrefix("notification-worker-");
+        workerExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        workerExecutor.setAwaitTerminationSeconds(queueProperties.shutdownTimeoutSeconds());
+        // 대기열이 가득 차면 소비 루프가 직접 처리 → 다음 읽기가 늦춰져 자연스럽게 배압
+        workerExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        workerExecutor.initialize();
+
         log.info("NotificationConsumer initialized for stream: {}",
                 queueProperties.notificationStream());
     }
 
+    /**
+     * 애플리케이션 기동 완료 후 소비 루프 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        for (int i = 1; i <= queueProperties.consumers(); i++) {
+            String consumerName = queueProperties.consumerName() + "-" + i;
+            consumerThreads.add(Thread.ofPlatform()
+                    .name("notification-consumer-" + i)
+                    .daemon(true)
+                    .start(() -> consumeLoop(consumerName)));
+        }
+        log.info("NotificationConsumer started {} consumer loops ({} workers)",
+                queueProperties.consumers(), queueProperties.workerThreads());
+    }
+
     @PreDestroy
     void shutdown() {
         running.set(false);
         log.info("NotificationConsumer shutting down...");
+
+        // 루프는 진행 중인 블로킹 읽기(최대 poll-timeout)와 배치 처리를 마친 뒤 종료
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(
+                queueProperties.pollTimeoutSeconds() + queueProperties.shutdownTimeoutSeconds());
+        for (Thread thread : consumerThreads) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            try {
+                if (remainingMillis > 0) {
+                    thread.join(remainingMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (workerExecutor != null) {
+            workerExecutor.shutdown();
+        }
+        log.info("NotificationConsumer stopped");
+    }
+
+    /**
+     * 소비 루프: 메시지가 올 때까지 블로킹으로 기다렸다가 배치 단위로 처리
+     */
+    void consumeLoop(String consumerName) {
+        while (running.get()) {
+            try {
+                List<MapRecord<String, Object, Object>> records = readBatch(consumerName);
+                if (!records.isEmpty()) {
+                    processBatch(records);
+                }
+            } catch (Exception e) {
+                if (!running.get()) {
+                    break;
+                }
+                log.error("Error consuming messages from stream ({}): {}", consumerName, e.getMessage());
+                try {
+                    Thread.sleep(ERROR_BACKOFF);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
     }
 
     /**
-     * 주기적으로 메시지 소비 (5초 간격)
-     * Consumer Group을 사용하여 메시지를 읽고 처리합니다.
+     * Consumer Group에서 새 메시지를 블로킹으로 읽기 (bulkhead 허가 없이 전용 연결에서 대기)
      */
-    @Scheduled(fixedDelayString = "${hamalog.queue.poll-interval-ms:5000}")
-    public void consumeMessages() {
+    List<MapRecord<String, Object, Object>> readBatch(String consumerName) {
+        Consumer consumer = Consumer.from(queueProperties.consumerGroup(), consumerName);
+        StreamReadOptions options = StreamReadOptions.empty()
+                .count(queueProperties.batchSize())
+                .block(pollBlock);
+        StreamOffset<byte[]> offset = StreamOffset.create(
+                queueProperties.notificationStream().getBytes(StandardCharsets.UTF_8), ReadOffset.lastConsumed());
+
+        List<ByteRecord> records = BulkheadRedisTemplate.executeBlocking(redisTemplate,
+                (RedisCallback<List<ByteRecord>>) connection ->
+                        connection.streamCommands().xReadGroup(consumer, options, offset));
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+        List<MapRecord<String, Object, Object>> deserialized = new ArrayList<>(records.size());
+        for (ByteRecord record : records) {
+            deserialized.add(record.<String, Object, Object>deserialize(StringRedisSerializer.UTF_8,
+                    redisTemplate.getHashKeySerializer(), redisTemplate.getHashValueSerializer()));
+        }
+        return deserialized;
+    }
+
+    /**
+     * 배치를 작업 스레드 풀에서 병렬 처리하고 모두 끝나면 한 번에 ACK
+     * 처리 결과와 관계없이 레코드를 ACK합니다 (실패는 재발행 또는 DLQ로 넘김).
+     * 다른 소비자가 처리 중인 메시지만 ACK하지 않고 PEL에 남깁니다.
+     */
+    void processBatch(List<MapRecord<String, Object, Object>> records) {
+        List<CompletableFuture<Boolean>> futures = records.stream()
+                .map(record -> CompletableFuture.supplyAsync(() -> processRecord(record), workerExecutor))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        List<RecordId> acknowledged = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            if (futures.get(i).join()) {
+                acknowledged.add(records.get(i).getId());
+            }
+        }
+        acknowledgeMessages(acknowledged.toArray(RecordId[]::new));
+    }
+
+    /**
+     * 중단된 소비자의 PEL 항목 회수
+     * reclaim-min-idle 이상 ACK되지 않은 항목을 XCLAIM으로 가져와 다시 처리합니다.
+     * XCLAIM이 유휴 시간을 다시 확인하므로 여러 노드가 동시에 실행해도 한 노드만 가져갑니다.
+     */
+    @Scheduled(fixedDelayString = "${hamalog.queue.reclaim-interval-ms:30000}")
+    public void reclaimPendingMessages() {
         if (!running.get()) {
             return;
         }
-
+        String stream = queueProperties.notificationStream();
+        String group = queueProperties.consumerGroup();
+        Duration minIdle = queueProperties.reclaimMinIdle();
         try {
-            // Consumer Group에서 메시지 읽기
-            @SuppressWarnings("unchecked")
-            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
-                    Consumer.from(queueProperties.consumerGroup(), queueProperties.consumerName()),
-                    StreamReadOptions.empty()
-                            .count(queueProperties.batchSize())
-                            .block(Duration.ofSeconds(queueProperties.pollTimeoutSeconds())),
-                    StreamOffset.create(queueProperties.notificationStream(), ReadOffset.lastConsumed())
-            );
-
-            if (records == null || records.isEmpty()) {
+            PendingMessagesSummary summary = redisTemplate.opsForStream().pending(stream, group);
+            pendingMessages.set(summary != null ? summary.getTotalPendingMessages() : 0);
+            if (pendingMessages.get() == 0) {
                 return;
             }
 
-            for (MapRecord<String, Object, Object> record : records) {
-                processRecord(record);
+            PendingMessages pending = redisTemplate.opsForStream()
+                    .pending(stream, group, Range.unbounded(), queueProperties.reclaimBatchSize());
+            RecordId[] idleIds = pending.stream()
+                    .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                    .map(PendingMessage::getId)
+                    .toArray(RecordId[]::new);
+            if (idleIds.length == 0) {
+                return;
             }
 
+            List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream().claim(stream, group,
+                    queueProperties.consumerName() + "-reclaimer", XClaimOptions.minIdle(minIdle).ids(idleIds));
+            if (claimed == null || claimed.isEmpty()) {
+                return;
+            }
+            reclaimedCounter.increment(claimed.size());
+            log.warn("Reclaimed {} pending notification messages idle for over {}s",
+                    claimed.size(), minIdle.toSeconds());
+            processBatch(claimed);
         } catch (Exception e) {
-            log.error("Error consuming messages from stream: {}", e.getMessage());
+            log.error("Failed to reclaim pending messages: {}", e.getMessage());
         }
     }
 
     /**
      * 개별 레코드 처리
+     *
+     * @return ACK해도 되면 true, 다른 소비자가 처리 중이라 PEL에 남겨야 하면 false
      */
-    private void processRecord(MapRecord<String, Object, Object> record) {
+    private boolean processRecord(MapRecord<String, Object, Object> record) {
         Timer.Sample sample = Timer.start(meterRegistry);
         String recordId = record.getId().getValue();
 
@@ -147,28 +341,50 @@ public class NotificationConsumerService {
 
             if (payload == null) {
                 log.warn("Empty payload for record: {}", recordId);
-                acknowledgeMessage(record.getId());
-                return;
+                return true;
             }
 
             NotificationMessage message = objectMapper.readValue(payload, NotificationMessage.class);
 
+            // 이미 발송했거나 다른 소비자가 처리 중인 메시지는 건너뜀
+            if (!claimDelivery(message.messageId())) {
+                duplicateCounter.increment();
+                if (isDelivered(message.messageId())) {
+                    log.debug("Skipping duplicate delivery of message: {}", message.messageId());
+                    return true;
+                }
+                // 처리 중인 소비자가 끝내면 ACK하고, 중단됐으면 표시 만료 후 다시 회수
+                log.debug("Message {} is being processed by another consumer, leaving it pending",
+                        message.messageId());
+                return false;
+            }
+
             // 메시지 처리
-            boolean success = processNotification(message);
+            List<Long> failedTokenIds;
+            try {
+                failedTokenIds = processNotification(message);
+            } catch (RuntimeException e) {
+                releaseDelivery(message.messageId());
+                throw e;
+            }
 
-            if (success) {
+            if (failedTokenIds.isEmpty()) {
+                completeDelivery(message.messageId());
                 processedCounter.increment();
-                acknowledgeMessage(record.getId());
                 log.debug("Successfully processed message: {}", message.messageId());
             } else {
-                handleFailure(message, "Notification processing returned false", record.getId());
+                // 재시도 메시지가 같은 messageId로 다시 발송될 수 있도록 표시 해제
+                releaseDelivery(message.messageId());
+                handleFailure(message, failedTokenIds,
+                        "Failed to send to " + failedTokenIds.size() + " device(s)");
             }
+            return true;
 
         } catch (Exception e) {
+            // 파싱 실패 등은 배치 ACK에 포함되어 무한 재시도하지 않음
             log.error("Error processing record {}: {}", recordId, e.getMessage());
             failedCounter.increment();
-            // 파싱 실패 시 ACK하여 무한 재시도 방지
-            acknowledgeMessage(record.getId());
+            return true;
         } finally {
             sample.stop(processingTimer);
         }
@@ -178,55 +394,69 @@ public class NotificationConsumerService {
      * 알림 처리 (FCM 발송)
      *
      * @param message 알림 메시지
-     * @return 처리 성공 여부
+     * @return 발송에 실패한 디바이스 토큰 ID (비어 있으면 처리 성공)
      */
-    private boolean processNotification(NotificationMessage message) {
+    private List<Long> processNotification(NotificationMessage message) {
         Long memberId = message.memberId();
 
         // 알림 설정 확인
         if (!isPushEnabled(memberId)) {
             log.debug("Push disabled for memberId: {}", memberId);
-            return true; // 설정으로 인한 스킵은 성공으로 처리
+            return List.of(); // 설정으로 인한 스킵은 성공으로 처리
         }
 
         // 조용한 시간 확인
         if (isQuietHours(memberId)) {
             log.debug("Quiet hours active for memberId: {}", memberId);
-            return true;
+            return List.of();
         }
 
-        // 활성화된 디바이스 토큰 조회
+        // 활성화된 디바이스 토큰 조회 (재시도 메시지는 실패했던 토큰만)
         List<FcmDeviceToken> tokens = fcmDeviceTokenRepository
                 .findByMember_MemberIdAndIsActiveTrue(memberId);
+        if (message.deviceTokenIds() != null) {
+            tokens = tokens.stream()
+                    .filter(token -> message.deviceTokenIds().contains(token.getFcmDeviceTokenId()))
+                    .toList();
+        }
 
         if (tokens.isEmpty()) {
             log.debug("No active device tokens for memberId: {}", memberId);
-            return true;
+            return List.of();
         }
 
-        // 각 디바이스에 알림 발송
-        boolean allSuccess = true;
+        // 각 디바이스 메시지를 배치 발송기에 넘기고 발송 결과를 기다림
+        Notification notification = Notification.builder()
+                .setTitle(message.title())
+                .setBody(message.body())
+                .build();
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(tokens.size());
         for (FcmDeviceToken deviceToken : tokens) {
-            try {
-                sendToDevice(deviceToken.getToken(), message.title(), message.body(), message.data());
-                deviceToken.markAsUsed();
+            results.add(fcmBatchSender.submit(deviceToken.getFcmDeviceTokenId(),
+                            FcmPushService.buildMessage(deviceToken.getToken(), notification, message.data()))
+                    .completeOnTimeout(false, FCM_RESULT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        }
+
+        List<Long> failedTokenIds = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            FcmDeviceToken deviceToken = tokens.get(i);
+            if (results.get(i).join()) {
                 log.info("Push notification sent to memberId: {}, device: {}",
                         memberId, deviceToken.getDeviceName());
-            } catch (FirebaseMessagingException e) {
-                handleFirebaseError(deviceToken, e);
-                allSuccess = false;
+            } else {
+                failedTokenIds.add(deviceToken.getFcmDeviceTokenId());
             }
         }
 
-        return allSuccess;
+        return failedTokenIds;
     }
 
     /**
      * 실패 처리 (재시도 또는 DLQ)
      */
-    private void handleFailure(NotificationMessage message, String errorMessage, RecordId recordId) {
+    private void handleFailure(NotificationMessage message, List<Long> failedTokenIds, String errorMessage) {
         failedCounter.increment();
-        NotificationMessage retriedMessage = message.withIncrementedRetry();
+        NotificationMessage retriedMessage = message.withRetryFor(failedTokenIds);
 
         if (retriedMessage.hasExceededMaxRetries(queueProperties.maxRetries())) {
             // 최대 재시도 초과 → DLQ로 이동
@@ -246,78 +476,57 @@ public class NotificationConsumerService {
             log.info("Message re-queued for retry (attempt {}): {}",
                     retriedMessage.retryCount(), message.messageId());
         }
-
-        // 원본 메시지 ACK
-        acknowledgeMessage(recordId);
     }
 
     /**
-     * 메시지 ACK 처리
+     * 메시지 ACK 처리 (배치 단위 XACK)
      */
-    private void acknowledgeMessage(RecordId recordId) {
+    private void acknowledgeMessages(RecordId... recordIds) {
+        if (recordIds.length == 0) {
+            return;
+        }
         try {
             redisTemplate.opsForStream().acknowledge(
                     queueProperties.notificationStream(),
                     queueProperties.consumerGroup(),
-                    recordId
+                    recordIds
             );
         } catch (Exception e) {
-            log.error("Failed to acknowledge message: {}", e.getMessage());
+            log.error("Failed to acknowledge {} messages: {}", recordIds.length, e.getMessage());
         }
     }
 
     /**
-     * FCM 메시지 전송
+     * 발송 시작 표시 (SET NX)
+     * 처리 중 표시는 회수 유휴 시간보다 충분히 긴 {@link MessageQueueProperties#processingMarkerTtl()} 뒤 만료되므로,
+     * 처리가 느린 메시지가 회수되어도 다시 발송하지 않고 노드가 발송 도중 중단된 경우에만 만료 후 다시 발송합니다.
+     *
+     * @return 이 소비자가 발송해야 하면 true, 이미 발송했거나 처리 중이면 false
      */
-    private void sendToDevice(String token, String title, String body, Map<String, String> data)
-            throws FirebaseMessagingException {
+    private boolean claimDelivery(String messageId) {
+        Boolean claimed = redisTemplate.opsForValue()
+                .setIfAbsent(deliveryKey(messageId), DELIVERY_PROCESSING, queueProperties.processingMarkerTtl());
+        return !Boolean.FALSE.equals(claimed);
+    }
 
-        Notification notification = Notification.builder()
-                .setTitle(title)
-                .setBody(body)
-                .build();
+    private boolean isDelivered(String messageId) {
+        return DELIVERY_DONE.equals(redisTemplate.opsForValue().get(deliveryKey(messageId)));
+    }
 
-        Message.Builder messageBuilder = Message.builder()
-                .setToken(token)
-                .setNotification(notification);
+    private void completeDelivery(String messageId) {
+        redisTemplate.opsForValue().set(deliveryKey(messageId), DELIVERY_DONE, queueProperties.idempotencyTtl());
+    }
 
-        if (data != null && !data.isEmpty()) {
-            messageBuilder.putAllData(data);
+    private void releaseDelivery(String messageId) {
+        try {
+            redisTemplate.delete(deliveryKey(messageId));
+        } catch (Exception e) {
+            log.warn("Failed to release delivery marker for message {}: {}", messageId, e.getMessage());
         }
-
-        // Android 설정
-        messageBuilder.setAndroidConfig(AndroidConfig.builder()
-                .setPriority(AndroidConfig.Priority.HIGH)
-                .setNotification(AndroidNotification.builder()
-                        .setClickAction("OPEN_APP")
-                        .build())
-                .build());
-
-        // iOS(APNs) 설정
-        messageBuilder.setApnsConfig(ApnsConfig.builder()
-                .setAps(Aps.builder()
-                        .setSound("default")
-                        .setBadge(1)
-                        .build())
-                .build());
-
-        FirebaseMessaging.getInstance().send(messageBuilder.build());
     }
 
-    /**
-     * Firebase 오류 처리
-     */
-    private void handleFirebaseError(FcmDeviceToken deviceToken, FirebaseMessagingException e) {
-        MessagingErrorCode errorCode = e.getMessagingErrorCode();
-
-        if (errorCode == MessagingErrorCode.UNREGISTERED ||
-                errorCode == MessagingErrorCode.INVALID_ARGUMENT) {
-            deviceToken.deactivate();
-            fcmDeviceTokenRepository.save(deviceToken);
-            log.warn("Deactivated invalid FCM token: {}", deviceToken.getToken());
-        } else {
-            log.error("Failed to send FCM message: {}", e.getMessage());
-        }
+    private String deliveryKey(String messageId) {
+        return queueProperties.notificationStream() + ":delivered:" + messageId;
     }
 
     /**
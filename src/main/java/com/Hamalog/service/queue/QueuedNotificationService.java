@@ -2,9 +2,14 @@ package com.Hamalog.service.queue;
 
 import com.Hamalog.config.MessageQueueProperties;
 import com.Hamalog.service.notification.FcmPushService;
+import com.Hamalog.service.queue.message.MedicationReminder;
 import com.Hamalog.service.queue.message.NotificationMessage;
 import com.Hamalog.service.queue.message.NotificationType;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -18,6 +23,8 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class QueuedNotificationService {
 
+    private static final DateTimeFormatter DOSE_TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
     private final MessageQueueProperties queueProperties;
     private final MessageQueueService messageQueueService;
     private final FcmPushService fcmPushService;
@@ -157,6 +164,70 @@ public class QueuedNotificationService {
         sendPushNotification(memberId, title, body, data, NotificationType.DIARY_REMINDER);
     }
 
+    /**
+     * 여러 회원에게 일기 작성 알림 일괄 발송 (예약 알림 디스패처용)
+     * 큐 활성화 시 한 번의 파이프라인으로 발행하고, 비활성화 시 회원별로 직접 발송합니다(FCM 배치 발송기가 묶어서 보냄).
+     */
+    public void sendDiaryReminders(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        String title = "📔 오늘의 마음 일기";
+        String body = "오늘 하루는 어땠나요? 마음 일기를 작성해보세요.";
+        Map<String, String> data = Map.of("type", "DIARY_REMINDER");
+
+        if (isQueueEnabled()) {
+            List<NotificationMessage> messages = memberIds.stream()
+                    .map(memberId -> NotificationMessage.of(memberId, title, body, data, NotificationType.DIARY_REMINDER))
+                    .toList();
+            int published = messageQueueService.publishAll(messages);
+            log.debug("Diary reminders queued: {}/{}", published, messages.size());
+        } else {
+            // 프록시를 거쳐 @Async로 발송 (FcmPushService 내부 호출은 호출 스레드에서 실행됨)
+            memberIds.forEach(memberId -> fcmPushService.sendPushNotification(memberId, title, body, data));
+        }
+    }
+
+    /**
+     * 복약 시간 알림 일괄 발송 (복약 알림 디스패처용, 같은 발송 버킷의 대상을 한 번에 발송)
+     * 큐 활성화 시 한 번의 파이프라인으로 발행하고, 비활성화 시 회원별로 직접 발송합니다(FCM 배치 발송기가 묶어서 보냄).
+     */
+    public void sendMedicationReminders(List<MedicationReminder> reminders) {
+        if (reminders.isEmpty()) {
+            return;
+        }
+        List<NotificationMessage> messages = reminders.stream()
+                .map(QueuedNotificationService::toMedicationReminderMessage)
+                .toList();
+
+        if (isQueueEnabled()) {
+            int published = messageQueueService.publishAll(messages);
+            log.debug("Medication reminders queued: {}/{}", published, messages.size());
+        } else {
+            messages.forEach(message -> fcmPushService.sendPushNotification(
+                    message.memberId(), message.title(), message.body(), message.data()));
+        }
+    }
+
+    private static NotificationMessage toMedicationReminderMessage(MedicationReminder reminder) {
+        String title = "💊 복약 알림";
+        String doseTime = reminder.doseAt().format(DOSE_TIME_FORMAT);
+        int count = reminder.medicationScheduleIds().size();
+        String body = count > 1
+                ? String.format("%s에 복용할 약이 %d건 있습니다.", doseTime, count)
+                : String.format("%s에 복용할 약이 있습니다.", doseTime);
+
+        Map<String, String> data = Map.of(
+                "type", "MEDICATION_REMINDER",
+                "doseAt", reminder.doseAt().toString(),
+                "medicationScheduleIds", reminder.medicationScheduleIds().stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(","))
+        );
+
+        return NotificationMessage.of(reminder.memberId(), title, body, data, NotificationType.MEDICATION_REMINDER);
+    }
+
     /**
      * 부정적 기분 지속 알림 발송
      */
@@ -0,0 +1,15 @@
+package com.Hamalog.service.queue.message;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 복약 시간 알림 발송 대상
+ * 같은 발송 버킷에서 한 회원의 같은 복용 예정 시각 회차를 하나로 묶습니다.
+ */
+public record MedicationReminder(
+        Long memberId,
+        LocalDateTime doseAt,
+        List<Long> medicationScheduleIds
+) {
+}
@@ -1,12 +1,15 @@
 package com.Hamalog.service.queue.message;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 /**
  * 푸시 알림 메시지 DTO
  * Redis Stream으로 전송되는 알림 메시지 구조
+ *
+ * @param deviceTokenIds 발송 대상 디바이스 토큰 ID (null이면 회원의 모든 활성 토큰, 재시도 시 실패한 토큰만 담음)
  */
 public record NotificationMessage(
         String messageId,
@@ -16,7 +19,8 @@ public record NotificationMessage(
         Map<String, String> data,
         String notificationType,
         Instant createdAt,
-        int retryCount
+        int retryCount,
+        List<Long> deviceTokenIds
 ) {
     /**
      * 새 알림 메시지 생성
@@ -36,7 +40,8 @@ public record NotificationMessage(
                 data,
                 notificationType,
                 Instant.now(),
-                0
+                0,
+                null
         );
     }
 
@@ -52,7 +57,26 @@ public record NotificationMessage(
                 this.data,
                 this.notificationType,
                 this.createdAt,
-                this.retryCount + 1
+                this.retryCount + 1,
+                this.deviceTokenIds
+        );
+    }
+
+    /**
+     * 재시도 횟수를 증가시키고 발송 대상을 실패한 디바이스 토큰으로 좁힘
+     * 이미 발송에 성공한 디바이스에는 재시도 메시지를 다시 보내지 않습니다.
+     */
+    public NotificationMessage withRetryFor(List<Long> failedDeviceTokenIds) {
+        return new NotificationMessage(
+                this.messageId,
+                this.memberId,
+                this.title,
+                this.body,
+                this.data,
+                this.notificationType,
+                this.createdAt,
+                this.retryCount + 1,
+                List.copyOf(failedDeviceTokenIds)
         );
     }
 
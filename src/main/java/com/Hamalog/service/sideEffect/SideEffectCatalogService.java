@@ -0,0 +1,150 @@
+package com.Hamalog.service.sideEffect;
+
+import com.Hamalog.domain.sideEffect.SideEffect;
+import com.Hamalog.dto.sideEffect.response.SideEffectCatalogResponse;
+import com.Hamalog.dto.sideEffect.response.SideEffectCatalogResponse.SideEffectCatalogItem;
+import com.Hamalog.repository.sideEffect.SideEffectRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 부작용 카탈로그 (참조 데이터) 인메모리 캐시
+ *
+ * <p>side_effect 테이블은 거의 변경되지 않는 작은 참조 테이블이므로 전체를 불변 스냅샷으로 메모리에 올려두고,
+ * 기록 생성/상세 조회/내보내기 시 부작용 이름 조회가 DB를 거치지 않도록 합니다.</p>
+ *
+ * <p>스냅샷은 주기적으로 다시 읽어 내용 해시(버전)가 달라졌을 때만 교체합니다.
+ * 이 버전은 카탈로그 API의 강한 ETag로도 사용됩니다.</p>
+ */
+@Service
+@Slf4j
+public class SideEffectCatalogService {
+
+    /**
+     * 캐시에 없는 ID 요청 시 재적재 최소 간격 (잘못된 ID 반복 요청으로 인한 재조회 폭주 방지)
+     */
+    private static final Duration MISS_RELOAD_INTERVAL = Duration.ofSeconds(30);
+
+    private final SideEffectRepository sideEffectRepository;
+    private volatile Snapshot snapshot;
+
+    public SideEffectCatalogService(SideEffectRepository sideEffectRepository) {
+        this.sideEffectRepository = sideEffectRepository;
+    }
+
+    /**
+     * 전체 카탈로그 조회
+     */
+    public SideEffectCatalogResponse getCatalog() {
+        Snapshot current = current();
+        return new SideEffectCatalogResponse(current.version(), current.items());
+    }
+
+    public Optional<SideEffectCatalogItem> find(Long sideEffectId) {
+        return Optional.ofNullable(current().byId().get(sideEffectId));
+    }
+
+    /**
+     * ID 목록으로 카탈로그 항목 일괄 조회
+     * 캐시에 없는 ID가 있으면 (최근 추가된 부작용일 수 있으므로) 최소 간격을 두고 한 번 재적재 후 다시 조회합니다.
+     *
+     * @return 찾은 항목만 담긴 Map (없는 ID는 포함되지 않음)
+     */
+    public Map<Long, SideEffectCatalogItem> findAllById(Collection<Long> sideEffectIds) {
+        Snapshot current = current();
+        if (!current.byId().keySet().containsAll(sideEffectIds)
+                && current.loadedAt() + MISS_RELOAD_INTERVAL.toMillis() < System.currentTimeMillis()) {
+            current = reload();
+        }
+
+        Map<Long, SideEffectCatalogItem> byId = current.byId();
+        return sideEffectIds.stream()
+                .filter(byId::containsKey)
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), byId::get));
+    }
+
+    /**
+     * 주기적 카탈로그 재적재 (내용이 바뀐 경우에만 버전 교체)
+     */
+    @Scheduled(fixedDelayString = "${hamalog.side-effect-catalog.refresh-interval-ms:300000}",
+            initialDelayString = "${hamalog.side-effect-catalog.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 재적재 실패 시 기존 스냅샷 유지
+            log.warn("Failed to refresh side effect catalog: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = reload();
+                }
+            }
+        }
+        return current;
+    }
+
+    private synchronized Snapshot reload() {
+        List<SideEffectCatalogItem> items = sideEffectRepository.findAll().stream()
+                .sorted(Comparator.comparing(SideEffect::getSideEffectId))
+                .map(sideEffect -> new SideEffectCatalogItem(
+                        sideEffect.getSideEffectId(), sideEffect.getType(), sideEffect.getName()))
+                .toList();
+        String version = computeVersion(items);
+
+        Snapshot previous = snapshot;
+        if (previous != null && previous.version().equals(version)) {
+            // 내용이 같으면 기존 스냅샷 유지, 적재 시각만 갱신
+            snapshot = new Snapshot(previous.version(), previous.items(), previous.byId(), System.currentTimeMillis());
+            return snapshot;
+        }
+
+        Map<Long, SideEffectCatalogItem> byId = new LinkedHashMap<>();
+        items.forEach(item -> byId.put(item.sideEffectId(), item));
+        snapshot = new Snapshot(version, items, Collections.unmodifiableMap(byId), System.currentTimeMillis());
+        log.info("Side effect catalog loaded - version: {}, size: {}", version, items.size());
+        return snapshot;
+    }
+
+    private static String computeVersion(List<SideEffectCatalogItem> items) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (SideEffectCatalogItem item : items) {
+                digest.update((item.sideEffectId() + "\t" + item.type() + "\t" + item.name() + "\n")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private record Snapshot(
+            String version,
+            List<SideEffectCatalogItem> items,
+            Map<Long, SideEffectCatalogItem> byId,
+            long loadedAt
+    ) {}
+}
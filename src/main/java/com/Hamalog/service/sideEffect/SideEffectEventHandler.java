@@ -1,10 +1,19 @@
 package com.Hamalog.service.sideEffect;
 
+import com.Hamalog.config.EventStoreProperties;
 import com.Hamalog.domain.events.sideEffect.SideEffectRecordCreated;
+import com.Hamalog.domain.events.sideEffect.SideEffectRecordCreated.SideEffectItem;
 import com.Hamalog.logging.StructuredLogger;
 import com.Hamalog.logging.events.BusinessEvent;
+import com.Hamalog.service.events.DomainEventPayloadCodec;
+import com.Hamalog.service.events.DomainEventRecord;
+import com.Hamalog.service.events.DomainEventStreamHandler;
 import com.Hamalog.service.notification.FcmPushService;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -18,15 +27,18 @@ import org.springframework.transaction.event.TransactionalEventListener;
 /**
  * 부작용 기록 이벤트 핸들러
  * 캐시 갱신(동기)과 심각도 분석/알림(비동기)를 분리하여 처리
+ * 도메인 이벤트 스트림 전달이 켜져 있으면 심각도 알림과 통계 집계는 요청 노드가 아닌 스트림 소비자 노드에서 처리
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class SideEffectEventHandler {
+public class SideEffectEventHandler implements DomainEventStreamHandler {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final StructuredLogger structuredLogger;
     private final FcmPushService fcmPushService;
+    private final EventStoreProperties eventStoreProperties;
+    private final DomainEventPayloadCodec payloadCodec;
 
     /**
      * 부작용 기록 생성 시 캐시 갱신 (동기 처리)
@@ -58,67 +70,106 @@ public class SideEffectEventHandler {
     @Async("eventExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleAsyncProcessing(SideEffectRecordCreated event) {
+        if (eventStoreProperties.streamDispatchEnabled()) {
+            // 스트림 소비자가 처리
+            return;
+        }
         log.debug("Async processing for SideEffectRecordCreated: {}", event.getSideEffectRecordId());
 
         try {
-            // 비즈니스 이벤트 로깅
-            Map<String, Object> metadata = new HashMap<>();
-            metadata.put("maxDegree", event.getMaxDegree().toString());
-            metadata.put("sideEffectCount", String.valueOf(event.getSideEffects().size()));
-            metadata.put("sideEffects", event.getSideEffects().stream()
-                    .map(s -> s.name() + "(" + s.degree() + ")")
-                    .collect(Collectors.joining(", ")));
-
-            if (event.isLinkedToMedication()) {
-                metadata.put("linkedMedicationScheduleId", event.getLinkedMedicationScheduleId().toString());
-            }
-
-            BusinessEvent businessEvent = BusinessEvent.builder()
-                    .eventType("SIDE_EFFECT_RECORD_CREATED")
-                    .userId(event.getMemberLoginId())
-                    .entity("SideEffectRecord")
-                    .action("CREATED")
-                    .result(event.hasSevereSideEffect() ? "SEVERE" : "NORMAL")
-                    .metadata(metadata)
-                    .build();
-
-            structuredLogger.business(businessEvent);
-
-            // 심각한 부작용(degree >= 3) 발생 시 알림
-            if (event.hasSevereSideEffect()) {
-                log.warn("Severe side effect recorded for memberId: {}, maxDegree: {}",
-                        event.getMemberId(), event.getMaxDegree());
-
-                // 심각한 부작용 알림 발송
-                String severeSideEffectName = event.getSideEffects().stream()
-                        .filter(s -> s.degree() >= 3)
-                        .map(s -> s.name())
-                        .findFirst()
-                        .orElse("알 수 없음");
-                fcmPushService.sendSevereSideEffectAlert(
-                        event.getMemberId(), severeSideEffectName, event.getMaxDegree());
-
-                // 의료진 상담 권유 메시지 발송
-                fcmPushService.sendMedicalConsultationReminder(event.getMemberId());
-            }
-
-            // 복약 스케줄과 연계된 부작용인 경우 통계 집계
-            if (event.isLinkedToMedication()) {
-                log.info("Side effect linked to medication schedule: {} for memberId: {}",
-                        event.getLinkedMedicationScheduleId(), event.getMemberId());
-
-                // 약물별 부작용 통계 캐시 갱신 (Redis에 저장)
-                String medicationStatsKey = "medication_side_effect_stats:" +
-                        event.getLinkedMedicationScheduleId();
-                redisTemplate.opsForValue().increment(medicationStatsKey, 1);
-            }
-
-            log.info("Completed async processing for SideEffectRecordCreated: recordId={}, memberId={}",
-                    event.getSideEffectRecordId(), event.getMemberId());
-
+            process(event);
         } catch (Exception e) {
             log.error("Failed async processing for SideEffectRecordCreated: {}",
                     event.getSideEffectRecordId(), e);
         }
     }
+
+    @Override
+    public boolean supports(String eventType) {
+        return SideEffectRecordCreated.class.getSimpleName().equals(eventType);
+    }
+
+    /**
+     * 스트림으로 전달된 부작용 기록 생성 이벤트 처리 (실패 시 예외를 던져 재전달)
+     */
+    @Override
+    public void handle(DomainEventRecord record) throws Exception {
+        JsonNode payload = payloadCodec.readTree(record.payload());
+        List<SideEffectItem> sideEffects = new ArrayList<>();
+        for (JsonNode item : payload.path("sideEffects")) {
+            sideEffects.add(new SideEffectItem(
+                    item.path("sideEffectId").asLong(),
+                    item.path("name").asText(null),
+                    item.path("degree").asInt()));
+        }
+        JsonNode linkedScheduleId = payload.path("linkedMedicationScheduleId");
+        process(new SideEffectRecordCreated(
+                payload.path("sideEffectRecordId").asLong(),
+                payload.path("memberId").asLong(),
+                payload.path("memberLoginId").asText(null),
+                linkedScheduleId.isNumber() ? linkedScheduleId.asLong() : null,
+                payloadCodec.treeToValue(payload.get("createdAt"), LocalDateTime.class),
+                sideEffects
+        ));
+    }
+
+    /**
+     * 비즈니스 로깅, 심각도 알림 및 약물별 통계 처리
+     */
+    private void process(SideEffectRecordCreated event) {
+        // 비즈니스 이벤트 로깅
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("maxDegree", event.getMaxDegree().toString());
+        metadata.put("sideEffectCount", String.valueOf(event.getSideEffects().size()));
+        metadata.put("sideEffects", event.getSideEffects().stream()
+                .map(s -> s.name() + "(" + s.degree() + ")")
+                .collect(Collectors.joining(", ")));
+
+        if (event.isLinkedToMedication()) {
+            metadata.put("linkedMedicationScheduleId", event.getLinkedMedicationScheduleId().toString());
+        }
+
+        BusinessEvent businessEvent = BusinessEvent.builder()
+                .eventType("SIDE_EFFECT_RECORD_CREATED")
+                .userId(event.getMemberLoginId())
+                .entity("SideEffectRecord")
+                .action("CREATED")
+                .result(event.hasSevereSideEffect() ? "SEVERE" : "NORMAL")
+                .metadata(metadata)
+                .build();
+
+        structuredLogger.business(businessEvent);
+
+        // 심각한 부작용(degree >= 3) 발생 시 알림
+        if (event.hasSevereSideEffect()) {
+            log.warn("Severe side effect recorded for memberId: {}, maxDegree: {}",
+                    event.getMemberId(), event.getMaxDegree());
+
+            // 심각한 부작용 알림 발송
+            String severeSideEffectName = event.getSideEffects().stream()
+                    .filter(s -> s.degree() >= 3)
+                    .map(s -> s.name())
+                    .findFirst()
+                    .orElse("알 수 없음");
+            fcmPushService.sendSevereSideEffectAlert(
+                    event.getMemberId(), severeSideEffectName, event.getMaxDegree());
+
+            // 의료진 상담 권유 메시지 발송
+            fcmPushService.sendMedicalConsultationReminder(event.getMemberId());
+        }
+
+        // 복약 스케줄과 연계된 부작용인 경우 통계 집계
+        if (event.isLinkedToMedication()) {
+            log.info("Side effect linked to medication schedule: {} for memberId: {}",
+                    event.getLinkedMedicationScheduleId(), event.getMemberId());
+
+            // 약물별 부작용 통계 캐시 갱신 (Redis에 저장)
+            String medicationStatsKey = "medication_side_effect_stats:" +
+                    event.getLinkedMedicationScheduleId();
+            redisTemplate.opsForValue().increment(medicationStatsKey, 1);
+        }
+
+        log.info("Completed async processing for SideEffectRecordCreated: recordId={}, memberId={}",
+                event.getSideEffectRecordId(), event.getMemberId());
+    }
 }
@@ -4,10 +4,10 @@ import com.Hamalog.domain.events.DomainEventPublisher;
 import com.Hamalog.domain.events.sideEffect.SideEffectRecordCreated;
 import com.Hamalog.domain.medication.MedicationSchedule;
 import com.Hamalog.domain.member.Member;
-import com.Hamalog.domain.sideEffect.SideEffect;
 import com.Hamalog.domain.sideEffect.SideEffectRecord;
 import com.Hamalog.domain.sideEffect.SideEffectSideEffectRecord;
 import com.Hamalog.dto.sideEffect.request.SideEffectRecordRequest;
+import com.Hamalog.dto.sideEffect.response.SideEffectCatalogResponse.SideEffectCatalogItem;
 import com.Hamalog.dto.sideEffect.response.RecentSideEffectResponse;
 import com.Hamalog.dto.sideEffect.response.SideEffectRecordListResponse;
 import com.Hamalog.dto.sideEffect.response.SideEffectRecordResponse;
@@ -25,7 +25,6 @@ import com.Hamalog.security.annotation.RequireResourceOwnership;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,6 +44,7 @@ public class SideEffectService {
     private final SideEffectSideEffectRecordRepository sideEffectSideEffectRecordRepository;
     private final MemberRepository memberRepository;
     private final MedicationScheduleRepository medicationScheduleRepository;
+    private final SideEffectCatalogService sideEffectCatalogService;
     private final RecentSideEffectCacheService cacheService;
     private final DomainEventPublisher domainEventPublisher;
 
@@ -54,6 +54,7 @@ public class SideEffectService {
                            MemberRepository memberRepository,
                            MedicationScheduleRepository medicationScheduleRepository,
                            DomainEventPublisher domainEventPublisher,
+                           SideEffectCatalogService sideEffectCatalogService,
                            @Autowired(required = false) RecentSideEffectCacheService cacheService) {
         this.sideEffectRepository = sideEffectRepository;
         this.sideEffectRecordRepository = sideEffectRecordRepository;
@@ -61,6 +62,7 @@ public class SideEffectService {
         this.memberRepository = memberRepository;
         this.medicationScheduleRepository = medicationScheduleRepository;
         this.domainEventPublisher = domainEventPublisher;
+        this.sideEffectCatalogService = sideEffectCatalogService;
         this.cacheService = cacheService;
     }
 
@@ -139,29 +141,21 @@ public class SideEffectService {
         
         SideEffectRecord savedRecord = sideEffectRecordRepository.save(sideEffectRecord);
         
-        // N+1 문제 해결: SideEffect 일괄 조회
         List<Long> sideEffectIds = request.sideEffects().stream()
                 .map(item -> item.sideEffectId())
                 .toList();
         
-        // IN 쿼리로 모든 SideEffect를 한 번에 조회
-        List<SideEffect> sideEffects = sideEffectRepository.findAllById(sideEffectIds);
+        // 인메모리 카탈로그에서 SideEffect 일괄 조회 (DB 조회 없음)
+        Map<Long, SideEffectCatalogItem> sideEffectMap = sideEffectCatalogService.findAllById(sideEffectIds);
         
         // 존재하지 않는 SideEffect ID 검증
-        if (sideEffects.size() != sideEffectIds.size()) {
-            List<Long> foundIds = sideEffects.stream()
-                    .map(SideEffect::getSideEffectId)
-                    .toList();
+        if (!sideEffectMap.keySet().containsAll(sideEffectIds)) {
             List<Long> missingIds = sideEffectIds.stream()
-                    .filter(id -> !foundIds.contains(id))
+                    .filter(id -> !sideEffectMap.containsKey(id))
                     .toList();
             log.warn("SideEffect IDs not found: {}", missingIds);
             throw new SideEffectNotFoundException();
         }
-
-        // ID를 키로 하는 Map으로 변환하여 빠른 조회 가능
-        Map<Long, SideEffect> sideEffectMap = sideEffects.stream()
-                .collect(Collectors.toMap(SideEffect::getSideEffectId, Function.identity()));
         
         // SideEffect와의 연결 관계 생성 및 캐시 업데이트를 위한 side effect 이름 수집
         List<String> newSideEffectNames = request.sideEffects().stream()
@@ -169,8 +163,8 @@ public class SideEffectService {
                     // 부작용 정도 검증
                     validateSideEffectDegree(item.degree());
 
-                    // Map에서 SideEffect 조회 (N+1 문제 해결됨)
-                    SideEffect sideEffect = sideEffectMap.get(item.sideEffectId());
+                    // 카탈로그 Map에서 SideEffect 조회
+                    SideEffectCatalogItem sideEffect = sideEffectMap.get(item.sideEffectId());
                     if (sideEffect == null) {
                         log.error("SideEffect not found with id: {}", item.sideEffectId());
                         throw new SideEffectNotFoundException(item.sideEffectId());
@@ -181,14 +175,14 @@ public class SideEffectService {
                             .sideEffectRecordId(savedRecord.getSideEffectRecordId())
                             .sideEffectId(item.sideEffectId())
                             .sideEffectRecord(savedRecord)
-                            .sideEffect(sideEffect)
+                            .sideEffect(sideEffectRepository.getReferenceById(item.sideEffectId()))
                             .degree(item.degree())
                             .build();
                     
                     sideEffectSideEffectRecordRepository.save(linkRecord);
                     
                     // 캐시 업데이트를 위해 부작용 이름 반환
-                    return sideEffect.getName();
+                    return sideEffect.name();
                 })
                 .toList();
         
@@ -202,10 +196,10 @@ public class SideEffectService {
         // 도메인 이벤트 발행
         List<SideEffectRecordCreated.SideEffectItem> eventItems = request.sideEffects().stream()
                 .map(item -> {
-                    SideEffect se = sideEffectMap.get(item.sideEffectId());
+                    SideEffectCatalogItem se = sideEffectMap.get(item.sideEffectId());
                     return new SideEffectRecordCreated.SideEffectItem(
                             item.sideEffectId(),
-                            se != null ? se.getName() : "Unknown",
+                            se != null ? se.name() : "Unknown",
                             item.degree()
                     );
                 })
@@ -304,12 +298,15 @@ public class SideEffectService {
 
     private SideEffectRecordResponse toSideEffectRecordResponse(SideEffectRecord record) {
         List<SideEffectSideEffectRecord> sideEffectRecords = sideEffectSideEffectRecordRepository
-                .findBySideEffectRecordIdWithSideEffect(record.getSideEffectRecordId());
+                .findBySideEffectRecordId(record.getSideEffectRecordId());
 
+        // 부작용 이름은 카탈로그에서 조회 (side_effect 조인 불필요)
         List<SideEffectDetailResponse> details = sideEffectRecords.stream()
                 .map(ssr -> new SideEffectDetailResponse(
-                        ssr.getSideEffect().getSideEffectId(),
-                        ssr.getSideEffect().getName(),
+                        ssr.getSideEffectId(),
+                        sideEffectCatalogService.find(ssr.getSideEffectId())
+                                .map(SideEffectCatalogItem::name)
+                                .orElseGet(() -> ssr.getSideEffect().getName()),
                         ssr.getDegree()
                 ))
                 .collect(Collectors.toList());
@@ -346,6 +343,16 @@ public class SideEffectService {
             log.warn("Side effect list size {} exceeds maximum allowed (50)", request.sideEffects().size());
             throw new InvalidInputException(ErrorCode.INVALID_INPUT);
         }
+
+        // 같은 부작용은 기록당 한 번만 연결 가능 (복합 PK 충돌 방지)
+        long distinctIds = request.sideEffects().stream()
+                .map(SideEffectRecordRequest.SideEffectItem::sideEffectId)
+                .distinct()
+                .count();
+        if (distinctIds < request.sideEffects().size()) {
+            log.warn("Duplicate side effect IDs in request for member {}", request.memberId());
+            throw new InvalidInputException(ErrorCode.DUPLICATE_SIDE_EFFECT);
+        }
     }
 
     /**
@@ -0,0 +1,246 @@
+package com.Hamalog.service.sync;
+
+import com.Hamalog.domain.diary.MoodDiary;
+import com.Hamalog.domain.medication.MedicationRecord;
+import com.Hamalog.domain.medication.MedicationSchedule;
+import com.Hamalog.domain.sideEffect.SideEffectRecord;
+import com.Hamalog.domain.sideEffect.SideEffectSideEffectRecord;
+import com.Hamalog.domain.sync.SyncEntityType;
+import com.Hamalog.domain.sync.SyncOperation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 델타 동기화 변경 캡처 리스너
+ *
+ * <p>Hibernate insert/update/delete 이벤트에서 동기화 대상 엔티티의 변경을 세션별로 모아 두었다가,
+ * 트랜잭션 커밋 직전(flush 이후)에 같은 커넥션으로 sync_change에 일괄 기록합니다.
+ * 서비스 코드를 건드리지 않고 모든 변경 경로를 잡으며, 롤백된 변경은 기록되지 않습니다.
+ * 한 트랜잭션에서 같은 엔티티가 여러 번 바뀌면 한 행으로 합치고, 삭제가 있었다면 삭제로 기록합니다.</p>
+ *
+ * <p>회원 ID는 INSERT ... SELECT로 소유 테이블에서 조회합니다. 함께 삭제되어 소유 행이 없으면 기록을 건너뛰며,
+ * 이 경우 상위 엔티티의 삭제 기록이 하위 엔티티의 삭제를 의미합니다 (예: 스케줄 삭제 → 해당 스케줄의 복약 기록 삭제).
+ * Hibernate를 거치지 않는 쓰기(JDBC 배치 INSERT)는 {@link #record}로 직접 추가합니다.
+ * 회원 단위 일괄 삭제(탈퇴 처리)는 회원 행과 함께 변경 로그도 FK CASCADE로 삭제되므로 기록하지 않습니다.</p>
+ */
+@Component
+@Slf4j
+public class SyncChangeCaptureListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String INSERT_BY_MEMBER_SQL =
+            "INSERT INTO sync_change (member_id, entity_type, entity_id, operation, changed_at) " +
+            "SELECT m.member_id, ?, ?, ?, ? FROM member m WHERE m.member_id = ?";
+    private static final String INSERT_BY_SCHEDULE_SQL =
+            "INSERT INTO sync_change (member_id, entity_type, entity_id, operation, changed_at) " +
+            "SELECT ms.member_id, ?, ?, ?, ? FROM medication_schedule ms WHERE ms.medication_schedule_id = ?";
+    private static final String INSERT_BY_SIDE_EFFECT_RECORD_SQL =
+            "INSERT INTO sync_change (member_id, entity_type, entity_id, operation, changed_at) " +
+            "SELECT ser.member_id, ?, ?, ?, ? FROM side_effect_record ser WHERE ser.side_effect_record_id = ?";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Map<EventSource, PendingChanges> pendingBySession = new ConcurrentHashMap<>();
+    private final Counter recordedCounter;
+
+    public SyncChangeCaptureListener(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.recordedCounter = Counter.builder("hamalog.sync.changes.recorded")
+                .description("Sync change log rows written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        log.info("[SYNC] Change capture listener registered");
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        capture(event.getSession(), event.getEntity(), SyncOperation.UPSERT);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        capture(event.getSession(), event.getEntity(), SyncOperation.UPSERT);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        capture(event.getSession(), event.getEntity(), SyncOperation.DELETE);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * Hibernate를 거치지 않은 변경 기록 (현재 트랜잭션의 세션에 추가되어 커밋 직전에 함께 기록)
+     *
+     * @param ownerId 복약 기록이면 스케줄 ID, 그 외에는 회원 ID
+     */
+    public void record(EntityManager entityManager, SyncEntityType entityType, Long entityId,
+                       Long ownerId, SyncOperation operation) {
+        EventSource session = entityManager.unwrap(EventSource.class);
+        OwnerLookup lookup = entityType == SyncEntityType.MEDICATION_RECORD ? OwnerLookup.SCHEDULE : OwnerLookup.MEMBER;
+        pendingFor(session).add(entityType, entityId, lookup, ownerId, operation);
+    }
+
+    private void capture(EventSource session, Object entity, SyncOperation operation) {
+        if (entity instanceof MedicationSchedule schedule) {
+            pendingFor(session).add(SyncEntityType.MEDICATION_SCHEDULE, schedule.getMedicationScheduleId(),
+                    OwnerLookup.MEMBER, schedule.getMember().getMemberId(), operation);
+        } else if (entity instanceof MedicationRecord record) {
+            pendingFor(session).add(SyncEntityType.MEDICATION_RECORD, record.getMedicationRecordId(),
+                    OwnerLookup.SCHEDULE, record.getMedicationSchedule().getMedicationScheduleId(), operation);
+        } else if (entity instanceof MoodDiary diary) {
+            pendingFor(session).add(SyncEntityType.MOOD_DIARY, diary.getMoodDiaryId(),
+                    OwnerLookup.MEMBER, diary.getMember().getMemberId(), operation);
+        } else if (entity instanceof SideEffectRecord record) {
+            pendingFor(session).add(SyncEntityType.SIDE_EFFECT_RECORD, record.getSideEffectRecordId(),
+                    OwnerLookup.MEMBER, record.getMember().getMemberId(), operation);
+        } else if (entity instanceof SideEffectSideEffectRecord item) {
+            // 부작용 항목 변경은 상위 부작용 기록의 수정으로 기록
+            pendingFor(session).add(SyncEntityType.SIDE_EFFECT_RECORD, item.getSideEffectRecordId(),
+                    OwnerLookup.SIDE_EFFECT_RECORD, item.getSideEffectRecordId(), SyncOperation.UPSERT);
+        }
+    }
+
+    private PendingChanges pendingFor(EventSource session) {
+        return pendingBySession.computeIfAbsent(session, s -> {
+            s.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) this::flush);
+            s.getActionQueue().registerProcess(
+                    (AfterTransactionCompletionProcess) (success, completed) -> pendingBySession.remove(s));
+            return new PendingChanges();
+        });
+    }
+
+    private void flush(SessionImplementor session) {
+        PendingChanges changes = pendingBySession.remove(session);
+        if (changes == null || changes.isEmpty()) {
+            return;
+        }
+        Timestamp changedAt = Timestamp.valueOf(LocalDateTime.now());
+        session.doWork(connection -> write(connection, changes.values(), changedAt));
+        recordedCounter.increment(changes.size());
+    }
+
+    private static void write(Connection connection, Collection<PendingChange> changes, Timestamp changedAt)
+            throws SQLException {
+        try (PreparedStatement byMember = connection.prepareStatement(INSERT_BY_MEMBER_SQL);
+             PreparedStatement bySchedule = connection.prepareStatement(INSERT_BY_SCHEDULE_SQL);
+             PreparedStatement bySideEffectRecord = connection.prepareStatement(INSERT_BY_SIDE_EFFECT_RECORD_SQL)) {
+            boolean[] used = new boolean[OwnerLookup.values().length];
+            for (PendingChange change : changes) {
+                PreparedStatement ps = switch (change.lookup()) {
+                    case MEMBER -> byMember;
+                    case SCHEDULE -> bySchedule;
+                    case SIDE_EFFECT_RECORD -> bySideEffectRecord;
+                };
+                ps.setString(1, change.entityType().name());
+                ps.setLong(2, change.entityId());
+                ps.setString(3, change.operation().name());
+                ps.setTimestamp(4, changedAt);
+                ps.setLong(5, change.ownerId());
+                ps.addBatch();
+                used[change.lookup().ordinal()] = true;
+            }
+            if (used[OwnerLookup.MEMBER.ordinal()]) {
+                byMember.executeBatch();
+            }
+            if (used[OwnerLookup.SCHEDULE.ordinal()]) {
+                bySchedule.executeBatch();
+            }
+            if (used[OwnerLookup.SIDE_EFFECT_RECORD.ordinal()]) {
+                bySideEffectRecord.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * 회원 ID를 찾을 소유 테이블
+     */
+    private enum OwnerLookup {
+        MEMBER,
+        SCHEDULE,
+        SIDE_EFFECT_RECORD
+    }
+
+    private record ChangeKey(SyncEntityType entityType, Long entityId) {
+    }
+
+    private record PendingChange(SyncEntityType entityType, Long entityId, OwnerLookup lookup,
+                                 Long ownerId, SyncOperation operation) {
+    }
+
+    /**
+     * 한 세션(트랜잭션)에서 모은 변경 (세션은 단일 스레드에서만 사용되므로 동기화 불필요)
+     */
+    private static final class PendingChanges {
+
+        private final Map<ChangeKey, PendingChange> changes = new LinkedHashMap<>();
+
+        void add(SyncEntityType entityType, Long entityId, OwnerLookup lookup, Long ownerId,
+                 SyncOperation operation) {
+            if (entityId == null || ownerId == null) {
+                return;
+            }
+            ChangeKey key = new ChangeKey(entityType, entityId);
+            PendingChange existing = changes.get(key);
+            if (existing != null && existing.operation() == SyncOperation.DELETE) {
+                // IDENTITY ID는 재사용되지 않으므로 삭제 후의 변경(하위 항목 정리 등)은 무시
+                return;
+            }
+            if (existing != null && operation == SyncOperation.UPSERT) {
+                return;
+            }
+            changes.put(key, new PendingChange(entityType, entityId, lookup, ownerId, operation));
+        }
+
+        boolean isEmpty() {
+            return changes.isEmpty();
+        }
+
+        int size() {
+            return changes.size();
+        }
+
+        Collection<PendingChange> values() {
+            return changes.values();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.Hamalog.service.sync;
+
+import com.Hamalog.config.SyncProperties;
+import com.Hamalog.domain.sideEffect.SideEffectRecord;
+import com.Hamalog.domain.sideEffect.SideEffectSideEffectRecord;
+import com.Hamalog.domain.sync.SyncChange;
+import com.Hamalog.domain.sync.SyncEntityType;
+import com.Hamalog.domain.sync.SyncOperation;
+import com.Hamalog.dto.diary.response.MoodDiaryResponse;
+import com.Hamalog.dto.medication.response.MedicationRecordResponse;
+import com.Hamalog.dto.medication.response.MedicationScheduleResponse;
+import com.Hamalog.dto.sideEffect.response.SideEffectCatalogResponse.SideEffectCatalogItem;
+import com.Hamalog.dto.sideEffect.response.SideEffectRecordResponse;
+import com.Hamalog.dto.sideEffect.response.SideEffectRecordResponse.SideEffectDetailResponse;
+import com.Hamalog.dto.sync.SyncChangesResponse;
+import com.Hamalog.dto.sync.SyncChangesResponse.EntityChanges;
+import com.Hamalog.repository.diary.MoodDiaryRepository;
+import com.Hamalog.repository.medication.MedicationRecordRepository;
+import com.Hamalog.repository.medication.MedicationScheduleRepository;
+import com.Hamalog.repository.sideEffect.SideEffectRecordRepository;
+import com.Hamalog.repository.sideEffect.SideEffectSideEffectRecordRepository;
+import com.Hamalog.repository.sync.SyncChangeRepository;
+import com.Hamalog.service.sideEffect.SideEffectCatalogService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 모바일 델타 동기화 서비스
+ *
+ * <p>클라이언트가 보낸 커서(마지막으로 받은 변경 ID) 이후의 변경을 한 응답으로 반환합니다.
+ * 같은 엔티티의 여러 변경은 마지막 상태 하나로 합치고, 생성·수정된 엔티티는 유형별로 한 번씩 일괄 조회합니다.
+ * 변경 로그에 있지만 이미 사라진 엔티티는 삭제로 반환합니다.</p>
+ *
+ * <p>변경 ID는 INSERT 시점에 정해지고 커밋은 그보다 늦으므로, 정착 시간(settle window)이 지나지 않은 변경은
+ * 다음 요청으로 미뤄 늦게 커밋된 낮은 ID의 변경을 건너뛰지 않습니다.
+ * 커서가 없거나 보관 기간이 지나 정리된 변경 이전이면 전체 재동기화를 요구합니다.</p>
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SyncService {
+
+    private final SyncChangeRepository syncChangeRepository;
+    private final MedicationScheduleRepository medicationScheduleRepository;
+    private final MedicationRecordRepository medicationRecordRepository;
+    private final MoodDiaryRepository moodDiaryRepository;
+    private final SideEffectRecordRepository sideEffectRecordRepository;
+    private final SideEffectSideEffectRecordRepository sideEffectSideEffectRecordRepository;
+    private final SideEffectCatalogService sideEffectCatalogService;
+    private final SyncProperties properties;
+
+    /**
+     * 커서 이후 변경 조회
+     *
+     * @param cursor 마지막으로 받은 nextCursor (최초 동기화면 null)
+     * @param limit  한 번에 받을 최대 변경 수 (null이면 기본값, 최대값 초과 시 최대값)
+     */
+    public SyncChangesResponse getChanges(Long memberId, Long cursor, Integer limit) {
+        long upToId = findSettledChangeId();
+
+        if (cursor == null || requiresFullResync(cursor)) {
+            log.info("[SYNC] Full resync required - memberId: {}, cursor: {}", memberId, cursor);
+            return SyncChangesResponse.fullResync(upToId);
+        }
+
+        int pageSize = resolveLimit(limit);
+        List<SyncChange> page = syncChangeRepository.findPage(
+                memberId, cursor, upToId, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = page.size() > pageSize;
+        if (hasMore) {
+            page = page.subList(0, pageSize);
+        }
+        // 남은 변경이 없으면 정착된 최신 ID까지 커서를 당겨, 변경이 드문 회원의 커서가 보관 기간 밖으로 밀려나지 않게 함
+        long nextCursor = hasMore ? page.get(page.size() - 1).getChangeId() : Math.max(cursor, upToId);
+
+        Map<SyncEntityType, Map<Long, SyncOperation>> latest = coalesce(page);
+        return new SyncChangesResponse(
+                nextCursor,
+                hasMore,
+                false,
+                loadSchedules(latest.get(SyncEntityType.MEDICATION_SCHEDULE)),
+                loadRecords(latest.get(SyncEntityType.MEDICATION_RECORD)),
+                loadDiaries(latest.get(SyncEntityType.MOOD_DIARY)),
+                loadSideEffectRecords(memberId, latest.get(SyncEntityType.SIDE_EFFECT_RECORD))
+        );
+    }
+
+    /**
+     * 보관 기간이 지난 변경 로그 정리
+     * 가장 최근 변경 한 건은 남겨 최소 보관 ID(재동기화 판단 기준)가 항상 존재하도록 합니다.
+     */
+    @Scheduled(fixedDelayString = "${hamalog.sync.cleanup-interval-ms:3600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void purgeExpiredChanges() {
+        Long keepFromId = syncChangeRepository.findMaxChangeId();
+        if (keepFromId == null) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.retention());
+        int chunkSize = properties.cleanupChunkSize();
+
+        long total = 0;
+        int deleted;
+        do {
+            deleted = syncChangeRepository.deleteChunkBefore(cutoff, keepFromId, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+
+        if (total > 0) {
+            log.info("[SYNC] Purged {} expired change log rows (cutoff: {})", total, cutoff);
+        }
+    }
+
+    private long findSettledChangeId() {
+        LocalDateTime horizon = LocalDateTime.now().minus(properties.settleWindow());
+        List<Long> latest = syncChangeRepository.findLatestIdsAtOrBefore(horizon, PageRequest.of(0, 1));
+        return latest.isEmpty() ? 0L : latest.get(0);
+    }
+
+    private boolean requiresFullResync(long cursor) {
+        if (cursor < 0) {
+            return true;
+        }
+        Long minRetained = syncChangeRepository.findMinChangeId();
+        if (minRetained != null && cursor < minRetained - 1) {
+            return true;
+        }
+        // 발급한 적 없는 커서 (DB 초기화 등)
+        Long max = syncChangeRepository.findMaxChangeId();
+        return cursor > (max == null ? 0L : max);
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return properties.defaultLimit();
+        }
+        return Math.min(limit, properties.maxLimit());
+    }
+
+    /**
+     * 엔티티별 마지막 작업만 남김 (페이지는 change_id 오름차순)
+     */
+    private static Map<SyncEntityType, Map<Long, SyncOperation>> coalesce(List<SyncChange> page) {
+        Map<SyncEntityType, Map<Long, SyncOperation>> latest = new EnumMap<>(SyncEntityType.class);
+        for (SyncChange change : page) {
+            latest.computeIfAbsent(change.getEntityType(), type -> new LinkedHashMap<>())
+                    .put(change.getEntityId(), change.getOperation());
+        }
+        return latest;
+    }
+
+    private EntityChanges<MedicationScheduleResponse> loadSchedules(Map<Long, SyncOperation> changes) {
+        return load(changes,
+                ids -> medicationScheduleRepository.findAllByIdInWithMember(ids).stream()
+                        .map(MedicationScheduleResponse::from)
+                        .toList(),
+                MedicationScheduleResponse::medicationScheduleId);
+    }
+
+    private EntityChanges<MedicationRecordResponse> loadRecords(Map<Long, SyncOperation> changes) {
+        return load(changes,
+                ids -> medicationRecordRepository.findAllByIdInWithScheduleAndTime(ids).stream()
+                        .map(MedicationRecordResponse::from)
+                        .toList(),
+                MedicationRecordResponse::medicationRecordId);
+    }
+
+    private EntityChanges<MoodDiaryResponse> loadDiaries(Map<Long, SyncOperation> changes) {
+        return load(changes,
+                ids -> moodDiaryRepository.findAllById(ids).stream()
+                        .map(MoodDiaryResponse::from)
+                        .toList(),
+                MoodDiaryResponse::moodDiaryId);
+    }
+
+    private EntityChanges<SideEffectRecordResponse> loadSideEffectRecords(
+            Long memberId, Map<Long, SyncOperation> changes) {
+        return load(changes, ids -> {
+            List<SideEffectRecord> records = sideEffectRecordRepository.findAllById(ids);
+            if (records.isEmpty()) {
+                return List.of();
+            }
+            Map<Long, List<SideEffectSideEffectRecord>> itemsByRecord = sideEffectSideEffectRecordRepository
+                    .findByRecordIds(records.stream().map(SideEffectRecord::getSideEffectRecordId).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(SideEffectSideEffectRecord::getSideEffectRecordId));
+            Map<Long, SideEffectCatalogItem> catalog = sideEffectCatalogService.findAllById(
+                    itemsByRecord.values().stream()
+                            .flatMap(List::stream)
+                            .map(SideEffectSideEffectRecord::getSideEffectId)
+                            .collect(Collectors.toSet()));
+
+            return records.stream()
+                    .map(record -> new SideEffectRecordResponse(
+                            record.getSideEffectRecordId(),
+                            memberId,
+                            record.getCreatedAt(),
+                            itemsByRecord.getOrDefault(record.getSideEffectRecordId(), List.of()).stream()
+                                    .map(item -> new SideEffectDetailResponse(
+                                            item.getSideEffectId(),
+                                            catalog.containsKey(item.getSideEffectId())
+                                                    ? catalog.get(item.getSideEffectId()).name()
+                                                    : item.getSideEffect().getName(),
+                                            item.getDegree()))
+                                    .toList()))
+                    .toList();
+        }, SideEffectRecordResponse::sideEffectRecordId);
+    }
+
+    /**
+     * UPSERT 대상은 일괄 조회하고, 삭제 대상과 조회되지 않은 ID는 삭제 목록으로 반환
+     */
+    private static <T> EntityChanges<T> load(Map<Long, SyncOperation> changes,
+                                             Function<Collection<Long>, List<T>> loader,
+                                             Function<T, Long> idOf) {
+        if (changes == null || changes.isEmpty()) {
+            return EntityChanges.empty();
+        }
+
+        List<Long> upsertIds = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        changes.forEach((id, operation) -> (operation == SyncOperation.DELETE ? deleted : upsertIds).add(id));
+
+        List<T> upserted = upsertIds.isEmpty() ? List.of() : loader.apply(upsertIds);
+        if (upserted.size() < upsertIds.size()) {
+            Set<Long> found = upserted.stream().map(idOf).collect(Collectors.toSet());
+            upsertIds.stream().filter(id -> !found.contains(id)).forEach(deleted::add);
+        }
+        return new EntityChanges<>(upserted, deleted);
+    }
+}
@@ -0,0 +1,6 @@
+-- V10: 도메인 이벤트 아웃박스 릴레이 인덱스
+-- 릴레이는 status = 'PENDING'인 행을 id 순으로 잠그고 가져갑니다 (FOR UPDATE SKIP LOCKED).
+-- (status, id) 인덱스로 정렬 없이 앞에서부터 읽고, 기존 (status) 단일 인덱스는 이 인덱스의 접두어이므로 제거합니다.
+
+CREATE INDEX idx_domain_event_status_id ON domain_event (status, id);
+DROP INDEX idx_domain_event_status ON domain_event;
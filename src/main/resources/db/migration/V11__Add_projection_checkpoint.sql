@@ -0,0 +1,14 @@
+-- V11: 프로젝션 재구축(이벤트 리플레이) 체크포인트 테이블
+-- 프로젝션마다 보관 세그먼트(발생일)와 domain_event(id)에서 어디까지 적용했는지 기록하여,
+-- 재구축이 중단되면 다음 실행에서 이어서 처리하고 재구축 후에는 실시간 따라잡기 위치로 사용합니다.
+
+CREATE TABLE IF NOT EXISTS projection_checkpoint (
+    projection_name VARCHAR(100) NOT NULL PRIMARY KEY COMMENT '프로젝션 이름',
+    status VARCHAR(20) NOT NULL COMMENT '상태 (REBUILDING, LIVE)',
+    last_archive_day DATE NULL COMMENT '마지막으로 적용한 보관 세그먼트 발생일',
+    last_event_id BIGINT NOT NULL DEFAULT 0 COMMENT '마지막으로 적용한 domain_event ID',
+    applied_count BIGINT NOT NULL DEFAULT 0 COMMENT '현재 재구축 이후 적용한 이벤트 수',
+    run_started_at DATETIME(6) NULL COMMENT '현재 재구축 시작 시간',
+    updated_at DATETIME(6) NULL COMMENT '마지막 갱신 시간'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='프로젝션 재구축 체크포인트';
@@ -0,0 +1,20 @@
+-- V12: 예약 알림 발송 시각 인덱스
+-- 회원별 예약 알림(일기 알림 등)의 다음 발송 시각을 저장합니다.
+-- 각 노드의 디스패처가 발송 시각이 지난 행을 잠금(SKIP LOCKED)으로 나눠 가져가 발송하고 다음 발송 시각으로 갱신하므로,
+-- 재시작해도 예약이 유지되고 여러 노드가 같은 알림을 중복 발송하지 않습니다.
+
+CREATE TABLE IF NOT EXISTS reminder_schedule (
+    reminder_schedule_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id BIGINT NOT NULL COMMENT '회원 ID',
+    reminder_type VARCHAR(30) NOT NULL COMMENT '알림 종류 (DIARY)',
+    fire_time TIME NOT NULL COMMENT '매일 발송 시각',
+    next_fire_at DATETIME(6) NOT NULL COMMENT '다음 발송 시각',
+    updated_at DATETIME(6) NULL COMMENT '마지막 갱신 시간',
+    CONSTRAINT uk_reminder_schedule_member_type UNIQUE (member_id, reminder_type),
+    CONSTRAINT fk_reminder_schedule_member
+        FOREIGN KEY (member_id) REFERENCES member(member_id)
+        ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='예약 알림 발송 시각 인덱스';
+
+CREATE INDEX idx_reminder_schedule_next_fire ON reminder_schedule(next_fire_at);
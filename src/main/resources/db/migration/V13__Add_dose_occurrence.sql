@@ -0,0 +1,27 @@
+-- V13: 복약 알림 회차 인덱스
+-- 활성 복약 스케줄(복용 시작일, 처방 일수, 복약 시간)을 앞으로 48시간 동안의 복약 회차로 미리 펼쳐 저장합니다.
+-- notify_at은 회원의 복약 알림 선행 시간(분)을 뺀 발송 시각을 분 단위로 자른 값으로, 같은 분의 회차가 하나의 발송 버킷이 됩니다.
+-- 각 노드의 디스패처가 발송 시각이 지난 버킷을 잠금(SKIP LOCKED)으로 나눠 가져가 배치로 발송한 뒤 삭제합니다.
+
+CREATE TABLE IF NOT EXISTS dose_occurrence (
+    dose_occurrence_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id BIGINT NOT NULL COMMENT '회원 ID',
+    medication_schedule_id BIGINT NOT NULL COMMENT '복약 스케줄 ID',
+    medication_time_id BIGINT NOT NULL COMMENT '복약 시간 ID',
+    dose_at DATETIME(6) NOT NULL COMMENT '복용 예정 시각',
+    notify_at DATETIME(6) NOT NULL COMMENT '발송 버킷 (분 단위)',
+    CONSTRAINT uk_dose_occurrence_time_dose UNIQUE (medication_time_id, dose_at),
+    CONSTRAINT fk_dose_occurrence_member
+        FOREIGN KEY (member_id) REFERENCES member(member_id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_dose_occurrence_schedule
+        FOREIGN KEY (medication_schedule_id) REFERENCES medication_schedule(medication_schedule_id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_dose_occurrence_time
+        FOREIGN KEY (medication_time_id) REFERENCES medication_time(medication_time_id)
+        ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='복약 알림 회차 인덱스';
+
+CREATE INDEX idx_dose_occurrence_notify_at ON dose_occurrence(notify_at);
+CREATE INDEX idx_dose_occurrence_schedule ON dose_occurrence(medication_schedule_id, notify_at);
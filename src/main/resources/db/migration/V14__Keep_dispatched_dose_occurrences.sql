@@ -0,0 +1,11 @@
+-- V14: 발송한 복약 알림 회차 보존
+-- 발송한 회차를 삭제하면 창 확장이 같은 회차를 다시 채워 두 번 발송할 수 있으므로, 발송(또는 발송 생략) 시각을
+-- dispatched_at에 기록해 남겨 두고 uk_dose_occurrence_time_dose로 재삽입을 막습니다.
+-- 발송 후 window가 지난 회차는 창 확장 주기마다 정리합니다.
+
+ALTER TABLE dose_occurrence
+    ADD COLUMN dispatched_at DATETIME(6) NULL COMMENT '발송 처리 시각 (NULL이면 미발송)' AFTER notify_at;
+
+-- 디스패처는 미발송 회차(dispatched_at IS NULL)를 버킷 순으로 잠그고, 정리 작업은 dispatched_at 범위로 찾음
+CREATE INDEX idx_dose_occurrence_pending ON dose_occurrence(dispatched_at, notify_at);
+DROP INDEX idx_dose_occurrence_notify_at ON dose_occurrence;
@@ -0,0 +1,19 @@
+-- V6: 캘린더/통계 범위 조회용 복합(커버링) 인덱스 추가
+-- 월별 캘린더 쿼리를 YEAR()/MONTH() 대신 반열린 구간 [start, end)으로 변경하면서
+-- 인덱스 레인지 스캔이 가능하도록 복합 인덱스를 추가합니다.
+
+-- 1. mood_diary: 캘린더/통계 Projection (member_id, diary_date, mood_type, diary_type, created_at)
+-- uk_mood_diary_member_date(member_id, diary_date)로 범위 탐색은 가능하지만,
+-- Projection 컬럼까지 포함하여 테이블 접근 없이 인덱스만으로 응답하도록 커버링 인덱스 추가
+CREATE INDEX idx_mood_diary_member_date_cover
+    ON mood_diary (member_id, diary_date, mood_type, diary_type, created_at);
+
+-- 2. medication_record: 스케줄별 기간/복용여부 통계 (COUNT, 이행률 계산)
+-- ms.member_id로 스케줄을 찾은 뒤 medication_record를 (schedule, real_take_time) 범위로 탐색하고
+-- is_take_medication까지 인덱스에서 판별
+CREATE INDEX idx_medication_record_schedule_take
+    ON medication_record (medication_schedule_id, real_take_time, is_take_medication);
+
+-- 기존 단일 컬럼 인덱스는 새 복합 인덱스의 선두 컬럼과 중복되므로 제거
+-- (FK medication_schedule_id는 idx_medication_record_schedule_take가 대신 지원)
+DROP INDEX idx_medication_record_schedule ON medication_record;
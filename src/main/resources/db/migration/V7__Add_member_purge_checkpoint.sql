@@ -0,0 +1,16 @@
+-- V7: 탈퇴 회원 영구 삭제 작업 체크포인트 테이블
+-- 페이지 단위로 처리 위치를 기록하여 작업 중단 시 다음 실행에서 이어서 처리
+
+CREATE TABLE IF NOT EXISTS member_purge_checkpoint (
+    job_name VARCHAR(50) NOT NULL PRIMARY KEY COMMENT '작업 이름',
+    status VARCHAR(20) NOT NULL COMMENT '실행 상태 (RUNNING, COMPLETED)',
+    last_member_id BIGINT NOT NULL DEFAULT 0 COMMENT '마지막으로 처리 완료된 페이지의 최대 회원 ID',
+    run_started_at DATETIME(6) NULL COMMENT '현재 실행 시작 시간 (삭제 기준 시각)',
+    purged_count BIGINT NOT NULL DEFAULT 0 COMMENT '현재 실행에서 삭제된 회원 수',
+    failed_count BIGINT NOT NULL DEFAULT 0 COMMENT '현재 실행에서 실패/건너뛴 회원 수',
+    updated_at DATETIME(6) NULL COMMENT '마지막 갱신 시간'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='탈퇴 회원 영구 삭제 작업 체크포인트';
+
+-- 삭제 대상 회원 keyset 페이징 조회용 인덱스
+CREATE INDEX idx_member_deletion_due ON member (deletion_scheduled, deletion_due_at, member_id);
@@ -0,0 +1,13 @@
+-- V8: 마음 일기 블라인드 검색 인덱스
+-- 일기 본문은 AES-GCM 암호문으로 저장되어 LIKE 검색이 불가능하므로,
+-- 정규화 n-gram을 HMAC한 토큰을 별도 테이블에 저장하고 토큰 교집합으로 검색합니다.
+
+CREATE TABLE IF NOT EXISTS mood_diary_search_token (
+    member_id BIGINT NOT NULL COMMENT '회원 ID (토큰 HMAC 입력에 포함)',
+    token BIGINT NOT NULL COMMENT 'HMAC-SHA256(회원 ID, 정규화 n-gram) 상위 64비트',
+    mood_diary_id BIGINT NOT NULL COMMENT '마음 일기 ID',
+    PRIMARY KEY (member_id, token, mood_diary_id),
+    INDEX idx_mood_diary_search_token_diary (mood_diary_id),
+    FOREIGN KEY (mood_diary_id) REFERENCES mood_diary(mood_diary_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='마음 일기 블라인드 검색 인덱스';
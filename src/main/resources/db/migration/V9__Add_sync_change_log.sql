@@ -0,0 +1,17 @@
+-- V9: 모바일 델타 동기화 변경 로그
+-- 회원별로 생성·수정·삭제된 엔티티를 (유형, ID, 작업) 한 행으로 기록합니다.
+-- change_id가 동기화 커서이며, 클라이언트는 마지막으로 받은 커서 이후의 변경만 조회합니다.
+-- 보관 기간이 지난 행은 주기적으로 삭제하고, 그보다 오래된 커서는 전체 재동기화를 요구합니다.
+
+CREATE TABLE IF NOT EXISTS sync_change (
+    change_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '변경 ID (동기화 커서)',
+    member_id BIGINT NOT NULL COMMENT '회원 ID',
+    entity_type VARCHAR(30) NOT NULL COMMENT '엔티티 유형 (MEDICATION_SCHEDULE, MEDICATION_RECORD, MOOD_DIARY, SIDE_EFFECT_RECORD)',
+    entity_id BIGINT NOT NULL COMMENT '엔티티 ID',
+    operation VARCHAR(10) NOT NULL COMMENT '작업 (UPSERT, DELETE)',
+    changed_at DATETIME(6) NOT NULL COMMENT '기록 시각',
+    INDEX idx_sync_change_member_cursor (member_id, change_id),
+    INDEX idx_sync_change_changed_at (changed_at),
+    FOREIGN KEY (member_id) REFERENCES member(member_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='모바일 델타 동기화 변경 로그';
@@ -0,0 +1,248 @@
+package com.Hamalog.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.Hamalog.config.TestEncryptionConfig;
+import com.Hamalog.domain.events.DomainEventPublisher;
+import com.Hamalog.domain.medication.AlarmType;
+import com.Hamalog.domain.medication.MedicationRecord;
+import com.Hamalog.domain.medication.MedicationSchedule;
+import com.Hamalog.domain.medication.MedicationTime;
+import com.Hamalog.domain.member.Member;
+import com.Hamalog.dto.medication.request.MedicationRecordCreateRequest;
+import com.Hamalog.repository.medication.MedicationRecordJdbcRepository;
+import com.Hamalog.repository.medication.MedicationRecordRepository;
+import com.Hamalog.repository.medication.MedicationScheduleRepository;
+import com.Hamalog.repository.medication.MedicationTimeRepository;
+import com.Hamalog.service.medication.MedicationRecordService;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 복약 기록 일괄 생성 DB 왕복 횟수 벤치마크
+ *
+ * 기존 방식 (건별 findById x2 + save) vs 배치 방식 (IN 조회 + JDBC batchUpdate)
+ * DataSource를 감싸 실제로 실행된 JDBC 문장(execute*, executeBatch) 수를 측정합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({
+        TestEncryptionConfig.class,
+        DomainEventPublisher.class,
+        MedicationRecordJdbcRepository.class,
+        MedicationRecordService.class,
+        MedicationRecordBatchBenchmarkTest.StatementCountingConfig.class
+})
+@DisplayName("복약 기록 일괄 생성 DB 왕복 벤치마크")
+class MedicationRecordBatchBenchmarkTest {
+
+    private static final int BATCH_SIZE = 100;
+    private static final AtomicInteger STATEMENT_COUNT = new AtomicInteger();
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MedicationRecordService medicationRecordService;
+
+    @Autowired
+    private MedicationRecordRepository medicationRecordRepository;
+
+    @Autowired
+    private MedicationScheduleRepository medicationScheduleRepository;
+
+    @Autowired
+    private MedicationTimeRepository medicationTimeRepository;
+
+    private final List<MedicationRecordCreateRequest> requests = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Member member = Member.builder()
+                .loginId("batch-benchmark@test.com")
+                .password("$2a$10$encrypted.password.hash")
+                .name("BatchUser")
+                .phoneNumber("01012345678")
+                .nickName("배치")
+                .birth(LocalDate.of(1990, 1, 1))
+                .createdAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(member);
+
+        // 요청마다 서로 다른 스케줄/알림 시간을 참조 (건별 조회 시 1차 캐시 효과 배제)
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            MedicationSchedule schedule = new MedicationSchedule(
+                    member, "Medicine" + i, "Hospital", LocalDate.now().minusDays(7),
+                    null, LocalDate.now(), 30, 1, AlarmType.SOUND);
+            entityManager.persist(schedule);
+            MedicationTime time = new MedicationTime(schedule, LocalTime.of(8, 0));
+            entityManager.persist(time);
+            requests.add(new MedicationRecordCreateRequest(
+                    schedule.getMedicationScheduleId(), time.getMedicationTimeId(),
+                    true, LocalDateTime.now().minusMinutes(5)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("기존 방식 vs 배치 방식 - 100건당 DB 왕복 횟수 비교")
+    void compareRoundTripsPerBatch() {
+        int legacyRoundTrips = measure(() -> createOneByOne(requests));
+        entityManager.clear();
+
+        int batchRoundTrips = measure(() -> medicationRecordService.createMedicationRecordsBatch(requests));
+
+        System.out.println("\n" + "=".repeat(60));
+        System.out.println("📊 복약 기록 " + BATCH_SIZE + "건 일괄 생성 - DB 왕복 횟수");
+        System.out.println("=".repeat(60));
+        System.out.printf("  기존 방식 (건별 조회/저장): %d회%n", legacyRoundTrips);
+        System.out.printf("  배치 방식 (IN 조회 + JDBC 배치): %d회%n", batchRoundTrips);
+        System.out.println("=".repeat(60));
+
+        assertThat(legacyRoundTrips).isGreaterThanOrEqualTo(BATCH_SIZE * 3);
+        assertThat(batchRoundTrips).isLessThanOrEqualTo(5);
+        assertThat(medicationRecordRepository.count()).isEqualTo(BATCH_SIZE * 2L);
+    }
+
+    @Test
+    @DisplayName("배치 방식 결과는 요청 순서와 동일하고 생성 ID를 포함한다")
+    void batchResultPreservesRequestOrder() {
+        List<MedicationRecord> created = medicationRecordService.createMedicationRecordsBatch(requests);
+
+        assertThat(created).hasSize(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            assertThat(created.get(i).getMedicationRecordId()).isNotNull();
+            assertThat(created.get(i).getMedicationSchedule().getMedicationScheduleId())
+                    .isEqualTo(requests.get(i).medicationScheduleId());
+        }
+    }
+
+    /**
+     * 기존 createMedicationRecordsBatch 구현 (건별 findById + save)
+     */
+    private void createOneByOne(List<MedicationRecordCreateRequest> requests) {
+        for (MedicationRecordCreateRequest request : requests) {
+            MedicationSchedule schedule = medicationScheduleRepository.findById(request.medicationScheduleId())
+                    .orElseThrow();
+            MedicationTime time = medicationTimeRepository.findById(request.medicationTimeId())
+                    .orElseThrow();
+            medicationRecordRepository.save(new MedicationRecord(
+                    schedule, time, request.isTakeMedication(), request.realTakeTime()));
+        }
+        entityManager.flush();
+    }
+
+    private int measure(Runnable action) {
+        STATEMENT_COUNT.set(0);
+        action.run();
+        entityManager.flush();
+        return STATEMENT_COUNT.get();
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                        return new StatementCountingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * 실행된 JDBC 문장 수를 세는 DataSource (executeBatch는 1회 왕복으로 계산)
+     */
+    static class StatementCountingDataSource extends DelegatingDataSource {
+
+        private static final Set<String> EXECUTE_METHODS = Set.of(
+                "execute", "executeQuery", "executeUpdate", "executeLargeUpdate",
+                "executeBatch", "executeLargeBatch");
+
+        StatementCountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrapConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrapConnection(super.getConnection(username, password));
+        }
+
+        private static Connection wrapConnection(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    StatementCountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof CallableStatement statement) {
+                            return wrapStatement(statement, CallableStatement.class);
+                        }
+                        if (result instanceof PreparedStatement statement) {
+                            return wrapStatement(statement, PreparedStatement.class);
+                        }
+                        if (result instanceof Statement statement) {
+                            return wrapStatement(statement, Statement.class);
+                        }
+                        return result;
+                    });
+        }
+
+        private static Object wrapStatement(Statement statement, Class<? extends Statement> type) {
+            return Proxy.newProxyInstance(
+                    StatementCountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        if (EXECUTE_METHODS.contains(method.getName())) {
+                            STATEMENT_COUNT.incrementAndGet();
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args)
+                throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.Hamalog.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@DisplayName("비동기/스케줄러 실행 모드 테스트")
+class AsyncConfigTest {
+
+    @Test
+    @DisplayName("기본 모드에서는 플랫폼 스레드 풀을 사용한다")
+    void platformMode_usesThreadPools() {
+        MockEnvironment environment = new MockEnvironment();
+        AsyncConfig asyncConfig = new AsyncConfig(environment);
+
+        assertThat(asyncConfig.eventExecutor()).isInstanceOf(ThreadPoolTaskExecutor.class);
+        assertThat(asyncConfig.getAsyncExecutor()).isInstanceOf(ThreadPoolTaskExecutor.class);
+        assertThat(new SchedulingConfig().taskScheduler(environment)).isInstanceOf(ThreadPoolTaskScheduler.class);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드에서는 작업마다 가상 스레드에서 실행한다")
+    void virtualMode_runsTasksOnVirtualThreads() throws Exception {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", "true");
+        AsyncConfig asyncConfig = new AsyncConfig(environment);
+
+        Executor eventExecutor = asyncConfig.eventExecutor();
+        assertThat(eventExecutor).isInstanceOf(SimpleAsyncTaskExecutor.class);
+        assertThat(((SimpleAsyncTaskExecutor) eventExecutor).getConcurrencyLimit())
+                .isEqualTo(AsyncConfig.VIRTUAL_EVENT_CONCURRENCY_LIMIT);
+
+        CompletableFuture<Thread> executedOn = new CompletableFuture<>();
+        eventExecutor.execute(() -> executedOn.complete(Thread.currentThread()));
+        Thread thread = executedOn.get(5, TimeUnit.SECONDS);
+        assertThat(thread.isVirtual()).isTrue();
+        assertThat(thread.getName()).startsWith("event-");
+
+        TaskScheduler scheduler = new SchedulingConfig().taskScheduler(environment);
+        assertThat(scheduler).isInstanceOf(SimpleAsyncTaskScheduler.class);
+    }
+
+    @Test
+    @DisplayName("플랫폼 모드에서 이벤트 큐가 가득 차면 작업을 버리지 않고 호출 스레드에서 실행한다")
+    void platformMode_saturatedEventExecutorRunsOnCaller() throws Exception {
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) new AsyncConfig(new MockEnvironment()).eventExecutor();
+        CompletableFuture<Void> blocker = new CompletableFuture<>();
+        try {
+            // 최대 10개 스레드 + 큐 100개를 모두 채움
+            for (int i = 0; i < 110; i++) {
+                executor.execute(blocker::join);
+            }
+
+            Thread[] ranOn = new Thread[1];
+            executor.execute(() -> ranOn[0] = Thread.currentThread());
+
+            assertThat(ranOn[0]).isSameAs(Thread.currentThread());
+        } finally {
+            blocker.complete(null);
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.Hamalog.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+@DisplayName("ConcurrencyLimitedTaskExecutor 테스트")
+class ConcurrencyLimitedTaskExecutorTest {
+
+    /** 제출된 작업을 모아 두었다가 테스트에서 직접 실행하는 위임 실행기 */
+    private final List<Runnable> queued = new ArrayList<>();
+
+    @Test
+    @DisplayName("한도에 닿으면 기다리지 않고 거절하고, 작업이 끝나면 다시 받는다")
+    void rejectsAtLimitAndReleasesOnCompletion() throws Exception {
+        ConcurrencyLimitedTaskExecutor executor = new ConcurrencyLimitedTaskExecutor(queued::add, 1);
+
+        Future<String> first = executor.submit(() -> "first");
+        assertThatThrownBy(() -> executor.submit(() -> "second"))
+                .isInstanceOf(TaskRejectedException.class);
+
+        queued.forEach(Runnable::run);
+        queued.clear();
+
+        assertThat(first.get()).isEqualTo("first");
+        assertThat(executor.availablePermits()).isEqualTo(1);
+        executor.submit(() -> "third");
+        assertThat(queued).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("시작 전에 취소된 작업도 허가를 반환한다")
+    void releasesPermitOfCancelledTask() {
+        ConcurrencyLimitedTaskExecutor executor = new ConcurrencyLimitedTaskExecutor(queued::add, 1);
+
+        executor.submit(() -> "cancelled").cancel(true);
+        queued.forEach(Runnable::run);
+
+        assertThat(executor.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("위임 실행기가 거절하면 허가를 바로 반환한다")
+    void releasesPermitWhenDelegateRejects() {
+        ConcurrencyLimitedTaskExecutor executor = new ConcurrencyLimitedTaskExecutor(task -> {
+            throw new TaskRejectedException("shut down");
+        }, 1);
+
+        assertThatThrownBy(() -> executor.submit(() -> "rejected"))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThat(executor.availablePermits()).isEqualTo(1);
+    }
+}
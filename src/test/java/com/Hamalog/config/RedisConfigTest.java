@@ -3,6 +3,7 @@ package com.Hamalog.config;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.Hamalog.config.bulkhead.Bulkheads;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,7 +33,7 @@ class RedisConfigTest {
     @DisplayName("Should create RedisTemplate with correct configuration")
     void redisTemplate_ValidConnectionFactory_CreatesCorrectRedisTemplate() {
         // when
-        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory);
+        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory, Bulkheads.unbounded());
 
         // then
         assertThat(redisTemplate).isNotNull();
@@ -43,7 +44,7 @@ class RedisConfigTest {
     @DisplayName("Should configure StringRedisSerializer for keys")
     void redisTemplate_KeySerializer_ConfiguresStringRedisSerializer() {
         // when
-        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory);
+        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory, Bulkheads.unbounded());
 
         // then
         assertThat(redisTemplate.getKeySerializer()).isInstanceOf(StringRedisSerializer.class);
@@ -54,7 +55,7 @@ class RedisConfigTest {
     @DisplayName("Should configure GenericJackson2JsonRedisSerializer for values")
     void redisTemplate_ValueSerializer_ConfiguresJsonRedisSerializer() {
         // when
-        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory);
+        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory, Bulkheads.unbounded());
 
         // then
         assertThat(redisTemplate.getValueSerializer()).isInstanceOf(GenericJackson2JsonRedisSerializer.class);
@@ -65,7 +66,7 @@ class RedisConfigTest {
     @DisplayName("Should call afterPropertiesSet on RedisTemplate")
     void redisTemplate_Configuration_CallsAfterPropertiesSet() {
         // when
-        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory);
+        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory, Bulkheads.unbounded());
 
         // then
         // Verify that the template is properly initialized
@@ -80,8 +81,8 @@ class RedisConfigTest {
     @DisplayName("Should create different RedisTemplate instances on multiple calls")
     void redisTemplate_MultipleCalls_CreatesDifferentInstances() {
         // when
-        RedisTemplate<String, Object> redisTemplate1 = redisConfig.redisTemplate(redisConnectionFactory);
-        RedisTemplate<String, Object> redisTemplate2 = redisConfig.redisTemplate(redisConnectionFactory);
+        RedisTemplate<String, Object> redisTemplate1 = redisConfig.redisTemplate(redisConnectionFactory, Bulkheads.unbounded());
+        RedisTemplate<String, Object> redisTemplate2 = redisConfig.redisTemplate(redisConnectionFactory, Bulkheads.unbounded());
 
         // then
         assertThat(redisTemplate1).isNotSameAs(redisTemplate2);
@@ -92,7 +93,7 @@ class RedisConfigTest {
     @DisplayName("Should configure RedisTemplate with generic types")
     void redisTemplate_GenericTypes_ConfiguresCorrectTypes() {
         // when
-        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory);
+        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory, Bulkheads.unbounded());
 
         // then
         assertThat(redisTemplate).isInstanceOf(RedisTemplate.class);
@@ -105,7 +106,7 @@ class RedisConfigTest {
     @DisplayName("Should throw exception when connection factory is null")
     void redisTemplate_NullConnectionFactory_ThrowsException() {
         // when/then
-        assertThatThrownBy(() -> redisConfig.redisTemplate(null))
+        assertThatThrownBy(() -> redisConfig.redisTemplate(null, Bulkheads.unbounded()))
             .isInstanceOf(IllegalStateException.class)
             .hasMessage("RedisConnectionFactory is required");
     }
@@ -114,7 +115,7 @@ class RedisConfigTest {
     @DisplayName("Should configure consistent serializer instances")
     void redisTemplate_SerializerInstances_ConfiguresConsistentTypes() {
         // when
-        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory);
+        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory, Bulkheads.unbounded());
 
         // then
         // Key serializers should be String serializers
@@ -134,7 +135,7 @@ class RedisConfigTest {
     @DisplayName("Should maintain serializer configuration after initialization")
     void redisTemplate_AfterInitialization_MaintainsSerializerConfiguration() {
         // when
-        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory);
+        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory, Bulkheads.unbounded());
 
         // then
         // Verify that serializers are still properly configured after afterPropertiesSet()
@@ -152,7 +153,7 @@ class RedisConfigTest {
     @DisplayName("Should create RedisTemplate that supports String keys and Object values")
     void redisTemplate_KeyValueTypes_SupportsCorrectTypes() {
         // when
-        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory);
+        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory, Bulkheads.unbounded());
 
         // then
         // Verify that the template is configured for String keys and Object values
@@ -171,7 +172,7 @@ class RedisConfigTest {
     @DisplayName("Should configure hash operations with appropriate serializers")
     void redisTemplate_HashOperations_ConfiguresCorrectSerializers() {
         // when
-        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory);
+        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory, Bulkheads.unbounded());
 
         // then
         // Hash key serializer should be String serializer
@@ -191,7 +192,7 @@ class RedisConfigTest {
     @DisplayName("Should provide fully initialized RedisTemplate")
     void redisTemplate_FullInitialization_ProvidesReadyToUseTemplate() {
         // when
-        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory);
+        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(redisConnectionFactory, Bulkheads.unbounded());
 
         // then
         // Verify all essential components are configured
@@ -1,8 +1,11 @@
 package com.Hamalog.config;
 
+import com.Hamalog.security.encryption.BlindIndexer;
 import com.Hamalog.security.encryption.DataEncryptionUtil;
 import com.Hamalog.security.encryption.EncryptedLocalDateConverter;
 import com.Hamalog.security.encryption.EncryptedStringConverter;
+import com.Hamalog.security.encryption.LazyEncryptedLocalDateConverter;
+import com.Hamalog.security.encryption.LazyEncryptedStringConverter;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.env.Environment;
@@ -29,4 +32,19 @@ public class TestEncryptionConfig {
     public EncryptedLocalDateConverter encryptedLocalDateConverter(DataEncryptionUtil dataEncryptionUtil) {
         return new EncryptedLocalDateConverter(dataEncryptionUtil);
     }
-}
\ No newline at end of file
+
+    @Bean
+    public LazyEncryptedStringConverter lazyEncryptedStringConverter(DataEncryptionUtil dataEncryptionUtil) {
+        return new LazyEncryptedStringConverter(dataEncryptionUtil);
+    }
+
+    @Bean
+    public LazyEncryptedLocalDateConverter lazyEncryptedLocalDateConverter(DataEncryptionUtil dataEncryptionUtil) {
+        return new LazyEncryptedLocalDateConverter(dataEncryptionUtil);
+    }
+
+    @Bean
+    public BlindIndexer blindIndexer(DataEncryptionUtil dataEncryptionUtil) {
+        return new BlindIndexer(dataEncryptionUtil);
+    }
+}
@@ -0,0 +1,74 @@
+package com.Hamalog.config.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+@DisplayName("BulkheadDataSource 테스트")
+class BulkheadDataSourceTest {
+
+    private EmbeddedDatabase database;
+    private Bulkhead bulkhead;
+    private BulkheadDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        bulkhead = new Bulkhead("db", 2, Duration.ofMillis(50), new SimpleMeterRegistry());
+        dataSource = new BulkheadDataSource(database, bulkhead);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("커넥션을 보유하는 동안 허가를 점유하고 close 시 반납한다")
+    void connectionHoldsPermitUntilClosed() throws Exception {
+        Connection connection = dataSource.getConnection();
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+
+        connection.close();
+        connection.close(); // 중복 close는 허가를 두 번 반납하지 않음
+
+        assertThat(bulkhead.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한도만큼 커넥션을 보유 중이면 SQLTransientConnectionException으로 빠르게 실패한다")
+    void rejectsWhenAllPermitsHeld() throws Exception {
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            assertThatThrownBy(dataSource::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class);
+        }
+        assertThat(bulkhead.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("JdbcTemplate 사용 후 허가가 모두 반납된다")
+    void jdbcTemplateReleasesPermits() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(jdbcTemplate.queryForObject("SELECT 1", Integer.class)).isEqualTo(1);
+        }
+
+        assertThat(bulkhead.availablePermits()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,122 @@
+package com.Hamalog.config.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.Hamalog.exception.concurrency.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Bulkhead 테스트")
+class BulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("허가가 남아 있으면 작업을 실행하고 끝나면 반납한다")
+    void call_releasesPermitAfterCompletion() {
+        Bulkhead bulkhead = new Bulkhead("redis", 2, Duration.ZERO, meterRegistry);
+
+        String result = bulkhead.call(() -> {
+            assertThat(bulkhead.availablePermits()).isEqualTo(1);
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(bulkhead.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작업이 예외를 던져도 허가를 반납한다")
+    void call_releasesPermitOnFailure() {
+        Bulkhead bulkhead = new Bulkhead("fcm", 1, Duration.ZERO, meterRegistry);
+
+        assertThatThrownBy(() -> bulkhead.call(() -> {
+            throw new IOException("boom");
+        })).isInstanceOf(IOException.class);
+
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-wait 안에 허가를 얻지 못하면 BulkheadFullException으로 거절하고 메트릭에 기록한다")
+    void acquire_rejectsWhenFull() {
+        Bulkhead bulkhead = new Bulkhead("db", 1, Duration.ofMillis(50), meterRegistry);
+        bulkhead.acquire();
+
+        assertThatThrownBy(bulkhead::acquire)
+                .isInstanceOf(BulkheadFullException.class)
+                .extracting("resource").isEqualTo("db");
+
+        assertThat(meterRegistry.get("hamalog.bulkhead.rejected").tag("resource", "db").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("hamalog.bulkhead.available").tag("resource", "db").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("같은 스레드의 중첩 호출은 허가를 다시 얻지 않아 스스로 교착되지 않는다")
+    void call_isReentrantOnSameThread() {
+        Bulkhead bulkhead = new Bulkhead("redis", 1, Duration.ZERO, meterRegistry);
+
+        String result = bulkhead.call(() -> bulkhead.call(() -> "nested"));
+
+        assertThat(result).isEqualTo("nested");
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가상 스레드가 몰려도 동시 실행 수는 한도를 넘지 않는다")
+    void call_capsConcurrencyAcrossVirtualThreads() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("db", 3, Duration.ofSeconds(10), meterRegistry);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(100);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                executor.submit(() -> {
+                    bulkhead.call(() -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        Thread.sleep(5);
+                        running.decrementAndGet();
+                        return null;
+                    });
+                    done.countDown();
+                    return null;
+                });
+            }
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+        assertThat(bulkhead.availablePermits()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("비활성화된 bulkhead는 한도 없이 작업을 실행한다")
+    void unbounded_neverRejects() throws Exception {
+        Bulkhead bulkhead = Bulkheads.unbounded().db();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> future = executor.submit(() -> bulkhead.call(() -> "ok"));
+            assertThat(future.get()).isEqualTo("ok");
+        }
+        assertThat(bulkhead.isBounded()).isFalse();
+    }
+}
@@ -0,0 +1,199 @@
+package com.Hamalog.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 읽기/쓰기 분리 라우팅 테스트
+ * 서로 다른 두 개의 임베디드 H2 데이터베이스를 primary/replica로 사용하여
+ * 각 트랜잭션이 어느 데이터베이스에서 실행되었는지 확인합니다.
+ */
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        primary = createNode("primary");
+        replica = createNode("replica");
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new ReplicaRoutingDataSource(
+                primary, replica, new ReadYourWritesTracker(Duration.ofMillis(300)), meterRegistry);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica에서 실행된다")
+    void readOnlyTransaction_routesToReplica() {
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(routingCount("replica", "read_only")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖의 접근은 primary에서 실행된다")
+    void writeTransaction_routesToPrimary() {
+        assertThat(writeTx.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안에서 호출된 읽기 전용 트랜잭션은 primary 커넥션을 그대로 사용한다")
+    void readOnlyJoinedToWriteTransaction_staysOnPrimary() {
+        String node = writeTx.execute(status -> {
+            jdbcTemplate.update("UPDATE node SET touched = touched + 1");
+            return readOnlyTx.execute(inner -> currentNode());
+        });
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Nested
+    @DisplayName("Read-your-writes")
+    class ReadYourWrites {
+
+        @Test
+        @DisplayName("쓰기를 커밋한 회원의 읽기는 stickiness 구간 동안 primary로 고정된다")
+        void writerReadsFromPrimaryWithinWindow() {
+            authenticate("writer@test.com");
+            writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET touched = touched + 1"));
+
+            assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("primary");
+            assertThat(routingCount("primary", "read_your_writes")).isEqualTo(1.0);
+
+            authenticate("other@test.com");
+            assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("stickiness 구간이 지나면 다시 replica에서 읽는다")
+        void writerReadsFromReplicaAfterWindow() throws InterruptedException {
+            authenticate("writer@test.com");
+            writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET touched = touched + 1"));
+
+            Thread.sleep(400);
+
+            assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("롤백된 쓰기는 stickiness를 만들지 않는다")
+        void rolledBackWrite_doesNotStick() {
+            authenticate("writer@test.com");
+            writeTx.executeWithoutResult(status -> {
+                jdbcTemplate.update("UPDATE node SET touched = touched + 1");
+                status.setRollbackOnly();
+            });
+
+            assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+        }
+    }
+
+    @Nested
+    @DisplayName("복제 지연")
+    class ReplicaLag {
+
+        @Test
+        @DisplayName("허용 지연을 넘으면 읽기 전용 트랜잭션도 primary로 보낸다")
+        void lagOverTolerance_fallsBackToPrimary() {
+            ReplicaLagMonitor monitor = monitor("SELECT 10");
+
+            monitor.checkLag();
+
+            assertThat(routingDataSource.isReplicaAvailable()).isFalse();
+            assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("primary");
+            assertThat(meterRegistry.get("hamalog.datasource.replica.lag").gauge().value()).isEqualTo(10.0);
+        }
+
+        @Test
+        @DisplayName("지연이 허용 범위로 돌아오면 다시 replica를 사용한다")
+        void lagWithinTolerance_routesToReplicaAgain() {
+            routingDataSource.setReplicaAvailable(false);
+
+            monitor("SELECT 1").checkLag();
+
+            assertThat(routingDataSource.isReplicaAvailable()).isTrue();
+            assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("지연 조회가 실패하면 replica를 사용하지 않는다")
+        void lagQueryFailure_marksReplicaUnavailable() {
+            monitor("SELECT lag FROM missing_table").checkLag();
+
+            assertThat(routingDataSource.isReplicaAvailable()).isFalse();
+            assertThat(meterRegistry.get("hamalog.datasource.replica.available").gauge().value()).isZero();
+        }
+
+        private ReplicaLagMonitor monitor(String lagQuery) {
+            ReplicaRoutingProperties properties = new ReplicaRoutingProperties(
+                    true, "jdbc:h2:mem:replica", null, null, Duration.ofSeconds(5), Duration.ofSeconds(5), lagQuery);
+            return new ReplicaLagMonitor(replica, routingDataSource, properties, meterRegistry);
+        }
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private double routingCount(String target, String reason) {
+        return meterRegistry.get("hamalog.datasource.routing")
+                .tag("target", target)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    private static void authenticate(String loginId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(loginId, null, List.of()));
+    }
+
+    private static EmbeddedDatabase createNode(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE node (name VARCHAR(20), touched INT)");
+        template.update("INSERT INTO node (name, touched) VALUES (?, 0)", name);
+        return database;
+    }
+}
@@ -0,0 +1,165 @@
+package com.Hamalog.config.etag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.Hamalog.domain.member.Member;
+import com.Hamalog.security.CustomUserDetails;
+import com.Hamalog.service.etag.ResourceScope;
+import com.Hamalog.service.etag.ResourceVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConditionalGetInterceptor 테스트")
+class ConditionalGetInterceptorTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String ROUTE = "/medication-schedule/list/{member-id}";
+
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConditionalGetInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new ConditionalGetInterceptor(resourceVersionService, meterRegistry);
+        request = new MockHttpServletRequest("GET", "/medication-schedule/list/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTE);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("member-id", "1"));
+        response = new MockHttpServletResponse();
+        authenticate(MEMBER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void authenticate(Long memberId) {
+        Member member = Member.builder()
+                .loginId("test@test.com")
+                .password("password123")
+                .name("테스트 사용자")
+                .nickName("테스트")
+                .phoneNumber("01012345678")
+                .birth(LocalDate.of(1990, 1, 1))
+                .build();
+        ReflectionTestUtils.setField(member, "memberId", memberId);
+        CustomUserDetails userDetails = new CustomUserDetails(member);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    private static HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(new TestHandlers(), TestHandlers.class.getMethod(methodName));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("hamalog.etag.requests").tag("route", ROUTE).tag("result", result)
+                .counter().count();
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 버전과 같으면 핸들러 실행 없이 304를 반환한다")
+    void matchingETag_returnsNotModified() throws Exception {
+        when(resourceVersionService.currentVersion(ResourceScope.MEDICATION_SCHEDULE, MEMBER_ID))
+                .thenReturn(Optional.of("abc"));
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"sch-abc\"");
+
+        boolean proceed = interceptor.preHandle(request, response, handler("schedules"));
+
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"sch-abc\"");
+        assertThat(count("hit")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("hamalog.etag.hit.ratio").tag("route", ROUTE).gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌었으면 새 ETag를 설정하고 핸들러를 실행한다")
+    void staleETag_proceedsWithNewETag() throws Exception {
+        when(resourceVersionService.currentVersion(ResourceScope.MEDICATION_SCHEDULE, MEMBER_ID))
+                .thenReturn(Optional.of("def"));
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"sch-abc\"");
+
+        boolean proceed = interceptor.preHandle(request, response, handler("schedules"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"sch-def\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, private");
+        assertThat(count("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("정착 중이거나 Redis를 쓸 수 없으면 ETag 없이 핸들러를 실행한다")
+    void noVersion_proceedsWithoutETag() throws Exception {
+        when(resourceVersionService.currentVersion(any(), any())).thenReturn(Optional.empty());
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"sch-abc\"");
+
+        boolean proceed = interceptor.preHandle(request, response, handler("schedules"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(count("bypass")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("경로의 회원 ID가 인증된 회원과 다르면 버전을 조회하지 않고 권한 검증에 맡긴다")
+    void otherMemberPath_skipsVersionLookup() throws Exception {
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("member-id", "2"));
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"sch-abc\"");
+
+        boolean proceed = interceptor.preHandle(request, response, handler("schedules"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        verifyNoInteractions(resourceVersionService);
+    }
+
+    @Test
+    @DisplayName("@ConditionalGet이 없는 핸들러는 그대로 실행한다")
+    void unannotatedHandler_isIgnored() throws Exception {
+        boolean proceed = interceptor.preHandle(request, response, handler("plain"));
+
+        assertThat(proceed).isTrue();
+        verifyNoInteractions(resourceVersionService);
+        assertThat(meterRegistry.find("hamalog.etag.requests").counters()).isEmpty();
+    }
+
+    static class TestHandlers {
+
+        @ConditionalGet(value = ResourceScope.MEDICATION_SCHEDULE, memberIdPathVariable = "member-id")
+        public void schedules() {
+        }
+
+        public void plain() {
+        }
+    }
+}
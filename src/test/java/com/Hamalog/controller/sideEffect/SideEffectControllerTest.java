@@ -8,6 +8,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.Hamalog.dto.sideEffect.request.SideEffectRecordRequest;
 import com.Hamalog.dto.sideEffect.response.RecentSideEffectResponse;
+import com.Hamalog.dto.sideEffect.response.SideEffectCatalogResponse;
+import com.Hamalog.dto.sideEffect.response.SideEffectCatalogResponse.SideEffectCatalogItem;
+import com.Hamalog.service.sideEffect.SideEffectCatalogService;
 import com.Hamalog.service.sideEffect.SideEffectService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
@@ -47,6 +50,9 @@ class SideEffectControllerTest {
     @Mock
     private SideEffectService sideEffectService;
 
+    @Mock
+    private SideEffectCatalogService sideEffectCatalogService;
+
     @InjectMocks
     private SideEffectController sideEffectController;
 
@@ -304,6 +310,54 @@ class SideEffectControllerTest {
         verify(sideEffectService).getRecentSideEffects(userId);
     }
 
+    @Test
+    @DisplayName("Should return side effect catalog with strong ETag")
+    void getSideEffectCatalog_ShouldReturnCatalogWithETag() throws Exception {
+        // given
+        SideEffectCatalogResponse catalog = new SideEffectCatalogResponse("abc123", List.of(
+                new SideEffectCatalogItem(1L, "신경계", "두통"),
+                new SideEffectCatalogItem(2L, "소화기", "메스꺼움")));
+        when(sideEffectCatalogService.getCatalog()).thenReturn(catalog);
+
+        // when & then
+        mockMvc.perform(get("/side-effect/catalog"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(header().exists("Cache-Control"))
+                .andExpect(jsonPath("$.version").value("abc123"))
+                .andExpect(jsonPath("$.sideEffects.length()").value(2))
+                .andExpect(jsonPath("$.sideEffects[0].name").value("두통"));
+    }
+
+    @Test
+    @DisplayName("Should return 304 when If-None-Match matches catalog version")
+    void getSideEffectCatalog_MatchingETag_ShouldReturn304() throws Exception {
+        // given
+        when(sideEffectCatalogService.getCatalog())
+                .thenReturn(new SideEffectCatalogResponse("abc123", List.of()));
+
+        // when & then
+        mockMvc.perform(get("/side-effect/catalog")
+                .header("If-None-Match", "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should return full catalog when If-None-Match is stale")
+    void getSideEffectCatalog_StaleETag_ShouldReturn200() throws Exception {
+        // given
+        when(sideEffectCatalogService.getCatalog())
+                .thenReturn(new SideEffectCatalogResponse("def456", List.of()));
+
+        // when & then
+        mockMvc.perform(get("/side-effect/catalog")
+                .header("If-None-Match", "\"abc123\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"def456\""));
+    }
+
     // Helper methods
     private SideEffectRecordRequest createTestSideEffectRequest() {
         // Create SideEffectItem objects
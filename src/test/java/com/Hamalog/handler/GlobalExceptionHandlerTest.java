@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.Hamalog.exception.ErrorCode;
+import com.Hamalog.exception.concurrency.BulkheadFullException;
 import com.Hamalog.exception.medication.MedicationRecordNotFoundException;
 import com.Hamalog.exception.medication.MedicationScheduleNotFoundException;
 import com.Hamalog.exception.member.MemberNotFoundException;
@@ -16,6 +17,7 @@ import com.Hamalog.logging.StructuredLogger;
 import com.Hamalog.security.filter.TrustedProxyService;
 import com.Hamalog.security.validation.InputValidationUtil;
 import jakarta.persistence.OptimisticLockException;
+import java.sql.SQLTransientConnectionException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +35,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -255,6 +258,40 @@ class GlobalExceptionHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("503 Service Unavailable 예외 테스트")
+    class ServiceUnavailableExceptionTests {
+
+        @Test
+        @DisplayName("BulkheadFullException 처리 테스트")
+        void handleBulkheadFullException() {
+            // given
+            BulkheadFullException exception = new BulkheadFullException("redis");
+
+            // when
+            ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleCustomException(exception, request);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(response.getBody().getCode()).isEqualTo(ErrorCode.RESOURCE_BUSY.getCode());
+        }
+
+        @Test
+        @DisplayName("트랜잭션 예외로 감싸진 DB bulkhead 거절도 503으로 응답")
+        void handleWrappedBulkheadFullException() {
+            // given
+            Exception exception = new CannotCreateTransactionException("Could not open JPA EntityManager",
+                    new SQLTransientConnectionException("DB bulkhead is full", new BulkheadFullException("db")));
+
+            // when
+            ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleException(exception, request);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(response.getBody().getCode()).isEqualTo(ErrorCode.RESOURCE_BUSY.getCode());
+        }
+    }
+
     @Nested
     @DisplayName("ErrorResponse 구조 테스트")
     class ErrorResponseStructureTests {
@@ -0,0 +1,134 @@
+package com.Hamalog.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.Hamalog.config.TestEncryptionConfig;
+import com.Hamalog.repository.diary.MoodDiaryRepository;
+import com.Hamalog.repository.medication.MedicationRecordRepository;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 캘린더/통계 범위 쿼리 실행 계획 검증
+ * 리포지토리 메서드를 실제로 호출해 Hibernate가 생성한 SQL을 StatementInspector로 캡처한 뒤 EXPLAIN합니다.
+ * 대상 테이블이 tableScan으로 떨어지지 않고 날짜/시간 범위 조건이 인덱스 조건에 포함되는지 확인합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestEncryptionConfig.class, RangeQueryExplainTest.SqlCaptureConfig.class})
+@DisplayName("범위 쿼리 EXPLAIN 테스트")
+class RangeQueryExplainTest {
+
+    private static final List<String> CAPTURED_SQL = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                CAPTURED_SQL.add(sql);
+                return sql;
+            });
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MoodDiaryRepository moodDiaryRepository;
+
+    @Autowired
+    private MedicationRecordRepository medicationRecordRepository;
+
+    @BeforeEach
+    void setUp() {
+        CAPTURED_SQL.clear();
+    }
+
+    @Test
+    @DisplayName("월별 캘린더 쿼리는 (member_id, diary_date) 인덱스 레인지 스캔을 사용한다")
+    void moodDiaryMonthRange_usesIndexRangeScan() {
+        moodDiaryRepository.findProjectionsByMemberIdAndYearMonth(1L, 2025, 1);
+
+        String plan = explain(capturedQueryOn("mood_diary"));
+
+        String access = accessPathOf(plan, "MOOD_DIARY");
+        assertThat(access).doesNotContain("TABLESCAN");
+        assertThat(access).contains("MEMBER_ID").contains("DIARY_DATE >=");
+    }
+
+    @Test
+    @DisplayName("기간 내 복용 완료 수 쿼리는 medication_record를 전체 스캔하지 않는다")
+    void medicationRecordDateRange_usesCompositeIndex() {
+        medicationRecordRepository.countTakenByMemberIdAndDateRange(1L,
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 2, 1, 0, 0));
+
+        String plan = explain(capturedQueryOn("medication_record"));
+
+        assertThat(accessPathOf(plan, "MEDICATION_SCHEDULE")).doesNotContain("TABLESCAN");
+        String recordAccess = accessPathOf(plan, "MEDICATION_RECORD");
+        assertThat(recordAccess).doesNotContain("TABLESCAN");
+        assertThat(recordAccess).contains("REAL_TAKE_TIME >=");
+    }
+
+    private static String capturedQueryOn(String table) {
+        return CAPTURED_SQL.stream()
+                .filter(sql -> sql.toLowerCase().startsWith("select") && sql.toLowerCase().contains(" " + table + " "))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("캡처된 " + table + " 조회 SQL이 없습니다: " + CAPTURED_SQL));
+    }
+
+    /**
+     * 생성된 SQL을 그대로 EXPLAIN (H2는 EXPLAIN에서 바인딩되지 않은 파라미터를 허용)
+     */
+    private String explain(String sql) {
+        List<String> rows = entityManager.getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            List<String> result = new ArrayList<>();
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+                 ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(resultSet.getString(1));
+                }
+            }
+            return result;
+        });
+        return String.join("\n", rows)
+                .replace("\"", "")
+                .toUpperCase();
+    }
+
+    /**
+     * H2 실행 계획에서 테이블 뒤에 붙는 접근 경로 주석을 추출
+     * 예) PUBLIC.MOOD_DIARY MD1_0 /* PUBLIC.IDX_...: MEMBER_ID = ?1 AND DIARY_DATE >= ?2 ... *&#47;
+     */
+    private String accessPathOf(String plan, String table) {
+        Matcher matcher = Pattern.compile("PUBLIC\\." + table + "\\s+\\w+\\s*/\\*(.*?)\\*/", Pattern.DOTALL)
+                .matcher(plan);
+        assertThat(matcher.find())
+                .as("실행 계획에 %s 테이블 접근 경로가 있어야 합니다:%n%s", table, plan)
+                .isTrue();
+        return matcher.group(1);
+    }
+}
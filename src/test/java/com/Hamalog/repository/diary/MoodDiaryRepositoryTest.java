@@ -5,13 +5,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.Hamalog.config.TestEncryptionConfig;
 import com.Hamalog.domain.diary.DiaryType;
 import com.Hamalog.domain.diary.MoodDiary;
+import com.Hamalog.domain.diary.MoodDiarySearchToken;
 import com.Hamalog.domain.diary.MoodType;
 import com.Hamalog.domain.member.Member;
 import com.Hamalog.dto.diary.projection.MoodDiaryProjection;
 import com.Hamalog.repository.member.MemberRepository;
+import com.Hamalog.security.encryption.EncryptedValue;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,7 +25,9 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -138,6 +143,25 @@ class MoodDiaryRepositoryTest {
         }
     }
 
+        @Test
+        @DisplayName("성공: 본문 필드는 접근하기 전까지 복호화하지 않음")
+        void success_contentDecryptedOnAccess() {
+            // given
+            entityManager.persistAndFlush(createMoodDiary(testMember, LocalDate.of(2025, 1, 1), MoodType.HAPPY));
+            entityManager.clear();
+
+            // when
+            MoodDiary diary = moodDiaryRepository.findByMemberIdAndDateRange(
+                    testMember.getMemberId(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1)).get(0);
+
+            // then
+            EncryptedValue<?> freeContent = (EncryptedValue<?>) ReflectionTestUtils.getField(diary, "freeContent");
+            assertThat(diary.getMoodType()).isEqualTo(MoodType.HAPPY);
+            assertThat(freeContent.isDecrypted()).isFalse();
+            assertThat(diary.getFreeContent()).isEqualTo("오늘의 일기 내용입니다.");
+            assertThat(freeContent.isDecrypted()).isTrue();
+        }
+
     @Nested
     @DisplayName("월별 일기 조회")
     class FindByMemberIdAndYearMonth {
@@ -238,6 +262,55 @@ class MoodDiaryRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("블라인드 인덱스 검색")
+    class SearchByTokens {
+
+        @Test
+        @DisplayName("성공: 검색어 토큰을 모두 가진 본인 일기만 최신순으로 조회")
+        void success_tokenIntersection() {
+            // given
+            MoodDiary allTokens = persistWithTokens(testMember, LocalDate.of(2025, 1, 2), 1L, 2L, 3L);
+            MoodDiary partialTokens = persistWithTokens(testMember, LocalDate.of(2025, 1, 3), 1L, 2L);
+            MoodDiary olderAllTokens = persistWithTokens(testMember, LocalDate.of(2025, 1, 1), 1L, 3L);
+            persistWithTokens(anotherMember, LocalDate.of(2025, 1, 4), 1L, 3L);
+
+            // when
+            Slice<MoodDiary> result = moodDiaryRepository.searchByTokens(
+                    testMember.getMemberId(), Set.of(1L, 3L), 2, PageRequest.of(0, 10));
+
+            // then
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.getContent())
+                    .extracting(MoodDiary::getMoodDiaryId)
+                    .containsExactly(allTokens.getMoodDiaryId(), olderAllTokens.getMoodDiaryId())
+                    .doesNotContain(partialTokens.getMoodDiaryId());
+        }
+
+        @Test
+        @DisplayName("성공: 검색 토큰이 없는 일기만 ID 순으로 조회 (백필 대상)")
+        void success_findUnindexed() {
+            // given
+            persistWithTokens(testMember, LocalDate.of(2025, 1, 1), 1L);
+            MoodDiary unindexed = persistWithTokens(testMember, LocalDate.of(2025, 1, 2));
+
+            // when
+            List<MoodDiary> result = moodDiaryRepository.findUnindexedAfter(0L, PageRequest.of(0, 10));
+
+            // then
+            assertThat(result).extracting(MoodDiary::getMoodDiaryId).containsExactly(unindexed.getMoodDiaryId());
+        }
+
+        private MoodDiary persistWithTokens(Member member, LocalDate date, Long... tokens) {
+            MoodDiary diary = entityManager.persistAndFlush(createMoodDiary(member, date, MoodType.HAPPY));
+            for (Long token : tokens) {
+                entityManager.persist(new MoodDiarySearchToken(member.getMemberId(), token, diary.getMoodDiaryId()));
+            }
+            entityManager.flush();
+            return diary;
+        }
+    }
+
     // 헬퍼 메서드
     private Member createTestMember(String loginId) {
         return Member.builder()
@@ -8,11 +8,13 @@ import com.Hamalog.domain.medication.MedicationRecord;
 import com.Hamalog.domain.medication.MedicationSchedule;
 import com.Hamalog.domain.medication.MedicationTime;
 import com.Hamalog.domain.member.Member;
+import com.Hamalog.dto.medication.projection.MedicationRecordProjection;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -360,6 +362,39 @@ class MedicationRecordRepositoryTest {
         assertThat(foundRecord).isEmpty();
     }
 
+    @Test
+    @DisplayName("Should stream only the member's records within the date range, ordered by take time")
+    void streamProjectionsByMemberIdAndDateRange_FiltersByMemberAndRange() {
+        // given
+        LocalDate day = LocalDate.of(2025, 3, 10);
+        MedicationTime anotherTime = createTestMedicationTime(anotherSchedule, LocalTime.of(8, 0));
+        entityManager.persistAndFlush(anotherTime);
+
+        entityManager.persist(new MedicationRecord(testSchedule, eveningTime, false, day.atTime(20, 0)));
+        entityManager.persist(new MedicationRecord(testSchedule, morningTime, true, day.atTime(8, 0)));
+        entityManager.persist(new MedicationRecord(testSchedule, morningTime, true, day.minusDays(1).atTime(23, 59)));
+        entityManager.persist(new MedicationRecord(testSchedule, morningTime, true, day.plusDays(1).atStartOfDay()));
+        entityManager.persist(new MedicationRecord(anotherSchedule, anotherTime, true, day.atTime(9, 0)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<MedicationRecordProjection> result;
+        try (Stream<MedicationRecordProjection> stream = medicationRecordRepository
+                .streamProjectionsByMemberIdAndDateRange(
+                        testMember.getMemberId(), day.atStartOfDay(), day.plusDays(1).atStartOfDay())) {
+            result = stream.toList();
+        }
+
+        // then
+        assertThat(result).extracting(MedicationRecordProjection::realTakeTime)
+                .containsExactly(day.atTime(8, 0), day.atTime(20, 0));
+        assertThat(result).extracting(MedicationRecordProjection::scheduleName)
+                .containsOnly("Test Medicine");
+        assertThat(result).extracting(MedicationRecordProjection::isTakeMedication)
+                .containsExactly(true, false);
+    }
+
     private Member createTestMember(String loginId) {
         return Member.builder()
                 .loginId(loginId)
@@ -0,0 +1,80 @@
+package com.Hamalog.security.encryption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+@DisplayName("BlindIndexer 테스트")
+class BlindIndexerTest {
+
+    private static final String TEST_KEY = "+ZFRGoRl5CElrJfikdx1TmzQ3U8OJ+J6im5OMjuvsqE=";
+
+    private BlindIndexer blindIndexer;
+
+    @BeforeEach
+    void setUp() {
+        blindIndexer = new BlindIndexer(new DataEncryptionUtil(TEST_KEY, new MockEnvironment()));
+    }
+
+    @Nested
+    @DisplayName("토큰 생성")
+    class Tokens {
+
+        @Test
+        @DisplayName("검색어 토큰은 본문 색인 토큰에 모두 포함된다")
+        void queryTokens_areSubsetOfIndexTokens() {
+            Set<Long> indexTokens = blindIndexer.indexTokens(1L, "오늘은 산책을 했다", "Happy Day!");
+
+            assertThat(indexTokens).containsAll(blindIndexer.queryTokens(1L, "산책"));
+            assertThat(indexTokens).containsAll(blindIndexer.queryTokens(1L, "HAPPY"));
+            assertThat(indexTokens).containsAll(blindIndexer.queryTokens(1L, "산"));
+        }
+
+        @Test
+        @DisplayName("본문에 없는 검색어는 토큰이 일치하지 않는다")
+        void queryTokens_missingKeyword() {
+            Set<Long> indexTokens = blindIndexer.indexTokens(1L, "오늘은 산책을 했다");
+
+            assertThat(indexTokens).doesNotContainAnyElementsOf(blindIndexer.queryTokens(1L, "운동"));
+        }
+
+        @Test
+        @DisplayName("같은 단어라도 회원이 다르면 다른 토큰이 생성된다")
+        void tokens_differPerMember() {
+            assertThat(blindIndexer.queryTokens(1L, "산책"))
+                    .doesNotContainAnyElementsOf(blindIndexer.queryTokens(2L, "산책"));
+        }
+
+        @Test
+        @DisplayName("검색 가능한 글자가 없으면 빈 토큰 집합을 반환한다")
+        void queryTokens_emptyKeyword() {
+            assertThat(blindIndexer.queryTokens(1L, "  !?  ")).isEmpty();
+            assertThat(blindIndexer.indexTokens(1L, null, "")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("정규화")
+    class Normalize {
+
+        @Test
+        @DisplayName("전각 문자와 대문자, 구분자를 정규화한다")
+        void normalize() {
+            assertThat(BlindIndexer.normalize("  Ｈｅｌｌｏ,   World!! ")).isEqualTo("hello world");
+        }
+
+        @Test
+        @DisplayName("정규화된 본문에 검색어가 연속으로 포함될 때만 일치한다")
+        void containsNormalized() {
+            assertThat(BlindIndexer.containsNormalized("오늘은 산책을 했다", "산책")).isTrue();
+            assertThat(BlindIndexer.containsNormalized("Good-Morning", "good morning")).isTrue();
+            assertThat(BlindIndexer.containsNormalized("책을 읽고 산에 갔다", "산책")).isFalse();
+            assertThat(BlindIndexer.containsNormalized("오늘", " ")).isFalse();
+        }
+    }
+}
@@ -3,6 +3,13 @@ package com.Hamalog.security.encryption;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -92,4 +99,40 @@ class DataEncryptionUtilTest {
         // then
         assertThat(decryptedText).isEqualTo(longText);
     }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 암복호화해도 IV가 겹치지 않고 원문이 복원되어야 한다")
+    void shouldEncryptConcurrentlyWithUniqueIv() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<String>>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (int t = 0; t < 8; t++) {
+                int threadNo = t;
+                futures.add(executor.submit(() -> {
+                    List<String> encrypted = new ArrayList<>();
+                    for (int i = 0; i < 200; i++) {
+                        String plainText = "스레드 " + threadNo + " 일기 " + i + " " + "내용".repeat(i % 50);
+                        String encryptedText = dataEncryptionUtil.encrypt(plainText);
+                        assertThat(dataEncryptionUtil.decrypt(encryptedText)).isEqualTo(plainText);
+                        encrypted.add(encryptedText);
+                    }
+                    return encrypted;
+                }));
+            }
+
+            // then
+            Set<String> ivs = new HashSet<>();
+            for (Future<List<String>> future : futures) {
+                for (String encryptedText : future.get()) {
+                    ivs.add(encryptedText.substring(0, 16));
+                }
+            }
+            assertThat(ivs).hasSize(8 * 200);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
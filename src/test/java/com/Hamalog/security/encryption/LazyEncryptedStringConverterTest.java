@@ -0,0 +1,95 @@
+package com.Hamalog.security.encryption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LazyEncryptedStringConverter Tests")
+class LazyEncryptedStringConverterTest {
+
+    @Mock
+    private DataEncryptionUtil dataEncryptionUtil;
+
+    private LazyEncryptedStringConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new LazyEncryptedStringConverter(dataEncryptionUtil);
+    }
+
+    @Test
+    @DisplayName("Should not decrypt when loading until the value is accessed")
+    void convertToEntityAttribute_DecryptsOnFirstAccessOnly() {
+        // given
+        when(dataEncryptionUtil.decrypt("cipher")).thenReturn("plain");
+
+        // when
+        EncryptedValue<String> value = converter.convertToEntityAttribute("cipher");
+
+        // then
+        verify(dataEncryptionUtil, never()).decrypt(anyString());
+        assertThat(value.isDecrypted()).isFalse();
+
+        assertThat(value.get()).isEqualTo("plain");
+        assertThat(value.get()).isEqualTo("plain");
+        verify(dataEncryptionUtil, times(1)).decrypt("cipher");
+    }
+
+    @Test
+    @DisplayName("Should write back the loaded ciphertext without re-encrypting")
+    void convertToDatabaseColumn_LoadedValue_ReusesCiphertext() {
+        // given
+        EncryptedValue<String> loaded = converter.convertToEntityAttribute("cipher");
+
+        // when
+        String result = converter.convertToDatabaseColumn(loaded);
+
+        // then
+        assertThat(result).isEqualTo("cipher");
+        verifyNoInteractions(dataEncryptionUtil);
+    }
+
+    @Test
+    @DisplayName("Should encrypt values created from plaintext")
+    void convertToDatabaseColumn_NewValue_Encrypts() {
+        // given
+        when(dataEncryptionUtil.encrypt("plain")).thenReturn("cipher");
+
+        // when
+        String result = converter.convertToDatabaseColumn(EncryptedValue.of("plain"));
+
+        // then
+        assertThat(result).isEqualTo("cipher");
+    }
+
+    @Test
+    @DisplayName("Should handle null in both directions")
+    void nullValues_ReturnNull() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+        assertThat(EncryptedValue.of(null)).isNull();
+        assertThat(EncryptedValue.valueOf(null)).isNull();
+        verifyNoInteractions(dataEncryptionUtil);
+    }
+
+    @Test
+    @DisplayName("Should compare loaded values by ciphertext without decrypting")
+    void equals_SameCiphertext_NoDecryption() {
+        // when
+        EncryptedValue<String> first = converter.convertToEntityAttribute("cipher");
+        EncryptedValue<String> second = converter.convertToEntityAttribute("cipher");
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(first.toString()).doesNotContain("cipher");
+        verifyNoInteractions(dataEncryptionUtil);
+    }
+}
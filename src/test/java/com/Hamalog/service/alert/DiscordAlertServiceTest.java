@@ -198,7 +198,8 @@ class DiscordAlertServiceTest {
                     Map.of(),
                     "MEDICATION_REMINDER",
                     Instant.now(),
-                    3
+                    3,
+                    null
             );
 
             when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(String.class)))
@@ -223,7 +224,7 @@ class DiscordAlertServiceTest {
             discordAlertService = new DiscordAlertService(alertProperties, restTemplate, redisTemplate);
 
             NotificationMessage message = new NotificationMessage(
-                    "msg-001", 1L, "Title", "Body", Map.of(), "TEST", Instant.now(), 3
+                    "msg-001", 1L, "Title", "Body", Map.of(), "TEST", Instant.now(), 3, null
             );
 
             // when
@@ -1,26 +1,28 @@
 package com.Hamalog.service.auth;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
-import com.Hamalog.domain.medication.MedicationSchedule;
-import com.Hamalog.domain.member.Member;
-import com.Hamalog.repository.diary.MoodDiaryRepository;
-import com.Hamalog.repository.medication.MedicationRecordRepository;
-import com.Hamalog.repository.medication.MedicationScheduleRepository;
+import com.Hamalog.config.MemberPurgeProperties;
+import com.Hamalog.domain.member.MemberPurgeCheckpoint;
+import com.Hamalog.repository.member.MemberPurgeCheckpointRepository;
 import com.Hamalog.repository.member.MemberRepository;
-import com.Hamalog.repository.sideEffect.SideEffectRecordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("회원 탈퇴 스케줄러 서비스 테스트")
@@ -30,20 +32,29 @@ class MemberDeletionSchedulerServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private MedicationScheduleRepository medicationScheduleRepository;
+    private MemberPurgeCheckpointRepository checkpointRepository;
 
     @Mock
-    private MedicationRecordRepository medicationRecordRepository;
+    private MemberDataPurger memberDataPurger;
 
-    @Mock
-    private SideEffectRecordRepository sideEffectRecordRepository;
-
-    @Mock
-    private MoodDiaryRepository moodDiaryRepository;
-
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private MemberDeletionSchedulerService memberDeletionSchedulerService;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        memberDeletionSchedulerService = new MemberDeletionSchedulerService(
+                memberRepository,
+                checkpointRepository,
+                memberDataPurger,
+                new MemberPurgeProperties(2, 100, 2),
+                Runnable::run,
+                meterRegistry
+        );
+        lenient().when(checkpointRepository.save(any(MemberPurgeCheckpoint.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
     @Nested
     @DisplayName("purgeScheduledMembers")
     class PurgeScheduledMembers {
@@ -52,94 +63,157 @@ class MemberDeletionSchedulerServiceTest {
         @DisplayName("성공: 삭제 대상 회원이 없는 경우")
         void success_noTargetMembers() {
             // given
-            when(memberRepository.findAllByDeletionScheduledTrueAndDeletionDueAtBefore(any(LocalDateTime.class)))
+            when(checkpointRepository.findById(MemberDeletionSchedulerService.JOB_NAME)).thenReturn(Optional.empty());
+            when(memberRepository.findPurgeTargetIds(any(LocalDateTime.class), eq(0L), any()))
                     .thenReturn(Collections.emptyList());
 
             // when
             memberDeletionSchedulerService.purgeScheduledMembers();
 
             // then
-            verify(memberRepository).findAllByDeletionScheduledTrueAndDeletionDueAtBefore(any(LocalDateTime.class));
-            verify(memberRepository, never()).delete(any());
+            verify(memberDataPurger, never()).deleteMember(anyLong(), any());
+            verify(checkpointRepository, times(2)).save(any(MemberPurgeCheckpoint.class));
         }
 
         @Test
-        @DisplayName("성공: 삭제 대상 회원이 있는 경우 - 관련 데이터 삭제 후 회원 삭제")
+        @DisplayName("성공: 대상 회원을 페이지 단위로 청크 삭제 후 회원 삭제")
         void success_withTargetMembers() {
             // given
-            Member member = createTestMember(1L, "test@test.com");
-
-            when(memberRepository.findAllByDeletionScheduledTrueAndDeletionDueAtBefore(any(LocalDateTime.class)))
-                    .thenReturn(List.of(member));
-            when(medicationScheduleRepository.findAllByMember_MemberId(1L))
+            when(checkpointRepository.findById(MemberDeletionSchedulerService.JOB_NAME)).thenReturn(Optional.empty());
+            when(memberRepository.findPurgeTargetIds(any(LocalDateTime.class), eq(0L), any()))
+                    .thenReturn(List.of(1L, 2L));
+            when(memberRepository.findPurgeTargetIds(any(LocalDateTime.class), eq(2L), any()))
+                    .thenReturn(List.of(3L));
+            when(memberRepository.findPurgeTargetIds(any(LocalDateTime.class), eq(3L), any()))
                     .thenReturn(Collections.emptyList());
+            when(memberDataPurger.isStillDue(anyLong(), any())).thenReturn(true);
+            when(memberDataPurger.deleteMember(anyLong(), any())).thenReturn(true);
 
             // when
             memberDeletionSchedulerService.purgeScheduledMembers();
 
             // then
-            verify(sideEffectRecordRepository).deleteByMemberId(1L);
-            verify(moodDiaryRepository).deleteByMember_MemberId(1L);
-            verify(medicationScheduleRepository).findAllByMember_MemberId(1L);
-            verify(medicationScheduleRepository).deleteByMemberId(1L);
-            verify(memberRepository).delete(member);
+            for (long memberId = 1L; memberId <= 3L; memberId++) {
+                verify(memberDataPurger).deleteMedicationRecordChunk(memberId, 100);
+                verify(memberDataPurger).deleteSideEffectLinkChunk(memberId, 100);
+                verify(memberDataPurger).deleteSideEffectRecordChunk(memberId, 100);
+                verify(memberDataPurger).deleteMoodDiarySearchTokenChunk(memberId, 100);
+                verify(memberDataPurger).deleteMoodDiaryChunk(memberId, 100);
+                verify(memberDataPurger).deleteMember(eq(memberId), any());
+            }
+            assertThat(meterRegistry.counter("hamalog.member.purge.purged").count()).isEqualTo(3.0);
         }
 
         @Test
-        @DisplayName("성공: 복약 스케줄이 있는 경우 - 복약 기록도 삭제")
-        void success_withMedicationSchedules() {
+        @DisplayName("성공: 청크 크기만큼 삭제되면 남은 데이터가 없을 때까지 반복 삭제")
+        void success_repeatChunkUntilDrained() {
             // given
-            Member member = createTestMember(1L, "test@test.com");
-            MedicationSchedule schedule = mock(MedicationSchedule.class);
-            when(schedule.getMedicationScheduleId()).thenReturn(100L);
-
-            when(memberRepository.findAllByDeletionScheduledTrueAndDeletionDueAtBefore(any(LocalDateTime.class)))
-                    .thenReturn(List.of(member));
-            when(medicationScheduleRepository.findAllByMember_MemberId(1L))
-                    .thenReturn(List.of(schedule));
+            when(checkpointRepository.findById(MemberDeletionSchedulerService.JOB_NAME)).thenReturn(Optional.empty());
+            when(memberRepository.findPurgeTargetIds(any(LocalDateTime.class), eq(0L), any()))
+                    .thenReturn(List.of(1L));
+            when(memberRepository.findPurgeTargetIds(any(LocalDateTime.class), eq(1L), any()))
+                    .thenReturn(Collections.emptyList());
+            when(memberDataPurger.isStillDue(eq(1L), any())).thenReturn(true);
+            when(memberDataPurger.deleteMedicationRecordChunk(1L, 100)).thenReturn(100, 100, 30);
+            when(memberDataPurger.deleteMember(eq(1L), any())).thenReturn(true);
 
             // when
             memberDeletionSchedulerService.purgeScheduledMembers();
 
             // then
-            verify(medicationRecordRepository).deleteByScheduleIds(List.of(100L));
-            verify(memberRepository).delete(member);
+            verify(memberDataPurger, times(3)).deleteMedicationRecordChunk(1L, 100);
+            assertThat(meterRegistry.counter("hamalog.member.purge.rows_deleted").count()).isEqualTo(230.0);
         }
 
         @Test
         @DisplayName("실패: 삭제 중 예외 발생 시 다음 회원 처리 계속")
         void failure_exceptionDuringDeletion() {
             // given
-            Member member1 = createTestMember(1L, "test1@test.com");
-            Member member2 = createTestMember(2L, "test2@test.com");
-
-            when(memberRepository.findAllByDeletionScheduledTrueAndDeletionDueAtBefore(any(LocalDateTime.class)))
-                    .thenReturn(List.of(member1, member2));
+            when(checkpointRepository.findById(MemberDeletionSchedulerService.JOB_NAME)).thenReturn(Optional.empty());
+            when(memberRepository.findPurgeTargetIds(any(LocalDateTime.class), eq(0L), any()))
+                    .thenReturn(List.of(1L, 2L));
+            when(memberRepository.findPurgeTargetIds(any(LocalDateTime.class), eq(2L), any()))
+                    .thenReturn(Collections.emptyList());
+            when(memberDataPurger.isStillDue(anyLong(), any())).thenReturn(true);
             // 첫 번째 회원 삭제 시 예외 발생
-            doThrow(new RuntimeException("DB Error"))
-                    .when(sideEffectRecordRepository).deleteByMemberId(1L);
+            when(memberDataPurger.deleteSideEffectRecordChunk(1L, 100)).thenThrow(new RuntimeException("DB Error"));
             // 두 번째 회원은 정상 처리
-            when(medicationScheduleRepository.findAllByMember_MemberId(2L))
+            when(memberDataPurger.deleteMember(eq(2L), any())).thenReturn(true);
+
+            // when
+            memberDeletionSchedulerService.purgeScheduledMembers();
+
+            // then
+            verify(memberDataPurger, never()).deleteMember(eq(1L), any());
+            verify(memberDataPurger).deleteMember(eq(2L), any());
+            assertThat(meterRegistry.counter("hamalog.member.purge.failed").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("성공: 탈퇴를 취소한 회원은 데이터를 삭제하지 않음")
+        void success_skipCancelledMember() {
+            // given
+            when(checkpointRepository.findById(MemberDeletionSchedulerService.JOB_NAME)).thenReturn(Optional.empty());
+            when(memberRepository.findPurgeTargetIds(any(LocalDateTime.class), eq(0L), any()))
+                    .thenReturn(List.of(1L));
+            when(memberRepository.findPurgeTargetIds(any(LocalDateTime.class), eq(1L), any()))
                     .thenReturn(Collections.emptyList());
+            when(memberDataPurger.isStillDue(eq(1L), any())).thenReturn(false);
 
             // when
             memberDeletionSchedulerService.purgeScheduledMembers();
 
-            // then - 두 번째 회원은 정상 삭제됨
-            verify(sideEffectRecordRepository).deleteByMemberId(2L);
-            verify(memberRepository).delete(member2);
+            // then
+            verify(memberDataPurger, never()).deleteMedicationRecordChunk(anyLong(), anyInt());
+            verify(memberDataPurger, never()).deleteMember(anyLong(), any());
         }
     }
 
-    private Member createTestMember(Long memberId, String loginId) {
-        Member member = Member.builder()
-                .loginId(loginId)
-                .password("password123")
-                .name("테스트")
-                .nickName("테스트")
-                .phoneNumber("01012345678")
-                .build();
-        ReflectionTestUtils.setField(member, "memberId", memberId);
-        return member;
+    @Nested
+    @DisplayName("체크포인트")
+    class Checkpoint {
+
+        @Test
+        @DisplayName("성공: 중단된 실행은 마지막 체크포인트 이후부터 재개")
+        void success_resumeFromCheckpoint() {
+            // given
+            LocalDateTime startedAt = LocalDateTime.now().minusHours(1);
+            MemberPurgeCheckpoint interrupted = new MemberPurgeCheckpoint(MemberDeletionSchedulerService.JOB_NAME);
+            interrupted.start(startedAt);
+            interrupted.advance(50L, 10, 0);
+            when(checkpointRepository.findById(MemberDeletionSchedulerService.JOB_NAME))
+                    .thenReturn(Optional.of(interrupted));
+            when(memberRepository.findPurgeTargetIds(eq(startedAt), eq(50L), any()))
+                    .thenReturn(Collections.emptyList());
+
+            // when
+            memberDeletionSchedulerService.purgeScheduledMembers();
+
+            // then
+            verify(memberRepository).findPurgeTargetIds(eq(startedAt), eq(50L), any());
+            verify(memberRepository, never()).findPurgeTargetIds(any(), eq(0L), any());
+            assertThat(interrupted.isInterrupted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공: 페이지 처리마다 마지막 회원 ID를 체크포인트에 저장")
+        void success_advanceCheckpointPerPage() {
+            // given
+            when(checkpointRepository.findById(MemberDeletionSchedulerService.JOB_NAME)).thenReturn(Optional.empty());
+            when(memberRepository.findPurgeTargetIds(any(LocalDateTime.class), eq(0L), any()))
+                    .thenReturn(List.of(7L, 9L));
+            when(memberRepository.findPurgeTargetIds(any(LocalDateTime.class), eq(9L), any()))
+                    .thenReturn(Collections.emptyList());
+            when(memberDataPurger.isStillDue(anyLong(), any())).thenReturn(true);
+            when(memberDataPurger.deleteMember(anyLong(), any())).thenReturn(true);
+
+            // when
+            memberDeletionSchedulerService.purgeScheduledMembers();
+
+            // then
+            verify(checkpointRepository, times(3)).save(argThat(checkpoint ->
+                    checkpoint.getJobName().equals(MemberDeletionSchedulerService.JOB_NAME)));
+            assertThat(meterRegistry.get("hamalog.member.purge.checkpoint").gauge().value()).isEqualTo(9.0);
+        }
     }
 }
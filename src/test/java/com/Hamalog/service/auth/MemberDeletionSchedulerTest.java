@@ -1,22 +1,20 @@
 package com.Hamalog.service.auth;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.Hamalog.domain.medication.MedicationSchedule;
 import com.Hamalog.domain.member.Member;
 import com.Hamalog.repository.diary.MoodDiaryRepository;
 import com.Hamalog.repository.medication.MedicationRecordRepository;
 import com.Hamalog.repository.medication.MedicationScheduleRepository;
 import com.Hamalog.repository.member.MemberRepository;
 import com.Hamalog.repository.sideEffect.SideEffectRecordRepository;
+import com.Hamalog.repository.sideEffect.SideEffectSideEffectRecordRepository;
 import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,51 +35,76 @@ class MemberDeletionSchedulerTest {
     @Mock
     private SideEffectRecordRepository sideEffectRecordRepository;
     @Mock
+    private SideEffectSideEffectRecordRepository sideEffectSideEffectRecordRepository;
+    @Mock
     private MoodDiaryRepository moodDiaryRepository;
 
     @InjectMocks
-    private MemberDeletionSchedulerService memberDeletionScheduler;
+    private MemberDataPurger memberDataPurger;
 
     @Test
     @DisplayName("만기 회원을 정리한다")
-    void purgeScheduledMembers_success() {
+    void deleteMember_success() {
+        LocalDateTime threshold = LocalDateTime.now();
         Member member = Member.builder()
                 .memberId(1L)
                 .loginId("user@example.com")
                 .deletionScheduled(true)
-                .deletionDueAt(LocalDateTime.now().minusDays(1))
+                .deletionDueAt(threshold.minusDays(1))
                 .build();
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
 
-        MedicationSchedule schedule = mock(MedicationSchedule.class);
-        when(schedule.getMedicationScheduleId()).thenReturn(10L);
-
-        when(memberRepository.findAllByDeletionScheduledTrueAndDeletionDueAtBefore(any()))
-                .thenReturn(List.of(member));
-        when(medicationScheduleRepository.findAllByMember_MemberId(eq(1L)))
-                .thenReturn(List.of(schedule));
-
-        memberDeletionScheduler.purgeScheduledMembers();
+        boolean deleted = memberDataPurger.deleteMember(1L, threshold);
 
-        verify(sideEffectRecordRepository).deleteByMemberId(1L);
-        verify(moodDiaryRepository).deleteByMember_MemberId(1L);
-        verify(medicationRecordRepository).deleteByScheduleIds(List.of(10L));
+        assertThat(deleted).isTrue();
         verify(medicationScheduleRepository).deleteByMemberId(1L);
         verify(memberRepository).delete(member);
     }
 
     @Test
-    @DisplayName("만기 대상이 없으면 아무 것도 하지 않는다")
-    void purgeScheduledMembers_noTargets() {
-        when(memberRepository.findAllByDeletionScheduledTrueAndDeletionDueAtBefore(any()))
-                .thenReturn(Collections.emptyList());
+    @DisplayName("처리 도중 탈퇴를 취소한 회원은 삭제하지 않는다")
+    void deleteMember_cancelledMember() {
+        LocalDateTime threshold = LocalDateTime.now();
+        Member member = Member.builder()
+                .memberId(1L)
+                .loginId("user@example.com")
+                .deletionScheduled(false)
+                .build();
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
 
-        memberDeletionScheduler.purgeScheduledMembers();
+        boolean deleted = memberDataPurger.deleteMember(1L, threshold);
 
-        verify(medicationScheduleRepository, never()).findAllByMember_MemberId(any());
-        verify(memberRepository, never()).delete(any(Member.class));
+        assertThat(deleted).isFalse();
         verify(medicationScheduleRepository, never()).deleteByMemberId(any());
-        verify(sideEffectRecordRepository, never()).deleteByMemberId(any());
-        verify(moodDiaryRepository, never()).deleteByMember_MemberId(any());
-        verify(medicationRecordRepository, never()).deleteByScheduleIds(any());
+        verify(memberRepository, never()).delete(any(Member.class));
+    }
+
+    @Test
+    @DisplayName("실행 시작 이후 만기가 도래한 회원은 대상이 아니다")
+    void isStillDue_dueAfterThreshold() {
+        LocalDateTime threshold = LocalDateTime.now();
+        Member member = Member.builder()
+                .memberId(1L)
+                .loginId("user@example.com")
+                .deletionScheduled(true)
+                .deletionDueAt(threshold.plusMinutes(1))
+                .build();
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        assertThat(memberDataPurger.isStillDue(1L, threshold)).isFalse();
+    }
+
+    @Test
+    @DisplayName("하위 테이블은 청크 크기 단위로 삭제한다")
+    void deleteChunks_delegateWithLimit() {
+        when(medicationRecordRepository.deleteChunkByMemberId(1L, 500)).thenReturn(500);
+        when(sideEffectSideEffectRecordRepository.deleteChunkByMemberId(1L, 500)).thenReturn(3);
+        when(sideEffectRecordRepository.deleteChunkByMemberId(1L, 500)).thenReturn(2);
+        when(moodDiaryRepository.deleteChunkByMemberId(1L, 500)).thenReturn(0);
+
+        assertThat(memberDataPurger.deleteMedicationRecordChunk(1L, 500)).isEqualTo(500);
+        assertThat(memberDataPurger.deleteSideEffectLinkChunk(1L, 500)).isEqualTo(3);
+        assertThat(memberDataPurger.deleteSideEffectRecordChunk(1L, 500)).isEqualTo(2);
+        assertThat(memberDataPurger.deleteMoodDiaryChunk(1L, 500)).isZero();
     }
 }
@@ -0,0 +1,178 @@
+package com.Hamalog.service.dashboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.Hamalog.config.ConcurrencyLimitedTaskExecutor;
+import com.Hamalog.config.DashboardProperties;
+import com.Hamalog.dto.dashboard.DashboardResponse;
+import com.Hamalog.dto.dashboard.DashboardResponse.FailureReason;
+import com.Hamalog.dto.dashboard.DashboardResponse.SectionFailure;
+import com.Hamalog.dto.dashboard.DashboardSection;
+import com.Hamalog.dto.diary.response.MoodDiaryCalendarResponse;
+import com.Hamalog.dto.medication.response.MedicationSummaryResponse;
+import com.Hamalog.dto.notification.response.NotificationSettingsResponse;
+import com.Hamalog.dto.sideEffect.response.RecentSideEffectResponse;
+import com.Hamalog.exception.member.MemberNotFoundException;
+import com.Hamalog.service.diary.MoodDiaryStatsService;
+import com.Hamalog.service.medication.MedicationScheduleService;
+import com.Hamalog.service.medication.MedicationStatsService;
+import com.Hamalog.service.notification.NotificationSettingsService;
+import com.Hamalog.service.sideEffect.SideEffectService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardService 테스트")
+class DashboardServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final YearMonth MONTH = YearMonth.of(2025, 12);
+
+    @Mock
+    private MedicationStatsService medicationStatsService;
+    @Mock
+    private MedicationScheduleService medicationScheduleService;
+    @Mock
+    private MoodDiaryStatsService moodDiaryStatsService;
+    @Mock
+    private SideEffectService sideEffectService;
+    @Mock
+    private NotificationSettingsService notificationSettingsService;
+    @Mock
+    private MedicationSummaryResponse summary;
+    @Mock
+    private MoodDiaryCalendarResponse calendar;
+    @Mock
+    private NotificationSettingsResponse settings;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = newService(10);
+    }
+
+    private DashboardService newService(int maxConcurrency) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dashboard-test-");
+        executor.setVirtualThreads(true);
+        meterRegistry = new SimpleMeterRegistry();
+        return new DashboardService(medicationStatsService, medicationScheduleService,
+                moodDiaryStatsService, sideEffectService, notificationSettingsService,
+                new ConcurrencyLimitedTaskExecutor(executor, maxConcurrency),
+                new DashboardProperties(Duration.ofSeconds(1),
+                        Map.of(DashboardSection.MEDICATION_SUMMARY, Duration.ofSeconds(5)), maxConcurrency),
+                meterRegistry);
+    }
+
+    private void stubOtherSections(DashboardSection except) {
+        if (except != DashboardSection.MEDICATION_SUMMARY) {
+            when(medicationStatsService.getSummary(MEMBER_ID)).thenReturn(summary);
+        }
+        if (except != DashboardSection.TODAY_SCHEDULES) {
+            when(medicationScheduleService.getMedicationSchedules(MEMBER_ID)).thenReturn(List.of());
+        }
+        if (except != DashboardSection.MOOD_CALENDAR) {
+            when(moodDiaryStatsService.getCalendar(MEMBER_ID, 2025, 12)).thenReturn(calendar);
+        }
+        if (except != DashboardSection.RECENT_SIDE_EFFECTS) {
+            when(sideEffectService.getRecentSideEffects(MEMBER_ID))
+                    .thenReturn(new RecentSideEffectResponse(List.of("두통")));
+        }
+        if (except != DashboardSection.NOTIFICATION_SETTINGS) {
+            when(notificationSettingsService.getSettings(MEMBER_ID)).thenReturn(settings);
+        }
+    }
+
+    @Test
+    @DisplayName("모든 섹션이 성공하면 전체 섹션을 채워 반환한다")
+    void allSectionsSucceed() {
+        stubOtherSections(null);
+
+        DashboardResponse response = dashboardService.getDashboard(MEMBER_ID, MONTH);
+
+        assertThat(response.medicationSummary()).isSameAs(summary);
+        assertThat(response.todaySchedules()).isEmpty();
+        assertThat(response.moodCalendar()).isSameAs(calendar);
+        assertThat(response.recentSideEffects().recentSideEffect()).containsExactly("두통");
+        assertThat(response.notificationSettings()).isSameAs(settings);
+        assertThat(response.failedSections()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패한 섹션은 비우고 나머지 섹션으로 응답한다")
+    void failedSection_returnsPartialResult() {
+        stubOtherSections(DashboardSection.MOOD_CALENDAR);
+        when(moodDiaryStatsService.getCalendar(MEMBER_ID, 2025, 12)).thenThrow(new MemberNotFoundException());
+
+        DashboardResponse response = dashboardService.getDashboard(MEMBER_ID, MONTH);
+
+        assertThat(response.moodCalendar()).isNull();
+        assertThat(response.medicationSummary()).isSameAs(summary);
+        assertThat(response.failedSections())
+                .containsExactly(new SectionFailure(DashboardSection.MOOD_CALENDAR, FailureReason.ERROR));
+        assertThat(meterRegistry.get("hamalog.dashboard.sections")
+                .tag("section", "mood_calendar").tag("outcome", "error").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 섹션은 기다리지 않고 TIMEOUT으로 표시한다")
+    void slowSection_timesOut() {
+        stubOtherSections(DashboardSection.RECENT_SIDE_EFFECTS);
+        when(sideEffectService.getRecentSideEffects(MEMBER_ID)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return new RecentSideEffectResponse(List.of());
+        });
+
+        long start = System.nanoTime();
+        DashboardResponse response = dashboardService.getDashboard(MEMBER_ID, MONTH);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(3));
+        assertThat(response.recentSideEffects()).isNull();
+        assertThat(response.notificationSettings()).isSameAs(settings);
+        assertThat(response.failedSections())
+                .containsExactly(new SectionFailure(DashboardSection.RECENT_SIDE_EFFECTS, FailureReason.TIMEOUT));
+    }
+
+    @Test
+    @DisplayName("동시 실행 한도를 넘긴 섹션은 기다리지 않고 REJECTED로 표시한다")
+    void sectionOverConcurrencyLimit_rejected() {
+        dashboardService = newService(4);
+        // 앞선 네 섹션이 허가를 잡고 있는 동안 마지막 섹션이 제출됨
+        when(medicationStatsService.getSummary(MEMBER_ID)).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return summary;
+        });
+        when(medicationScheduleService.getMedicationSchedules(MEMBER_ID)).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return List.of();
+        });
+        when(moodDiaryStatsService.getCalendar(MEMBER_ID, 2025, 12)).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return calendar;
+        });
+        when(sideEffectService.getRecentSideEffects(MEMBER_ID)).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return new RecentSideEffectResponse(List.of());
+        });
+
+        DashboardResponse response = dashboardService.getDashboard(MEMBER_ID, MONTH);
+
+        assertThat(response.notificationSettings()).isNull();
+        assertThat(response.medicationSummary()).isSameAs(summary);
+        assertThat(response.failedSections())
+                .containsExactly(new SectionFailure(DashboardSection.NOTIFICATION_SETTINGS, FailureReason.REJECTED));
+    }
+}
@@ -25,6 +25,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,6 +38,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("MoodDiaryService 테스트")
@@ -51,6 +53,9 @@ class MoodDiaryServiceTest {
     @Mock
     private DomainEventPublisher domainEventPublisher;
 
+    @Mock
+    private MoodDiarySearchIndexService searchIndexService;
+
     @InjectMocks
     private MoodDiaryService moodDiaryService;
 
@@ -126,6 +131,7 @@ class MoodDiaryServiceTest {
         // then
         assertThat(response.diaryType()).isEqualTo(DiaryType.FREE_FORM);
         assertThat(response.freeContent()).isEqualTo("평온한 하루");
+        verify(searchIndexService).index(savedDiary);
     }
 
     @Test
@@ -387,6 +393,7 @@ class MoodDiaryServiceTest {
         moodDiaryService.deleteMoodDiary(9L, 1L);
 
         // then
+        verify(searchIndexService).remove(9L);
         verify(moodDiaryRepository).delete(diary);
     }
 
@@ -401,6 +408,78 @@ class MoodDiaryServiceTest {
                 .isInstanceOf(MoodDiaryNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("키워드 검색 - 토큰 후보 중 복호화 후 실제 일치하는 일기만 반환")
+    void searchMoodDiaries_FiltersCandidates() {
+        // given
+        MoodDiary matched = buildFreeFormDiary(21L, LocalDate.of(2025, 12, 3), "공원에서 산책");
+        MoodDiary falsePositive = buildFreeFormDiary(22L, LocalDate.of(2025, 12, 2), "책을 들고 산에");
+        Pageable scan = PageRequest.of(0, MoodDiaryService.SEARCH_SCAN_CHUNK_SIZE);
+
+        when(memberRepository.existsById(1L)).thenReturn(true);
+        when(searchIndexService.queryTokens(1L, "산책")).thenReturn(Set.of(100L));
+        when(moodDiaryRepository.searchByTokens(1L, Set.of(100L), 1, scan))
+                .thenReturn(new SliceImpl<>(List.of(matched, falsePositive), scan, false));
+        when(searchIndexService.matches(matched, "산책")).thenReturn(true);
+        when(searchIndexService.matches(falsePositive, "산책")).thenReturn(false);
+
+        // when
+        MoodDiaryListResponse response = moodDiaryService.searchMoodDiaries(1L, "산책", 0, 20);
+
+        // then
+        assertThat(response.diaries()).extracting(MoodDiaryResponse::moodDiaryId).containsExactly(21L);
+        assertThat(response.totalCount()).isEqualTo(1);
+        assertThat(response.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 확인된 일기로 페이지를 나눠 페이지가 비거나 개수가 부풀지 않음")
+    void searchMoodDiaries_PagesAfterVerification() {
+        // given: 후보 3건 중 2건이 오탐이라 후보 기준으로 자르면 첫 페이지가 비게 되는 경우
+        MoodDiary falsePositive1 = buildFreeFormDiary(31L, LocalDate.of(2025, 12, 5), "책을 들고 산에");
+        MoodDiary falsePositive2 = buildFreeFormDiary(32L, LocalDate.of(2025, 12, 4), "산에서 책 읽기");
+        MoodDiary matched1 = buildFreeFormDiary(33L, LocalDate.of(2025, 12, 3), "아침 산책");
+        MoodDiary matched2 = buildFreeFormDiary(34L, LocalDate.of(2025, 12, 2), "저녁 산책");
+        Pageable firstChunk = PageRequest.of(0, MoodDiaryService.SEARCH_SCAN_CHUNK_SIZE);
+        Pageable secondChunk = PageRequest.of(1, MoodDiaryService.SEARCH_SCAN_CHUNK_SIZE);
+
+        when(memberRepository.existsById(1L)).thenReturn(true);
+        when(searchIndexService.queryTokens(1L, "산책")).thenReturn(Set.of(100L));
+        when(moodDiaryRepository.searchByTokens(1L, Set.of(100L), 1, firstChunk))
+                .thenReturn(new SliceImpl<>(List.of(falsePositive1, falsePositive2, matched1), firstChunk, true));
+        when(moodDiaryRepository.searchByTokens(1L, Set.of(100L), 1, secondChunk))
+                .thenReturn(new SliceImpl<>(List.of(matched2), secondChunk, false));
+        when(searchIndexService.matches(any(MoodDiary.class), eq("산책")))
+                .thenAnswer(invocation -> invocation.getArgument(0, MoodDiary.class).getMoodDiaryId() > 32L);
+
+        // when
+        MoodDiaryListResponse firstPage = moodDiaryService.searchMoodDiaries(1L, "산책", 0, 1);
+        MoodDiaryListResponse secondPage = moodDiaryService.searchMoodDiaries(1L, "산책", 1, 1);
+
+        // then
+        assertThat(firstPage.diaries()).extracting(MoodDiaryResponse::moodDiaryId).containsExactly(33L);
+        assertThat(firstPage.totalCount()).isEqualTo(2);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.diaries()).extracting(MoodDiaryResponse::moodDiaryId).containsExactly(34L);
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.hasPrevious()).isTrue();
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 검색 가능한 글자가 없으면 조회 없이 빈 결과 반환")
+    void searchMoodDiaries_NoTokens() {
+        // given
+        when(memberRepository.existsById(1L)).thenReturn(true);
+        when(searchIndexService.queryTokens(1L, "!!")).thenReturn(Set.of());
+
+        // when
+        MoodDiaryListResponse response = moodDiaryService.searchMoodDiaries(1L, "!!", 0, 20);
+
+        // then
+        assertThat(response.diaries()).isEmpty();
+        verify(moodDiaryRepository, never()).searchByTokens(any(), any(), anyLong(), any());
+    }
+
     // 소유권 검증 테스트는 ResourceOwnershipValidatorTest로 이동됨
 
     private MoodDiary buildTemplateDiary(Long id, LocalDate diaryDate) {
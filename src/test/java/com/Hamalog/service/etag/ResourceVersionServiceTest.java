@@ -0,0 +1,114 @@
+package com.Hamalog.service.etag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.Hamalog.config.ETagProperties;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResourceVersionService 테스트")
+class ResourceVersionServiceTest {
+
+    private static final String KEY = "etag:version:sch:1";
+    private static final Duration VERSION_TTL = Duration.ofDays(7);
+    private static final Duration SETTLE_WINDOW = Duration.ofSeconds(5);
+
+    @Mock
+    private ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private ResourceVersionService resourceVersionService;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+        resourceVersionService = new ResourceVersionService(redisTemplateProvider,
+                new ETagProperties(true, VERSION_TTL, SETTLE_WINDOW));
+    }
+
+    private void stubValueOperations() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("저장된 버전이 있으면 그대로 반환한다")
+    void currentVersion_existing() {
+        stubValueOperations();
+        when(valueOperations.get(KEY)).thenReturn("abc");
+
+        Optional<String> version = resourceVersionService.currentVersion(ResourceScope.MEDICATION_SCHEDULE, 1L);
+
+        assertThat(version).contains("abc");
+        verify(valueOperations, never()).setIfAbsent(anyString(), any(), eq(VERSION_TTL));
+    }
+
+    @Test
+    @DisplayName("버전이 없으면 새 토큰을 발급해 보관 기간과 함께 저장한다")
+    void currentVersion_issuesNewToken() {
+        stubValueOperations();
+        when(valueOperations.get(KEY)).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(VERSION_TTL))).thenReturn(true);
+
+        Optional<String> version = resourceVersionService.currentVersion(ResourceScope.MEDICATION_SCHEDULE, 1L);
+
+        assertThat(version).hasValueSatisfying(v -> assertThat(v).hasSize(16));
+    }
+
+    @Test
+    @DisplayName("정착 중이면 버전을 반환하지 않는다")
+    void currentVersion_settling() {
+        stubValueOperations();
+        when(valueOperations.get(KEY)).thenReturn(ResourceVersionService.SETTLING);
+
+        assertThat(resourceVersionService.currentVersion(ResourceScope.MEDICATION_SCHEDULE, 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis 오류면 버전 없이 처리한다")
+    void currentVersion_redisFailure() {
+        stubValueOperations();
+        when(valueOperations.get(KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(resourceVersionService.currentVersion(ResourceScope.MEDICATION_SCHEDULE, 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무효화하면 정착 시간 동안 정착 표시로 덮어쓴다")
+    void invalidate_marksSettling() {
+        stubValueOperations();
+        resourceVersionService.invalidate(ResourceScope.MEDICATION_SCHEDULE, 1L);
+
+        verify(valueOperations).set(KEY, ResourceVersionService.SETTLING, SETTLE_WINDOW);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 Redis를 사용하지 않는다")
+    void disabled_doesNotTouchRedis() {
+        ResourceVersionService disabled = new ResourceVersionService(redisTemplateProvider,
+                new ETagProperties(false, VERSION_TTL, SETTLE_WINDOW));
+
+        assertThat(disabled.currentVersion(ResourceScope.MEDICATION_SCHEDULE, 1L)).isEmpty();
+        disabled.invalidate(ResourceScope.MEDICATION_SCHEDULE, 1L);
+        verify(redisTemplate, never()).opsForValue();
+    }
+}
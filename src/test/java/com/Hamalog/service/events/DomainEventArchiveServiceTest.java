@@ -0,0 +1,144 @@
+package com.Hamalog.service.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.Hamalog.config.EventStoreProperties;
+import com.Hamalog.domain.events.StoredDomainEvent;
+import com.Hamalog.repository.events.StoredDomainEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DomainEventArchiveService 테스트")
+class DomainEventArchiveServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private StoredDomainEventRepository repository;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @TempDir
+    Path directory;
+
+    private DomainEventSegmentStore segmentStore;
+    private DomainEventArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        segmentStore = new DomainEventSegmentStore(directory);
+        archiveService = new DomainEventArchiveService(repository, segmentStore, properties(true),
+                redisTemplate, new SimpleMeterRegistry());
+    }
+
+    private EventStoreProperties properties(boolean directoryShared) {
+        return new EventStoreProperties(null, 0, 0, null,
+                new EventStoreProperties.Archive(true, directory.toString(), directoryShared, Duration.ofDays(30),
+                        CHUNK_SIZE, null), null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void leaseHeld(boolean held) {
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(held);
+    }
+
+    private static StoredDomainEvent storedEvent(long id, String aggregateId, LocalDateTime occurredOn) {
+        StoredDomainEvent event = new StoredDomainEvent("evt-" + id, "MedicationScheduleUpdated",
+                "MedicationSchedule", aggregateId, "{}", occurredOn);
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 날의 이벤트를 청크마다 세그먼트에 쓰고 삭제한다")
+    void archivesInChunks() throws IOException {
+        leaseHeld(true);
+        LocalDateTime occurred = LocalDate.now().minusDays(40).atTime(9, 0);
+        LocalDate day = occurred.toLocalDate();
+        when(repository.findOldestArchivableOccurredOn(any())).thenReturn(occurred);
+        when(repository.findArchivableChunk(any(), any(), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(storedEvent(1L, "1", occurred), storedEvent(2L, "2", occurred)))
+                .thenReturn(List.of(storedEvent(3L, "1", occurred.plusHours(1))))
+                .thenReturn(List.of());
+
+        archiveService.archiveExpiredEvents();
+
+        verify(repository).deleteArchived(List.of(1L, 2L));
+        verify(repository).deleteArchived(List.of(3L));
+        verify(repository).findArchivableChunk(eq(day.atStartOfDay()), eq(day.plusDays(1).atStartOfDay()),
+                eq(2L), any(Pageable.class));
+        assertThat(segmentStore.readDay(day)).extracting(DomainEventRecord::eventId)
+                .containsExactly("evt-1", "evt-2", "evt-3");
+    }
+
+    @Test
+    @DisplayName("보관 대상이 없으면 아무것도 하지 않는다")
+    void nothingToArchive() {
+        leaseHeld(true);
+        when(repository.findOldestArchivableOccurredOn(any())).thenReturn(null);
+
+        archiveService.archiveExpiredEvents();
+
+        verify(repository, never()).deleteArchived(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보관 임대를 가지고 있으면 보관하지 않는다")
+    void skipsWithoutLease() {
+        leaseHeld(false);
+
+        archiveService.archiveExpiredEvents();
+
+        verify(repository, never()).findOldestArchivableOccurredOn(any());
+    }
+
+    @Test
+    @DisplayName("공유 디렉터리가 확인되지 않은 설정으로는 보관을 켤 수 없다")
+    void rejectsUnsharedDirectory() {
+        assertThatThrownBy(() -> new DomainEventArchiveService(repository, segmentStore, properties(false),
+                redisTemplate, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("directory-shared");
+    }
+
+    @Test
+    @DisplayName("이력은 세그먼트와 테이블을 합쳐 중복 없이 발생 순으로 반환한다")
+    void history_mergesSegmentsAndTable() throws IOException {
+        LocalDateTime occurred = LocalDateTime.of(2025, 1, 10, 9, 0);
+        segmentStore.append(occurred.toLocalDate(), List.of(
+                DomainEventRecord.from(storedEvent(1L, "1", occurred)),
+                DomainEventRecord.from(storedEvent(2L, "1", occurred.plusHours(1)))));
+        when(repository.findByAggregateTypeAndAggregateIdOrderByOccurredOnAsc("MedicationSchedule", "1"))
+                .thenReturn(List.of(storedEvent(2L, "1", occurred.plusHours(1)),
+                        storedEvent(5L, "1", occurred.plusDays(50))));
+
+        List<DomainEventRecord> history = archiveService.findAggregateHistory("MedicationSchedule", "1");
+
+        assertThat(history).extracting(DomainEventRecord::eventId).containsExactly("evt-1", "evt-2", "evt-5");
+    }
+}
@@ -0,0 +1,164 @@
+package com.Hamalog.service.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.Hamalog.config.EventStoreProperties;
+import com.Hamalog.config.TestEncryptionConfig;
+import com.Hamalog.domain.diary.DiaryType;
+import com.Hamalog.domain.diary.MoodType;
+import com.Hamalog.domain.events.DomainEvent;
+import com.Hamalog.domain.events.StoredDomainEvent;
+import com.Hamalog.domain.events.StoredDomainEvent.EventStatus;
+import com.Hamalog.domain.events.diary.MoodDiaryCreated;
+import com.Hamalog.domain.member.Member;
+import com.Hamalog.logging.StructuredLogger;
+import com.Hamalog.repository.events.StoredDomainEventRepository;
+import com.Hamalog.repository.member.MemberRepository;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스 모드 통합 테스트
+ * 테스트 프로필은 direct 모드이므로 이 테스트에서만 outbox 모드로 실제 트랜잭션을 커밋/롤백합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestEncryptionConfig.class, DomainEventOutboxIntegrationTest.OutboxConfig.class,
+        EventPersistenceHandler.class, DomainEventOutbox.class, EventStoreService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("DomainEventOutbox 통합 테스트")
+class DomainEventOutboxIntegrationTest {
+
+    @TestConfiguration
+    static class OutboxConfig {
+
+        @Bean
+        EventStoreProperties eventStoreProperties() {
+            return new EventStoreProperties(EventStoreProperties.Mode.OUTBOX, 0, 0, null, null, null, null);
+        }
+
+        @Bean
+        DomainEventPayloadCodec domainEventPayloadCodec() {
+            return new DomainEventPayloadCodec(EventStoreProperties.PayloadFormat.JSON);
+        }
+    }
+
+    @MockitoBean
+    private StructuredLogger structuredLogger;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoredDomainEventRepository storedDomainEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storedDomainEventRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    private static Member member(String loginId) {
+        return Member.builder()
+                .loginId(loginId)
+                .password("encodedPassword")
+                .name("테스트 사용자")
+                .nickName("테스트닉네임")
+                .phoneNumber("01012345678")
+                .birth(LocalDate.of(1990, 1, 1))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static MoodDiaryCreated moodDiaryCreated(long moodDiaryId, Long memberId) {
+        return new MoodDiaryCreated(moodDiaryId, memberId, "outbox@test.com", LocalDate.of(2025, 3, 1),
+                MoodType.HAPPY, DiaryType.FREE_FORM, 1);
+    }
+
+    @Test
+    @DisplayName("커밋하면 업무 변경과 함께 이벤트가 PENDING 행으로 저장된다")
+    void commit_writesOutboxRows() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Member saved = memberRepository.save(member("outbox@test.com"));
+            eventPublisher.publishEvent(moodDiaryCreated(1L, saved.getMemberId()));
+            eventPublisher.publishEvent(moodDiaryCreated(2L, saved.getMemberId()));
+            // 커밋 전에는 아웃박스에만 모여 있음
+            assertThat(storedDomainEventRepository.count()).isZero();
+        });
+
+        List<StoredDomainEvent> stored = storedDomainEventRepository.findAll();
+        assertThat(stored).extracting(StoredDomainEvent::getAggregateId).containsExactlyInAnyOrder("1", "2");
+        assertThat(stored).allSatisfy(event -> {
+            assertThat(event.getEventType()).isEqualTo("MoodDiaryCreated");
+            assertThat(event.getStatus()).isEqualTo(EventStatus.PENDING);
+        });
+        assertThat(memberRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("롤백하면 이벤트 행도 남지 않는다")
+    void rollback_writesNothing() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Member saved = memberRepository.save(member("outbox@test.com"));
+            eventPublisher.publishEvent(moodDiaryCreated(1L, saved.getMemberId()));
+            status.setRollbackOnly();
+        });
+
+        assertThat(storedDomainEventRepository.count()).isZero();
+        assertThat(memberRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("이벤트 저장이 실패하면 업무 변경도 롤백된다")
+    void failedEventWrite_rollsBackBusinessChange() {
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            Member saved = memberRepository.save(member("outbox@test.com"));
+            eventPublisher.publishEvent(moodDiaryCreated(1L, saved.getMemberId()));
+            // aggregate_id 컬럼 길이를 넘겨 커밋 직전 INSERT가 실패하게 함
+            eventPublisher.publishEvent(new OversizedAggregateCreated());
+        })).hasRootCauseInstanceOf(SQLException.class);
+
+        assertThat(storedDomainEventRepository.count()).isZero();
+        assertThat(memberRepository.count()).isZero();
+    }
+
+    static class OversizedAggregateCreated extends DomainEvent {
+
+        @Override
+        public String getAggregateId() {
+            return "x".repeat(200);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.Hamalog.service.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.Hamalog.config.EventStoreProperties;
+import com.Hamalog.domain.events.StoredDomainEvent;
+import com.Hamalog.domain.events.StoredDomainEvent.EventStatus;
+import com.Hamalog.logging.StructuredLogger;
+import com.Hamalog.logging.events.AuditEvent;
+import com.Hamalog.repository.events.StoredDomainEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DomainEventOutboxRelay 테스트")
+class DomainEventOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private StoredDomainEventRepository repository;
+    @Mock
+    private StructuredLogger structuredLogger;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private DomainEventStreamPublisher streamPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DomainEventOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new DomainEventOutboxRelay(repository, structuredLogger,
+                new EventStoreProperties(EventStoreProperties.Mode.OUTBOX, BATCH_SIZE, 3, null, null, null, null),
+                new DomainEventPayloadCodec(EventStoreProperties.PayloadFormat.JSON),
+                transactionManager, null, meterRegistry);
+    }
+
+    private static StoredDomainEvent storedEvent(long id, String payload) {
+        StoredDomainEvent event = new StoredDomainEvent("evt-" + id, "MedicationScheduleCreated",
+                "MedicationSchedule", String.valueOf(id), payload, LocalDateTime.now());
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    private static List<StoredDomainEvent> fullBatch(long firstId) {
+        return LongStream.range(firstId, firstId + BATCH_SIZE)
+                .mapToObj(id -> storedEvent(id, "{}"))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("잠근 배치를 감사 로그로 남기고 한 번에 처리 완료 표시한다")
+    void relaysBatchAndMarksProcessed() {
+        when(repository.lockPendingBatch(BATCH_SIZE))
+                .thenReturn(List.of(storedEvent(1L, "{\"memberLoginId\":\"user@test.com\"}")));
+
+        relay.relayPendingEvents();
+
+        ArgumentCaptor<AuditEvent> audit = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(structuredLogger).audit(audit.capture());
+        assertThat(audit.getValue().getUserId()).isEqualTo("user@test.com");
+        assertThat(audit.getValue().getOperation()).isEqualTo("DOMAIN_EVENT_PUBLISHED");
+        verify(repository).updateStatus(eq(List.of(1L)), eq(EventStatus.PROCESSED), any(LocalDateTime.class));
+        verify(transactionManager).commit(any());
+        assertThat(meterRegistry.get("hamalog.event.outbox.relayed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 최대 배치 수까지 이어서 처리한다")
+    void fullBatches_continueUpToLimit() {
+        when(repository.lockPendingBatch(BATCH_SIZE))
+                .thenReturn(fullBatch(1L), fullBatch(3L), fullBatch(5L));
+
+        relay.relayPendingEvents();
+
+        verify(repository, times(3)).lockPendingBatch(BATCH_SIZE);
+        verify(repository, times(3)).updateStatus(any(), eq(EventStatus.PROCESSED), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("hamalog.event.outbox.relayed").counter().count()).isEqualTo(6.0);
+    }
+
+    @Test
+    @DisplayName("대기 이벤트가 없으면 상태를 갱신하지 않는다")
+    void emptyBatch_doesNothing() {
+        when(repository.lockPendingBatch(BATCH_SIZE)).thenReturn(List.of());
+
+        relay.relayPendingEvents();
+
+        verify(repository, never()).updateStatus(any(), any(), any());
+        verify(structuredLogger, never()).audit(any());
+    }
+
+    @Test
+    @DisplayName("스트림 전달이 켜져 있으면 배치를 스트림에 추가한 뒤 처리 완료 표시한다")
+    void streamEnabled_publishesBatch() {
+        DomainEventOutboxRelay streamRelay = streamRelay();
+        List<StoredDomainEvent> batch = List.of(storedEvent(1L, "{}"));
+        when(streamPublisher.acquireRelayLease()).thenReturn(true);
+        when(repository.lockPendingBatch(BATCH_SIZE)).thenReturn(batch);
+
+        streamRelay.relayPendingEvents();
+
+        InOrder inOrder = inOrder(streamPublisher, repository);
+        inOrder.verify(streamPublisher).publish(batch);
+        inOrder.verify(repository).updateStatus(eq(List.of(1L)), eq(EventStatus.PROCESSED), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("리더 임대를 얻지 못하면 릴레이하지 않는다")
+    void streamEnabled_withoutLease_skips() {
+        DomainEventOutboxRelay streamRelay = streamRelay();
+        when(streamPublisher.acquireRelayLease()).thenReturn(false);
+
+        streamRelay.relayPendingEvents();
+
+        verifyNoInteractions(repository, transactionManager);
+    }
+
+    private DomainEventOutboxRelay streamRelay() {
+        return new DomainEventOutboxRelay(repository, structuredLogger,
+                new EventStoreProperties(EventStoreProperties.Mode.OUTBOX, BATCH_SIZE, 3, null, null, null, null),
+                new DomainEventPayloadCodec(EventStoreProperties.PayloadFormat.JSON),
+                transactionManager, streamPublisher, meterRegistry);
+    }
+}
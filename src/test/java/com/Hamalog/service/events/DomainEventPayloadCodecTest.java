@@ -0,0 +1,71 @@
+package com.Hamalog.service.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.Hamalog.config.EventStoreProperties.PayloadFormat;
+import com.Hamalog.domain.diary.DiaryType;
+import com.Hamalog.domain.diary.MoodType;
+import com.Hamalog.domain.events.auth.LoginSucceeded;
+import com.Hamalog.domain.events.diary.MoodDiaryCreated;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DomainEventPayloadCodec 테스트")
+class DomainEventPayloadCodecTest {
+
+    private final MoodDiaryCreated event = new MoodDiaryCreated(10L, 1L, "user@test.com",
+            LocalDate.of(2025, 3, 1), MoodType.HAPPY, DiaryType.TEMPLATE, 3);
+
+    @Test
+    @DisplayName("JSON 형식은 태그 없는 JSON으로 쓰고 그대로 읽는다")
+    void jsonRoundTrip() throws IOException {
+        DomainEventPayloadCodec codec = new DomainEventPayloadCodec(PayloadFormat.JSON);
+
+        String payload = codec.encode(event);
+        JsonNode tree = codec.readTree(payload);
+
+        assertThat(payload).startsWith("{");
+        assertThat(tree.path("memberLoginId").asText()).isEqualTo("user@test.com");
+        assertThat(codec.treeToValue(tree.get("diaryDate"), LocalDate.class)).isEqualTo(LocalDate.of(2025, 3, 1));
+    }
+
+    @Test
+    @DisplayName("SMILE 형식은 버전 태그를 붙여 쓰고, 기존 JSON 페이로드도 함께 읽는다")
+    void smileRoundTripAndLegacyJson() throws IOException {
+        DomainEventPayloadCodec jsonCodec = new DomainEventPayloadCodec(PayloadFormat.JSON);
+        DomainEventPayloadCodec smileCodec = new DomainEventPayloadCodec(PayloadFormat.SMILE);
+
+        String payload = smileCodec.encode(event);
+
+        assertThat(payload).startsWith("smile:v" + DomainEventPayloadCodec.SCHEMA_VERSION + ":");
+        assertThat(smileCodec.readTree(payload)).isEqualTo(jsonCodec.readTree(jsonCodec.encode(event)));
+        assertThat(smileCodec.readTree(jsonCodec.encode(event)).path("moodDiaryId").asLong()).isEqualTo(10L);
+        // 형식을 JSON으로 되돌려도 이미 저장된 Smile 페이로드를 읽을 수 있음
+        assertThat(jsonCodec.readTree(payload).path("moodType").asText()).isEqualTo("HAPPY");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 스키마 버전은 거부한다")
+    void rejectsNewerSchemaVersion() {
+        DomainEventPayloadCodec codec = new DomainEventPayloadCodec(PayloadFormat.SMILE);
+
+        assertThatThrownBy(() -> codec.readTree("smile:v" + (DomainEventPayloadCodec.SCHEMA_VERSION + 1) + ":AA=="))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("이벤트 클래스 메타데이터로 aggregate 타입과 감사 사용자를 얻는다")
+    void descriptor() {
+        LoginSucceeded login = new LoginSucceeded(1L, "user@test.com", "127.0.0.1", "agent", "WEB");
+
+        assertThat(DomainEventDescriptor.of(event).aggregateType()).isEqualTo("MoodDiary");
+        assertThat(DomainEventDescriptor.of(event).userId(event)).isEqualTo("user@test.com");
+        assertThat(DomainEventDescriptor.of(login).aggregateType()).isEqualTo("Login");
+        assertThat(DomainEventDescriptor.of(login).userId(login)).isEqualTo("system");
+        assertThat(DomainEventDescriptor.of(event)).isSameAs(DomainEventDescriptor.of(event));
+    }
+}
@@ -0,0 +1,279 @@
+package com.Hamalog.service.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.Hamalog.config.EventStoreProperties;
+import com.Hamalog.domain.events.ProjectionCheckpoint;
+import com.Hamalog.domain.events.StoredDomainEvent;
+import com.Hamalog.repository.events.ProjectionCheckpointRepository;
+import com.Hamalog.repository.events.StoredDomainEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DomainEventReplayEngine 테스트")
+class DomainEventReplayEngineTest {
+
+    private static final String PROJECTION = "schedule-history";
+    private static final LocalDate DAY1 = LocalDate.of(2025, 1, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2025, 1, 2);
+
+    @Mock
+    private StoredDomainEventRepository eventRepository;
+
+    @Mock
+    private ProjectionCheckpointRepository checkpointRepository;
+
+    @TempDir
+    Path directory;
+
+    private DomainEventSegmentStore segmentStore;
+    private RecordingProjection projection;
+    private DomainEventReplayEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        segmentStore = new DomainEventSegmentStore(directory);
+        projection = new RecordingProjection();
+        engine = new DomainEventReplayEngine(eventRepository, segmentStore, checkpointRepository,
+                List.of(projection),
+                new EventStoreProperties(null, 0, 0, null, null,
+                        new EventStoreProperties.Replay(4, 2, Duration.ZERO, true, null, false), null),
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    private void stubCheckpointSave() {
+        when(checkpointRepository.save(any(ProjectionCheckpoint.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private ProjectionCheckpoint lastSavedCheckpoint() {
+        ArgumentCaptor<ProjectionCheckpoint> captor = ArgumentCaptor.forClass(ProjectionCheckpoint.class);
+        verify(checkpointRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private static DomainEventRecord record(String eventId, String eventType, String aggregateId,
+                                            LocalDateTime occurredOn) {
+        return new DomainEventRecord(eventId, eventType, "MedicationSchedule", aggregateId,
+                occurredOn.toString(), "{}");
+    }
+
+    private static StoredDomainEvent storedEvent(long id, String eventType, String aggregateId,
+                                                 LocalDateTime occurredOn) {
+        StoredDomainEvent event = new StoredDomainEvent("evt-" + id, eventType,
+                "MedicationSchedule", aggregateId, "{}", occurredOn);
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    @Test
+    @DisplayName("보관 세그먼트와 테이블을 순서대로 적용하고 체크포인트를 LIVE로 전환한다")
+    void rebuildsFromArchiveAndTable() throws IOException {
+        segmentStore.append(DAY1, List.of(
+                record("a-2", "MedicationScheduleUpdated", "1", DAY1.atTime(10, 0)),
+                record("a-1", "MedicationScheduleCreated", "1", DAY1.atTime(9, 0)),
+                record("a-3", "MedicationScheduleCreated", "2", DAY1.atTime(9, 30))));
+        segmentStore.append(DAY2, List.of(
+                record("a-4", "Ignored", "1", DAY2.atTime(9, 0))));
+        when(checkpointRepository.findById(PROJECTION)).thenReturn(Optional.empty());
+        stubCheckpointSave();
+        when(eventRepository.findMaxId()).thenReturn(3L);
+        LocalDateTime now = LocalDateTime.now();
+        when(eventRepository.findReplayPage(eq(0L), eq(3L), any(Pageable.class))).thenReturn(List.of(
+                storedEvent(1L, "MedicationScheduleUpdated", "1", now),
+                storedEvent(2L, "MedicationScheduleUpdated", "2", now)));
+        when(eventRepository.findReplayPage(eq(2L), eq(3L), any(Pageable.class))).thenReturn(List.of(
+                storedEvent(3L, "MedicationScheduleDeleted", "1", now.plusSeconds(1))));
+        when(eventRepository.findReplayPage(eq(3L), eq(3L), any(Pageable.class))).thenReturn(List.of());
+
+        DomainEventReplayEngine.ReplayResult result = engine.rebuild(PROJECTION, false);
+
+        assertThat(result.events()).isEqualTo(6);
+        assertThat(projection.resets).isEqualTo(1);
+        assertThat(projection.appliedIds("1")).containsExactly("a-1", "a-2", "evt-1", "evt-3");
+        assertThat(projection.appliedIds("2")).containsExactly("a-3", "evt-2");
+
+        ProjectionCheckpoint checkpoint = lastSavedCheckpoint();
+        assertThat(checkpoint.isRebuilding()).isFalse();
+        assertThat(checkpoint.getLastArchiveDay()).isEqualTo(DAY2);
+        assertThat(checkpoint.getLastEventId()).isEqualTo(3L);
+        assertThat(checkpoint.getAppliedCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("중단된 재구축은 초기화 없이 마지막 체크포인트 이후부터 이어서 적용한다")
+    void resumesInterruptedRebuild() throws IOException {
+        segmentStore.append(DAY1, List.of(record("a-1", "MedicationScheduleCreated", "1", DAY1.atTime(9, 0))));
+        segmentStore.append(DAY2, List.of(record("a-2", "MedicationScheduleUpdated", "1", DAY2.atTime(9, 0))));
+        ProjectionCheckpoint interrupted = new ProjectionCheckpoint(PROJECTION);
+        interrupted.start(LocalDateTime.now());
+        interrupted.advanceArchive(DAY1, 1);
+        when(checkpointRepository.findById(PROJECTION)).thenReturn(Optional.of(interrupted));
+        stubCheckpointSave();
+        when(eventRepository.findMaxId()).thenReturn(null);
+
+        DomainEventReplayEngine.ReplayResult result = engine.rebuild(PROJECTION, false);
+
+        assertThat(projection.resets).isZero();
+        assertThat(projection.appliedIds("1")).containsExactly("a-2");
+        assertThat(result.events()).isEqualTo(1);
+        assertThat(interrupted.isRebuilding()).isFalse();
+        assertThat(interrupted.getAppliedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보관 도중 중단으로 세그먼트와 테이블에 함께 남은 이벤트는 한 번만 적용한다")
+    void skipsEventsPresentInArchiveAndTable() throws IOException {
+        segmentStore.append(DAY1, List.of(
+                record("evt-1", "MedicationScheduleCreated", "1", DAY1.atTime(9, 0)),
+                record("a-2", "MedicationScheduleUpdated", "1", DAY1.atTime(10, 0))));
+        // 다시 보관된 세그먼트에 같은 이벤트가 한 번 더 들어간 경우
+        segmentStore.append(DAY2, List.of(
+                record("a-2", "MedicationScheduleUpdated", "1", DAY1.atTime(10, 0))));
+        when(checkpointRepository.findById(PROJECTION)).thenReturn(Optional.empty());
+        stubCheckpointSave();
+        when(eventRepository.findMaxId()).thenReturn(2L);
+        LocalDateTime now = LocalDateTime.now();
+        when(eventRepository.findReplayPage(eq(0L), eq(2L), any(Pageable.class))).thenReturn(List.of(
+                storedEvent(1L, "MedicationScheduleCreated", "1", DAY1.atTime(9, 0)),
+                storedEvent(2L, "MedicationScheduleDeleted", "1", now)));
+        when(eventRepository.findReplayPage(eq(2L), eq(2L), any(Pageable.class))).thenReturn(List.of());
+
+        DomainEventReplayEngine.ReplayResult result = engine.rebuild(PROJECTION, false);
+
+        assertThat(projection.appliedIds("1")).containsExactly("evt-1", "a-2", "evt-2");
+        assertThat(result.events()).isEqualTo(3);
+        assertThat(lastSavedCheckpoint().getLastEventId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("이어서 재구축할 때도 이미 적용한 세그먼트의 이벤트는 테이블에서 다시 적용하지 않는다")
+    void resumedRebuildSkipsTableRowsAlreadyArchived() throws IOException {
+        segmentStore.append(DAY1, List.of(record("evt-1", "MedicationScheduleCreated", "1", DAY1.atTime(9, 0))));
+        ProjectionCheckpoint interrupted = new ProjectionCheckpoint(PROJECTION);
+        interrupted.start(LocalDateTime.now());
+        interrupted.advanceArchive(DAY1, 1);
+        when(checkpointRepository.findById(PROJECTION)).thenReturn(Optional.of(interrupted));
+        stubCheckpointSave();
+        when(eventRepository.findMaxId()).thenReturn(1L);
+        when(eventRepository.findReplayPage(any(), eq(1L), any(Pageable.class))).thenReturn(
+                List.of(storedEvent(1L, "MedicationScheduleCreated", "1", DAY1.atTime(9, 0))), List.of());
+
+        DomainEventReplayEngine.ReplayResult result = engine.rebuild(PROJECTION, false);
+
+        assertThat(projection.applied).isEmpty();
+        assertThat(result.events()).isZero();
+        assertThat(interrupted.getLastEventId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("dry-run은 적용과 체크포인트 기록 없이 타입별 건수만 집계한다")
+    void dryRunCountsWithoutApplying() throws IOException {
+        segmentStore.append(DAY1, List.of(
+                record("a-1", "MedicationScheduleCreated", "1", DAY1.atTime(9, 0)),
+                record("a-2", "Ignored", "1", DAY1.atTime(10, 0))));
+        when(eventRepository.findMaxId()).thenReturn(1L);
+        when(eventRepository.findReplayPage(eq(0L), eq(1L), any(Pageable.class))).thenReturn(List.of(
+                storedEvent(1L, "MedicationScheduleCreated", "2", LocalDateTime.now())));
+        when(eventRepository.findReplayPage(eq(1L), eq(1L), any(Pageable.class))).thenReturn(List.of());
+
+        DomainEventReplayEngine.ReplayResult result = engine.rebuild(PROJECTION, true);
+
+        assertThat(result.dryRun()).isTrue();
+        assertThat(result.events()).isEqualTo(2);
+        assertThat(result.countsByType()).containsEntry("MedicationScheduleCreated", 2L).hasSize(1);
+        assertThat(projection.applied).isEmpty();
+        verify(checkpointRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("실시간 따라잡기는 직전 실행에서 관측한 최대 ID까지만 LIVE 프로젝션에 적용한다")
+    void catchUpAppliesUpToPreviouslyObservedMaxId() {
+        ProjectionCheckpoint live = new ProjectionCheckpoint(PROJECTION);
+        live.advance(5L, 5);
+        live.goLive();
+        when(eventRepository.findMaxId()).thenReturn(7L, 9L);
+
+        engine.catchUp();
+        assertThat(projection.applied).isEmpty();
+
+        when(checkpointRepository.findById(PROJECTION)).thenReturn(Optional.of(live));
+        stubCheckpointSave();
+        when(eventRepository.findReplayPage(eq(5L), eq(7L), any(Pageable.class))).thenReturn(List.of(
+                storedEvent(6L, "MedicationScheduleUpdated", "1", LocalDateTime.now()),
+                storedEvent(7L, "MedicationScheduleUpdated", "1", LocalDateTime.now().plusSeconds(1))));
+        when(eventRepository.findReplayPage(eq(7L), eq(7L), any(Pageable.class))).thenReturn(List.of());
+
+        engine.catchUp();
+
+        assertThat(projection.appliedIds("1")).containsExactly("evt-6", "evt-7");
+        assertThat(live.getLastEventId()).isEqualTo(7L);
+        assertThat(live.getAppliedCount()).isEqualTo(7);
+    }
+
+    private static class RecordingProjection implements DomainEventProjection {
+
+        private final List<DomainEventRecord> applied = Collections.synchronizedList(new ArrayList<>());
+        private int resets;
+
+        @Override
+        public String name() {
+            return PROJECTION;
+        }
+
+        @Override
+        public boolean supports(String eventType) {
+            return eventType.startsWith("MedicationSchedule");
+        }
+
+        @Override
+        public void apply(DomainEventRecord event) {
+            applied.add(event);
+        }
+
+        @Override
+        public void reset() {
+            resets++;
+        }
+
+        List<String> appliedIds(String aggregateId) {
+            synchronized (applied) {
+                return applied.stream()
+                        .filter(event -> aggregateId.equals(event.aggregateId()))
+                        .map(DomainEventRecord::eventId)
+                        .toList();
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.Hamalog.service.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("DomainEventSegmentStore 테스트")
+class DomainEventSegmentStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 10);
+
+    @TempDir
+    Path directory;
+
+    private DomainEventSegmentStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new DomainEventSegmentStore(directory);
+    }
+
+    private static DomainEventRecord event(String eventId, String aggregateId, String occurredOn) {
+        return new DomainEventRecord(eventId, "MedicationScheduleUpdated", "MedicationSchedule", aggregateId,
+                occurredOn, "{\"medicationScheduleId\":" + aggregateId + "}");
+    }
+
+    @Test
+    @DisplayName("여러 번 추가한 멤버에서 aggregate 이력만 골라 읽는다")
+    void readAggregate_acrossMembersAndDays() throws IOException {
+        store.append(DAY, List.of(event("e1", "1", "2025-01-10T09:00"), event("e2", "2", "2025-01-10T09:01")));
+        store.append(DAY, List.of(event("e3", "1", "2025-01-10T10:00")));
+        store.append(DAY.plusDays(1), List.of(event("e4", "1", "2025-01-11T08:00")));
+
+        List<DomainEventRecord> history = store.readAggregate("MedicationSchedule", "1");
+
+        assertThat(history).extracting(DomainEventRecord::eventId).containsExactly("e1", "e3", "e4");
+        assertThat(store.readDay(DAY)).hasSize(3);
+        assertThat(store.days()).containsExactly(DAY, DAY.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("인덱스 기록 전에 중단된 꼬리는 읽지 않고 다음 추가에서 덮어쓴다")
+    void tornTail_isIgnoredAndOverwritten() throws IOException {
+        store.append(DAY, List.of(event("e1", "1", "2025-01-10T09:00")));
+        Path segment = directory.resolve("domain-events-2025-01-10.seg");
+        long committedSize = Files.size(segment);
+        Files.write(segment, new byte[]{0x1f, (byte) 0x8b, 0x08}, StandardOpenOption.APPEND);
+
+        assertThat(store.readDay(DAY)).extracting(DomainEventRecord::eventId).containsExactly("e1");
+
+        store.append(DAY, List.of(event("e2", "1", "2025-01-10T10:00")));
+
+        assertThat(store.readAggregate("MedicationSchedule", "1"))
+                .extracting(DomainEventRecord::eventId).containsExactly("e1", "e2");
+        assertThat(Files.size(segment)).isGreaterThan(committedSize);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 없으면 빈 이력을 반환한다")
+    void emptyDirectory_returnsEmpty() throws IOException {
+        assertThat(store.readAggregate("MedicationSchedule", "1")).isEmpty();
+        assertThat(store.days()).isEmpty();
+    }
+}
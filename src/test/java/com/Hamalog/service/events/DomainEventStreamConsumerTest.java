@@ -0,0 +1,194 @@
+package com.Hamalog.service.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.Hamalog.config.EventStoreProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DomainEventStreamConsumer 테스트")
+class DomainEventStreamConsumerTest {
+
+    private static final String HANDLED_KEY = "hamalog:domain-events:handled:TestHandler:evt-1";
+    private static final byte[] STREAM_KEY = "hamalog:domain-events:1".getBytes(StandardCharsets.UTF_8);
+    private static final String GROUP = "domain-event-consumers";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+    @Mock
+    private TestHandler handler;
+    @Mock
+    private RedisConnection connection;
+    @Mock
+    private RedisStreamCommands streamCommands;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DomainEventStreamConsumer consumer;
+    private ByteRecord record;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        EventStoreProperties properties = new EventStoreProperties(EventStoreProperties.Mode.OUTBOX, 0, 0,
+                new EventStoreProperties.Stream(true, null, 0, 0, null, "node-1", 0, null, null, null, 0), null, null, null);
+        consumer = new DomainEventStreamConsumer(redisTemplate, properties, List.of(handler), meterRegistry);
+        DomainEventRecord event = new DomainEventRecord("evt-1", "MoodDiaryCreated", "MoodDiary", "10",
+                "2025-12-01T09:00", "{\"moodDiaryId\":10}");
+        record = StreamRecords.rawBytes(event.toFields())
+                .withStreamKey(STREAM_KEY)
+                .withId(RecordId.of("1-0"));
+    }
+
+    private void stubHandler() {
+        when(handler.supports("MoodDiaryCreated")).thenReturn(true);
+        when(handler.name()).thenReturn("TestHandler");
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("hamalog.event.stream.handled").tag("handler", "TestHandler").tag("result", result)
+                .counter().count();
+    }
+
+    @Test
+    @DisplayName("핸들러가 성공하면 처리 완료를 기록하고 ACK한다")
+    void success_marksHandledAndAcks() throws Exception {
+        stubHandler();
+        when(redisTemplate.hasKey(HANDLED_KEY)).thenReturn(false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        consumer.process(record);
+
+        verify(handler).handle(any(DomainEventRecord.class));
+        verify(valueOperations).set(HANDLED_KEY, 1, Duration.ofDays(7));
+        verify(redisTemplate).execute(any(RedisCallback.class));
+        assertThat(count("success")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이미 처리한 eventId는 핸들러를 다시 실행하지 않고 ACK한다")
+    void duplicate_skipsHandler() throws Exception {
+        stubHandler();
+        when(redisTemplate.hasKey(HANDLED_KEY)).thenReturn(true);
+
+        consumer.process(record);
+
+        verify(handler, never()).handle(any());
+        verify(redisTemplate).execute(any(RedisCallback.class));
+        assertThat(count("duplicate")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("핸들러가 실패하면 ACK하지 않아 다시 전달되도록 한다")
+    void failure_doesNotAck() throws Exception {
+        stubHandler();
+        when(redisTemplate.hasKey(HANDLED_KEY)).thenReturn(false);
+        doThrow(new IllegalStateException("fcm down")).when(handler).handle(any());
+
+        consumer.process(record);
+
+        verify(redisTemplate, never()).execute(any(RedisCallback.class));
+        verify(redisTemplate, never()).opsForValue();
+        assertThat(count("failure")).isEqualTo(1.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubPending(long deliveries, Duration idle) {
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, RedisCallback.class).doInRedis(connection));
+        when(connection.streamCommands()).thenReturn(streamCommands);
+        when(streamCommands.xPending(eq(STREAM_KEY), eq(GROUP), any(Range.class), eq(50L)))
+                .thenReturn(new PendingMessages(GROUP, List.of(
+                        new PendingMessage(RecordId.of("1-0"), Consumer.from(GROUP, "node-0"), idle, deliveries))));
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 지난 대기 레코드는 이 소비자로 가져와 다시 처리한다")
+    void reclaim_idleRecordIsReprocessed() throws Exception {
+        stubPending(2, Duration.ofMinutes(2));
+        when(streamCommands.xClaim(eq(STREAM_KEY), eq(GROUP), eq("node-1"), any(XClaimOptions.class)))
+                .thenReturn(List.of(record));
+        stubHandler();
+        when(redisTemplate.hasKey(HANDLED_KEY)).thenReturn(false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        consumer.reclaim(STREAM_KEY);
+
+        verify(streamCommands).xClaim(eq(STREAM_KEY), eq(GROUP), eq("node-1"),
+                argThat((XClaimOptions options) -> options.getMinIdleTime().equals(Duration.ofMinutes(1))));
+        verify(handler).handle(any(DomainEventRecord.class));
+        verify(streamCommands).xAck(STREAM_KEY, GROUP, RecordId.of("1-0"));
+        verify(streamCommands, never()).xAdd(any(ByteRecord.class));
+    }
+
+    @Test
+    @DisplayName("최대 전달 횟수에 이른 레코드는 처리하지 않고 데드 레터 스트림으로 옮긴 뒤 ACK한다")
+    void reclaim_exhaustedRecordIsDeadLettered() throws Exception {
+        stubPending(5, Duration.ofMinutes(2));
+        when(streamCommands.xClaim(eq(STREAM_KEY), eq(GROUP), eq("node-1"), any(XClaimOptions.class)))
+                .thenReturn(List.of(record));
+
+        consumer.reclaim(STREAM_KEY);
+
+        verify(handler, never()).handle(any());
+        verify(streamCommands).xAdd(argThat((ByteRecord deadLetter) ->
+                "hamalog:domain-events:dead-letter".equals(new String(deadLetter.getStream(), StandardCharsets.UTF_8))
+                        && DomainEventRecord.fromFields(deadLetter.getValue()).eventId().equals("evt-1")));
+        verify(streamCommands).xAck(STREAM_KEY, GROUP, RecordId.of("1-0"));
+        assertThat(meterRegistry.get("hamalog.event.stream.dead-lettered").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 지나지 않은 대기 레코드는 가져오지 않는다")
+    void reclaim_activeRecordIsLeftAlone() {
+        stubPending(1, Duration.ofSeconds(5));
+
+        consumer.reclaim(STREAM_KEY);
+
+        verify(streamCommands, never()).xClaim(any(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("레코드 필드를 이벤트로 복원한다")
+    void recordFieldsRoundTrip() {
+        DomainEventRecord restored = DomainEventRecord.fromFields(record.getValue());
+
+        assertThat(restored.eventId()).isEqualTo("evt-1");
+        assertThat(restored.aggregateId()).isEqualTo("10");
+        assertThat(restored.payload()).isEqualTo("{\"moodDiaryId\":10}");
+    }
+
+    interface TestHandler extends DomainEventStreamHandler {
+    }
+}
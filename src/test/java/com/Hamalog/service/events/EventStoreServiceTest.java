@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.Hamalog.config.EventStoreProperties;
 import com.Hamalog.domain.events.DomainEvent;
 import com.Hamalog.domain.events.StoredDomainEvent;
 import com.Hamalog.repository.events.StoredDomainEventRepository;
@@ -28,7 +29,7 @@ class EventStoreServiceTest {
 
     @BeforeEach
     void setUp() {
-        eventStoreService = new EventStoreService(repository);
+        eventStoreService = new EventStoreService(repository, new DomainEventPayloadCodec(EventStoreProperties.PayloadFormat.JSON));
     }
 
     @Nested
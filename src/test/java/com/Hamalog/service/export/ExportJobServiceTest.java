@@ -0,0 +1,259 @@
+package com.Hamalog.service.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import com.Hamalog.config.ExportJobProperties;
+import com.Hamalog.exception.CustomException;
+import com.Hamalog.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportJobService 테스트")
+class ExportJobServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 3, 31);
+
+    @Mock
+    private ExportService exportService;
+
+    @TempDir
+    Path directory;
+
+    /** 제출된 작업을 모아 두었다가 테스트에서 직접 실행하는 실행기 */
+    private final List<Runnable> queued = new ArrayList<>();
+
+    private ExportJobService newService(Executor executor, Duration retention) throws IOException {
+        ExportJobService service = new ExportJobService(exportService,
+                new ExportJobProperties(directory.toString(), 1, 1, retention, 2),
+                executor, new SimpleMeterRegistry());
+        service.initDirectory();
+        return service;
+    }
+
+    private void runQueued() {
+        queued.forEach(Runnable::run);
+        queued.clear();
+    }
+
+    @BeforeEach
+    void setUp() {
+        queued.clear();
+    }
+
+    @Nested
+    @DisplayName("작업 실행")
+    class Run {
+
+        @Test
+        @DisplayName("CSV 작업은 gzip 압축 파일을 만들고 완료 상태가 된다")
+        void csv_writesGzipArtifact() throws Exception {
+            // given
+            ExportJobService service = newService(queued::add, Duration.ofHours(1));
+            doAnswer(inv -> {
+                inv.getArgument(4, OutputStream.class).write("날짜\n".getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).when(exportService).writeMedicationRecordsAsCsv(eq(MEMBER_ID), eq(START), eq(END), eq(true), any());
+
+            // when
+            ExportJob job = service.submit(MEMBER_ID, ExportJobFormat.CSV, START, END);
+            assertThat(job.getStatus()).isEqualTo(ExportJobStatus.PENDING);
+            runQueued();
+
+            // then
+            ExportJob completed = service.getCompletedJob(MEMBER_ID, job.getJobId());
+            assertThat(completed.getStatus()).isEqualTo(ExportJobStatus.COMPLETED);
+            assertThat(completed.getArtifact().getFileName().toString()).endsWith(".csv.gz");
+            assertThat(completed.getSizeBytes()).isEqualTo(Files.size(completed.getArtifact()));
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(completed.getArtifact()))) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("날짜\n");
+            }
+        }
+
+        @Test
+        @DisplayName("ZIP 작업은 JSON과 CSV 두 항목을 담는다")
+        void zip_containsJsonAndCsv() throws Exception {
+            // given
+            ExportJobService service = newService(queued::add, Duration.ofHours(1));
+            doAnswer(inv -> {
+                inv.getArgument(1, OutputStream.class).write("{}".getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).when(exportService).writeAllDataAsJson(eq(MEMBER_ID), any());
+
+            // when
+            ExportJob job = service.submit(MEMBER_ID, ExportJobFormat.ZIP, START, END);
+            runQueued();
+
+            // then
+            List<String> entries = new ArrayList<>();
+            try (ZipInputStream zip = new ZipInputStream(
+                    Files.newInputStream(service.getCompletedJob(MEMBER_ID, job.getJobId()).getArtifact()))) {
+                ZipEntry entry;
+                while ((entry = zip.getNextEntry()) != null) {
+                    entries.add(entry.getName());
+                }
+            }
+            assertThat(entries).containsExactly("hamalog_data.json", "medication_records.csv");
+            verify(exportService).writeMedicationRecordsAsCsv(eq(MEMBER_ID), eq(START), eq(END), anyBoolean(), any());
+        }
+
+        @Test
+        @DisplayName("쓰기 중 오류가 나면 실패 상태가 되고 임시 파일을 남기지 않는다")
+        void failure_marksFailedAndRemovesPartial() throws Exception {
+            // given
+            ExportJobService service = newService(queued::add, Duration.ofHours(1));
+            doThrow(new IOException("disk full")).when(exportService).writeAllDataAsJson(eq(MEMBER_ID), any());
+
+            // when
+            ExportJob job = service.submit(MEMBER_ID, ExportJobFormat.JSON, START, END);
+            runQueued();
+
+            // then
+            assertThat(service.getJob(MEMBER_ID, job.getJobId()).getStatus()).isEqualTo(ExportJobStatus.FAILED);
+            assertThatThrownBy(() -> service.getCompletedJob(MEMBER_ID, job.getJobId()))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(ex -> {
+                        CustomException ce = (CustomException) ex;
+                        assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.EXPORT_JOB_NOT_READY);
+                    });
+            try (var files = Files.list(directory)) {
+                assertThat(files).isEmpty();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("작업 등록")
+    class Submit {
+
+        @Test
+        @DisplayName("같은 조건으로 진행 중인 작업이 있으면 기존 작업을 반환한다")
+        void deduplicatesActiveJob() throws Exception {
+            ExportJobService service = newService(queued::add, Duration.ofHours(1));
+
+            ExportJob first = service.submit(MEMBER_ID, ExportJobFormat.CSV, START, END);
+            ExportJob second = service.submit(MEMBER_ID, ExportJobFormat.CSV, START, END);
+            ExportJob otherRange = service.submit(MEMBER_ID, ExportJobFormat.CSV, START, END.plusDays(1));
+
+            assertThat(second).isSameAs(first);
+            assertThat(otherRange).isNotSameAs(first);
+            assertThat(queued).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("워커 대기열이 가득 차면 RESOURCE_BUSY 예외가 발생한다")
+        void rejected_throwsResourceBusy() throws Exception {
+            ExportJobService service = newService(task -> {
+                throw new RejectedExecutionException("full");
+            }, Duration.ofHours(1));
+
+            assertThatThrownBy(() -> service.submit(MEMBER_ID, ExportJobFormat.JSON, START, END))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(ex -> {
+                        CustomException ce = (CustomException) ex;
+                        assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.RESOURCE_BUSY);
+                    });
+        }
+
+        @Test
+        @DisplayName("회원의 진행 중인 작업이 한도에 이르면 EXPORT_JOB_LIMIT_EXCEEDED 예외가 발생한다")
+        void activeLimitPerMember() throws Exception {
+            ExportJobService service = newService(queued::add, Duration.ofHours(1));
+            service.submit(MEMBER_ID, ExportJobFormat.JSON, START, END);
+            service.submit(MEMBER_ID, ExportJobFormat.CSV, START, END);
+
+            assertThatThrownBy(() -> service.submit(MEMBER_ID, ExportJobFormat.ZIP, START, END))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(ex -> {
+                        CustomException ce = (CustomException) ex;
+                        assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.EXPORT_JOB_LIMIT_EXCEEDED);
+                    });
+            // 다른 회원은 영향 없음, 작업이 끝나면 다시 등록 가능
+            assertThat(service.submit(2L, ExportJobFormat.ZIP, START, END)).isNotNull();
+            runQueued();
+            assertThat(service.submit(MEMBER_ID, ExportJobFormat.ZIP, START, END)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("다른 회원의 작업은 조회할 수 없다")
+        void otherMember_notFound() throws Exception {
+            ExportJobService service = newService(queued::add, Duration.ofHours(1));
+            ExportJob job = service.submit(MEMBER_ID, ExportJobFormat.JSON, START, END);
+
+            assertThatThrownBy(() -> service.getJob(2L, job.getJobId()))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(ex -> {
+                        CustomException ce = (CustomException) ex;
+                        assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.EXPORT_JOB_NOT_FOUND);
+                    });
+        }
+    }
+
+    @Nested
+    @DisplayName("만료 정리")
+    class Cleanup {
+
+        @Test
+        @DisplayName("보관 기간이 지난 작업과 파일을 삭제한다")
+        void removesExpiredJobAndArtifact() throws Exception {
+            // given
+            ExportJobService service = newService(Runnable::run, Duration.ZERO);
+            ExportJob job = service.submit(MEMBER_ID, ExportJobFormat.JSON, START, END);
+            assertThat(job.getArtifact()).exists();
+
+            // when
+            service.cleanupExpired();
+
+            // then
+            assertThat(job.getArtifact()).doesNotExist();
+            assertThatThrownBy(() -> service.getJob(MEMBER_ID, job.getJobId()))
+                    .isInstanceOf(CustomException.class);
+        }
+
+        @Test
+        @DisplayName("기동 시 이전 실행의 작업 파일만 삭제한다")
+        void init_removesOnlyLeftoverArtifacts() throws Exception {
+            // given
+            Path leftover = Files.createFile(directory.resolve("3f2b7c1e-8a4d-4c55-9b1e-2d6f0a9c7e11.zip"));
+            Path unrelated = Files.createFile(directory.resolve("keep.txt"));
+
+            // when
+            newService(queued::add, Duration.ofHours(1));
+
+            // then
+            assertThat(leftover).doesNotExist();
+            assertThat(unrelated).exists();
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.Hamalog.domain.medication.MedicationSchedule;
 import com.Hamalog.domain.medication.MedicationTime;
 import com.Hamalog.domain.member.Member;
 import com.Hamalog.dto.export.ExportDataResponse;
+import com.Hamalog.dto.medication.projection.MedicationRecordProjection;
 import com.Hamalog.exception.CustomException;
 import com.Hamalog.exception.ErrorCode;
 import com.Hamalog.repository.diary.MoodDiaryRepository;
@@ -20,12 +21,19 @@ import com.Hamalog.repository.medication.MedicationRecordRepository;
 import com.Hamalog.repository.medication.MedicationScheduleRepository;
 import com.Hamalog.repository.member.MemberRepository;
 import com.Hamalog.repository.sideEffect.SideEffectRecordRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -63,6 +71,9 @@ class ExportServiceTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private ExportService exportService;
 
@@ -194,17 +205,22 @@ class ExportServiceTest {
     @DisplayName("exportAsJson")
     class ExportAsJson {
 
+        @BeforeEach
+        void setUpObjectMapper() {
+            ReflectionTestUtils.setField(exportService, "objectMapper", jsonMapper());
+        }
+
         @Test
         @DisplayName("성공: JSON 형식으로 내보내기")
         void success() {
             // given
             when(memberRepository.findById(TEST_MEMBER_ID)).thenReturn(Optional.of(testMember));
             when(scheduleRepository.findAllByMember_MemberId(TEST_MEMBER_ID)).thenReturn(List.of());
-            when(moodDiaryRepository.findByMemberIdAndDateRange(eq(TEST_MEMBER_ID), any(), any()))
-                    .thenReturn(List.of());
-            when(sideEffectRecordRepository.findByMember_MemberIdOrderByCreatedAtDesc(
-                    eq(TEST_MEMBER_ID), any(PageRequest.class)))
-                    .thenReturn(new PageImpl<>(List.of()));
+            when(recordRepository.streamAllByMemberId(TEST_MEMBER_ID)).thenReturn(Stream.empty());
+            when(moodDiaryRepository.streamByMemberIdAndDateRange(eq(TEST_MEMBER_ID), any(), any()))
+                    .thenReturn(Stream.empty());
+            when(sideEffectRecordRepository.streamByMemberIdOrderByCreatedAtDesc(TEST_MEMBER_ID))
+                    .thenReturn(Stream.empty());
 
             // when
             String result = exportService.exportAsJson(TEST_MEMBER_ID);
@@ -216,6 +232,61 @@ class ExportServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("writeAllDataAsJson")
+    class WriteAllDataAsJson {
+
+        @BeforeEach
+        void setUpObjectMapper() {
+            ReflectionTestUtils.setField(exportService, "objectMapper", jsonMapper());
+        }
+
+        @Test
+        @DisplayName("성공: 스트림으로 읽은 기록을 exportAllData와 같은 구조로 출력")
+        void success() throws Exception {
+            // given
+            when(memberRepository.findById(TEST_MEMBER_ID)).thenReturn(Optional.of(testMember));
+            when(scheduleRepository.findAllByMember_MemberId(TEST_MEMBER_ID)).thenReturn(List.of(testSchedule));
+            when(recordRepository.streamAllByMemberId(TEST_MEMBER_ID)).thenReturn(Stream.of(testRecord));
+            when(moodDiaryRepository.streamByMemberIdAndDateRange(eq(TEST_MEMBER_ID), any(), any()))
+                    .thenReturn(Stream.of(testDiary));
+            when(sideEffectRecordRepository.streamByMemberIdOrderByCreatedAtDesc(TEST_MEMBER_ID))
+                    .thenReturn(Stream.empty());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            exportService.writeAllDataAsJson(TEST_MEMBER_ID, out);
+
+            // then
+            JsonNode root = jsonMapper().readTree(out.toByteArray());
+            assertThat(root.fieldNames()).toIterable().containsExactly(
+                    "meta", "member", "medicationSchedules", "medicationRecords", "moodDiaries", "sideEffectRecords");
+            assertThat(root.path("member").path("memberId").asLong()).isEqualTo(TEST_MEMBER_ID);
+            assertThat(root.path("medicationSchedules")).hasSize(1);
+            assertThat(root.path("medicationRecords").get(0).path("medicationName").asText()).isEqualTo("테스트 약");
+            assertThat(root.path("moodDiaries").get(0).path("content").asText()).isEqualTo("오늘은 좋은 하루였다.");
+            assertThat(root.path("sideEffectRecords")).isEmpty();
+            verify(entityManager, atLeastOnce()).clear();
+        }
+
+        @Test
+        @DisplayName("실패: 회원이 없으면 아무것도 쓰지 않고 예외 발생")
+        void memberNotFound() {
+            // given
+            when(memberRepository.findById(TEST_MEMBER_ID)).thenReturn(Optional.empty());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when & then
+            assertThatThrownBy(() -> exportService.writeAllDataAsJson(TEST_MEMBER_ID, out))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(ex -> {
+                        CustomException ce = (CustomException) ex;
+                        assertThat(ce.getErrorCode()).isEqualTo(ErrorCode.MEMBER_NOT_FOUND);
+                    });
+            assertThat(out.size()).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("exportMedicationRecordsAsCsv")
     class ExportMedicationRecordsAsCsv {
@@ -226,28 +297,29 @@ class ExportServiceTest {
             // given
             LocalDate startDate = LocalDate.now().minusDays(7);
             LocalDate endDate = LocalDate.now();
+            LocalDateTime takeTime = endDate.atTime(9, 5);
 
-            when(scheduleRepository.findAllByMember_MemberId(TEST_MEMBER_ID)).thenReturn(List.of(testSchedule));
-            when(recordRepository.findAllByScheduleIds(any())).thenReturn(List.of(testRecord));
+            when(recordRepository.streamProjectionsByMemberIdAndDateRange(
+                    TEST_MEMBER_ID, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay()))
+                    .thenReturn(Stream.of(projection("테스트 약", true, takeTime)));
 
             // when
             String result = exportService.exportMedicationRecordsAsCsv(TEST_MEMBER_ID, startDate, endDate);
 
             // then
-            assertThat(result).isNotNull();
-            assertThat(result).contains("날짜,약 이름,복용 여부,복용 시간");
-            assertThat(result).contains("테스트 약");
-            assertThat(result).contains("복용");
+            assertThat(result).isEqualTo("날짜,약 이름,복용 여부,복용 시간\n"
+                    + endDate + ",테스트 약,복용,09:05\n");
         }
 
         @Test
-        @DisplayName("성공: 복약 스케줄이 없는 경우")
-        void success_noSchedules() {
+        @DisplayName("성공: 기간 내 복약 기록이 없는 경우")
+        void success_noRecords() {
             // given
             LocalDate startDate = LocalDate.now().minusDays(7);
             LocalDate endDate = LocalDate.now();
 
-            when(scheduleRepository.findAllByMember_MemberId(TEST_MEMBER_ID)).thenReturn(List.of());
+            when(recordRepository.streamProjectionsByMemberIdAndDateRange(any(), any(), any()))
+                    .thenReturn(Stream.empty());
 
             // when
             String result = exportService.exportMedicationRecordsAsCsv(TEST_MEMBER_ID, startDate, endDate);
@@ -257,46 +329,52 @@ class ExportServiceTest {
         }
 
         @Test
-        @DisplayName("성공: 쉼표가 포함된 약 이름 이스케이프 처리")
+        @DisplayName("성공: 쉼표와 따옴표가 포함된 약 이름 이스케이프 처리")
         void success_escapeComma() {
             // given
             LocalDate startDate = LocalDate.now().minusDays(7);
             LocalDate endDate = LocalDate.now();
 
-            // 쉼표가 포함된 약 이름
-            MedicationSchedule scheduleWithComma = new MedicationSchedule(
-                    testMember,
-                    "테스트, 복합약",
-                    "테스트 병원",
-                    LocalDate.now(),
-                    "메모",
-                    LocalDate.now(),
-                    30,
-                    3,
-                    AlarmType.SOUND
-            );
-            ReflectionTestUtils.setField(scheduleWithComma, "medicationScheduleId", 2L);
-
-            MedicationTime medicationTimeWithComma = new MedicationTime(scheduleWithComma, LocalTime.of(9, 0));
-            ReflectionTestUtils.setField(medicationTimeWithComma, "medicationTimeId", 2L);
-
-            MedicationRecord recordWithComma = new MedicationRecord(
-                    scheduleWithComma,
-                    medicationTimeWithComma,
-                    true,
-                    LocalDateTime.now()
-            );
-            ReflectionTestUtils.setField(recordWithComma, "medicationRecordId", 2L);
-
-            when(scheduleRepository.findAllByMember_MemberId(TEST_MEMBER_ID))
-                    .thenReturn(List.of(scheduleWithComma));
-            when(recordRepository.findAllByScheduleIds(any())).thenReturn(List.of(recordWithComma));
+            when(recordRepository.streamProjectionsByMemberIdAndDateRange(any(), any(), any()))
+                    .thenReturn(Stream.of(
+                            projection("테스트, 복합약", false, endDate.atTime(8, 0)),
+                            projection("\"특수\" 약", true, endDate.atTime(20, 0))));
 
             // when
             String result = exportService.exportMedicationRecordsAsCsv(TEST_MEMBER_ID, startDate, endDate);
 
             // then
-            assertThat(result).contains("\"테스트, 복합약\"");
+            assertThat(result).contains(",\"테스트, 복합약\",미복용,");
+            assertThat(result).contains(",\"\"\"특수\"\" 약\",복용,");
         }
+
+        @Test
+        @DisplayName("성공: 스트리밍 출력 시 요청하면 UTF-8 BOM을 앞에 붙인다")
+        void writeWithBom() throws Exception {
+            // given
+            when(recordRepository.streamProjectionsByMemberIdAndDateRange(any(), any(), any()))
+                    .thenReturn(Stream.empty());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            exportService.writeMedicationRecordsAsCsv(
+                    TEST_MEMBER_ID, LocalDate.now().minusDays(7), LocalDate.now(), true, out);
+
+            // then
+            byte[] bytes = out.toByteArray();
+            assertThat(bytes).startsWith((byte) 0xEF, (byte) 0xBB, (byte) 0xBF);
+            assertThat(new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8))
+                    .isEqualTo("날짜,약 이름,복용 여부,복용 시간\n");
+        }
+
+        private MedicationRecordProjection projection(String name, boolean taken, LocalDateTime takeTime) {
+            return new MedicationRecordProjection(1L, 1L, name, 1L, taken, takeTime);
+        }
+    }
+
+    private static ObjectMapper jsonMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     }
 }
@@ -0,0 +1,227 @@
+package com.Hamalog.service.medication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.Hamalog.config.DoseReminderProperties;
+import com.Hamalog.domain.medication.AlarmType;
+import com.Hamalog.domain.medication.DoseOccurrence;
+import com.Hamalog.domain.medication.MedicationSchedule;
+import com.Hamalog.domain.medication.MedicationTime;
+import com.Hamalog.domain.member.Member;
+import com.Hamalog.dto.notification.projection.MedicationReminderPreference;
+import com.Hamalog.repository.medication.DoseOccurrenceRepository;
+import com.Hamalog.repository.medication.MedicationScheduleRepository;
+import com.Hamalog.repository.notification.NotificationSettingsRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DoseOccurrenceEngine 테스트")
+class DoseOccurrenceEngineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 7, 0);
+    private static final Long MEMBER_ID = 1L;
+
+    @Mock
+    private MedicationScheduleRepository medicationScheduleRepository;
+    @Mock
+    private DoseOccurrenceRepository doseOccurrenceRepository;
+    @Mock
+    private NotificationSettingsRepository notificationSettingsRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DoseOccurrenceEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new DoseOccurrenceEngine(medicationScheduleRepository, doseOccurrenceRepository,
+                notificationSettingsRepository,
+                new DoseReminderProperties(Duration.ofHours(48), 2, 0, 0, null), transactionManager);
+    }
+
+    private static MedicationSchedule schedule(long scheduleId, LocalDate startOfAd, int prescriptionDays,
+                                               LocalTime... takeTimes) {
+        Member member = Member.builder()
+                .loginId("member@test.com")
+                .password("password123")
+                .name("테스트 사용자")
+                .nickName("테스트")
+                .phoneNumber("01012345678")
+                .birth(LocalDate.of(1990, 1, 1))
+                .build();
+        ReflectionTestUtils.setField(member, "memberId", MEMBER_ID);
+        MedicationSchedule schedule = new MedicationSchedule(member, "혈압약", "서울병원", startOfAd, null,
+                startOfAd, prescriptionDays, takeTimes.length, AlarmType.SOUND);
+        ReflectionTestUtils.setField(schedule, "medicationScheduleId", scheduleId);
+        long timeId = scheduleId * 10;
+        for (LocalTime takeTime : takeTimes) {
+            MedicationTime time = schedule.addMedicationTime(takeTime);
+            ReflectionTestUtils.setField(time, "medicationTimeId", timeId++);
+        }
+        return schedule;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DoseOccurrence> savedOccurrences() {
+        ArgumentCaptor<Iterable<DoseOccurrence>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(doseOccurrenceRepository).saveAll(captor.capture());
+        List<DoseOccurrence> saved = new ArrayList<>();
+        captor.getValue().forEach(saved::add);
+        return saved;
+    }
+
+    @Test
+    @DisplayName("복약 기간 안의 회차만 창 끝까지 펼치고 기본 선행 시간으로 발송 버킷을 정한다")
+    void expand_withinPrescriptionPeriod() {
+        MedicationSchedule schedule = schedule(1L, NOW.toLocalDate(), 2, LocalTime.of(8, 0), LocalTime.of(20, 0));
+
+        List<DoseOccurrence> occurrences = DoseOccurrenceEngine.expand(schedule, 10, NOW, NOW.plusHours(48));
+
+        assertThat(occurrences).extracting(DoseOccurrence::getDoseAt).containsExactlyInAnyOrder(
+                LocalDateTime.of(2025, 3, 1, 8, 0), LocalDateTime.of(2025, 3, 1, 20, 0),
+                LocalDateTime.of(2025, 3, 2, 8, 0), LocalDateTime.of(2025, 3, 2, 20, 0));
+        assertThat(occurrences).extracting(DoseOccurrence::getNotifyAt)
+                .contains(LocalDateTime.of(2025, 3, 1, 7, 50));
+    }
+
+    @Test
+    @DisplayName("복용 예정 시각이 이미 지난 회차는 펼치지 않는다")
+    void expand_skipsPastDose() {
+        MedicationSchedule schedule = schedule(1L, NOW.toLocalDate(), 1, LocalTime.of(6, 30));
+
+        assertThat(DoseOccurrenceEngine.expand(schedule, 10, NOW, NOW.plusHours(48))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스케줄 갱신 시 빠진 회차는 추가하고 사라진 회차는 삭제하며 선행 시간 변경은 버킷만 옮긴다")
+    void refreshSchedule_reconcilesPendingOccurrences() {
+        LocalDate today = LocalDate.now();
+        MedicationSchedule schedule = schedule(1L, today.plusDays(1), 1, LocalTime.of(8, 0), LocalTime.of(20, 0));
+        when(medicationScheduleRepository.findAllWithTimesByIdIn(List.of(1L))).thenReturn(List.of(schedule));
+        when(notificationSettingsRepository.findMedicationReminderPreferences(List.of(MEMBER_ID)))
+                .thenReturn(List.of(new MedicationReminderPreference(MEMBER_ID, true, true, 30)));
+        DoseOccurrence retimed = new DoseOccurrence(MEMBER_ID, 1L, 10L, today.plusDays(1).atTime(8, 0), 10);
+        DoseOccurrence stale = new DoseOccurrence(MEMBER_ID, 1L, 99L, today.plusDays(1).atTime(12, 0), 10);
+        when(doseOccurrenceRepository.findUpcomingBySchedules(eq(List.of(1L)), any()))
+                .thenReturn(List.of(retimed, stale));
+
+        engine.refreshSchedule(1L);
+
+        assertThat(retimed.getNotifyAt()).isEqualTo(today.plusDays(1).atTime(7, 30));
+        verify(doseOccurrenceRepository).deleteAllInBatch(List.of(stale));
+        assertThat(savedOccurrences()).singleElement()
+                .satisfies(occurrence -> {
+                    assertThat(occurrence.getMedicationTimeId()).isEqualTo(11L);
+                    assertThat(occurrence.getNotifyAt()).isEqualTo(today.plusDays(1).atTime(19, 30));
+                });
+    }
+
+    @Test
+    @DisplayName("복약 알림을 끈 회원의 대기 회차는 삭제하고 새로 펼치지 않는다")
+    void refreshSchedule_disabledMember() {
+        MedicationSchedule schedule = schedule(1L, LocalDate.now().plusDays(1), 1, LocalTime.of(8, 0));
+        when(medicationScheduleRepository.findAllWithTimesByIdIn(List.of(1L))).thenReturn(List.of(schedule));
+        when(notificationSettingsRepository.findMedicationReminderPreferences(List.of(MEMBER_ID)))
+                .thenReturn(List.of(new MedicationReminderPreference(MEMBER_ID, true, false, 10)));
+        DoseOccurrence pending = new DoseOccurrence(MEMBER_ID, 1L, 10L,
+                LocalDate.now().plusDays(1).atTime(8, 0), 10);
+        when(doseOccurrenceRepository.findUpcomingBySchedules(eq(List.of(1L)), any())).thenReturn(List.of(pending));
+
+        engine.refreshSchedule(1L);
+
+        verify(doseOccurrenceRepository).deleteAllInBatch(List.of(pending));
+        verify(doseOccurrenceRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("창 확장은 활성 스케줄을 id 순 페이지로 끝까지 맞춘다")
+    void extend_pagesThroughActiveSchedules() {
+        when(medicationScheduleRepository.findActiveIdsInWindow(anyLong(), any(), any(), anyInt()))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(medicationScheduleRepository.findAllWithTimesByIdIn(any())).thenReturn(List.of());
+
+        engine.extend(() -> NOW);
+
+        verify(medicationScheduleRepository).findActiveIdsInWindow(0L, NOW.toLocalDate(),
+                NOW.plusHours(48).toLocalDate(), 2);
+        verify(medicationScheduleRepository).findActiveIdsInWindow(2L, NOW.toLocalDate(),
+                NOW.plusHours(48).toLocalDate(), 2);
+        verify(medicationScheduleRepository, times(2)).findAllWithTimesByIdIn(any());
+        verify(doseOccurrenceRepository).deleteDispatchedBefore(NOW.minusHours(48));
+    }
+
+    @Test
+    @DisplayName("창 확장 도중 디스패처가 발송한 회차는 다음 페이지에서 다시 채우지 않는다")
+    void extend_doesNotRefillDoseDispatchedDuringSweep() {
+        LocalDateTime afterDispatch = NOW.plusMinutes(55);
+        AtomicInteger clockReads = new AtomicInteger();
+        MedicationSchedule schedule = schedule(3L, NOW.toLocalDate(), 1, LocalTime.of(8, 0));
+        DoseOccurrence sent = new DoseOccurrence(MEMBER_ID, 3L, 30L, NOW.toLocalDate().atTime(8, 0), 10);
+        ReflectionTestUtils.setField(sent, "dispatchedAt", NOW.plusMinutes(50));
+        when(medicationScheduleRepository.findActiveIdsInWindow(anyLong(), any(), any(), anyInt()))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(medicationScheduleRepository.findAllWithTimesByIdIn(List.of(1L, 2L))).thenReturn(List.of());
+        when(medicationScheduleRepository.findAllWithTimesByIdIn(List.of(3L))).thenReturn(List.of(schedule));
+        when(notificationSettingsRepository.findMedicationReminderPreferences(List.of(MEMBER_ID)))
+                .thenReturn(List.of(new MedicationReminderPreference(MEMBER_ID, true, true, 10)));
+        when(doseOccurrenceRepository.findUpcomingBySchedules(any(), any()))
+                .thenAnswer(invocation -> List.of(3L).equals(invocation.getArgument(0)) ? List.of(sent) : List.of());
+
+        // 첫 페이지는 07:00, 두 번째 페이지는 08:00 회차(07:50 버킷)를 발송한 뒤인 07:55에 맞춤
+        engine.extend(() -> clockReads.getAndIncrement() == 0 ? NOW : afterDispatch);
+
+        verify(doseOccurrenceRepository).findUpcomingBySchedules(List.of(3L), afterDispatch);
+        verify(doseOccurrenceRepository, never()).saveAll(any());
+        verify(doseOccurrenceRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    @DisplayName("선행 시간을 늘려 새 발송 버킷이 이미 지났으면 회차를 삭제하지 않고 지금 버킷으로 당긴다")
+    void extend_pullsForwardWhenNewBucketPassed() {
+        MedicationSchedule schedule = schedule(1L, NOW.toLocalDate(), 1, LocalTime.of(7, 20));
+        DoseOccurrence pending = new DoseOccurrence(MEMBER_ID, 1L, 10L, NOW.toLocalDate().atTime(7, 20), 0);
+        when(medicationScheduleRepository.findActiveIdsInWindow(anyLong(), any(), any(), anyInt()))
+                .thenReturn(List.of(1L));
+        when(medicationScheduleRepository.findAllWithTimesByIdIn(List.of(1L))).thenReturn(List.of(schedule));
+        when(notificationSettingsRepository.findMedicationReminderPreferences(List.of(MEMBER_ID)))
+                .thenReturn(List.of(new MedicationReminderPreference(MEMBER_ID, true, true, 30)));
+        when(doseOccurrenceRepository.findUpcomingBySchedules(List.of(1L), NOW)).thenReturn(List.of(pending));
+
+        engine.extend(() -> NOW);
+
+        assertThat(pending.getNotifyAt()).isEqualTo(NOW);
+        verify(doseOccurrenceRepository, never()).deleteAllInBatch(any());
+        verify(doseOccurrenceRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("스케줄 삭제 시 회차를 모두 삭제한다")
+    void removeSchedule() {
+        engine.removeSchedule(1L);
+
+        verify(doseOccurrenceRepository).deleteAllByScheduleId(1L);
+    }
+}
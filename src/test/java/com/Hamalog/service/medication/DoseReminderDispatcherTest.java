@@ -0,0 +1,127 @@
+package com.Hamalog.service.medication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.Hamalog.config.DoseReminderProperties;
+import com.Hamalog.domain.medication.DoseOccurrence;
+import com.Hamalog.dto.notification.projection.MedicationReminderPreference;
+import com.Hamalog.repository.medication.DoseOccurrenceRepository;
+import com.Hamalog.repository.notification.NotificationSettingsRepository;
+import com.Hamalog.service.queue.QueuedNotificationService;
+import com.Hamalog.service.queue.message.MedicationReminder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DoseReminderDispatcher 테스트")
+class DoseReminderDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 7, 50, 5);
+    private static final LocalDateTime DOSE_AT = LocalDateTime.of(2025, 3, 1, 8, 0);
+
+    @Mock
+    private DoseOccurrenceRepository doseOccurrenceRepository;
+    @Mock
+    private NotificationSettingsRepository notificationSettingsRepository;
+    @Mock
+    private QueuedNotificationService queuedNotificationService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DoseReminderDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new DoseReminderDispatcher(doseOccurrenceRepository, notificationSettingsRepository,
+                queuedNotificationService, new DoseReminderProperties(null, 0, 3, 5, Duration.ofMinutes(30)),
+                transactionManager, new SimpleMeterRegistry());
+    }
+
+    private static DoseOccurrence occurrence(long memberId, long scheduleId, LocalDateTime doseAt) {
+        DoseOccurrence occurrence = new DoseOccurrence(memberId, scheduleId, scheduleId * 10, doseAt, 10);
+        ReflectionTestUtils.setField(occurrence, "doseOccurrenceId", scheduleId * 100);
+        return occurrence;
+    }
+
+    @Test
+    @DisplayName("발송 버킷마다 한 번씩 일괄 발송하고 잠근 회차는 발송 처리로 표시한다")
+    void dispatchDue_sendsOneBatchPerBucket() {
+        DoseOccurrence first = occurrence(1L, 1L, DOSE_AT.minusMinutes(1));
+        DoseOccurrence second = occurrence(1L, 2L, DOSE_AT);
+        DoseOccurrence third = occurrence(2L, 3L, DOSE_AT);
+        when(doseOccurrenceRepository.lockDueBatch(NOW, 3)).thenReturn(List.of(first, second, third), List.of());
+        when(notificationSettingsRepository.findMedicationReminderPreferences(List.of(1L, 2L)))
+                .thenReturn(List.of());
+
+        int dispatched = dispatcher.dispatchDue(NOW);
+
+        assertThat(dispatched).isEqualTo(3);
+        verify(queuedNotificationService).sendMedicationReminders(List.of(
+                new MedicationReminder(1L, DOSE_AT.minusMinutes(1), List.of(1L))));
+        verify(queuedNotificationService).sendMedicationReminders(List.of(
+                new MedicationReminder(1L, DOSE_AT, List.of(2L)),
+                new MedicationReminder(2L, DOSE_AT, List.of(3L))));
+        verify(doseOccurrenceRepository).markDispatched(List.of(100L, 200L, 300L), NOW);
+    }
+
+    @Test
+    @DisplayName("같은 회원의 같은 시각 회차는 알림 하나로 묶는다")
+    void dispatchDue_coalescesSameDose() {
+        DoseOccurrence morning = occurrence(1L, 1L, DOSE_AT);
+        DoseOccurrence vitamin = occurrence(1L, 2L, DOSE_AT);
+        when(doseOccurrenceRepository.lockDueBatch(NOW, 3)).thenReturn(List.of(morning, vitamin));
+        when(notificationSettingsRepository.findMedicationReminderPreferences(List.of(1L)))
+                .thenReturn(List.of());
+
+        assertThat(dispatcher.dispatchDue(NOW)).isEqualTo(1);
+        verify(queuedNotificationService).sendMedicationReminders(List.of(
+                new MedicationReminder(1L, DOSE_AT, List.of(1L, 2L))));
+    }
+
+    @Test
+    @DisplayName("알림을 끈 회원과 너무 늦은 회차는 발송하지 않고 처리 완료로 표시한다")
+    void dispatchDue_dropsDisabledAndLate() {
+        DoseOccurrence enabled = occurrence(1L, 1L, DOSE_AT);
+        DoseOccurrence disabled = occurrence(2L, 2L, DOSE_AT);
+        DoseOccurrence late = occurrence(1L, 3L, NOW.minusHours(2));
+        when(doseOccurrenceRepository.lockDueBatch(NOW, 3)).thenReturn(List.of(late, enabled, disabled), List.of());
+        when(notificationSettingsRepository.findMedicationReminderPreferences(List.of(1L, 2L)))
+                .thenReturn(List.of(new MedicationReminderPreference(2L, false, true, 10)));
+
+        int dispatched = dispatcher.dispatchDue(NOW);
+
+        assertThat(dispatched).isEqualTo(1);
+        verify(queuedNotificationService).sendMedicationReminders(List.of(
+                new MedicationReminder(1L, DOSE_AT, List.of(1L))));
+        verify(doseOccurrenceRepository).markDispatched(List.of(300L, 100L, 200L), NOW);
+    }
+
+    @Test
+    @DisplayName("복구 직후 지난 회차로만 가득 찬 배치도 모두 발송 처리하고 다음 배치를 이어서 잠근다")
+    void dispatchDue_continuesAfterFullyDroppedBatch() {
+        List<DoseOccurrence> stale = List.of(occurrence(1L, 1L, NOW.minusHours(3)),
+                occurrence(2L, 2L, NOW.minusHours(2)), occurrence(3L, 3L, NOW.minusHours(1)));
+        DoseOccurrence current = occurrence(1L, 4L, DOSE_AT);
+        when(doseOccurrenceRepository.lockDueBatch(NOW, 3)).thenReturn(stale, List.of(current));
+        when(notificationSettingsRepository.findMedicationReminderPreferences(any())).thenReturn(List.of());
+
+        assertThat(dispatcher.dispatchDue(NOW)).isEqualTo(1);
+        verify(doseOccurrenceRepository).markDispatched(List.of(100L, 200L, 300L), NOW);
+        verify(queuedNotificationService, times(1)).sendMedicationReminders(List.of(
+                new MedicationReminder(1L, DOSE_AT, List.of(4L))));
+    }
+}
@@ -3,6 +3,8 @@ package com.Hamalog.service.medication;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -11,11 +13,15 @@ import com.Hamalog.domain.medication.MedicationRecord;
 import com.Hamalog.domain.medication.MedicationSchedule;
 import com.Hamalog.domain.medication.MedicationTime;
 import com.Hamalog.domain.member.Member;
+import com.Hamalog.dto.medication.request.MedicationRecordBatchUpdateItem;
 import com.Hamalog.dto.medication.request.MedicationRecordCreateRequest;
 import com.Hamalog.dto.medication.request.MedicationRecordUpdateRequest;
+import com.Hamalog.exception.ErrorCode;
 import com.Hamalog.exception.medication.MedicationRecordNotFoundException;
 import com.Hamalog.exception.medication.MedicationScheduleNotFoundException;
 import com.Hamalog.exception.medication.MedicationTimeNotFoundException;
+import com.Hamalog.exception.validation.InvalidInputException;
+import com.Hamalog.repository.medication.MedicationRecordJdbcRepository;
 import com.Hamalog.repository.medication.MedicationRecordRepository;
 import com.Hamalog.repository.medication.MedicationScheduleRepository;
 import com.Hamalog.repository.medication.MedicationTimeRepository;
@@ -44,6 +50,9 @@ class MedicationRecordServiceTest {
     
     @Mock
     private MedicationTimeRepository medicationTimeRepository;
+
+    @Mock
+    private MedicationRecordJdbcRepository medicationRecordJdbcRepository;
     
     @Mock
     private MemberRepository memberRepository;
@@ -354,4 +363,102 @@ class MedicationRecordServiceTest {
         assertThat(result).isFalse();
         verify(medicationRecordRepository).findById(recordId);
     }
+
+    @Test
+    @DisplayName("Should create medication records in batch with bulk lookups and a single JDBC batch insert")
+    void createMedicationRecordsBatch_WithValidRequests_ShouldUseBulkLookupsAndBatchInsert() {
+        // given
+        List<MedicationRecordCreateRequest> requests = List.of(
+                new MedicationRecordCreateRequest(1L, 1L, true, LocalDateTime.now()),
+                new MedicationRecordCreateRequest(1L, 1L, false, null)
+        );
+        MedicationRecord first = mock(MedicationRecord.class);
+        MedicationRecord second = mock(MedicationRecord.class);
+        when(first.getMedicationRecordId()).thenReturn(10L);
+        when(second.getMedicationRecordId()).thenReturn(11L);
+
+        when(mockSchedule.getMedicationScheduleId()).thenReturn(1L);
+        when(mockTime.getMedicationTimeId()).thenReturn(1L);
+        when(mockTime.getMedicationSchedule()).thenReturn(mockSchedule);
+        when(medicationScheduleRepository.findAllByIdInWithMember(anyCollection())).thenReturn(List.of(mockSchedule));
+        when(medicationTimeRepository.findAllByIdIn(anyCollection())).thenReturn(List.of(mockTime));
+        when(medicationRecordJdbcRepository.batchInsert(anyList())).thenReturn(List.of(10L, 11L));
+        when(medicationRecordRepository.findAllByIdInWithScheduleAndTime(anyCollection()))
+                .thenReturn(List.of(second, first));
+
+        // when
+        List<MedicationRecord> result = medicationRecordService.createMedicationRecordsBatch(requests);
+
+        // then
+        assertThat(result).containsExactly(first, second);
+        verify(medicationScheduleRepository, times(1)).findAllByIdInWithMember(anyCollection());
+        verify(medicationTimeRepository, times(1)).findAllByIdIn(anyCollection());
+        verify(medicationRecordJdbcRepository, times(1)).batchInsert(anyList());
+        verify(medicationScheduleRepository, never()).findById(anyLong());
+        verify(medicationTimeRepository, never()).findById(anyLong());
+        verify(medicationRecordRepository, never()).save(any(MedicationRecord.class));
+    }
+
+    @Test
+    @DisplayName("Should throw exception in batch create when referenced schedule does not exist")
+    void createMedicationRecordsBatch_WithUnknownSchedule_ShouldThrowException() {
+        // given
+        when(medicationScheduleRepository.findAllByIdInWithMember(anyCollection())).thenReturn(List.of());
+        when(medicationTimeRepository.findAllByIdIn(anyCollection())).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> medicationRecordService.createMedicationRecordsBatch(List.of(createRequest)))
+                .isInstanceOf(MedicationScheduleNotFoundException.class);
+        verify(medicationRecordJdbcRepository, never()).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject batch create when isTakeMedication is missing instead of storing it as not taken")
+    void createMedicationRecordsBatch_WithNullIsTakeMedication_ShouldThrowException() {
+        // given
+        List<MedicationRecordCreateRequest> requests = List.of(
+                createRequest,
+                new MedicationRecordCreateRequest(1L, 1L, null, null)
+        );
+
+        // when & then
+        assertThatThrownBy(() -> medicationRecordService.createMedicationRecordsBatch(requests))
+                .isInstanceOf(InvalidInputException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.MISSING_REQUIRED_FIELD);
+        verify(medicationScheduleRepository, never()).findAllByIdInWithMember(anyCollection());
+        verify(medicationRecordJdbcRepository, never()).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("Should update medication records in batch with a single lookup and no per-item save")
+    void updateMedicationRecordsBatch_WithValidItems_ShouldUseSingleLookup() {
+        // given
+        LocalDateTime takeTime = LocalDateTime.now();
+        when(mockRecord.getMedicationRecordId()).thenReturn(1L);
+        when(medicationRecordRepository.findAllByIdInWithScheduleAndTime(anyCollection()))
+                .thenReturn(List.of(mockRecord));
+
+        // when
+        List<MedicationRecord> result = medicationRecordService.updateMedicationRecordsBatch(
+                List.of(new MedicationRecordBatchUpdateItem(1L, true, takeTime)));
+
+        // then
+        assertThat(result).containsExactly(mockRecord);
+        verify(mockRecord).update(true, takeTime);
+        verify(medicationRecordRepository, never()).findById(anyLong());
+        verify(medicationRecordRepository, never()).save(any(MedicationRecord.class));
+    }
+
+    @Test
+    @DisplayName("Should throw exception in batch update when a record does not exist")
+    void updateMedicationRecordsBatch_WithUnknownRecord_ShouldThrowException() {
+        // given
+        when(medicationRecordRepository.findAllByIdInWithScheduleAndTime(anyCollection())).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> medicationRecordService.updateMedicationRecordsBatch(
+                List.of(new MedicationRecordBatchUpdateItem(999L, true, null))))
+                .isInstanceOf(MedicationRecordNotFoundException.class);
+    }
 }
@@ -3,6 +3,8 @@ package com.Hamalog.service.medication;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import com.Hamalog.config.EventStoreProperties;
+import com.Hamalog.config.EventStoreProperties.PayloadFormat;
 import com.Hamalog.domain.events.medication.MedicationScheduleCreated;
 import com.Hamalog.domain.events.medication.MedicationScheduleDeleted;
 import com.Hamalog.domain.events.medication.MedicationScheduleUpdated;
@@ -10,6 +12,8 @@ import com.Hamalog.domain.medication.AlarmType;
 import com.Hamalog.logging.StructuredLogger;
 import com.Hamalog.logging.events.AuditEvent;
 import com.Hamalog.logging.events.BusinessEvent;
+import com.Hamalog.service.events.DomainEventPayloadCodec;
+import com.Hamalog.service.events.DomainEventRecord;
 import java.time.LocalDate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,17 +35,30 @@ class MedicationScheduleEventHandlerTest {
     @Mock
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Mock
+    private DoseOccurrenceEngine doseOccurrenceEngine;
+
     @Captor
     private ArgumentCaptor<AuditEvent> auditEventCaptor;
 
     @Captor
     private ArgumentCaptor<BusinessEvent> businessEventCaptor;
 
+    private final DomainEventPayloadCodec payloadCodec = new DomainEventPayloadCodec(PayloadFormat.SMILE);
+
     private MedicationScheduleEventHandler eventHandler;
 
     @BeforeEach
     void setUp() {
-        eventHandler = new MedicationScheduleEventHandler(structuredLogger, redisTemplate);
+        eventHandler = handler(false);
+    }
+
+    private MedicationScheduleEventHandler handler(boolean streamEnabled) {
+        EventStoreProperties properties = new EventStoreProperties(EventStoreProperties.Mode.OUTBOX, 0, 0,
+                new EventStoreProperties.Stream(streamEnabled, null, 0, 0, null, null, 0, null, null, null, 0),
+                null, null, null);
+        return new MedicationScheduleEventHandler(structuredLogger, redisTemplate, doseOccurrenceEngine,
+                properties, payloadCodec);
     }
 
     @Test
@@ -64,12 +81,12 @@ class MedicationScheduleEventHandlerTest {
                 AlarmType.SOUND);
 
         // When
-        eventHandler.handleMedicationScheduleCreated(event);
+        eventHandler.handleAsyncProcessing(event);
 
         // Then
         verify(structuredLogger).audit(auditEventCaptor.capture());
         verify(structuredLogger).business(businessEventCaptor.capture());
-        verify(redisTemplate).delete("medication_schedules:" + memberId);
+        verifyNoInteractions(redisTemplate);
 
         AuditEvent capturedAuditEvent = auditEventCaptor.getValue();
         assertThat(capturedAuditEvent.getUserId()).isEqualTo("testUser");
@@ -106,13 +123,11 @@ class MedicationScheduleEventHandlerTest {
                 AlarmType.SOUND);
 
         // When
-        eventHandler.handleMedicationScheduleUpdated(event);
+        eventHandler.handleAsyncProcessing(event);
 
         // Then
         verify(structuredLogger).audit(auditEventCaptor.capture());
         verify(structuredLogger).business(businessEventCaptor.capture());
-        verify(redisTemplate).delete("medication_schedules:" + memberId);
-        verify(redisTemplate).delete("medication_schedule:" + scheduleId);
 
         AuditEvent capturedAuditEvent = auditEventCaptor.getValue();
         assertThat(capturedAuditEvent.getUserId()).isEqualTo("testUser");
@@ -140,13 +155,11 @@ class MedicationScheduleEventHandlerTest {
                 "Deleted Medicine");
 
         // When
-        eventHandler.handleMedicationScheduleDeleted(event);
+        eventHandler.handleAsyncProcessing(event);
 
         // Then
         verify(structuredLogger).audit(auditEventCaptor.capture());
         verify(structuredLogger).business(businessEventCaptor.capture());
-        verify(redisTemplate).delete("medication_schedules:" + memberId);
-        verify(redisTemplate).delete("medication_schedule:" + scheduleId);
 
         AuditEvent capturedAuditEvent = auditEventCaptor.getValue();
         assertThat(capturedAuditEvent.getUserId()).isEqualTo("testUser");
@@ -184,10 +197,98 @@ class MedicationScheduleEventHandlerTest {
                 .audit(any(AuditEvent.class));
 
         // When
-        eventHandler.handleMedicationScheduleCreated(event);
+        eventHandler.handleAsyncProcessing(event);
 
         // Then
         verify(structuredLogger).audit(any(AuditEvent.class));
         // Exception should be caught and logged, test passes if no exception is thrown
     }
+
+    @Test
+    @DisplayName("커밋 후 스케줄 목록 캐시와 스케줄 캐시를 무효화한다")
+    void handleCacheInvalidation_evictsScheduleCaches() {
+        // Given
+        MedicationScheduleCreated created = new MedicationScheduleCreated(
+                7L, 1L, "testUser", "Morning Medicine", "Test Hospital",
+                LocalDate.now(), "memo", LocalDate.now(), 30, 3, AlarmType.SOUND);
+        MedicationScheduleDeleted deleted = new MedicationScheduleDeleted(8L, 2L, "testUser", "Deleted Medicine");
+
+        // When
+        eventHandler.handleCacheInvalidation(created);
+        eventHandler.handleCacheInvalidation(deleted);
+
+        // Then
+        verify(redisTemplate).delete("medication_schedules:1");
+        verify(redisTemplate).delete("medication_schedules:2");
+        verify(redisTemplate).delete("medication_schedule:8");
+        verifyNoInteractions(structuredLogger);
+    }
+
+    @Test
+    @DisplayName("스트림으로 전달된 스케줄 생성 이벤트는 감사/비즈니스 로그를 남긴다")
+    void handle_streamRecord() throws Exception {
+        // Given
+        MedicationScheduleCreated event = new MedicationScheduleCreated(
+                9L, 1L, "testUser", "Morning Medicine", "Test Hospital",
+                LocalDate.of(2025, 3, 1), "memo", LocalDate.of(2025, 3, 2), 14, 2, AlarmType.VIBE);
+        DomainEventRecord record = new DomainEventRecord(event.getEventId(), "MedicationScheduleCreated",
+                "MedicationSchedule", "9", event.getOccurredOn().toString(), payloadCodec.encode(event));
+
+        // When
+        MedicationScheduleEventHandler streamHandler = handler(true);
+        assertThat(streamHandler.supports("MedicationScheduleCreated")).isTrue();
+        streamHandler.handle(record);
+
+        // Then
+        verify(structuredLogger).audit(auditEventCaptor.capture());
+        verify(structuredLogger).business(businessEventCaptor.capture());
+        assertThat(auditEventCaptor.getValue().getEntityId()).isEqualTo("9");
+        assertThat(businessEventCaptor.getValue().getMetadata())
+                .containsEntry("prescriptionDays", "14")
+                .containsEntry("perDay", "2")
+                .containsEntry("alarmType", "VIBE");
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("스트림 전달이 켜져 있으면 커밋 후 비동기 처리는 소비자에게 맡긴다")
+    void handleAsyncProcessing_deferredToStream() {
+        // Given
+        MedicationScheduleDeleted event = new MedicationScheduleDeleted(10L, 1L, "testUser", "Deleted Medicine");
+
+        // When
+        handler(true).handleAsyncProcessing(event);
+
+        // Then
+        verifyNoInteractions(structuredLogger);
+    }
+
+    @Test
+    @DisplayName("MedicationScheduleUpdated 커밋 후 복약 알림 회차 재계산")
+    void refreshDoseOccurrencesOnUpdated() {
+        // Given
+        MedicationScheduleUpdated event = new MedicationScheduleUpdated(
+                5L, 1L, "testUser", "Updated Medicine", "Test Hospital",
+                LocalDate.now(), "memo", LocalDate.now(), 14, 2, AlarmType.SOUND);
+
+        // When
+        eventHandler.refreshDoseOccurrencesOnUpdated(event);
+
+        // Then
+        verify(doseOccurrenceEngine).refreshSchedule(5L);
+    }
+
+    @Test
+    @DisplayName("MedicationScheduleDeleted 커밋 후 회차 삭제 실패는 전파하지 않음")
+    void removeDoseOccurrencesOnDeleted_swallowsFailure() {
+        // Given
+        MedicationScheduleDeleted event = new MedicationScheduleDeleted(6L, 1L, "testUser", "Deleted Medicine");
+        doThrow(new RuntimeException("db down")).when(doseOccurrenceEngine).removeSchedule(6L);
+
+        // When
+        eventHandler.removeDoseOccurrencesOnDeleted(event);
+
+        // Then
+        verify(doseOccurrenceEngine).removeSchedule(6L);
+    }
 }
@@ -0,0 +1,87 @@
+package com.Hamalog.service.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.Hamalog.service.notification.DueBatchLoop.Claimed;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DueBatchLoop 테스트")
+class DueBatchLoopTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ToIntFunction<List<Long>> publisher;
+
+    private DueBatchLoop loop;
+
+    @BeforeEach
+    void setUp() {
+        loop = new DueBatchLoop(transactionManager, 3, 4);
+    }
+
+    private static Claimed<List<Long>> claimed(int rows, Long... ids) {
+        return new Claimed<>(rows, List.of(ids));
+    }
+
+    @Test
+    @DisplayName("배치마다 커밋한 뒤 발행하고 잠근 행이 배치 크기보다 적으면 멈춘다")
+    void run_commitsBeforePublishAndStopsOnPartialBatch() {
+        Deque<Claimed<List<Long>>> batches = new ArrayDeque<>(List.of(claimed(3, 1L, 2L, 3L), claimed(1, 4L)));
+        when(publisher.applyAsInt(any())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        int published = loop.run(batches::poll, publisher);
+
+        assertThat(published).isEqualTo(4);
+        assertThat(batches).isEmpty();
+        InOrder inOrder = inOrder(transactionManager, publisher);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(publisher).applyAsInt(List.of(1L, 2L, 3L));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(publisher).applyAsInt(List.of(4L));
+    }
+
+    @Test
+    @DisplayName("발행 대상이 없어도 배치가 가득 찼으면 다음 배치를 이어서 잠근다")
+    void run_countsClaimedRowsNotPublished() {
+        Deque<Claimed<List<Long>>> batches = new ArrayDeque<>(List.of(claimed(3), claimed(2, 7L)));
+        when(publisher.applyAsInt(any())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        assertThat(loop.run(batches::poll, publisher)).isEqualTo(1);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("적체가 있어도 한 번에 최대 배치 수까지만 처리한다")
+    void run_stopsAtMaxBatchesPerRun() {
+        when(publisher.applyAsInt(any())).thenReturn(3);
+
+        assertThat(loop.run(() -> claimed(3, 1L, 2L, 3L), publisher)).isEqualTo(12);
+        verify(publisher, times(4)).applyAsInt(any());
+    }
+
+    @Test
+    @DisplayName("잠근 행이 없으면 발행하지 않는다")
+    void run_nothingClaimed() {
+        assertThat(loop.run(Claimed::none, publisher)).isZero();
+        verify(publisher, never()).applyAsInt(any());
+    }
+}
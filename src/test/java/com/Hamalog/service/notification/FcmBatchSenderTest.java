@@ -0,0 +1,153 @@
+package com.Hamalog.service.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.Hamalog.config.FcmBatchProperties;
+import com.Hamalog.config.bulkhead.Bulkheads;
+import com.Hamalog.repository.notification.FcmDeviceTokenRepository;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FcmBatchSender 테스트")
+class FcmBatchSenderTest {
+
+    @Mock
+    private FcmDeviceTokenRepository fcmDeviceTokenRepository;
+
+    private final StubFcmGateway gateway = new StubFcmGateway();
+    private FcmBatchSender sender;
+
+    @AfterEach
+    void tearDown() {
+        if (sender != null) {
+            sender.shutdown();
+        }
+    }
+
+    private void startSender(Duration window) {
+        sender = new FcmBatchSender(gateway, fcmDeviceTokenRepository, Bulkheads.unbounded(),
+                new FcmBatchProperties(window, 500, 10_000), new SimpleMeterRegistry());
+        sender.start();
+    }
+
+    private Message message(long tokenId) {
+        String token = "token-" + tokenId;
+        Message message = Message.builder().setToken(token).build();
+        gateway.tokens.put(message, token);
+        return message;
+    }
+
+    private List<CompletableFuture<Boolean>> submitAll(long from, long to) {
+        return LongStream.rangeClosed(from, to)
+                .mapToObj(id -> sender.submit(id, message(id)))
+                .toList();
+    }
+
+    private static void awaitAll(List<CompletableFuture<Boolean>> futures) throws Exception {
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("창 안에 들어온 여러 회원의 메시지를 한 번의 sendEach로 보내고 lastUsedAt을 일괄 갱신한다")
+    void submit_batchesMessagesWithinWindow() throws Exception {
+        startSender(Duration.ofMillis(300));
+
+        List<CompletableFuture<Boolean>> futures = submitAll(1, 3);
+        awaitAll(futures);
+
+        assertThat(gateway.batchSizes).containsExactly(3);
+        assertThat(futures).allMatch(future -> future.join());
+        verify(fcmDeviceTokenRepository).markUsedByIds(eq(List.of(1L, 2L, 3L)), any());
+        verify(fcmDeviceTokenRepository, never()).deactivateAllByIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("한 번에 500건을 넘지 않도록 나눠 보낸다")
+    void submit_splitsAtSendEachLimit() throws Exception {
+        startSender(Duration.ofSeconds(1));
+
+        awaitAll(submitAll(1, 1_200));
+
+        assertThat(gateway.batchSizes).allMatch(size -> size <= 500);
+        assertThat(gateway.batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(1_200);
+        assertThat(gateway.batchSizes).hasSizeLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("무효 토큰은 일괄 비활성화하고 일시 오류는 실패로만 반환한다")
+    void submit_handlesPerTokenFailures() throws Exception {
+        gateway.failures.put("token-2", MessagingErrorCode.UNREGISTERED);
+        gateway.failures.put("token-3", MessagingErrorCode.UNAVAILABLE);
+        startSender(Duration.ofMillis(300));
+
+        List<CompletableFuture<Boolean>> futures = submitAll(1, 3);
+        awaitAll(futures);
+
+        assertThat(futures).extracting(CompletableFuture::join).containsExactly(true, false, false);
+        verify(fcmDeviceTokenRepository).markUsedByIds(eq(List.of(1L)), any());
+        verify(fcmDeviceTokenRepository).deactivateAllByIds(eq(List.of(2L)), any());
+    }
+
+    @Test
+    @DisplayName("요청 전체가 실패하면 모든 메시지를 실패로 완료하고 토큰 상태는 바꾸지 않는다")
+    void submit_completesAllAsFailedWhenBatchRequestFails() throws Exception {
+        gateway.failWholeRequest = true;
+        startSender(Duration.ofMillis(100));
+
+        List<CompletableFuture<Boolean>> futures = submitAll(1, 2);
+        awaitAll(futures);
+
+        assertThat(futures).noneMatch(CompletableFuture::join);
+        verify(fcmDeviceTokenRepository, never()).markUsedByIds(any(), any());
+        verify(fcmDeviceTokenRepository, never()).deactivateAllByIds(any(), any());
+    }
+
+    /**
+     * 로컬 FCM 스텁 (호출마다 배치 크기를 기록하고 토큰별로 지정한 오류를 돌려줌)
+     */
+    private static class StubFcmGateway implements FcmGateway {
+
+        // Message의 토큰 getter는 패키지 전용이므로 생성한 메시지 인스턴스로 토큰을 찾음
+        private final Map<Message, String> tokens = Collections.synchronizedMap(new IdentityHashMap<>());
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final Map<String, MessagingErrorCode> failures = new ConcurrentHashMap<>();
+        private volatile boolean failWholeRequest;
+
+        @Override
+        public List<SendResult> sendEach(List<Message> messages) throws FirebaseMessagingException {
+            batchSizes.add(messages.size());
+            if (failWholeRequest) {
+                throw new IllegalStateException("FCM unavailable");
+            }
+            return messages.stream()
+                    .map(message -> {
+                        MessagingErrorCode code = failures.get(tokens.get(message));
+                        return code == null ? SendResult.success() : SendResult.failure(code, code.name());
+                    })
+                    .toList();
+        }
+    }
+}
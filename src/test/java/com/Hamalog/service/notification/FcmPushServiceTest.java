@@ -2,16 +2,20 @@ package com.Hamalog.service.notification;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 import com.Hamalog.domain.member.Member;
+import com.Hamalog.domain.notification.DeviceType;
+import com.Hamalog.domain.notification.FcmDeviceToken;
 import com.Hamalog.domain.notification.NotificationSettings;
 import com.Hamalog.repository.notification.FcmDeviceTokenRepository;
 import com.Hamalog.repository.notification.NotificationSettingsRepository;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -38,6 +42,9 @@ class FcmPushServiceTest {
     @Mock
     private NotificationSettingsRepository notificationSettingsRepository;
 
+    @Mock
+    private FcmBatchSender fcmBatchSender;
+
     @InjectMocks
     private FcmPushService fcmPushService;
 
@@ -122,6 +129,31 @@ class FcmPushServiceTest {
             assertThat(result).isNotNull();
             verify(fcmDeviceTokenRepository, never()).findByMember_MemberIdAndIsActiveTrue(any());
         }
+
+        @Test
+        @DisplayName("성공: 활성 토큰마다 메시지를 배치 발송기에 넘김")
+        void shouldSubmitEachTokenToBatchSender() {
+            // given
+            FcmDeviceToken android = new FcmDeviceToken(testMember, "android-token", DeviceType.ANDROID, "Pixel");
+            FcmDeviceToken ios = new FcmDeviceToken(testMember, "ios-token", DeviceType.IOS, "iPhone");
+            ReflectionTestUtils.setField(android, "fcmDeviceTokenId", 10L);
+            ReflectionTestUtils.setField(ios, "fcmDeviceTokenId", 11L);
+
+            given(notificationSettingsRepository.findByMember_MemberId(testMemberId))
+                    .willReturn(Optional.of(testSettings));
+            given(fcmDeviceTokenRepository.findByMember_MemberIdAndIsActiveTrue(testMemberId))
+                    .willReturn(List.of(android, ios));
+            given(fcmBatchSender.submit(any(), any())).willReturn(CompletableFuture.completedFuture(true));
+
+            // when
+            CompletableFuture<Void> result = fcmPushService.sendPushNotification(
+                    testMemberId, "제목", "내용", Map.of("type", "TEST"));
+
+            // then
+            assertThat(result).isCompleted();
+            verify(fcmBatchSender).submit(eq(10L), any());
+            verify(fcmBatchSender).submit(eq(11L), any());
+        }
     }
 
     @Nested
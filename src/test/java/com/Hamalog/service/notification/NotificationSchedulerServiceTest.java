@@ -2,11 +2,22 @@ package com.Hamalog.service.notification;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.Hamalog.config.ReminderProperties;
+import com.Hamalog.domain.member.Member;
+import com.Hamalog.domain.notification.NotificationSettings;
+import com.Hamalog.domain.notification.ReminderSchedule;
+import com.Hamalog.domain.notification.ReminderType;
 import com.Hamalog.repository.notification.NotificationSettingsRepository;
+import com.Hamalog.repository.notification.ReminderScheduleRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.concurrent.ScheduledFuture;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,80 +26,89 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.scheduling.TaskScheduler;
-import org.springframework.scheduling.Trigger;
-import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("알림 스케줄러 서비스 테스트")
 class NotificationSchedulerServiceTest {
 
     @Mock
-    private TaskScheduler taskScheduler;
+    private ReminderScheduleRepository reminderScheduleRepository;
 
     @Mock
     private NotificationSettingsRepository notificationSettingsRepository;
 
-    @Mock
-    private FcmPushService fcmPushService;
-
     private NotificationSchedulerService notificationSchedulerService;
 
     @BeforeEach
     void setUp() {
         notificationSchedulerService = new NotificationSchedulerService(
-                taskScheduler,
+                reminderScheduleRepository,
                 notificationSettingsRepository,
-                fcmPushService
+                new ReminderProperties(0, 0, 2)
         );
     }
 
+    private NotificationSettings diarySettings(long settingsId, long memberId, LocalTime time) {
+        Member member = Member.builder()
+                .loginId("member" + memberId + "@test.com")
+                .password("password123")
+                .name("테스트 사용자")
+                .nickName("테스트")
+                .phoneNumber("01012345678")
+                .birth(LocalDate.of(1990, 1, 1))
+                .build();
+        ReflectionTestUtils.setField(member, "memberId", memberId);
+        NotificationSettings settings = new NotificationSettings(member);
+        settings.updateSettings(null, null, null, true, time, null, null, null);
+        ReflectionTestUtils.setField(settings, "notificationSettingsId", settingsId);
+        return settings;
+    }
+
     @Nested
     @DisplayName("scheduleDiaryReminder")
     class ScheduleDiaryReminder {
 
         @Test
-        @DisplayName("성공: 일기 알림 스케줄 등록")
+        @DisplayName("성공: 예약이 없으면 다음 발송 시각으로 새 예약 저장")
         void success() {
             // given
             Long memberId = 1L;
             LocalTime reminderTime = LocalTime.of(21, 0);
-
-            ScheduledFuture<?> mockFuture = mock(ScheduledFuture.class);
-            doReturn(mockFuture).when(taskScheduler).schedule(any(Runnable.class), any(Trigger.class));
+            when(reminderScheduleRepository.findByMemberIdAndReminderType(memberId, ReminderType.DIARY))
+                    .thenReturn(Optional.empty());
 
             // when
             notificationSchedulerService.scheduleDiaryReminder(memberId, reminderTime);
 
             // then
-            ArgumentCaptor<CronTrigger> cronCaptor = ArgumentCaptor.forClass(CronTrigger.class);
-            verify(taskScheduler).schedule(any(Runnable.class), cronCaptor.capture());
-
-            CronTrigger capturedTrigger = cronCaptor.getValue();
-            assertThat(capturedTrigger.getExpression()).isEqualTo("0 0 21 * * *");
+            ArgumentCaptor<ReminderSchedule> captor = ArgumentCaptor.forClass(ReminderSchedule.class);
+            verify(reminderScheduleRepository).save(captor.capture());
+            ReminderSchedule saved = captor.getValue();
+            assertThat(saved.getMemberId()).isEqualTo(memberId);
+            assertThat(saved.getFireTime()).isEqualTo(reminderTime);
+            assertThat(saved.getNextFireAt().toLocalTime()).isEqualTo(reminderTime);
+            assertThat(saved.getNextFireAt()).isAfter(LocalDateTime.now());
         }
 
         @Test
-        @DisplayName("성공: 기존 스케줄이 있으면 취소 후 재등록")
-        void success_cancelExistingSchedule() {
+        @DisplayName("성공: 기존 예약이 있으면 발송 시각만 변경")
+        void success_rescheduleExisting() {
             // given
             Long memberId = 1L;
-            LocalTime firstTime = LocalTime.of(20, 0);
-            LocalTime secondTime = LocalTime.of(21, 0);
-
-            ScheduledFuture<?> mockFuture1 = mock(ScheduledFuture.class);
-            ScheduledFuture<?> mockFuture2 = mock(ScheduledFuture.class);
-            when(mockFuture1.isCancelled()).thenReturn(false);
-
-            doReturn(mockFuture1, mockFuture2).when(taskScheduler).schedule(any(Runnable.class), any(Trigger.class));
+            ReminderSchedule existing = new ReminderSchedule(memberId, ReminderType.DIARY,
+                    LocalTime.of(20, 0), LocalDateTime.now());
+            when(reminderScheduleRepository.findByMemberIdAndReminderType(memberId, ReminderType.DIARY))
+                    .thenReturn(Optional.of(existing));
 
             // when
-            notificationSchedulerService.scheduleDiaryReminder(memberId, firstTime);
-            notificationSchedulerService.scheduleDiaryReminder(memberId, secondTime);
+            notificationSchedulerService.scheduleDiaryReminder(memberId, LocalTime.of(21, 30));
 
             // then
-            verify(mockFuture1).cancel(false);
-            assertThat(notificationSchedulerService.getScheduledTaskCount()).isEqualTo(1);
+            verify(reminderScheduleRepository, never()).save(any());
+            assertThat(existing.getFireTime()).isEqualTo(LocalTime.of(21, 30));
+            assertThat(existing.getNextFireAt().toLocalTime()).isEqualTo(LocalTime.of(21, 30));
         }
     }
 
@@ -97,33 +117,13 @@ class NotificationSchedulerServiceTest {
     class CancelDiaryReminder {
 
         @Test
-        @DisplayName("성공: 일기 알림 취소")
+        @DisplayName("성공: 일기 알림 예약 삭제")
         void success() {
-            // given
-            Long memberId = 1L;
-            ScheduledFuture<?> mockFuture = mock(ScheduledFuture.class);
-            when(mockFuture.isCancelled()).thenReturn(false);
-            doReturn(mockFuture).when(taskScheduler).schedule(any(Runnable.class), any(Trigger.class));
-
-            notificationSchedulerService.scheduleDiaryReminder(memberId, LocalTime.of(21, 0));
-
             // when
-            notificationSchedulerService.cancelDiaryReminder(memberId);
+            notificationSchedulerService.cancelDiaryReminder(1L);
 
             // then
-            verify(mockFuture).cancel(false);
-            assertThat(notificationSchedulerService.getScheduledTaskCount()).isEqualTo(0);
-        }
-
-        @Test
-        @DisplayName("성공: 스케줄이 없어도 예외 없이 처리")
-        void success_noScheduleExists() {
-            // given
-            Long memberId = 999L;
-
-            // when & then - 예외 없이 정상 처리
-            notificationSchedulerService.cancelDiaryReminder(memberId);
-            assertThat(notificationSchedulerService.getScheduledTaskCount()).isEqualTo(0);
+            verify(reminderScheduleRepository).deleteByMemberIdAndType(1L, ReminderType.DIARY);
         }
     }
 
@@ -132,21 +132,13 @@ class NotificationSchedulerServiceTest {
     class CancelAllScheduledNotifications {
 
         @Test
-        @DisplayName("성공: 모든 알림 취소")
+        @DisplayName("성공: 회원의 모든 예약 삭제")
         void success() {
-            // given
-            Long memberId = 1L;
-            ScheduledFuture<?> mockFuture = mock(ScheduledFuture.class);
-            when(mockFuture.isCancelled()).thenReturn(false);
-            doReturn(mockFuture).when(taskScheduler).schedule(any(Runnable.class), any(Trigger.class));
-
-            notificationSchedulerService.scheduleDiaryReminder(memberId, LocalTime.of(21, 0));
-
             // when
-            notificationSchedulerService.cancelAllScheduledNotifications(memberId);
+            notificationSchedulerService.cancelAllScheduledNotifications(1L);
 
             // then
-            verify(mockFuture).cancel(false);
+            verify(reminderScheduleRepository).deleteAllByMemberId(1L);
         }
     }
 
@@ -155,15 +147,10 @@ class NotificationSchedulerServiceTest {
     class GetScheduledTaskCount {
 
         @Test
-        @DisplayName("성공: 스케줄된 작업 수 조회")
+        @DisplayName("성공: 예약 인덱스의 예약 수 조회")
         void success() {
             // given
-            ScheduledFuture<?> mockFuture = mock(ScheduledFuture.class);
-            doReturn(mockFuture).when(taskScheduler).schedule(any(Runnable.class), any(Trigger.class));
-
-            // when
-            notificationSchedulerService.scheduleDiaryReminder(1L, LocalTime.of(21, 0));
-            notificationSchedulerService.scheduleDiaryReminder(2L, LocalTime.of(22, 0));
+            when(reminderScheduleRepository.count()).thenReturn(2L);
 
             // then
             assertThat(notificationSchedulerService.getScheduledTaskCount()).isEqualTo(2);
@@ -175,10 +162,45 @@ class NotificationSchedulerServiceTest {
     class InitializeSchedules {
 
         @Test
-        @DisplayName("성공: 초기화 메서드 호출")
+        @DisplayName("성공: 예약이 없는 일기 알림 설정만 페이지 단위로 채움")
+        @SuppressWarnings("unchecked")
         void success() {
-            // when & then - 예외 없이 정상 호출
+            // given
+            NotificationSettings first = diarySettings(1L, 10L, LocalTime.of(21, 0));
+            NotificationSettings second = diarySettings(2L, 11L, LocalTime.of(22, 0));
+            NotificationSettings third = diarySettings(3L, 12L, LocalTime.of(8, 0));
+            when(notificationSettingsRepository.findDiaryReminderPage(anyLong(), any(Pageable.class)))
+                    .thenReturn(List.of(first, second), List.of(third), List.of());
+            when(reminderScheduleRepository.findScheduledMemberIds(eq(ReminderType.DIARY), any()))
+                    .thenReturn(List.of(11L), List.of());
+
+            // when
             notificationSchedulerService.initializeSchedules();
+
+            // then
+            verify(notificationSettingsRepository).findDiaryReminderPage(eq(0L), any(Pageable.class));
+            verify(notificationSettingsRepository).findDiaryReminderPage(eq(2L), any(Pageable.class));
+            verify(notificationSettingsRepository).findDiaryReminderPage(eq(3L), any(Pageable.class));
+            ArgumentCaptor<List<ReminderSchedule>> captor = ArgumentCaptor.forClass(List.class);
+            verify(reminderScheduleRepository, times(2)).saveAll(captor.capture());
+            assertThat(captor.getAllValues().stream().flatMap(List::stream).map(ReminderSchedule::getMemberId))
+                    .containsExactly(10L, 12L);
+        }
+    }
+
+    @Nested
+    @DisplayName("ReminderSchedule 다음 발송 시각")
+    class NextOccurrence {
+
+        @Test
+        @DisplayName("같은 날 발송 시각이 지났으면 다음 날로 이동")
+        void nextOccurrence() {
+            LocalDateTime now = LocalDateTime.of(2025, 3, 1, 21, 0, 0);
+
+            assertThat(ReminderSchedule.nextOccurrence(LocalTime.of(21, 0), now))
+                    .isEqualTo(LocalDateTime.of(2025, 3, 2, 21, 0));
+            assertThat(ReminderSchedule.nextOccurrence(LocalTime.of(21, 1), now))
+                    .isEqualTo(LocalDateTime.of(2025, 3, 1, 21, 1));
         }
     }
 }
@@ -0,0 +1,120 @@
+package com.Hamalog.service.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.Hamalog.config.ReminderProperties;
+import com.Hamalog.domain.notification.ReminderSchedule;
+import com.Hamalog.domain.notification.ReminderType;
+import com.Hamalog.repository.notification.NotificationSettingsRepository;
+import com.Hamalog.repository.notification.ReminderScheduleRepository;
+import com.Hamalog.service.queue.QueuedNotificationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReminderDispatcher 테스트")
+class ReminderDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 21, 0, 5);
+
+    @Mock
+    private ReminderScheduleRepository reminderScheduleRepository;
+    @Mock
+    private NotificationSettingsRepository notificationSettingsRepository;
+    @Mock
+    private QueuedNotificationService queuedNotificationService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReminderDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new ReminderDispatcher(reminderScheduleRepository, notificationSettingsRepository,
+                queuedNotificationService, new ReminderProperties(2, 5, 0), transactionManager,
+                new SimpleMeterRegistry());
+    }
+
+    private static ReminderSchedule dueSchedule(long memberId) {
+        return new ReminderSchedule(memberId, ReminderType.DIARY, LocalTime.of(21, 0), NOW.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("발송 시각이 된 예약을 배치로 발송하고 다음 날로 옮긴다")
+    void dispatchDue_sendsBatchAndAdvances() {
+        ReminderSchedule first = dueSchedule(1L);
+        ReminderSchedule second = dueSchedule(2L);
+        ReminderSchedule third = dueSchedule(3L);
+        when(reminderScheduleRepository.lockDueBatch(NOW, 2))
+                .thenReturn(List.of(first, second), List.of(third));
+        when(notificationSettingsRepository.findDiaryReminderEnabledMemberIds(any()))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+
+        int dispatched = dispatcher.dispatchDue(NOW);
+
+        assertThat(dispatched).isEqualTo(3);
+        verify(queuedNotificationService).sendDiaryReminders(List.of(1L, 2L));
+        verify(queuedNotificationService).sendDiaryReminders(List.of(3L));
+        assertThat(List.of(first, second, third))
+                .allMatch(schedule -> schedule.getNextFireAt().equals(LocalDateTime.of(2025, 3, 2, 21, 0)));
+        verify(reminderScheduleRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    @DisplayName("알림을 끈 회원의 예약은 발송하지 않고 삭제한다")
+    void dispatchDue_dropsDisabledMembers() {
+        ReminderSchedule enabled = dueSchedule(1L);
+        ReminderSchedule disabled = dueSchedule(2L);
+        when(reminderScheduleRepository.lockDueBatch(NOW, 2))
+                .thenReturn(List.of(enabled, disabled), List.of());
+        when(notificationSettingsRepository.findDiaryReminderEnabledMemberIds(List.of(1L, 2L)))
+                .thenReturn(List.of(1L));
+
+        int dispatched = dispatcher.dispatchDue(NOW);
+
+        assertThat(dispatched).isEqualTo(1);
+        verify(queuedNotificationService).sendDiaryReminders(List.of(1L));
+        verify(reminderScheduleRepository).deleteAllInBatch(List.of(disabled));
+    }
+
+    @Test
+    @DisplayName("적체가 있어도 한 번에 최대 배치 수까지만 처리한다")
+    void dispatchDue_stopsAtMaxBatchesPerRun() {
+        when(reminderScheduleRepository.lockDueBatch(eq(NOW), anyInt()))
+                .thenAnswer(invocation -> LongStream.rangeClosed(1, 2).mapToObj(ReminderDispatcherTest::dueSchedule)
+                        .toList());
+        when(notificationSettingsRepository.findDiaryReminderEnabledMemberIds(any()))
+                .thenReturn(List.of(1L, 2L));
+
+        int dispatched = dispatcher.dispatchDue(NOW);
+
+        assertThat(dispatched).isEqualTo(10);
+        verify(reminderScheduleRepository, times(5)).lockDueBatch(eq(NOW), anyInt());
+    }
+
+    @Test
+    @DisplayName("발송 시각이 된 예약이 없으면 발송하지 않는다")
+    void dispatchDue_nothingDue() {
+        when(reminderScheduleRepository.lockDueBatch(NOW, 2)).thenReturn(List.of());
+
+        assertThat(dispatcher.dispatchDue(NOW)).isZero();
+        verify(queuedNotificationService, never()).sendDiaryReminders(any());
+    }
+}
@@ -0,0 +1,299 @@
+package com.Hamalog.service.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.Hamalog.config.MessageQueueProperties;
+import com.Hamalog.domain.notification.DeviceType;
+import com.Hamalog.domain.notification.FcmDeviceToken;
+import com.Hamalog.repository.notification.FcmDeviceTokenRepository;
+import com.Hamalog.repository.notification.NotificationSettingsRepository;
+import com.Hamalog.service.notification.FcmBatchSender;
+import com.Hamalog.service.queue.message.NotificationMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationConsumerService 테스트")
+class NotificationConsumerServiceTest {
+
+    private static final String STREAM = "test-notification-stream";
+    private static final String GROUP = "test-group";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+    @Mock
+    private MessageQueueService messageQueueService;
+    @Mock
+    private FcmDeviceTokenRepository fcmDeviceTokenRepository;
+    @Mock
+    private NotificationSettingsRepository notificationSettingsRepository;
+    @Mock
+    private FcmBatchSender fcmBatchSender;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private NotificationConsumerService consumerService;
+
+    @BeforeEach
+    void setUp() {
+        MessageQueueProperties properties = new MessageQueueProperties(true, STREAM, null, GROUP, "node",
+                3, 1, 10, 2, 4, 5, Duration.ofSeconds(60), 100, Duration.ofHours(24), null);
+        consumerService = new NotificationConsumerService(redisTemplate, properties, messageQueueService, null,
+                fcmDeviceTokenRepository, notificationSettingsRepository, objectMapper,
+                new SimpleMeterRegistry(), fcmBatchSender, Duration.ofSeconds(2));
+        consumerService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumerService.shutdown();
+    }
+
+    private String payload(long memberId) throws Exception {
+        return objectMapper.writeValueAsString(NotificationMessage.of(memberId, "title", "body", Map.of(), "TEST"));
+    }
+
+    private MapRecord<String, Object, Object> record(String id, String payload) {
+        return MapRecord.create(STREAM, Map.<Object, Object>of("payload", payload)).withId(RecordId.of(id));
+    }
+
+    private void stubDeliveryClaim(boolean claimed) {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(any(), any(), any(Duration.class))).thenReturn(claimed);
+    }
+
+    @Test
+    @DisplayName("읽은 배치를 작업 스레드 풀에서 처리하고 한 번의 XACK로 확인한다")
+    void processBatch_processesOnWorkerPoolAndAcknowledges() throws Exception {
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        when(notificationSettingsRepository.findByMember_MemberId(anyLong())).thenReturn(Optional.empty());
+        when(fcmDeviceTokenRepository.findByMember_MemberIdAndIsActiveTrue(anyLong())).thenAnswer(invocation -> {
+            threadNames.add(Thread.currentThread().getName());
+            return List.of();
+        });
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        stubDeliveryClaim(true);
+
+        List<MapRecord<String, Object, Object>> records = IntStream.rangeClosed(1, 6)
+                .mapToObj(i -> {
+                    try {
+                        return record(i + "-0", payload(i));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+
+        consumerService.processBatch(records);
+
+        verify(fcmDeviceTokenRepository, times(6)).findByMember_MemberIdAndIsActiveTrue(anyLong());
+        verify(streamOperations).acknowledge(STREAM, GROUP, records.stream().map(MapRecord::getId)
+                .toArray(RecordId[]::new));
+        verify(valueOperations, times(6)).set(any(), eq("delivered"), eq(Duration.ofHours(24)));
+        assertThat(threadNames).isNotEmpty().allMatch(name -> name.startsWith("notification-worker-"));
+    }
+
+    @Test
+    @DisplayName("이미 발송된 messageId는 발송하지 않고 ACK만 한다")
+    void processBatch_skipsDuplicateDelivery() throws Exception {
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        stubDeliveryClaim(false);
+        when(valueOperations.get(any())).thenReturn("delivered");
+        MapRecord<String, Object, Object> duplicate = record("1-0", payload(1));
+
+        consumerService.processBatch(List.of(duplicate));
+
+        verify(fcmDeviceTokenRepository, never()).findByMember_MemberIdAndIsActiveTrue(anyLong());
+        verify(streamOperations).acknowledge(STREAM, GROUP, duplicate.getId());
+    }
+
+    @Test
+    @DisplayName("다른 소비자가 처리 중인 메시지는 발송하지 않고 ACK하지 않은 채 PEL에 남긴다")
+    void processBatch_leavesInProgressDeliveryPending() throws Exception {
+        stubDeliveryClaim(false);
+        when(valueOperations.get(any())).thenReturn("processing");
+
+        consumerService.processBatch(List.of(record("1-0", payload(1))));
+
+        verify(fcmDeviceTokenRepository, never()).findByMember_MemberIdAndIsActiveTrue(anyLong());
+        verify(redisTemplate, never()).opsForStream();
+    }
+
+    private static FcmDeviceToken deviceToken(long id, String token) {
+        FcmDeviceToken deviceToken = new FcmDeviceToken(null, token, DeviceType.ANDROID, "device-" + id);
+        ReflectionTestUtils.setField(deviceToken, "fcmDeviceTokenId", id);
+        return deviceToken;
+    }
+
+    @Test
+    @DisplayName("디바이스별 메시지를 배치 발송기에 넘기고 모든 결과가 성공하면 발송 완료로 표시한다")
+    void processBatch_submitsEachTokenToBatchSender() throws Exception {
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        stubDeliveryClaim(true);
+        when(notificationSettingsRepository.findByMember_MemberId(1L)).thenReturn(Optional.empty());
+        when(fcmDeviceTokenRepository.findByMember_MemberIdAndIsActiveTrue(1L))
+                .thenReturn(List.of(deviceToken(10L, "token-a"), deviceToken(11L, "token-b")));
+        when(fcmBatchSender.submit(any(), any())).thenReturn(CompletableFuture.completedFuture(true));
+
+        consumerService.processBatch(List.of(record("1-0", payload(1))));
+
+        verify(fcmBatchSender).submit(eq(10L), any());
+        verify(fcmBatchSender).submit(eq(11L), any());
+        // 처리 중 표시는 회수 유휴 시간(60초)보다 충분히 길게 유지
+        verify(valueOperations).setIfAbsent(any(), eq("processing"), eq(Duration.ofMinutes(5)));
+        verify(valueOperations).set(any(), eq("delivered"), eq(Duration.ofHours(24)));
+        verify(messageQueueService, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("일부 디바이스만 실패하면 실패한 토큰만 담아 재시도 메시지를 발행한다")
+    void processBatch_republishesOnlyFailedTokens() throws Exception {
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        stubDeliveryClaim(true);
+        when(notificationSettingsRepository.findByMember_MemberId(1L)).thenReturn(Optional.empty());
+        when(fcmDeviceTokenRepository.findByMember_MemberIdAndIsActiveTrue(1L))
+                .thenReturn(List.of(deviceToken(10L, "token-a"), deviceToken(11L, "token-b")));
+        when(fcmBatchSender.submit(eq(10L), any())).thenReturn(CompletableFuture.completedFuture(true));
+        when(fcmBatchSender.submit(eq(11L), any())).thenReturn(CompletableFuture.completedFuture(false));
+
+        consumerService.processBatch(List.of(record("1-0", payload(1))));
+
+        verify(messageQueueService).publish(argThat(message ->
+                message.retryCount() == 1 && message.deviceTokenIds().equals(List.of(11L))));
+        verify(valueOperations, never()).set(any(), eq("delivered"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("재시도 메시지는 실패했던 디바이스에만 다시 보낸다")
+    void processBatch_retrySendsOnlyToFailedTokens() throws Exception {
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        stubDeliveryClaim(true);
+        when(notificationSettingsRepository.findByMember_MemberId(1L)).thenReturn(Optional.empty());
+        when(fcmDeviceTokenRepository.findByMember_MemberIdAndIsActiveTrue(1L))
+                .thenReturn(List.of(deviceToken(10L, "token-a"), deviceToken(11L, "token-b")));
+        when(fcmBatchSender.submit(eq(11L), any())).thenReturn(CompletableFuture.completedFuture(true));
+        NotificationMessage retry = NotificationMessage.of(1L, "title", "body", Map.of(), "TEST")
+                .withRetryFor(List.of(11L));
+
+        consumerService.processBatch(List.of(record("1-0", objectMapper.writeValueAsString(retry))));
+
+        verify(fcmBatchSender, never()).submit(eq(10L), any());
+        verify(valueOperations).set(any(), eq("delivered"), eq(Duration.ofHours(24)));
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 지난 PEL 항목만 XCLAIM으로 회수해 다시 처리한다")
+    void reclaimPendingMessages_claimsIdleEntries() throws Exception {
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        PendingMessagesSummary summary = mock(PendingMessagesSummary.class);
+        when(summary.getTotalPendingMessages()).thenReturn(2L);
+        when(streamOperations.pending(STREAM, GROUP)).thenReturn(summary);
+        PendingMessage idle = new PendingMessage(RecordId.of("1-0"), Consumer.from(GROUP, "node-0"),
+                Duration.ofMinutes(5), 1);
+        PendingMessage active = new PendingMessage(RecordId.of("2-0"), Consumer.from(GROUP, "node-1"),
+                Duration.ofSeconds(1), 1);
+        when(streamOperations.pending(eq(STREAM), eq(GROUP), any(Range.class), eq(100L)))
+                .thenReturn(new PendingMessages(GROUP, List.of(idle, active)));
+        MapRecord<String, Object, Object> claimed = record("1-0", payload(1));
+        when(streamOperations.claim(eq(STREAM), eq(GROUP), eq("node-reclaimer"), any(XClaimOptions.class)))
+                .thenReturn(List.of(claimed));
+        when(notificationSettingsRepository.findByMember_MemberId(anyLong())).thenReturn(Optional.empty());
+        when(fcmDeviceTokenRepository.findByMember_MemberIdAndIsActiveTrue(anyLong())).thenReturn(List.of());
+        stubDeliveryClaim(true);
+        // 소비 루프는 띄우지 않고 실행 상태만 켬
+        ((AtomicBoolean) ReflectionTestUtils.getField(consumerService, "running")).set(true);
+
+        consumerService.reclaimPendingMessages();
+
+        verify(streamOperations).claim(eq(STREAM), eq(GROUP), eq("node-reclaimer"),
+                argThat((XClaimOptions options) ->
+                        options.getIds().equals(List.of(RecordId.of("1-0")))));
+        verify(streamOperations).acknowledge(STREAM, GROUP, claimed.getId());
+    }
+
+    @Test
+    @DisplayName("블로킹 XREADGROUP 결과를 템플릿 해시 직렬화기로 역직렬화한다")
+    void readBatch_deserializesBlockingRead() {
+        ByteRecord record = StreamRecords.newRecord()
+                .in(STREAM.getBytes(StandardCharsets.UTF_8))
+                .withId(RecordId.of("1-0"))
+                .ofBytes(Map.of("payload".getBytes(StandardCharsets.UTF_8), "{}".getBytes(StandardCharsets.UTF_8)));
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(List.of(record));
+        doReturn(StringRedisSerializer.UTF_8).when(redisTemplate).getHashKeySerializer();
+        doReturn(StringRedisSerializer.UTF_8).when(redisTemplate).getHashValueSerializer();
+
+        List<MapRecord<String, Object, Object>> records = consumerService.readBatch("node-1");
+
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getStream()).isEqualTo(STREAM);
+        assertThat(records.get(0).getValue()).containsEntry("payload", "{}");
+    }
+
+    @Test
+    @DisplayName("읽은 메시지가 없으면 빈 배치를 반환한다")
+    void readBatch_empty() {
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(null);
+
+        assertThat(consumerService.readBatch("node-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("블로킹 읽기 대기 시간이 Redis 명령 타임아웃보다 충분히 짧지 않으면 기동을 거부한다")
+    void constructor_rejectsPollTimeoutNearCommandTimeout() {
+        MessageQueueProperties properties = new MessageQueueProperties(true, STREAM, null, GROUP, "node",
+                3, 5, 10, 2, 4, 5, Duration.ofSeconds(60), 100, Duration.ofHours(24), null);
+
+        assertThatThrownBy(() -> new NotificationConsumerService(redisTemplate, properties, messageQueueService,
+                null, fcmDeviceTokenRepository, notificationSettingsRepository, objectMapper,
+                new SimpleMeterRegistry(), fcmBatchSender, Duration.ofMillis(2000)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("spring.data.redis.timeout");
+    }
+}
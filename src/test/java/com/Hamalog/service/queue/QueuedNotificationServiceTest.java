@@ -1,16 +1,21 @@
 package com.Hamalog.service.queue;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.Hamalog.config.MessageQueueProperties;
 import com.Hamalog.service.notification.FcmPushService;
+import com.Hamalog.service.queue.message.MedicationReminder;
 import com.Hamalog.service.queue.message.NotificationMessage;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -217,6 +222,65 @@ class QueuedNotificationServiceTest {
             // then
             verify(messageQueueService).publish(any(NotificationMessage.class));
         }
+
+        @Test
+        @DisplayName("성공: 여러 회원의 일기 알림을 한 번에 발행")
+        @SuppressWarnings("unchecked")
+        void success_batch() {
+            // given
+            when(queueProperties.enabled()).thenReturn(true);
+
+            // when
+            queuedNotificationService.sendDiaryReminders(List.of(1L, 2L, 3L));
+
+            // then
+            ArgumentCaptor<List<NotificationMessage>> captor = ArgumentCaptor.forClass(List.class);
+            verify(messageQueueService).publishAll(captor.capture());
+            assertThat(captor.getValue()).extracting(NotificationMessage::memberId).containsExactly(1L, 2L, 3L);
+            verify(messageQueueService, never()).publish(any(NotificationMessage.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("sendMedicationReminders")
+    class SendMedicationReminders {
+
+        @Test
+        @DisplayName("성공: 같은 버킷의 복약 알림을 한 번에 발행")
+        @SuppressWarnings("unchecked")
+        void success_batch() {
+            // given
+            when(queueProperties.enabled()).thenReturn(true);
+            LocalDateTime doseAt = LocalDateTime.of(2025, 3, 1, 8, 0);
+
+            // when
+            queuedNotificationService.sendMedicationReminders(List.of(
+                    new MedicationReminder(1L, doseAt, List.of(10L)),
+                    new MedicationReminder(2L, doseAt, List.of(20L, 21L))));
+
+            // then
+            ArgumentCaptor<List<NotificationMessage>> captor = ArgumentCaptor.forClass(List.class);
+            verify(messageQueueService).publishAll(captor.capture());
+            assertThat(captor.getValue()).extracting(NotificationMessage::memberId).containsExactly(1L, 2L);
+            assertThat(captor.getValue().get(1).body()).isEqualTo("08:00에 복용할 약이 2건 있습니다.");
+            assertThat(captor.getValue().get(1).data()).containsEntry("medicationScheduleIds", "20,21");
+        }
+
+        @Test
+        @DisplayName("성공: 큐 비활성화 시 회원별 직접 발송")
+        void success_queueDisabled() {
+            // given
+            when(queueProperties.enabled()).thenReturn(false);
+
+            // when
+            queuedNotificationService.sendMedicationReminders(List.of(
+                    new MedicationReminder(1L, LocalDateTime.of(2025, 3, 1, 8, 0), List.of(10L))));
+
+            // then
+            verify(fcmPushService).sendPushNotification(eq(1L), eq("💊 복약 알림"),
+                    eq("08:00에 복용할 약이 있습니다."), anyMap());
+            verify(messageQueueService, never()).publishAll(any());
+        }
     }
 
     @Nested
@@ -279,5 +343,21 @@ class QueuedNotificationServiceTest {
             );
             verify(messageQueueService, never()).publish(any(NotificationMessage.class));
         }
+
+        @Test
+        @DisplayName("성공: 큐 비활성화 시 여러 회원의 일기 알림을 비동기 발송 메서드로 직접 발송")
+        void diaryReminders_directSendThroughAsyncMethod() {
+            // given
+            when(queueProperties.enabled()).thenReturn(false);
+
+            // when
+            queuedNotificationService.sendDiaryReminders(List.of(1L, 2L));
+
+            // then
+            verify(fcmPushService).sendPushNotification(eq(1L), anyString(), anyString(), anyMap());
+            verify(fcmPushService).sendPushNotification(eq(2L), anyString(), anyString(), anyMap());
+            verify(fcmPushService, never()).sendDiaryReminder(anyLong());
+            verify(messageQueueService, never()).publishAll(any());
+        }
     }
 }
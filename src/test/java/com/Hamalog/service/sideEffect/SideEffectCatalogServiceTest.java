@@ -0,0 +1,113 @@
+package com.Hamalog.service.sideEffect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.Hamalog.domain.sideEffect.SideEffect;
+import com.Hamalog.dto.sideEffect.response.SideEffectCatalogResponse;
+import com.Hamalog.dto.sideEffect.response.SideEffectCatalogResponse.SideEffectCatalogItem;
+import com.Hamalog.repository.sideEffect.SideEffectRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SideEffectCatalogService Tests")
+class SideEffectCatalogServiceTest {
+
+    @Mock
+    private SideEffectRepository sideEffectRepository;
+
+    @InjectMocks
+    private SideEffectCatalogService sideEffectCatalogService;
+
+    @Test
+    @DisplayName("최초 조회 시 한 번만 적재하고 이후 조회는 DB를 거치지 않는다")
+    void lookups_loadOnceAndServeFromMemory() {
+        // given
+        List<SideEffect> sideEffects = List.of(sideEffect(2L, "소화기", "메스꺼움"), sideEffect(1L, "신경계", "두통"));
+        when(sideEffectRepository.findAll()).thenReturn(sideEffects);
+
+        // when
+        SideEffectCatalogResponse catalog = sideEffectCatalogService.getCatalog();
+        Map<Long, SideEffectCatalogItem> found = sideEffectCatalogService.findAllById(List.of(1L, 2L));
+
+        // then
+        assertThat(catalog.sideEffects()).extracting(SideEffectCatalogItem::sideEffectId).containsExactly(1L, 2L);
+        assertThat(found).containsOnlyKeys(1L, 2L);
+        assertThat(sideEffectCatalogService.find(1L)).map(SideEffectCatalogItem::name).contains("두통");
+        verify(sideEffectRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("내용이 같으면 재적재해도 버전이 유지되고, 바뀌면 버전이 바뀐다")
+    void refresh_versionChangesOnlyWhenContentChanges() {
+        // given
+        SideEffect headache = sideEffect(1L, "신경계", "두통");
+        SideEffect nausea = sideEffect(2L, "소화기", "메스꺼움");
+        when(sideEffectRepository.findAll())
+                .thenReturn(List.of(headache))
+                .thenReturn(List.of(headache))
+                .thenReturn(List.of(headache, nausea));
+
+        // when
+        String initial = sideEffectCatalogService.getCatalog().version();
+        sideEffectCatalogService.refresh();
+        String unchanged = sideEffectCatalogService.getCatalog().version();
+        sideEffectCatalogService.refresh();
+        SideEffectCatalogResponse changed = sideEffectCatalogService.getCatalog();
+
+        // then
+        assertThat(unchanged).isEqualTo(initial);
+        assertThat(changed.version()).isNotEqualTo(initial);
+        assertThat(changed.sideEffects()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("재적재 실패 시 기존 카탈로그를 유지한다")
+    void refresh_failureKeepsPreviousSnapshot() {
+        // given
+        SideEffect headache = sideEffect(1L, "신경계", "두통");
+        when(sideEffectRepository.findAll())
+                .thenReturn(List.of(headache))
+                .thenThrow(new RuntimeException("DB down"));
+        String initial = sideEffectCatalogService.getCatalog().version();
+
+        // when
+        sideEffectCatalogService.refresh();
+
+        // then
+        assertThat(sideEffectCatalogService.getCatalog().version()).isEqualTo(initial);
+        assertThat(sideEffectCatalogService.find(1L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("없는 ID 조회는 최소 재적재 간격 내에서는 DB를 다시 조회하지 않는다")
+    void findAllById_missingIdWithinReloadInterval_doesNotReload() {
+        // given
+        SideEffect headache = sideEffect(1L, "신경계", "두통");
+        when(sideEffectRepository.findAll()).thenReturn(List.of(headache));
+
+        // when
+        Map<Long, SideEffectCatalogItem> first = sideEffectCatalogService.findAllById(List.of(1L, 99L));
+        Map<Long, SideEffectCatalogItem> second = sideEffectCatalogService.findAllById(List.of(99L));
+
+        // then
+        assertThat(first).containsOnlyKeys(1L);
+        assertThat(second).isEmpty();
+        verify(sideEffectRepository, times(1)).findAll();
+    }
+
+    private SideEffect sideEffect(Long id, String type, String name) {
+        SideEffect sideEffect = mock(SideEffect.class);
+        when(sideEffect.getSideEffectId()).thenReturn(id);
+        when(sideEffect.getType()).thenReturn(type);
+        when(sideEffect.getName()).thenReturn(name);
+        return sideEffect;
+    }
+}
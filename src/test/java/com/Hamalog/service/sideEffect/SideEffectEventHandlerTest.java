@@ -0,0 +1,85 @@
+package com.Hamalog.service.sideEffect;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.Hamalog.config.EventStoreProperties;
+import com.Hamalog.config.EventStoreProperties.PayloadFormat;
+import com.Hamalog.domain.events.sideEffect.SideEffectRecordCreated;
+import com.Hamalog.domain.events.sideEffect.SideEffectRecordCreated.SideEffectItem;
+import com.Hamalog.logging.StructuredLogger;
+import com.Hamalog.service.events.DomainEventPayloadCodec;
+import com.Hamalog.service.events.DomainEventRecord;
+import com.Hamalog.service.notification.FcmPushService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SideEffectEventHandler 테스트")
+class SideEffectEventHandlerTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+    @Mock
+    private StructuredLogger structuredLogger;
+    @Mock
+    private FcmPushService fcmPushService;
+
+    private final DomainEventPayloadCodec payloadCodec = new DomainEventPayloadCodec(PayloadFormat.SMILE);
+
+    private SideEffectEventHandler handler(boolean streamEnabled) {
+        EventStoreProperties properties = new EventStoreProperties(EventStoreProperties.Mode.OUTBOX, 0, 0,
+                new EventStoreProperties.Stream(streamEnabled, null, 0, 0, null, null, 0, null, null, null, 0),
+                null, null, null);
+        return new SideEffectEventHandler(redisTemplate, structuredLogger, fcmPushService, properties, payloadCodec);
+    }
+
+    private static SideEffectRecordCreated severeEvent() {
+        return new SideEffectRecordCreated(100L, 1L, "member@test.com", 7L, LocalDateTime.of(2025, 3, 1, 9, 0),
+                List.of(new SideEffectItem(1L, "두통", 2), new SideEffectItem(2L, "구토", 4)));
+    }
+
+    @Test
+    @DisplayName("스트림으로 전달된 심각한 부작용 이벤트는 알림을 보내고 약물별 통계를 올린다")
+    void handle_streamRecord() throws Exception {
+        SideEffectRecordCreated event = severeEvent();
+        DomainEventRecord record = new DomainEventRecord(event.getEventId(), "SideEffectRecordCreated",
+                "SideEffectRecord", "100", event.getOccurredOn().toString(), payloadCodec.encode(event));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        handler(true).handle(record);
+
+        verify(fcmPushService).sendSevereSideEffectAlert(1L, "구토", 4);
+        verify(fcmPushService).sendMedicalConsultationReminder(1L);
+        verify(valueOperations).increment("medication_side_effect_stats:7", 1);
+    }
+
+    @Test
+    @DisplayName("스트림 전달이 켜져 있으면 커밋 후 비동기 처리는 소비자에게 맡긴다")
+    void handleAsyncProcessing_deferredToStream() {
+        handler(true).handleAsyncProcessing(severeEvent());
+
+        verifyNoInteractions(fcmPushService, structuredLogger);
+    }
+
+    @Test
+    @DisplayName("스트림 전달이 꺼져 있으면 커밋 후 바로 처리한다")
+    void handleAsyncProcessing_direct() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        handler(false).handleAsyncProcessing(severeEvent());
+
+        verify(fcmPushService).sendSevereSideEffectAlert(1L, "구토", 4);
+        verify(valueOperations).increment("medication_side_effect_stats:7", 1);
+    }
+}
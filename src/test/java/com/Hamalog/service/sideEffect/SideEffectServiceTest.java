@@ -6,11 +6,11 @@ import static org.mockito.Mockito.*;
 
 import com.Hamalog.domain.events.DomainEventPublisher;
 import com.Hamalog.domain.member.Member;
-import com.Hamalog.domain.sideEffect.SideEffect;
 import com.Hamalog.domain.sideEffect.SideEffectRecord;
 import com.Hamalog.domain.sideEffect.SideEffectSideEffectRecord;
 import com.Hamalog.dto.sideEffect.request.SideEffectRecordRequest;
 import com.Hamalog.dto.sideEffect.response.RecentSideEffectResponse;
+import com.Hamalog.dto.sideEffect.response.SideEffectCatalogResponse.SideEffectCatalogItem;
 import com.Hamalog.exception.ErrorCode;
 import com.Hamalog.exception.member.MemberNotFoundException;
 import com.Hamalog.exception.sideEffect.SideEffectNotFoundException;
@@ -24,6 +24,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -56,6 +57,9 @@ class SideEffectServiceTest {
     @Mock
     private DomainEventPublisher domainEventPublisher;
 
+    @Mock
+    private SideEffectCatalogService sideEffectCatalogService;
+
     @Mock
     private RecentSideEffectCacheService cacheService;
 
@@ -63,8 +67,8 @@ class SideEffectServiceTest {
     private SideEffectService sideEffectService;
 
     private Member mockMember;
-    private SideEffect mockSideEffect1;
-    private SideEffect mockSideEffect2;
+    private SideEffectCatalogItem headache;
+    private SideEffectCatalogItem nausea;
     private SideEffectRecord mockRecord;
     private SideEffectRecordRequest.SideEffectItem sideEffectItem1;
     private SideEffectRecordRequest.SideEffectItem sideEffectItem2;
@@ -74,8 +78,8 @@ class SideEffectServiceTest {
     void setUp() {
         // Create mock objects without stubbing - set up behavior in individual tests as needed
         mockMember = mock(Member.class);
-        mockSideEffect1 = mock(SideEffect.class);
-        mockSideEffect2 = mock(SideEffect.class);
+        headache = new SideEffectCatalogItem(1L, "신경계", "Headache");
+        nausea = new SideEffectCatalogItem(2L, "소화기", "Nausea");
         mockRecord = mock(SideEffectRecord.class);
 
         // Create request items
@@ -98,7 +102,8 @@ class SideEffectServiceTest {
         List<String> cachedNames = Arrays.asList("Headache", "Nausea");
         SideEffectService serviceWithCache = new SideEffectService(
                 sideEffectRepository, sideEffectRecordRepository, sideEffectSideEffectRecordRepository,
-                memberRepository, medicationScheduleRepository, domainEventPublisher, cacheService
+                memberRepository, medicationScheduleRepository, domainEventPublisher,
+                sideEffectCatalogService, cacheService
         );
         when(memberRepository.existsById(memberId)).thenReturn(true);
         when(cacheService.getRecentSideEffects(memberId)).thenReturn(cachedNames);
@@ -122,7 +127,8 @@ class SideEffectServiceTest {
         List<String> dbNames = Arrays.asList("Headache", "Nausea");
         SideEffectService serviceWithCache = new SideEffectService(
                 sideEffectRepository, sideEffectRecordRepository, sideEffectSideEffectRecordRepository,
-                memberRepository, medicationScheduleRepository, domainEventPublisher, cacheService
+                memberRepository, medicationScheduleRepository, domainEventPublisher,
+                sideEffectCatalogService, cacheService
         );
         when(memberRepository.existsById(memberId)).thenReturn(true);
         when(cacheService.getRecentSideEffects(memberId)).thenReturn(Collections.emptyList());
@@ -147,7 +153,8 @@ class SideEffectServiceTest {
         List<String> emptyNames = Collections.emptyList();
         SideEffectService serviceWithCache = new SideEffectService(
                 sideEffectRepository, sideEffectRecordRepository, sideEffectSideEffectRecordRepository,
-                memberRepository, medicationScheduleRepository, domainEventPublisher, cacheService
+                memberRepository, medicationScheduleRepository, domainEventPublisher,
+                sideEffectCatalogService, cacheService
         );
         when(memberRepository.existsById(memberId)).thenReturn(true);
         when(cacheService.getRecentSideEffects(memberId)).thenReturn(Collections.emptyList());
@@ -172,7 +179,8 @@ class SideEffectServiceTest {
         List<String> dbNames = Arrays.asList("Headache", "Nausea");
         SideEffectService serviceWithoutCache = new SideEffectService(
                 sideEffectRepository, sideEffectRecordRepository, sideEffectSideEffectRecordRepository,
-                memberRepository, medicationScheduleRepository, domainEventPublisher, null
+                memberRepository, medicationScheduleRepository, domainEventPublisher,
+                sideEffectCatalogService, null
         );
         when(memberRepository.existsById(memberId)).thenReturn(true);
         when(sideEffectRepository.findRecentSideEffectNames(memberId)).thenReturn(dbNames);
@@ -194,21 +202,17 @@ class SideEffectServiceTest {
         when(memberRepository.findById(1L)).thenReturn(Optional.of(mockMember));
         when(sideEffectRecordRepository.save(any(SideEffectRecord.class))).thenReturn(mockRecord);
         
-        // Set up mock behaviors for SideEffects with different IDs
-        when(mockSideEffect1.getSideEffectId()).thenReturn(1L);
-        when(mockSideEffect1.getName()).thenReturn("Headache");
-        when(mockSideEffect2.getSideEffectId()).thenReturn(2L);
-        when(mockSideEffect2.getName()).thenReturn("Nausea");
         when(mockRecord.getSideEffectRecordId()).thenReturn(10L);
         
-        when(sideEffectRepository.findAllById(Arrays.asList(1L, 2L)))
-                .thenReturn(Arrays.asList(mockSideEffect1, mockSideEffect2));
+        when(sideEffectCatalogService.findAllById(Arrays.asList(1L, 2L)))
+                .thenReturn(Map.of(1L, headache, 2L, nausea));
         when(sideEffectSideEffectRecordRepository.save(any(SideEffectSideEffectRecord.class)))
                 .thenReturn(mock(SideEffectSideEffectRecord.class));
 
         SideEffectService serviceWithCache = new SideEffectService(
                 sideEffectRepository, sideEffectRecordRepository, sideEffectSideEffectRecordRepository,
-                memberRepository, medicationScheduleRepository, domainEventPublisher, cacheService
+                memberRepository, medicationScheduleRepository, domainEventPublisher,
+                sideEffectCatalogService, cacheService
         );
 
         // when
@@ -217,7 +221,7 @@ class SideEffectServiceTest {
         // then
         verify(memberRepository).findById(1L);
         verify(sideEffectRecordRepository).save(any(SideEffectRecord.class));
-        verify(sideEffectRepository).findAllById(Arrays.asList(1L, 2L));
+        verify(sideEffectCatalogService).findAllById(Arrays.asList(1L, 2L));
         verify(sideEffectSideEffectRecordRepository, times(2)).save(any(SideEffectSideEffectRecord.class));
         verify(cacheService, times(2)).addRecentSideEffect(eq(1L), anyString());
         verify(domainEventPublisher).publish(any());
@@ -243,9 +247,8 @@ class SideEffectServiceTest {
         // given
         when(memberRepository.findById(1L)).thenReturn(Optional.of(mockMember));
         when(sideEffectRecordRepository.save(any(SideEffectRecord.class))).thenReturn(mockRecord);
-        when(sideEffectRepository.findAllById(Arrays.asList(1L, 2L)))
-                .thenReturn(Arrays.asList(mockSideEffect2)); // Only return side effect with ID 2, missing ID 1
-        when(mockSideEffect2.getSideEffectId()).thenReturn(2L);
+        when(sideEffectCatalogService.findAllById(Arrays.asList(1L, 2L)))
+                .thenReturn(Map.of(2L, nausea)); // Only return side effect with ID 2, missing ID 1
 
         // when & then
         assertThatThrownBy(() -> sideEffectService.createSideEffectRecord(createRequest))
@@ -253,7 +256,7 @@ class SideEffectServiceTest {
 
         verify(memberRepository).findById(1L);
         verify(sideEffectRecordRepository).save(any(SideEffectRecord.class));
-        verify(sideEffectRepository).findAllById(Arrays.asList(1L, 2L));
+        verify(sideEffectCatalogService).findAllById(Arrays.asList(1L, 2L));
     }
 
     @Test
@@ -262,20 +265,16 @@ class SideEffectServiceTest {
         // given
         SideEffectService serviceWithoutCache = new SideEffectService(
                 sideEffectRepository, sideEffectRecordRepository, sideEffectSideEffectRecordRepository,
-                memberRepository, medicationScheduleRepository, domainEventPublisher, null
+                memberRepository, medicationScheduleRepository, domainEventPublisher,
+                sideEffectCatalogService, null
         );
         when(memberRepository.findById(1L)).thenReturn(Optional.of(mockMember));
         when(sideEffectRecordRepository.save(any(SideEffectRecord.class))).thenReturn(mockRecord);
         
-        // Set up mock behaviors for SideEffects with different IDs
-        when(mockSideEffect1.getSideEffectId()).thenReturn(1L);
-        when(mockSideEffect1.getName()).thenReturn("Headache");
-        when(mockSideEffect2.getSideEffectId()).thenReturn(2L);
-        when(mockSideEffect2.getName()).thenReturn("Nausea");
         when(mockRecord.getSideEffectRecordId()).thenReturn(10L);
         
-        when(sideEffectRepository.findAllById(Arrays.asList(1L, 2L)))
-                .thenReturn(Arrays.asList(mockSideEffect1, mockSideEffect2));
+        when(sideEffectCatalogService.findAllById(Arrays.asList(1L, 2L)))
+                .thenReturn(Map.of(1L, headache, 2L, nausea));
 
         // when
         serviceWithoutCache.createSideEffectRecord(createRequest);
@@ -283,7 +282,7 @@ class SideEffectServiceTest {
         // then
         verify(memberRepository).findById(1L);
         verify(sideEffectRecordRepository).save(any(SideEffectRecord.class));
-        verify(sideEffectRepository).findAllById(Arrays.asList(1L, 2L));
+        verify(sideEffectCatalogService).findAllById(Arrays.asList(1L, 2L));
         verify(sideEffectSideEffectRecordRepository, times(2)).save(any(SideEffectSideEffectRecord.class));
         verifyNoInteractions(cacheService);
     }
@@ -301,7 +300,8 @@ class SideEffectServiceTest {
 
         SideEffectService serviceWithCache = new SideEffectService(
                 sideEffectRepository, sideEffectRecordRepository, sideEffectSideEffectRecordRepository,
-                memberRepository, medicationScheduleRepository, domainEventPublisher, cacheService
+                memberRepository, medicationScheduleRepository, domainEventPublisher,
+                sideEffectCatalogService, cacheService
         );
 
         // when & then
@@ -311,11 +311,31 @@ class SideEffectServiceTest {
 
         verify(memberRepository, never()).findById(any());
         verify(sideEffectRecordRepository, never()).save(any(SideEffectRecord.class));
-        verify(sideEffectRepository, never()).findAllById(any());
+        verify(sideEffectCatalogService, never()).findAllById(any());
         verify(sideEffectSideEffectRecordRepository, never()).save(any());
         verify(cacheService, never()).addRecentSideEffect(any(), any());
     }
 
+    @Test
+    @DisplayName("Should reject duplicate side effect IDs before saving the record")
+    void createSideEffectRecord_DuplicateSideEffectIds() {
+        // given
+        SideEffectRecordRequest duplicateRequest = new SideEffectRecordRequest(
+                1L,
+                LocalDateTime.now(),
+                null,
+                List.of(sideEffectItem1, new SideEffectRecordRequest.SideEffectItem(1L, 3))
+        );
+
+        // when & then
+        assertThatThrownBy(() -> sideEffectService.createSideEffectRecord(duplicateRequest))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining(ErrorCode.DUPLICATE_SIDE_EFFECT.getMessage());
+
+        verify(sideEffectRecordRepository, never()).save(any(SideEffectRecord.class));
+        verify(sideEffectCatalogService, never()).findAllById(any());
+    }
+
     @Test
     @DisplayName("Should return true when member is owner")
     void isOwner_MemberIsOwner() {
@@ -381,16 +401,14 @@ class SideEffectServiceTest {
         when(memberRepository.findById(1L)).thenReturn(Optional.of(mockMember));
         when(sideEffectRecordRepository.save(any(SideEffectRecord.class))).thenReturn(mockRecord);
         
-        // Set up mock behavior for SideEffect
-        when(mockSideEffect1.getSideEffectId()).thenReturn(1L);
-        when(mockSideEffect1.getName()).thenReturn("Headache");
         when(mockRecord.getSideEffectRecordId()).thenReturn(10L);
         
-        when(sideEffectRepository.findAllById(Arrays.asList(1L))).thenReturn(Arrays.asList(mockSideEffect1));
+        when(sideEffectCatalogService.findAllById(Arrays.asList(1L))).thenReturn(Map.of(1L, headache));
 
         SideEffectService serviceWithCache = new SideEffectService(
                 sideEffectRepository, sideEffectRecordRepository, sideEffectSideEffectRecordRepository,
-                memberRepository, medicationScheduleRepository, domainEventPublisher, cacheService
+                memberRepository, medicationScheduleRepository, domainEventPublisher,
+                sideEffectCatalogService, cacheService
         );
 
         // when
@@ -402,7 +420,7 @@ class SideEffectServiceTest {
         
         // Verify that a record was saved (createdAt should be set automatically)
         verify(memberRepository).findById(1L);
-        verify(sideEffectRepository).findAllById(Arrays.asList(1L));
+        verify(sideEffectCatalogService).findAllById(Arrays.asList(1L));
         verify(cacheService).addRecentSideEffect(eq(1L), eq("Headache"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package com.Hamalog.service.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.Hamalog.config.TestEncryptionConfig;
+import com.Hamalog.domain.diary.MoodDiary;
+import com.Hamalog.domain.diary.MoodType;
+import com.Hamalog.domain.member.Member;
+import com.Hamalog.domain.sync.SyncChange;
+import com.Hamalog.domain.sync.SyncEntityType;
+import com.Hamalog.domain.sync.SyncOperation;
+import com.Hamalog.repository.diary.MoodDiaryRepository;
+import com.Hamalog.repository.member.MemberRepository;
+import com.Hamalog.repository.sync.SyncChangeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 변경 캡처 리스너 JPA 통합 테스트
+ * 커밋 직전에 기록되므로 테스트 트랜잭션 없이 트랜잭션마다 커밋/롤백합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestEncryptionConfig.class, SyncChangeCaptureListener.class, SyncChangeCaptureListenerTest.MetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("SyncChangeCaptureListener 테스트")
+class SyncChangeCaptureListenerTest {
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MoodDiaryRepository moodDiaryRepository;
+
+    @Autowired
+    private SyncChangeRepository syncChangeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        member = memberRepository.save(Member.builder()
+                .loginId("sync@test.com")
+                .password("encodedPassword")
+                .name("테스트 사용자")
+                .nickName("테스트닉네임")
+                .phoneNumber("01012345678")
+                .birth(LocalDate.of(1990, 1, 1))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        syncChangeRepository.deleteAllInBatch();
+        moodDiaryRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    private Long createDiary() {
+        return transactionTemplate.execute(status -> moodDiaryRepository.save(
+                MoodDiary.createFreeFormType(member, LocalDate.of(2025, 3, 1), MoodType.HAPPY, "좋은 하루")
+        ).getMoodDiaryId());
+    }
+
+    private void updateDiary(MoodDiary diary, String content) {
+        diary.updateAsFreeFormType(MoodType.PEACEFUL, content);
+        moodDiaryRepository.flush();
+    }
+
+    @Test
+    @DisplayName("삽입, 수정, 삭제를 커밋하면 각각 소유 회원의 변경 로그가 남는다")
+    void insertUpdateDelete_recordedOnCommit() {
+        Long diaryId = createDiary();
+        transactionTemplate.executeWithoutResult(status ->
+                updateDiary(moodDiaryRepository.findById(diaryId).orElseThrow(), "수정한 내용"));
+        transactionTemplate.executeWithoutResult(status -> moodDiaryRepository.deleteById(diaryId));
+
+        List<SyncChange> changes = syncChangeRepository.findAll(Sort.by("changeId"));
+        assertThat(changes).extracting(SyncChange::getOperation)
+                .containsExactly(SyncOperation.UPSERT, SyncOperation.UPSERT, SyncOperation.DELETE);
+        assertThat(changes).allSatisfy(change -> {
+            assertThat(change.getMemberId()).isEqualTo(member.getMemberId());
+            assertThat(change.getEntityType()).isEqualTo(SyncEntityType.MOOD_DIARY);
+            assertThat(change.getEntityId()).isEqualTo(diaryId);
+        });
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 기록하지 않는다")
+    void rollback_recordsNothing() {
+        transactionTemplate.executeWithoutResult(status -> {
+            moodDiaryRepository.saveAndFlush(
+                    MoodDiary.createFreeFormType(member, LocalDate.of(2025, 3, 1), MoodType.HAPPY, "좋은 하루"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(syncChangeRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션에서 여러 번 바뀐 엔티티는 한 행으로 합친다")
+    void multipleChangesInTransaction_collapse() {
+        Long diaryId = transactionTemplate.execute(status -> {
+            MoodDiary diary = moodDiaryRepository.saveAndFlush(
+                    MoodDiary.createFreeFormType(member, LocalDate.of(2025, 3, 1), MoodType.HAPPY, "좋은 하루"));
+            updateDiary(diary, "첫 번째 수정");
+            updateDiary(diary, "두 번째 수정");
+            return diary.getMoodDiaryId();
+        });
+
+        assertThat(syncChangeRepository.findAll()).singleElement().satisfies(change -> {
+            assertThat(change.getEntityId()).isEqualTo(diaryId);
+            assertThat(change.getOperation()).isEqualTo(SyncOperation.UPSERT);
+        });
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션에서 수정 후 삭제하면 삭제로 기록한다")
+    void updateThenDelete_deleteWins() {
+        Long diaryId = createDiary();
+        syncChangeRepository.deleteAllInBatch();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            MoodDiary diary = moodDiaryRepository.findById(diaryId).orElseThrow();
+            updateDiary(diary, "삭제 전 수정");
+            moodDiaryRepository.delete(diary);
+        });
+
+        assertThat(syncChangeRepository.findAll()).singleElement().satisfies(change -> {
+            assertThat(change.getEntityId()).isEqualTo(diaryId);
+            assertThat(change.getOperation()).isEqualTo(SyncOperation.DELETE);
+        });
+    }
+}
@@ -0,0 +1,218 @@
+package com.Hamalog.service.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.Hamalog.config.SyncProperties;
+import com.Hamalog.domain.medication.AlarmType;
+import com.Hamalog.domain.medication.MedicationSchedule;
+import com.Hamalog.domain.member.Member;
+import com.Hamalog.domain.sync.SyncChange;
+import com.Hamalog.domain.sync.SyncEntityType;
+import com.Hamalog.domain.sync.SyncOperation;
+import com.Hamalog.dto.medication.response.MedicationScheduleResponse;
+import com.Hamalog.dto.sync.SyncChangesResponse;
+import com.Hamalog.repository.diary.MoodDiaryRepository;
+import com.Hamalog.repository.medication.MedicationRecordRepository;
+import com.Hamalog.repository.medication.MedicationScheduleRepository;
+import com.Hamalog.repository.sideEffect.SideEffectRecordRepository;
+import com.Hamalog.repository.sideEffect.SideEffectSideEffectRecordRepository;
+import com.Hamalog.repository.sync.SyncChangeRepository;
+import com.Hamalog.service.sideEffect.SideEffectCatalogService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SyncService 테스트")
+class SyncServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final long SETTLED_ID = 100L;
+
+    @Mock
+    private SyncChangeRepository syncChangeRepository;
+    @Mock
+    private MedicationScheduleRepository medicationScheduleRepository;
+    @Mock
+    private MedicationRecordRepository medicationRecordRepository;
+    @Mock
+    private MoodDiaryRepository moodDiaryRepository;
+    @Mock
+    private SideEffectRecordRepository sideEffectRecordRepository;
+    @Mock
+    private SideEffectSideEffectRecordRepository sideEffectSideEffectRecordRepository;
+    @Mock
+    private SideEffectCatalogService sideEffectCatalogService;
+
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncService(syncChangeRepository, medicationScheduleRepository,
+                medicationRecordRepository, moodDiaryRepository, sideEffectRecordRepository,
+                sideEffectSideEffectRecordRepository, sideEffectCatalogService,
+                new SyncProperties(Duration.ofSeconds(2), Duration.ofDays(30), 200, 1000, 2));
+    }
+
+    private void stubSettledId() {
+        when(syncChangeRepository.findLatestIdsAtOrBefore(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(SETTLED_ID));
+    }
+
+    private void stubRetainedRange(Long min, Long max) {
+        when(syncChangeRepository.findMinChangeId()).thenReturn(min);
+        when(syncChangeRepository.findMaxChangeId()).thenReturn(max);
+    }
+
+    private static SyncChange change(long changeId, SyncEntityType type, long entityId, SyncOperation operation) {
+        SyncChange change = new SyncChange(MEMBER_ID, type, entityId, operation, LocalDateTime.now());
+        ReflectionTestUtils.setField(change, "changeId", changeId);
+        return change;
+    }
+
+    private static MedicationSchedule schedule(Long id) {
+        Member member = Member.builder()
+                .loginId("test@test.com")
+                .password("password123")
+                .name("테스트 사용자")
+                .nickName("테스트")
+                .phoneNumber("01012345678")
+                .birth(LocalDate.of(1990, 1, 1))
+                .build();
+        ReflectionTestUtils.setField(member, "memberId", MEMBER_ID);
+        MedicationSchedule schedule = new MedicationSchedule(member, "혈압약", "서울병원", LocalDate.now(),
+                null, LocalDate.now(), 30, 1, AlarmType.SOUND);
+        ReflectionTestUtils.setField(schedule, "medicationScheduleId", id);
+        return schedule;
+    }
+
+    @Nested
+    @DisplayName("전체 재동기화")
+    class FullResync {
+
+        @Test
+        @DisplayName("커서가 없으면 정착된 최신 ID를 커서로 주고 전체 재동기화를 요구한다")
+        void noCursor() {
+            stubSettledId();
+
+            SyncChangesResponse response = syncService.getChanges(MEMBER_ID, null, null);
+
+            assertThat(response.fullResyncRequired()).isTrue();
+            assertThat(response.nextCursor()).isEqualTo(SETTLED_ID);
+            assertThat(response.medicationSchedules().upserted()).isEmpty();
+            verify(syncChangeRepository, never()).findPage(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("커서 이후 변경 일부가 보관 기간 정리로 삭제되었으면 전체 재동기화를 요구한다")
+        void cursorOlderThanRetained() {
+            stubSettledId();
+            when(syncChangeRepository.findMinChangeId()).thenReturn(50L);
+
+            SyncChangesResponse response = syncService.getChanges(MEMBER_ID, 10L, null);
+
+            assertThat(response.fullResyncRequired()).isTrue();
+            verify(syncChangeRepository, never()).findPage(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("발급된 적 없는 커서면 전체 재동기화를 요구한다")
+        void cursorAheadOfLog() {
+            stubSettledId();
+            stubRetainedRange(1L, 120L);
+
+            SyncChangesResponse response = syncService.getChanges(MEMBER_ID, 500L, null);
+
+            assertThat(response.fullResyncRequired()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("변경 조회")
+    class Changes {
+
+        @Test
+        @DisplayName("같은 엔티티의 변경은 마지막 작업으로 합치고, 조회되지 않는 엔티티는 삭제로 반환한다")
+        void coalescesAndReportsMissingAsDeleted() {
+            // given
+            stubSettledId();
+            stubRetainedRange(1L, 120L);
+            when(syncChangeRepository.findPage(eq(MEMBER_ID), eq(10L), eq(SETTLED_ID), any(Pageable.class)))
+                    .thenReturn(List.of(
+                            change(11, SyncEntityType.MEDICATION_SCHEDULE, 1L, SyncOperation.UPSERT),
+                            change(12, SyncEntityType.MEDICATION_RECORD, 5L, SyncOperation.UPSERT),
+                            change(13, SyncEntityType.MEDICATION_RECORD, 5L, SyncOperation.DELETE),
+                            change(14, SyncEntityType.MOOD_DIARY, 7L, SyncOperation.UPSERT),
+                            change(15, SyncEntityType.MEDICATION_SCHEDULE, 1L, SyncOperation.UPSERT)));
+            MedicationSchedule schedule = schedule(1L);
+            when(medicationScheduleRepository.findAllByIdInWithMember(List.of(1L))).thenReturn(List.of(schedule));
+            when(moodDiaryRepository.findAllById(List.of(7L))).thenReturn(List.of());
+
+            // when
+            SyncChangesResponse response = syncService.getChanges(MEMBER_ID, 10L, null);
+
+            // then
+            assertThat(response.fullResyncRequired()).isFalse();
+            assertThat(response.hasMore()).isFalse();
+            assertThat(response.nextCursor()).isEqualTo(SETTLED_ID);
+            assertThat(response.medicationSchedules().upserted())
+                    .extracting(MedicationScheduleResponse::medicationScheduleId)
+                    .containsExactly(1L);
+            assertThat(response.medicationRecords().upserted()).isEmpty();
+            assertThat(response.medicationRecords().deleted()).containsExactly(5L);
+            assertThat(response.moodDiaries().deleted()).containsExactly(7L);
+            assertThat(response.sideEffectRecords().upserted()).isEmpty();
+            verify(medicationRecordRepository, never()).findAllByIdInWithScheduleAndTime(any());
+        }
+
+        @Test
+        @DisplayName("limit보다 변경이 많으면 마지막으로 반환한 변경 ID를 커서로 준다")
+        void pagesWithLimit() {
+            // given
+            stubSettledId();
+            stubRetainedRange(1L, 120L);
+            when(syncChangeRepository.findPage(eq(MEMBER_ID), eq(10L), eq(SETTLED_ID), any(Pageable.class)))
+                    .thenReturn(List.of(
+                            change(11, SyncEntityType.MEDICATION_RECORD, 5L, SyncOperation.DELETE),
+                            change(12, SyncEntityType.MEDICATION_RECORD, 6L, SyncOperation.DELETE),
+                            change(13, SyncEntityType.MEDICATION_RECORD, 7L, SyncOperation.DELETE)));
+
+            // when
+            SyncChangesResponse response = syncService.getChanges(MEMBER_ID, 10L, 2);
+
+            // then
+            assertThat(response.hasMore()).isTrue();
+            assertThat(response.nextCursor()).isEqualTo(12L);
+            assertThat(response.medicationRecords().deleted()).containsExactly(5L, 6L);
+        }
+    }
+
+    @Test
+    @DisplayName("보관 기간 정리는 청크가 가득 찬 동안 반복하고 최신 변경은 남긴다")
+    void purgeExpiredChanges_deletesInChunks() {
+        when(syncChangeRepository.findMaxChangeId()).thenReturn(120L);
+        when(syncChangeRepository.deleteChunkBefore(any(LocalDateTime.class), eq(120L), anyInt()))
+                .thenReturn(2, 2, 1);
+
+        syncService.purgeExpiredChanges();
+
+        verify(syncChangeRepository, times(3)).deleteChunkBefore(any(LocalDateTime.class), eq(120L), eq(2));
+    }
+}